@@ -0,0 +1,142 @@
+package com.bookmyseat.movieservice.archive;
+
+import com.bookmyseat.movieservice.cache.ShowtimeCacheEvictor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Moves showtimes that started more than {@code archive-after} ago from the hot showtimes table
+ * into showtime_archive. Each chunk is copied and deleted in its own short transaction, oldest
+ * first, so row locks are held only for a few hundred rows at a time and replicas can keep up.
+ * Chunk rows are read with FOR UPDATE; a concurrent archiver on another instance blocks on them
+ * and then finds them gone rather than archiving them twice.
+ */
+@Component
+public class ShowtimeArchiver {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShowtimeArchiver.class);
+
+    static final String SELECT_CHUNK = "SELECT id, movie_id, show_date_time, theater, available_seats, " +
+            "created_at, updated_at FROM showtimes WHERE show_date_time < ? ORDER BY show_date_time, id " +
+            "LIMIT ? FOR UPDATE";
+    static final String INSERT_ARCHIVE = "INSERT INTO showtime_archive (id, movie_id, show_date_time, theater, " +
+            "available_seats, created_at, updated_at, archived_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    // The partitioning column is part of the primary key, so deleting by both prunes to one partition
+    static final String DELETE_HOT = "DELETE FROM showtimes WHERE id = ? AND show_date_time = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ShowtimeCacheEvictor cacheEvictor;
+    private final Clock clock;
+    private final boolean enabled;
+    private final Duration archiveAfter;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+    private final Duration chunkPause;
+    private final Counter archivedCounter;
+    private final Timer runTimer;
+
+    @Autowired
+    public ShowtimeArchiver(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                            ShowtimeCacheEvictor cacheEvictor, Clock clock, MeterRegistry meterRegistry,
+                            @Value("${movie.archive.enabled:true}") boolean enabled,
+                            @Value("${movie.archive.archive-after:P1D}") Duration archiveAfter,
+                            @Value("${movie.archive.chunk-size:500}") int chunkSize,
+                            @Value("${movie.archive.max-chunks-per-run:200}") int maxChunksPerRun,
+                            @Value("${movie.archive.chunk-pause:PT0.05S}") Duration chunkPause) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.cacheEvictor = cacheEvictor;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.archiveAfter = archiveAfter;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.chunkPause = chunkPause;
+        this.archivedCounter = Counter.builder("showtime_archive_rows_total")
+                .description("Showtimes moved from the hot table to the archive")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("showtime_archive_run_duration")
+                .description("Time taken by a showtime archive run")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${movie.archive.interval:PT10M}", initialDelayString = "${movie.archive.interval:PT10M}")
+    public void scheduledRun() {
+        if (enabled) {
+            archiveExpired();
+        }
+    }
+
+    /**
+     * Archives expired showtimes, at most {@code max-chunks-per-run} chunks, and returns how many
+     * rows were moved.
+     */
+    public int archiveExpired() {
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(archiveAfter);
+        return runTimer.record(() -> {
+            int archived = 0;
+            for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+                int moved = transactionTemplate.execute(status -> moveChunk(cutoff));
+                archived += moved;
+                archivedCounter.increment(moved);
+                if (moved < chunkSize) {
+                    break;
+                }
+                pause();
+            }
+            if (archived > 0) {
+                cacheEvictor.evictShowtimes();
+                logger.info("Archived {} showtimes that started before {}", archived, cutoff);
+            }
+            return archived;
+        });
+    }
+
+    private int moveChunk(LocalDateTime cutoff) {
+        Timestamp archivedAt = Timestamp.valueOf(LocalDateTime.now(clock));
+        List<Object[]> rows = jdbcTemplate.query(SELECT_CHUNK, (rs, rowNum) -> new Object[] {
+                rs.getLong(1), rs.getLong(2), rs.getTimestamp(3), rs.getString(4), rs.getInt(5),
+                rs.getTimestamp(6), rs.getTimestamp(7), archivedAt
+        }, Timestamp.valueOf(cutoff), chunkSize);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        List<Object[]> keys = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            keys.add(new Object[] {row[0], row[2]});
+        }
+        jdbcTemplate.batchUpdate(INSERT_ARCHIVE, rows);
+        jdbcTemplate.batchUpdate(DELETE_HOT, keys);
+        return rows.size();
+    }
+
+    private void pause() {
+        if (chunkPause.isZero() || chunkPause.isNegative()) {
+            return;
+        }
+        try {
+            Thread.sleep(chunkPause.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
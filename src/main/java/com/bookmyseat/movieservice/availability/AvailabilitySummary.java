@@ -0,0 +1,58 @@
+package com.bookmyseat.movieservice.availability;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Aggregate of one movie's showtimes on one day.
+ */
+public final class AvailabilitySummary {
+
+    private final Long movieId;
+    private final LocalDate showDate;
+    private final int totalShows;
+    private final long availableSeats;
+    private final LocalDateTime earliestShow;
+
+    public AvailabilitySummary(Long movieId, LocalDate showDate, int totalShows, long availableSeats,
+                               LocalDateTime earliestShow) {
+        this.movieId = movieId;
+        this.showDate = showDate;
+        this.totalShows = totalShows;
+        this.availableSeats = availableSeats;
+        this.earliestShow = earliestShow;
+    }
+
+    static AvailabilitySummary of(Long movieId, LocalDate showDate, Collection<ShowtimeAvailability> showtimes) {
+        long seats = 0;
+        LocalDateTime earliest = null;
+        for (ShowtimeAvailability showtime : showtimes) {
+            seats += showtime.getAvailableSeats();
+            if (earliest == null || showtime.getShowDateTime().isBefore(earliest)) {
+                earliest = showtime.getShowDateTime();
+            }
+        }
+        return new AvailabilitySummary(movieId, showDate, showtimes.size(), seats, earliest);
+    }
+
+    public Long getMovieId() {
+        return movieId;
+    }
+
+    public LocalDate getShowDate() {
+        return showDate;
+    }
+
+    public int getTotalShows() {
+        return totalShows;
+    }
+
+    public long getAvailableSeats() {
+        return availableSeats;
+    }
+
+    public LocalDateTime getEarliestShow() {
+        return earliestShow;
+    }
+}
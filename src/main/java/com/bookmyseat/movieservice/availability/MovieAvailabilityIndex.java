@@ -0,0 +1,250 @@
+package com.bookmyseat.movieservice.availability;
+
+import com.bookmyseat.movieservice.repository.ShowtimeRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory per-movie, per-day availability summary over the next {@code days} days. Showtime
+ * rows are written by the booking side, so changes are picked up by polling updated_at (on
+ * idx_updated_at) and applied one showtime at a time; only the (movie, day) summaries a change
+ * touches are recomputed. A periodic full rebuild, and one at each day roll, reconciles rows that
+ * polling cannot see, such as deletes and writes committed with an older updated_at.
+ */
+@Component
+public class MovieAvailabilityIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(MovieAvailabilityIndex.class);
+
+    private final ShowtimeRepository showtimeRepository;
+    private final Clock clock;
+    private final int days;
+    private final Duration fullRefreshInterval;
+    private final Duration changeOverlap;
+    private final Timer fullRefreshTimer;
+    private final Timer incrementalRefreshTimer;
+
+    // Writer state, guarded by this
+    private final Map<Long, ShowtimeAvailability> showtimes = new HashMap<>();
+    private final Map<DayKey, Map<Long, ShowtimeAvailability>> buckets = new HashMap<>();
+    private LocalDate windowStart;
+    private LocalDateTime changesSince;
+    private Instant lastFullRefresh;
+
+    private final Map<DayKey, AvailabilitySummary> summaries = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private volatile LocalDate coveredFrom;
+    private volatile boolean loaded;
+
+    @Autowired
+    public MovieAvailabilityIndex(ShowtimeRepository showtimeRepository, Clock clock, MeterRegistry meterRegistry,
+                                  @Value("${movie.availability.days:14}") int days,
+                                  @Value("${movie.availability.full-refresh-interval:PT15M}") Duration fullRefreshInterval,
+                                  @Value("${movie.availability.change-overlap:PT5S}") Duration changeOverlap) {
+        this.showtimeRepository = showtimeRepository;
+        this.clock = clock;
+        this.days = days;
+        this.fullRefreshInterval = fullRefreshInterval;
+        this.changeOverlap = changeOverlap;
+        this.fullRefreshTimer = Timer.builder("movie_availability_refresh_duration")
+                .description("Time taken to refresh the movie availability summary")
+                .tag("mode", "full")
+                .register(meterRegistry);
+        this.incrementalRefreshTimer = Timer.builder("movie_availability_refresh_duration")
+                .description("Time taken to refresh the movie availability summary")
+                .tag("mode", "incremental")
+                .register(meterRegistry);
+        Gauge.builder("movie_availability_summaries", summaries, Map::size)
+                .description("Movie-day availability summaries held in memory")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Summary of {@code movieId}'s showtimes on {@code date}; empty when it has none or the date
+     * is outside the summarized days.
+     */
+    public Optional<AvailabilitySummary> get(Long movieId, LocalDate date) {
+        if (!loaded) {
+            refresh();
+        }
+        return Optional.ofNullable(summaries.get(new DayKey(movieId, date)));
+    }
+
+    /**
+     * Whether {@code date} is one of the summarized days.
+     */
+    public boolean covers(LocalDate date) {
+        if (!loaded) {
+            refresh();
+        }
+        LocalDate from = coveredFrom;
+        return !date.isBefore(from) && date.isBefore(from.plusDays(days));
+    }
+
+    public int getDays() {
+        return days;
+    }
+
+    /**
+     * Increases whenever any summary changes, so it can be folded into response ETags.
+     */
+    public long version() {
+        if (!loaded) {
+            refresh();
+        }
+        return version.get();
+    }
+
+    @Scheduled(fixedDelayString = "${movie.availability.refresh-interval:PT5S}",
+               initialDelayString = "${movie.availability.refresh-interval:PT5S}")
+    public synchronized void refresh() {
+        LocalDate today = LocalDate.now(clock);
+        Instant now = clock.instant();
+        if (lastFullRefresh == null || !today.equals(windowStart)
+                || !now.isBefore(lastFullRefresh.plus(fullRefreshInterval))) {
+            fullRefreshTimer.record(() -> rebuild(today));
+            lastFullRefresh = now;
+        } else {
+            incrementalRefreshTimer.record(this::applyChanges);
+        }
+        loaded = true;
+    }
+
+    private void rebuild(LocalDate today) {
+        List<ShowtimeAvailability> rows = showtimeRepository.findAvailability(
+                today.atStartOfDay(), today.plusDays(days).atStartOfDay());
+        showtimes.clear();
+        buckets.clear();
+        windowStart = today;
+        for (ShowtimeAvailability row : rows) {
+            add(row);
+            advanceChangesSince(row);
+        }
+
+        Map<DayKey, AvailabilitySummary> rebuilt = new HashMap<>(buckets.size() * 2);
+        buckets.forEach((key, bucket) -> rebuilt.put(key, AvailabilitySummary.of(key.movieId, key.date, bucket.values())));
+        summaries.keySet().retainAll(rebuilt.keySet());
+        summaries.putAll(rebuilt);
+        coveredFrom = today;
+        version.incrementAndGet();
+        logger.debug("Movie availability rebuilt: {} showtimes, {} movie-days", showtimes.size(), summaries.size());
+    }
+
+    private void applyChanges() {
+        if (changesSince == null) {
+            changesSince = windowStart.atStartOfDay();
+        }
+        // Re-reading a few seconds back catches rows whose transactions committed out of order
+        List<ShowtimeAvailability> rows = showtimeRepository.findAvailabilityChanges(
+                changesSince.minus(changeOverlap), windowStart.atStartOfDay());
+        LocalDateTime windowEnd = windowStart.plusDays(days).atStartOfDay();
+
+        Set<DayKey> touched = new HashSet<>();
+        for (ShowtimeAvailability row : rows) {
+            advanceChangesSince(row);
+            boolean inWindow = row.getShowDateTime().isBefore(windowEnd);
+            ShowtimeAvailability previous = showtimes.get(row.getId());
+            if (inWindow && row.sameAs(previous)) {
+                continue;
+            }
+            if (previous != null) {
+                remove(previous);
+                touched.add(DayKey.of(previous));
+            }
+            if (inWindow) {
+                add(row);
+                touched.add(DayKey.of(row));
+            }
+        }
+        if (touched.isEmpty()) {
+            return;
+        }
+        for (DayKey key : touched) {
+            Map<Long, ShowtimeAvailability> bucket = buckets.get(key);
+            if (bucket == null) {
+                summaries.remove(key);
+            } else {
+                summaries.put(key, AvailabilitySummary.of(key.movieId, key.date, bucket.values()));
+            }
+        }
+        version.incrementAndGet();
+        logger.debug("Movie availability updated: {} movie-days changed", touched.size());
+    }
+
+    private void add(ShowtimeAvailability row) {
+        showtimes.put(row.getId(), row);
+        buckets.computeIfAbsent(DayKey.of(row), key -> new HashMap<>()).put(row.getId(), row);
+    }
+
+    private void remove(ShowtimeAvailability row) {
+        showtimes.remove(row.getId());
+        DayKey key = DayKey.of(row);
+        Map<Long, ShowtimeAvailability> bucket = buckets.get(key);
+        if (bucket != null) {
+            bucket.remove(row.getId());
+            if (bucket.isEmpty()) {
+                buckets.remove(key);
+            }
+        }
+    }
+
+    private void advanceChangesSince(ShowtimeAvailability row) {
+        if (row.getUpdatedAt() != null && (changesSince == null || row.getUpdatedAt().isAfter(changesSince))) {
+            changesSince = row.getUpdatedAt();
+        }
+    }
+
+    private static final class DayKey {
+
+        private final Long movieId;
+        private final LocalDate date;
+
+        private DayKey(Long movieId, LocalDate date) {
+            this.movieId = movieId;
+            this.date = date;
+        }
+
+        private static DayKey of(ShowtimeAvailability row) {
+            return new DayKey(row.getMovieId(), row.getShowDate());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof DayKey)) {
+                return false;
+            }
+            DayKey other = (DayKey) o;
+            return Objects.equals(movieId, other.movieId) && Objects.equals(date, other.date);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(movieId, date);
+        }
+    }
+}
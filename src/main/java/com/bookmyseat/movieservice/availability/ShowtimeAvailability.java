@@ -0,0 +1,57 @@
+package com.bookmyseat.movieservice.availability;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * The columns of one showtime that feed the availability summary.
+ */
+public final class ShowtimeAvailability {
+
+    private final Long id;
+    private final Long movieId;
+    private final LocalDateTime showDateTime;
+    private final Integer availableSeats;
+    private final LocalDateTime updatedAt;
+
+    public ShowtimeAvailability(Long id, Long movieId, LocalDateTime showDateTime, Integer availableSeats,
+                                LocalDateTime updatedAt) {
+        this.id = id;
+        this.movieId = movieId;
+        this.showDateTime = showDateTime;
+        this.availableSeats = availableSeats;
+        this.updatedAt = updatedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getMovieId() {
+        return movieId;
+    }
+
+    public LocalDateTime getShowDateTime() {
+        return showDateTime;
+    }
+
+    public LocalDate getShowDate() {
+        return showDateTime.toLocalDate();
+    }
+
+    public Integer getAvailableSeats() {
+        return availableSeats;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    // Same contribution to the summary; updatedAt alone changing is not a change
+    boolean sameAs(ShowtimeAvailability other) {
+        return other != null && Objects.equals(movieId, other.movieId)
+                && Objects.equals(showDateTime, other.showDateTime)
+                && Objects.equals(availableSeats, other.availableSeats);
+    }
+}
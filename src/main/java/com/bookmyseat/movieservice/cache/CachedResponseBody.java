@@ -0,0 +1,47 @@
+package com.bookmyseat.movieservice.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Already-encoded JSON body. The gzip variant is produced on first request and then reused.
+ */
+public final class CachedResponseBody {
+
+    private final byte[] json;
+    private volatile byte[] gzip;
+
+    public CachedResponseBody(byte[] json) {
+        this.json = json;
+    }
+
+    public byte[] getJson() {
+        return json;
+    }
+
+    public byte[] getGzip() {
+        byte[] compressed = gzip;
+        if (compressed == null) {
+            compressed = compress(json);
+            gzip = compressed;
+        }
+        return compressed;
+    }
+
+    int weight() {
+        byte[] compressed = gzip;
+        return json.length + (compressed != null ? compressed.length : json.length / 4);
+    }
+
+    private static byte[] compress(byte[] data) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,69 @@
+package com.bookmyseat.movieservice.cache;
+
+import com.bookmyseat.movieservice.availability.MovieAvailabilityIndex;
+import com.bookmyseat.movieservice.catalog.MovieCatalog;
+import com.bookmyseat.movieservice.repository.DataWatermark;
+import com.bookmyseat.movieservice.repository.MovieRepository;
+import com.bookmyseat.movieservice.repository.ShowtimeRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Resolves the current {@link DataWatermark} for each read endpoint. Database watermarks are
+ * memoized for a short window so that bursts of conditional requests share one aggregate query.
+ */
+@Component
+public class DataWatermarks {
+
+    private static final String ALL_SHOWTIMES = "showtimes";
+
+    private final MovieCatalog movieCatalog;
+    private final MovieRepository movieRepository;
+    private final ShowtimeRepository showtimeRepository;
+    private final MovieAvailabilityIndex movieAvailabilityIndex;
+    private final Cache<Long, Optional<DataWatermark>> movieWatermarks;
+    private final Cache<String, DataWatermark> showtimeWatermarks;
+
+    @Autowired
+    public DataWatermarks(MovieCatalog movieCatalog, MovieRepository movieRepository,
+                          ShowtimeRepository showtimeRepository, MovieAvailabilityIndex movieAvailabilityIndex,
+                          @Value("${movie.watermark.max-staleness:PT1S}") Duration maxStaleness) {
+        this.movieCatalog = movieCatalog;
+        this.movieRepository = movieRepository;
+        this.showtimeRepository = showtimeRepository;
+        this.movieAvailabilityIndex = movieAvailabilityIndex;
+        this.movieWatermarks = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(maxStaleness)
+                .build();
+        this.showtimeWatermarks = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(maxStaleness)
+                .build();
+    }
+
+    public DataWatermark movies() {
+        return movieCatalog.current().getWatermark();
+    }
+
+    public Optional<DataWatermark> movie(Long movieId) {
+        return movieWatermarks.get(movieId, movieRepository::findDetailWatermark);
+    }
+
+    public DataWatermark showtimes() {
+        // Showtime payloads embed movie titles, so a movie edit must also change the showtime tag
+        return showtimeWatermarks.get(ALL_SHOWTIMES, key -> showtimeRepository.findWatermark())
+                .combine(movies());
+    }
+
+    // In-memory and bumped on every summary change, so it needs no memoization
+    public long availability() {
+        return movieAvailabilityIndex.version();
+    }
+}
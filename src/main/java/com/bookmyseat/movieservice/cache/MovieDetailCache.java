@@ -0,0 +1,120 @@
+package com.bookmyseat.movieservice.cache;
+
+import com.bookmyseat.movieservice.dto.MovieDetailDTO;
+import com.bookmyseat.movieservice.dto.ShowtimeDTO;
+import com.bookmyseat.movieservice.repository.DataWatermark;
+import com.bookmyseat.movieservice.window.ShowtimeWindow;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of {@link MovieDetailDTO} keyed by movie ID, showtime window and watermark. Entries are weighed by
+ * their approximate heap footprint, and concurrent misses for the same key share a single load.
+ * A changed watermark is simply a new key; superseded entries age out through eviction.
+ */
+@Component
+public class MovieDetailCache {
+
+    static final String CACHE_NAME = "movieDetail";
+
+    private static final int BASE_WEIGHT = 256;
+    private static final int SHOWTIME_WEIGHT = 128;
+
+    private final Cache<Key, MovieDetailDTO> cache;
+
+    @Autowired
+    public MovieDetailCache(MeterRegistry meterRegistry,
+                            @Value("${movie.detail-cache.maximum-weight-bytes:33554432}") long maximumWeightBytes,
+                            @Value("${movie.detail-cache.expire-after-write:PT5M}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeightBytes)
+                .weigher((Key key, MovieDetailDTO detail) -> weigh(detail))
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        // CaffeineCacheMetrics only reports load timings for LoadingCache instances
+        FunctionTimer.builder("cache.load.duration", cache,
+                        c -> c.stats().loadCount(), c -> c.stats().totalLoadTime(), TimeUnit.NANOSECONDS)
+                .tag("cache", CACHE_NAME)
+                .description("Time spent loading movie details on cache misses")
+                .register(meterRegistry);
+    }
+
+    public MovieDetailDTO get(Long movieId, ShowtimeWindow window, DataWatermark watermark,
+                              Function<Long, MovieDetailDTO> loader) {
+        return cache.get(new Key(movieId, window, watermark), key -> loader.apply(key.movieId));
+    }
+
+    public void invalidate(Long movieId) {
+        cache.asMap().keySet().removeIf(key -> key.movieId.equals(movieId));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    void cleanUp() {
+        cache.cleanUp();
+    }
+
+    static int weigh(MovieDetailDTO detail) {
+        long weight = BASE_WEIGHT
+                + chars(detail.getTitle())
+                + chars(detail.getDescription())
+                + chars(detail.getGenre())
+                + chars(detail.getLanguage());
+        if (detail.getShowtimes() != null) {
+            for (ShowtimeDTO showtime : detail.getShowtimes()) {
+                weight += SHOWTIME_WEIGHT + chars(showtime.getTheater());
+            }
+        }
+        return (int) Math.min(Integer.MAX_VALUE, weight);
+    }
+
+    private static int chars(String value) {
+        return value != null ? value.length() * 2 : 0;
+    }
+
+    private static final class Key {
+
+        private final Long movieId;
+        private final ShowtimeWindow window;
+        private final DataWatermark watermark;
+
+        private Key(Long movieId, ShowtimeWindow window, DataWatermark watermark) {
+            this.movieId = movieId;
+            this.window = window;
+            this.watermark = watermark;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return movieId.equals(key.movieId) && Objects.equals(window, key.window)
+                    && Objects.equals(watermark, key.watermark);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(movieId, window, watermark);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.bookmyseat.movieservice.cache;
+
+import com.bookmyseat.movieservice.catalog.MovieCatalogRefreshedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Caches serialized JSON for hot list responses so that a hit skips both DTO assembly and
+ * Jackson. Keys are built from the endpoint region and the request's filter values.
+ */
+@Component
+public class ResponseBodyCache {
+
+    public static final String MOVIES = "movies";
+    public static final String SHOWTIMES = "showtimes";
+
+    static final String CACHE_NAME = "responseBody";
+
+    private static final char KEY_SEPARATOR = '|';
+
+    private final ObjectMapper objectMapper;
+    private final Cache<String, CachedResponseBody> cache;
+
+    @Autowired
+    public ResponseBodyCache(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                             @Value("${movie.response-cache.maximum-weight-bytes:16777216}") long maximumWeightBytes,
+                             @Value("${movie.response-cache.expire-after-write:PT30S}") Duration expireAfterWrite) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeightBytes)
+                .weigher((String key, CachedResponseBody body) -> key.length() * 2 + body.weight())
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public CachedResponseBody get(String region, Object[] keyParts, Supplier<?> bodySupplier) {
+        return cache.get(key(region, keyParts), key -> new CachedResponseBody(serialize(bodySupplier.get())));
+    }
+
+    public void invalidateRegion(String region) {
+        String prefix = region + KEY_SEPARATOR;
+        cache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    @EventListener
+    public void onCatalogRefreshed(MovieCatalogRefreshedEvent event) {
+        invalidateRegion(MOVIES);
+    }
+
+    static String key(String region, Object[] keyParts) {
+        StringBuilder key = new StringBuilder(region);
+        for (Object part : keyParts) {
+            key.append(KEY_SEPARATOR);
+            if (part != null) {
+                // Length prefix keeps values containing the separator unambiguous
+                String value = part.toString();
+                key.append(value.length()).append(':').append(value);
+            }
+        }
+        return key.toString();
+    }
+
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.bookmyseat.movieservice.cache;
+
+import com.bookmyseat.movieservice.entity.Showtime;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drops Hibernate's second-level copies of showtimes on behalf of components that write the
+ * showtimes table over JDBC, where Hibernate cannot see the change and invalidate them itself.
+ * Owns the name of the showtime query cache region, which the repository's cacheable queries
+ * are stored under.
+ */
+@Component
+public class ShowtimeCacheEvictor {
+
+    public static final String QUERY_REGION = "showtime-queries";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    public ShowtimeCacheEvictor(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * For rows updated or deleted: both cached showtimes and cached query results may be stale.
+     */
+    public void evictShowtimes() {
+        Cache cache = cache();
+        cache.evictEntityData(Showtime.class);
+        cache.evictQueryRegion(QUERY_REGION);
+    }
+
+    /**
+     * For rows inserted: cached showtimes are still current, but cached query results may miss them.
+     */
+    public void evictShowtimeQueries() {
+        cache().evictQueryRegion(QUERY_REGION);
+    }
+
+    private Cache cache() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+}
@@ -0,0 +1,77 @@
+package com.bookmyseat.movieservice.catalog;
+
+import com.bookmyseat.movieservice.dto.MovieDTO;
+import com.bookmyseat.movieservice.repository.DataWatermark;
+import com.bookmyseat.movieservice.repository.MovieRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the current {@link MovieCatalogSnapshot}. Readers never block: the snapshot is
+ * rebuilt off to the side and published with a single atomic swap.
+ */
+@Component
+public class MovieCatalog {
+
+    private static final Logger logger = LoggerFactory.getLogger(MovieCatalog.class);
+
+    private final MovieRepository movieRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Timer refreshTimer;
+    private final AtomicReference<MovieCatalogSnapshot> snapshot = new AtomicReference<>();
+
+    @Autowired
+    public MovieCatalog(MovieRepository movieRepository, ApplicationEventPublisher eventPublisher,
+                        MeterRegistry meterRegistry) {
+        this.movieRepository = movieRepository;
+        this.eventPublisher = eventPublisher;
+        this.refreshTimer = Timer.builder("movie_catalog_refresh_duration")
+                .description("Time taken to rebuild the in-memory movie catalog")
+                .register(meterRegistry);
+        Gauge.builder("movie_catalog_size", snapshot, ref -> ref.get() != null ? ref.get().size() : 0)
+                .description("Number of movies in the in-memory catalog")
+                .register(meterRegistry);
+    }
+
+    public MovieCatalogSnapshot current() {
+        MovieCatalogSnapshot current = snapshot.get();
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            current = snapshot.get();
+            return current != null ? current : refresh();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${movie.catalog.refresh-interval-ms:60000}",
+               initialDelayString = "${movie.catalog.refresh-interval-ms:60000}")
+    public synchronized MovieCatalogSnapshot refresh() {
+        // Read the watermark before the rows so a concurrent write can only make the snapshot look older
+        DataWatermark watermark = movieRepository.findWatermark();
+        MovieCatalogSnapshot current = snapshot.get();
+        if (current != null && watermark != null && watermark.equals(current.getWatermark())) {
+            logger.debug("Movie catalog unchanged since {}", watermark.getMaxUpdatedAt());
+            return current;
+        }
+
+        MovieCatalogSnapshot rebuilt = refreshTimer.record(() -> {
+            List<MovieDTO> movies = movieRepository.findAllMovieDTOs();
+            return MovieCatalogSnapshot.of(movies, watermark);
+        });
+        MovieCatalogSnapshot previous = snapshot.getAndSet(rebuilt);
+        logger.debug("Movie catalog refreshed with {} movies", rebuilt.size());
+        eventPublisher.publishEvent(new MovieCatalogRefreshedEvent(previous, rebuilt));
+        return rebuilt;
+    }
+}
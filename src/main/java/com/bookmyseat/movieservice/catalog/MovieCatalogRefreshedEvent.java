@@ -0,0 +1,23 @@
+package com.bookmyseat.movieservice.catalog;
+
+/**
+ * Published after a new {@link MovieCatalogSnapshot} has been swapped in.
+ */
+public class MovieCatalogRefreshedEvent {
+
+    private final MovieCatalogSnapshot previous;
+    private final MovieCatalogSnapshot current;
+
+    public MovieCatalogRefreshedEvent(MovieCatalogSnapshot previous, MovieCatalogSnapshot current) {
+        this.previous = previous;
+        this.current = current;
+    }
+
+    public MovieCatalogSnapshot getPrevious() {
+        return previous;
+    }
+
+    public MovieCatalogSnapshot getCurrent() {
+        return current;
+    }
+}
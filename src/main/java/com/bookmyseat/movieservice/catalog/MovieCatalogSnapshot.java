@@ -0,0 +1,157 @@
+package com.bookmyseat.movieservice.catalog;
+
+import com.bookmyseat.movieservice.dto.MovieDTO;
+import com.bookmyseat.movieservice.pagination.Cursor;
+import com.bookmyseat.movieservice.pagination.CursorPage;
+import com.bookmyseat.movieservice.repository.DataWatermark;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable, fully indexed view of the movie catalog. Every genre/language filter
+ * combination is pre-computed, so lookups are a single hash probe. All lists are ordered
+ * by (title, id), which is also the keyset used for cursor pagination.
+ */
+public final class MovieCatalogSnapshot {
+
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private static final Comparator<String> TITLE_ORDER =
+            Comparator.nullsFirst(String.CASE_INSENSITIVE_ORDER.thenComparing(Comparator.naturalOrder()));
+
+    private final List<MovieDTO> movies;
+    private final Map<String, List<MovieDTO>> byGenre;
+    private final Map<String, List<MovieDTO>> byLanguage;
+    private final Map<String, List<MovieDTO>> byGenreAndLanguage;
+    private final DataWatermark watermark;
+    private final Instant builtAt;
+
+    private MovieCatalogSnapshot(List<MovieDTO> movies, DataWatermark watermark, Instant builtAt) {
+        List<MovieDTO> ordered = new ArrayList<>(movies);
+        ordered.sort(Comparator.comparing(MovieDTO::getTitle, TITLE_ORDER)
+                .thenComparing(MovieDTO::getId, Comparator.nullsLast(Comparator.naturalOrder())));
+
+        Map<String, List<MovieDTO>> genres = new HashMap<>();
+        Map<String, List<MovieDTO>> languages = new HashMap<>();
+        Map<String, List<MovieDTO>> combinations = new HashMap<>();
+        for (MovieDTO movie : ordered) {
+            String genre = normalize(movie.getGenre());
+            String language = normalize(movie.getLanguage());
+            if (genre != null) {
+                genres.computeIfAbsent(genre, key -> new ArrayList<>()).add(movie);
+            }
+            if (language != null) {
+                languages.computeIfAbsent(language, key -> new ArrayList<>()).add(movie);
+            }
+            if (genre != null && language != null) {
+                combinations.computeIfAbsent(combinedKey(genre, language), key -> new ArrayList<>()).add(movie);
+            }
+        }
+
+        this.movies = Collections.unmodifiableList(ordered);
+        this.byGenre = freeze(genres);
+        this.byLanguage = freeze(languages);
+        this.byGenreAndLanguage = freeze(combinations);
+        this.watermark = watermark != null ? watermark : DataWatermark.EMPTY;
+        this.builtAt = builtAt;
+    }
+
+    public static MovieCatalogSnapshot of(List<MovieDTO> movies) {
+        return of(movies, DataWatermark.EMPTY);
+    }
+
+    public static MovieCatalogSnapshot of(List<MovieDTO> movies, DataWatermark watermark) {
+        return new MovieCatalogSnapshot(movies, watermark, Instant.now());
+    }
+
+    public static MovieCatalogSnapshot empty() {
+        return of(List.of());
+    }
+
+    public List<MovieDTO> find(String genre, String language) {
+        if (genre == null && language == null) {
+            return movies;
+        }
+        if (language == null) {
+            return byGenre.getOrDefault(normalize(genre), List.of());
+        }
+        if (genre == null) {
+            return byLanguage.getOrDefault(normalize(language), List.of());
+        }
+        return byGenreAndLanguage.getOrDefault(combinedKey(normalize(genre), normalize(language)), List.of());
+    }
+
+    /**
+     * Returns up to {@code limit} movies positioned strictly after {@code after}. The start of the
+     * page is found by binary search, so deep pages cost the same as the first one.
+     */
+    public CursorPage<MovieDTO> page(String genre, String language, Cursor after, int limit) {
+        List<MovieDTO> matches = find(genre, language);
+        int from = after != null ? firstAfter(matches, after) : 0;
+        int to = Math.min(from + limit, matches.size());
+
+        String nextCursor = null;
+        if (to < matches.size()) {
+            MovieDTO last = matches.get(to - 1);
+            nextCursor = Cursor.of(last.getTitle(), last.getId()).encode();
+        }
+        return new CursorPage<>(matches.subList(from, to), nextCursor);
+    }
+
+    public List<MovieDTO> getMovies() {
+        return movies;
+    }
+
+    public int size() {
+        return movies.size();
+    }
+
+    public DataWatermark getWatermark() {
+        return watermark;
+    }
+
+    public Instant getBuiltAt() {
+        return builtAt;
+    }
+
+    private static int firstAfter(List<MovieDTO> movies, Cursor after) {
+        int low = 0;
+        int high = movies.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compareToCursor(movies.get(mid), after) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int compareToCursor(MovieDTO movie, Cursor cursor) {
+        int byTitle = TITLE_ORDER.compare(movie.getTitle() != null ? movie.getTitle() : "", cursor.getKey());
+        return byTitle != 0 ? byTitle : Long.compare(movie.getId(), cursor.getId());
+    }
+
+    // Mirrors the case-insensitive collation MySQL applies to the genre/language columns
+    private static String normalize(String value) {
+        return value != null ? value.toLowerCase(Locale.ROOT) : null;
+    }
+
+    private static String combinedKey(String genre, String language) {
+        return genre + KEY_SEPARATOR + language;
+    }
+
+    private static Map<String, List<MovieDTO>> freeze(Map<String, List<MovieDTO>> index) {
+        Map<String, List<MovieDTO>> frozen = new HashMap<>(index.size() * 2);
+        index.forEach((key, value) -> frozen.put(key, Collections.unmodifiableList(value)));
+        return Collections.unmodifiableMap(frozen);
+    }
+}
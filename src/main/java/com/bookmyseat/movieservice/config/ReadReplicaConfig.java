@@ -0,0 +1,81 @@
+package com.bookmyseat.movieservice.config;
+
+import com.bookmyseat.movieservice.datasource.ReadReplicaProperties;
+import com.bookmyseat.movieservice.datasource.ReplicaLagProbe;
+import com.bookmyseat.movieservice.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sends connections for read-only transactions to replica pools. The exposed DataSource is a
+ * lazy proxy, so the read-only flag set by {@code @Transactional(readOnly = true)} is known
+ * before a physical connection is chosen; everything else, including Flyway, uses the primary.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "movie.datasource.read-replicas", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        primary.setPoolName("primary");
+        return primary;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             ReadReplicaProperties properties,
+                                                             MeterRegistry meterRegistry) {
+        List<HikariDataSource> pools = new ArrayList<>();
+        for (int i = 0; i < properties.getReplicas().size(); i++) {
+            pools.add(replicaPool(properties.getReplicas().get(i), i, primaryDataSource, meterRegistry));
+        }
+        ReplicaLagProbe lagProbe = properties.getLagProbe() == ReadReplicaProperties.LagProbe.NONE
+                ? ReplicaLagProbe.NONE
+                : ReplicaLagProbe.MYSQL;
+        return new ReplicaRoutingDataSource(primaryDataSource, pools, lagProbe, properties.getMaxLag(),
+                properties.getHealthCheckInterval(), meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaRoutingDataSource);
+        return dataSource;
+    }
+
+    private static HikariDataSource replicaPool(ReadReplicaProperties.Replica replica, int index,
+                                                HikariDataSource primary, MeterRegistry meterRegistry) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName(replica.getName() != null ? replica.getName() : "replica-" + (index + 1));
+        pool.setJdbcUrl(replica.getUrl());
+        pool.setUsername(replica.getUsername() != null ? replica.getUsername() : primary.getUsername());
+        pool.setPassword(replica.getPassword() != null ? replica.getPassword() : primary.getPassword());
+        pool.setDriverClassName(primary.getDriverClassName());
+        pool.setDataSourceProperties(primary.getDataSourceProperties());
+        pool.setMaximumPoolSize(replica.getMaximumPoolSize());
+        pool.setConnectionTimeout(replica.getConnectionTimeout().toMillis());
+        pool.setReadOnly(true);
+        // Start even if a replica is down; the health check keeps it out of rotation
+        pool.setInitializationFailTimeout(-1);
+        pool.setMetricRegistry(meterRegistry);
+        return pool;
+    }
+}
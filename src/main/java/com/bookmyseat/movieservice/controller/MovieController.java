@@ -1,10 +1,35 @@
 package com.bookmyseat.movieservice.controller;
 
+import com.bookmyseat.movieservice.cache.CachedResponseBody;
+import com.bookmyseat.movieservice.cache.DataWatermarks;
+import com.bookmyseat.movieservice.cache.ResponseBodyCache;
+import com.bookmyseat.movieservice.dto.CatalogImportResultDTO;
 import com.bookmyseat.movieservice.dto.MovieDetailDTO;
+import com.bookmyseat.movieservice.dto.MovieDTO;
+import com.bookmyseat.movieservice.dto.MovieSuggestionsResponseDTO;
 import com.bookmyseat.movieservice.dto.MoviesResponseDTO;
+import com.bookmyseat.movieservice.dto.ReservationDTO;
+import com.bookmyseat.movieservice.dto.ReservationRequestDTO;
+import com.bookmyseat.movieservice.dto.SeatClaimDTO;
+import com.bookmyseat.movieservice.dto.SeatClaimRequestDTO;
+import com.bookmyseat.movieservice.dto.SeatHoldDTO;
+import com.bookmyseat.movieservice.dto.SeatMapDTO;
+import com.bookmyseat.movieservice.dto.ShowtimeDTO;
+import com.bookmyseat.movieservice.dto.ShowtimeIngestRequestDTO;
+import com.bookmyseat.movieservice.dto.ShowtimeIngestResultDTO;
 import com.bookmyseat.movieservice.dto.ShowtimesResponseDTO;
+import com.bookmyseat.movieservice.export.ShowtimeExporter;
+import com.bookmyseat.movieservice.hold.SeatHoldManager;
+import com.bookmyseat.movieservice.importer.CatalogImporter;
+import com.bookmyseat.movieservice.inventory.SeatInventory;
+import com.bookmyseat.movieservice.ingest.ShowtimeIngester;
+import com.bookmyseat.movieservice.pagination.CursorPage;
+import com.bookmyseat.movieservice.seatmap.SeatMapStore;
+import com.bookmyseat.movieservice.repository.DataWatermark;
 import com.bookmyseat.movieservice.service.MovieService;
 import com.bookmyseat.movieservice.service.ShowtimeService;
+import com.bookmyseat.movieservice.window.ShowtimeWindow;
+import com.bookmyseat.movieservice.window.ShowtimeWindows;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -12,12 +37,22 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/v1")
@@ -26,42 +61,145 @@ public class MovieController {
 
     private final MovieService movieService;
     private final ShowtimeService showtimeService;
+    private final ResponseBodyCache responseBodyCache;
+    private final DataWatermarks dataWatermarks;
+    private final ShowtimeWindows showtimeWindows;
+    private final ShowtimeExporter showtimeExporter;
+    private final ShowtimeIngester showtimeIngester;
+    private final CatalogImporter catalogImporter;
+    private final SeatInventory seatInventory;
+    private final SeatHoldManager seatHoldManager;
+    private final SeatMapStore seatMapStore;
 
     @Autowired
-    public MovieController(MovieService movieService, ShowtimeService showtimeService) {
+    public MovieController(MovieService movieService, ShowtimeService showtimeService,
+                           ResponseBodyCache responseBodyCache, DataWatermarks dataWatermarks,
+                           ShowtimeWindows showtimeWindows, ShowtimeExporter showtimeExporter,
+                           ShowtimeIngester showtimeIngester, CatalogImporter catalogImporter,
+                           SeatInventory seatInventory, SeatHoldManager seatHoldManager,
+                           SeatMapStore seatMapStore) {
         this.movieService = movieService;
         this.showtimeService = showtimeService;
+        this.responseBodyCache = responseBodyCache;
+        this.dataWatermarks = dataWatermarks;
+        this.showtimeWindows = showtimeWindows;
+        this.showtimeExporter = showtimeExporter;
+        this.showtimeIngester = showtimeIngester;
+        this.catalogImporter = catalogImporter;
+        this.seatInventory = seatInventory;
+        this.seatHoldManager = seatHoldManager;
+        this.seatMapStore = seatMapStore;
     }
 
     @GetMapping("/movies")
     @Operation(
         summary = "Get all movies",
-        description = "Retrieve all movies with optional filtering by genre and language"
+        description = "Retrieve movies with optional filtering by genre and language, one cursor page at a time"
     )
     @ApiResponses(value = {
         @ApiResponse(
             responseCode = "200",
             description = "Movies retrieved successfully",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = MoviesResponseDTO.class))
+        ),
+        @ApiResponse(responseCode = "304", description = "Movies unchanged since the supplied ETag"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid cursor or availability date",
+            content = @Content(mediaType = "application/json")
         )
     })
-    public ResponseEntity<MoviesResponseDTO> getAllMovies(
+    public ResponseEntity<byte[]> getAllMovies(
             @Parameter(description = "Filter by genre", example = "Sci-Fi")
             @RequestParam(required = false) String genre,
 
             @Parameter(description = "Filter by language", example = "English")
-            @RequestParam(required = false) String language) {
+            @RequestParam(required = false) String language,
+
+            @Parameter(description = "Opaque cursor from the previous page's nextCursor")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "Maximum number of movies to return", example = "50")
+            @RequestParam(required = false) Integer limit,
+
+            @Parameter(description = "Include each movie's showtime availability on this date (YYYY-MM-DD)",
+                example = "2025-09-30")
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate availabilityDate,
+
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+
+            WebRequest webRequest) {
 
-        MoviesResponseDTO response = new MoviesResponseDTO(
-            movieService.getAllMovies(genre, language)
+        boolean gzip = acceptsGzip(acceptEncoding);
+        String availability = availabilityDate != null ? availabilityDate + "@" + dataWatermarks.availability() : null;
+        String eTag = dataWatermarks.movies().toETag(ResponseBodyCache.MOVIES, genre, language, cursor, limit,
+            availability, gzip);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        CachedResponseBody body = responseBodyCache.get(ResponseBodyCache.MOVIES,
+            new Object[] {genre, language, cursor, limit, availability, eTag},
+            () -> {
+                CursorPage<MovieDTO> page = movieService.getMovies(genre, language, cursor, limit, availabilityDate);
+                return new MoviesResponseDTO(page.getItems(), page.getNextCursor());
+            }
         );
-        return ResponseEntity.ok(response);
+        return jsonResponse(body, eTag, gzip);
+    }
+
+    @GetMapping("/movies/search")
+    @Operation(
+        summary = "Search movies",
+        description = "Full-text search over movie titles and descriptions, best match first. Every word must match, " +
+            "either exactly or as the start of a word"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Search completed successfully",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = MoviesResponseDTO.class))
+        )
+    })
+    public ResponseEntity<MoviesResponseDTO> searchMovies(
+            @Parameter(description = "Search text", example = "dream heist")
+            @RequestParam(name = "q") String query,
+
+            @Parameter(description = "Maximum number of movies to return", example = "20")
+            @RequestParam(required = false) Integer limit) {
+
+        List<MovieDTO> movies = movieService.searchMovies(query, limit);
+        return ResponseEntity.ok(new MoviesResponseDTO(movies));
+    }
+
+    @GetMapping("/movies/suggest")
+    @Operation(
+        summary = "Suggest movie titles",
+        description = "Autocomplete for titles containing a word that starts with the prefix, best first"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Suggestions retrieved successfully",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = MovieSuggestionsResponseDTO.class))
+        )
+    })
+    public ResponseEntity<MovieSuggestionsResponseDTO> suggestMovies(
+            @Parameter(description = "What the user has typed so far", example = "dark kn")
+            @RequestParam String prefix,
+
+            @Parameter(description = "Maximum number of suggestions to return", example = "5")
+            @RequestParam(required = false) Integer limit) {
+
+        return ResponseEntity.ok(new MovieSuggestionsResponseDTO(movieService.suggestMovies(prefix, limit)));
     }
 
     @GetMapping("/movies/{movieId}")
     @Operation(
         summary = "Get movie by ID",
-        description = "Retrieve a specific movie with its showtimes"
+        description = "Retrieve a specific movie with its upcoming showtimes, by default those in the next 7 days"
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -69,6 +207,12 @@ public class MovieController {
             description = "Movie retrieved successfully",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = MovieDetailDTO.class))
         ),
+        @ApiResponse(responseCode = "304", description = "Movie unchanged since the supplied ETag"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid showtime window",
+            content = @Content(mediaType = "application/json")
+        ),
         @ApiResponse(
             responseCode = "404",
             description = "Movie not found",
@@ -77,25 +221,49 @@ public class MovieController {
     })
     public ResponseEntity<MovieDetailDTO> getMovieById(
             @Parameter(description = "Movie ID", example = "1")
-            @PathVariable Long movieId) {
+            @PathVariable Long movieId,
+
+            @Parameter(description = "Earliest show time to include (defaults to now)", example = "2025-09-30T00:00:00")
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+
+            @Parameter(description = "Show times before this are included (defaults to from plus the configured window)",
+                example = "2025-10-07T00:00:00")
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+
+            WebRequest webRequest) {
 
-        MovieDetailDTO movie = movieService.getMovieById(movieId);
-        return ResponseEntity.ok(movie);
+        ShowtimeWindow window = showtimeWindows.resolve(from, to);
+        Optional<DataWatermark> watermark = dataWatermarks.movie(movieId);
+        String eTag = watermark.map(w -> w.toETag("movie", movieId, window.getFrom(), window.getTo())).orElse(null);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        MovieDetailDTO movie = movieService.getMovieById(movieId, window);
+        return ResponseEntity.ok().eTag(eTag).body(movie);
     }
 
     @GetMapping("/showtimes")
     @Operation(
         summary = "Get all showtimes",
-        description = "Retrieve all showtimes with optional filtering"
+        description = "Retrieve showtimes ordered by start time with optional filtering, one cursor page at a time"
     )
     @ApiResponses(value = {
         @ApiResponse(
             responseCode = "200",
             description = "Showtimes retrieved successfully",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ShowtimesResponseDTO.class))
+        ),
+        @ApiResponse(responseCode = "304", description = "Showtimes unchanged since the supplied ETag"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid cursor",
+            content = @Content(mediaType = "application/json")
         )
     })
-    public ResponseEntity<ShowtimesResponseDTO> getAllShowtimes(
+    public ResponseEntity<byte[]> getAllShowtimes(
             @Parameter(description = "Filter by movie ID", example = "1")
             @RequestParam(required = false) Long movieId,
 
@@ -104,11 +272,461 @@ public class MovieController {
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
 
             @Parameter(description = "Filter by theater name", example = "Theater 1")
-            @RequestParam(required = false) String theater) {
+            @RequestParam(required = false) String theater,
+
+            @Parameter(description = "Opaque cursor from the previous page's nextCursor")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "Maximum number of showtimes to return", example = "50")
+            @RequestParam(required = false) Integer limit,
+
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+
+            WebRequest webRequest) {
 
-        ShowtimesResponseDTO response = new ShowtimesResponseDTO(
-            showtimeService.getAllShowtimes(movieId, date, theater)
+        boolean gzip = acceptsGzip(acceptEncoding);
+        String eTag = dataWatermarks.showtimes().toETag(ResponseBodyCache.SHOWTIMES, movieId, date, theater,
+            cursor, limit, gzip);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        CachedResponseBody body = responseBodyCache.get(ResponseBodyCache.SHOWTIMES,
+            new Object[] {movieId, date, theater, cursor, limit, eTag},
+            () -> {
+                CursorPage<ShowtimeDTO> page = showtimeService.getShowtimes(movieId, date, theater, cursor, limit);
+                return new ShowtimesResponseDTO(page.getItems(), page.getNextCursor());
+            }
         );
-        return ResponseEntity.ok(response);
+        return jsonResponse(body, eTag, gzip);
+    }
+
+    @GetMapping(value = "/showtimes/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+        summary = "Export showtimes",
+        description = "Streams every matching showtime as newline-delimited JSON, ordered by start time. " +
+            "Meant for partner integrations that pull the whole schedule"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Showtimes streamed one JSON object per line",
+            content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = ShowtimeDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid date range",
+            content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(
+            responseCode = "503",
+            description = "Too many exports in progress",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    public ResponseEntity<StreamingResponseBody> exportShowtimes(
+            @Parameter(description = "Filter by movie ID", example = "1")
+            @RequestParam(required = false) Long movieId,
+
+            @Parameter(description = "First show date to include (YYYY-MM-DD)", example = "2025-09-01")
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+
+            @Parameter(description = "Show dates before this are included (YYYY-MM-DD)", example = "2025-10-01")
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        StreamingResponseBody body = showtimeExporter.export(movieId, from, to);
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .header(HttpHeaders.CACHE_CONTROL, "no-store")
+            .body(body);
+    }
+
+    @PostMapping("/showtimes/bulk")
+    @Operation(
+        summary = "Bulk create showtimes",
+        description = "Inserts a batch of showtimes for scheduling tools. Valid rows are inserted together; " +
+            "rows that fail validation or reference an unknown movie are skipped and reported by position"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Request processed; see errors for rejected rows",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ShowtimeIngestResultDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Empty request or too many showtimes",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    public ResponseEntity<ShowtimeIngestResultDTO> ingestShowtimes(@RequestBody ShowtimeIngestRequestDTO request) {
+        return ResponseEntity.ok(showtimeIngester.ingest(request.getShowtimes()));
+    }
+
+    @PostMapping("/showtimes/{showtimeId}/reservations")
+    @Operation(
+        summary = "Reserve seats",
+        description = "Atomically takes seats from a showtime's availability. The request either gets all the seats " +
+            "it asks for or none; concurrent reservations never oversell"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "201",
+            description = "Seats reserved",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ReservationDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid number of seats",
+            content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Showtime not found",
+            content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "Not enough seats left",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    public ResponseEntity<ReservationDTO> reserveSeats(
+            @Parameter(description = "Showtime ID", example = "1", required = true)
+            @PathVariable Long showtimeId,
+
+            @Valid @RequestBody ReservationRequestDTO request) {
+
+        // The in-memory inventory acknowledges without a database round trip, for showtimes too hot for row updates
+        ReservationDTO reservation = seatInventory.isEnabled()
+            ? seatInventory.reserve(showtimeId, request.getSeats())
+            : showtimeService.reserveSeats(showtimeId, request.getSeats());
+        return ResponseEntity.status(HttpStatus.CREATED).body(reservation);
+    }
+
+    @GetMapping("/showtimes/{showtimeId}/seats")
+    @Operation(
+        summary = "Get seat map",
+        description = "Returns the showtime's seat layout and which seats are taken, as a base64 bitset with one bit " +
+            "per seat in row-major order"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Seat map retrieved",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = SeatMapDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Showtime not found or its theater has no seat layout",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    public ResponseEntity<SeatMapDTO> getSeatMap(
+            @Parameter(description = "Showtime ID", example = "1", required = true)
+            @PathVariable Long showtimeId) {
+
+        return ResponseEntity.ok(seatMapStore.getSeatMap(showtimeId));
+    }
+
+    @PostMapping("/showtimes/{showtimeId}/seats/claims")
+    @Operation(
+        summary = "Claim specific seats",
+        description = "Atomically claims the listed seats: the request gets all of them or none. Claimed seats are " +
+            "also taken off the showtime's available seat count"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "201",
+            description = "Seats claimed",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = SeatClaimDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Unknown, repeated or too many seats",
+            content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Showtime not found or its theater has no seat layout",
+            content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "A requested seat is already taken",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    public ResponseEntity<SeatClaimDTO> claimSeats(
+            @Parameter(description = "Showtime ID", example = "1", required = true)
+            @PathVariable Long showtimeId,
+
+            @Valid @RequestBody SeatClaimRequestDTO request) {
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(seatMapStore.claim(showtimeId, request.getSeats()));
+    }
+
+    @PostMapping("/showtimes/{showtimeId}/seats/best-available")
+    @Operation(
+        summary = "Claim the best available seats",
+        description = "Claims the best block of adjacent seats in one row for the party size, preferring rows two " +
+            "thirds of the way back and seats near the middle"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "201",
+            description = "Seats claimed",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = SeatClaimDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid party size",
+            content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Showtime not found or its theater has no seat layout",
+            content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "No row has that many adjacent free seats",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    public ResponseEntity<SeatClaimDTO> claimBestAvailableSeats(
+            @Parameter(description = "Showtime ID", example = "1", required = true)
+            @PathVariable Long showtimeId,
+
+            @Valid @RequestBody ReservationRequestDTO request) {
+
+        SeatClaimDTO claim = seatMapStore.claimBestAvailable(showtimeId, request.getSeats());
+        return ResponseEntity.status(HttpStatus.CREATED).body(claim);
+    }
+
+    @PostMapping("/showtimes/{showtimeId}/holds")
+    @Operation(
+        summary = "Hold seats",
+        description = "Takes seats from a showtime's availability for the duration of checkout. The seats are " +
+            "returned automatically unless the hold is confirmed before it expires"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "201",
+            description = "Seats held",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = SeatHoldDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid number of seats",
+            content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Showtime not found",
+            content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "Not enough seats left",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    public ResponseEntity<SeatHoldDTO> holdSeats(
+            @Parameter(description = "Showtime ID", example = "1", required = true)
+            @PathVariable Long showtimeId,
+
+            @Valid @RequestBody ReservationRequestDTO request) {
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(seatHoldManager.hold(showtimeId, request.getSeats()));
+    }
+
+    @PostMapping("/holds/{holdId}/confirmation")
+    @Operation(
+        summary = "Confirm a seat hold",
+        description = "Keeps the held seats for good, ending the hold"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Hold confirmed"),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Hold not found or already expired",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    public ResponseEntity<Void> confirmHold(
+            @Parameter(description = "Hold ID", required = true)
+            @PathVariable String holdId) {
+
+        seatHoldManager.confirm(holdId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/holds/{holdId}")
+    @Operation(
+        summary = "Release a seat hold",
+        description = "Gives the held seats back before the hold expires"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Hold released"),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Hold not found or already expired",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    public ResponseEntity<Void> releaseHold(
+            @Parameter(description = "Hold ID", required = true)
+            @PathVariable String holdId) {
+
+        seatHoldManager.release(holdId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/showtimes/archive")
+    @Operation(
+        summary = "Get archived showtimes",
+        description = "Reporting view of past showtimes moved to the archive, ordered by start time, one cursor page at a time"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Archived showtimes retrieved successfully",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ShowtimesResponseDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid date range or cursor",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    public ResponseEntity<ShowtimesResponseDTO> getArchivedShowtimes(
+            @Parameter(description = "Filter by movie ID", example = "1")
+            @RequestParam(required = false) Long movieId,
+
+            @Parameter(description = "First show date to include (YYYY-MM-DD)", example = "2025-09-01", required = true)
+            @RequestParam
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+
+            @Parameter(description = "Show dates before this are included (YYYY-MM-DD)", example = "2025-10-01", required = true)
+            @RequestParam
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+
+            @Parameter(description = "Opaque cursor from the previous page's nextCursor")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "Maximum number of showtimes to return", example = "50")
+            @RequestParam(required = false) Integer limit) {
+
+        CursorPage<ShowtimeDTO> page = showtimeService.getArchivedShowtimes(movieId, from, to, cursor, limit);
+        return ResponseEntity.ok(new ShowtimesResponseDTO(page.getItems(), page.getNextCursor()));
+    }
+
+    @PostMapping("/imports/movies")
+    @Operation(
+        summary = "Import movies from CSV",
+        description = "Loads a movies CSV from the server's import directory in batches. Rerunning an interrupted " +
+            "import of the same, unchanged file resumes after the last committed batch"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Import completed",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = CatalogImportResultDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Unknown file or missing columns",
+            content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "Another import is running",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    public ResponseEntity<CatalogImportResultDTO> importMovies(
+            @Parameter(description = "File name within the import directory", example = "movies.csv", required = true)
+            @RequestParam String file) {
+
+        return ResponseEntity.ok(catalogImporter.importMovies(file));
+    }
+
+    @PostMapping("/imports/showtimes")
+    @Operation(
+        summary = "Import showtimes from CSV",
+        description = "Loads a showtimes CSV from the server's import directory in batches, matching movies by title. " +
+            "Rerunning an interrupted import of the same, unchanged file resumes after the last committed batch"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Import completed",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = CatalogImportResultDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Unknown file or missing columns",
+            content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "Another import is running",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    public ResponseEntity<CatalogImportResultDTO> importShowtimes(
+            @Parameter(description = "File name within the import directory", example = "showtimes.csv", required = true)
+            @RequestParam String file) {
+
+        return ResponseEntity.ok(catalogImporter.importShowtimes(file));
+    }
+
+    // A coding listed with q=0 is refused, and * stands for every coding not listed by name
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        boolean wildcard = false;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                return qValue(parts) > 0;
+            }
+            if (coding.equals("*")) {
+                wildcard = qValue(parts) > 0;
+            }
+        }
+        return wildcard;
+    }
+
+    private static double qValue(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    // Each encoding is a separate representation, so the gzip flag is part of the strong ETag
+    private static ResponseEntity<byte[]> jsonResponse(CachedResponseBody body, String eTag, boolean gzip) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .eTag(eTag)
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(body.getGzip());
+        }
+        return response.body(body.getJson());
     }
 }
\ No newline at end of file
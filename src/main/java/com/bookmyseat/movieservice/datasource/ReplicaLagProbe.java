@@ -0,0 +1,37 @@
+package com.bookmyseat.movieservice.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Measures how far a replica is behind its source. Returning null means the lag is unknown
+ * (for example replication is stopped), which the router treats as unhealthy.
+ */
+@FunctionalInterface
+public interface ReplicaLagProbe {
+
+    /**
+     * Reads Seconds_Behind_Source from SHOW REPLICA STATUS. A server that is not replicating
+     * returns no row and is reported as up to date.
+     */
+    ReplicaLagProbe MYSQL = connection -> {
+        try (Statement statement = connection.createStatement();
+             ResultSet status = statement.executeQuery("SHOW REPLICA STATUS")) {
+            if (!status.next()) {
+                return Duration.ZERO;
+            }
+            long seconds = status.getLong("Seconds_Behind_Source");
+            return status.wasNull() ? null : Duration.ofSeconds(seconds);
+        }
+    };
+
+    /**
+     * For stand-ins that do not replicate, such as local H2 databases.
+     */
+    ReplicaLagProbe NONE = connection -> Duration.ZERO;
+
+    Duration lag(Connection connection) throws SQLException;
+}
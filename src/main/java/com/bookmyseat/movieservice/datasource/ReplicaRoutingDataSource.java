@@ -0,0 +1,199 @@
+package com.bookmyseat.movieservice.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands out read-only connections from a set of replica pools. Each request goes to the healthy
+ * replica with the fewest connections in use, rotating the starting point so ties spread evenly.
+ * A replica that fails a connection attempt, fails its health check or lags its source by more
+ * than {@code maxLag} is ejected until a later health check passes. With no replica available
+ * the primary serves the read.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final ReplicaLagProbe lagProbe;
+    private final Duration maxLag;
+    private final Counter primaryReads;
+    private final AtomicInteger rotation = new AtomicInteger();
+    private final ScheduledExecutorService healthChecker;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<HikariDataSource> replicaPools,
+                                    ReplicaLagProbe lagProbe, Duration maxLag, Duration healthCheckInterval,
+                                    MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.lagProbe = lagProbe;
+        this.maxLag = maxLag;
+        this.replicas = new ArrayList<>(replicaPools.size());
+        for (HikariDataSource pool : replicaPools) {
+            replicas.add(new Replica(pool, meterRegistry));
+        }
+        this.primaryReads = routedReads(meterRegistry, "primary");
+
+        if (healthCheckInterval.isZero() || healthCheckInterval.isNegative()) {
+            this.healthChecker = null;
+        } else {
+            this.healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "replica-health-check");
+                thread.setDaemon(true);
+                return thread;
+            });
+            healthChecker.scheduleWithFixedDelay(this::checkReplicas, 0,
+                    healthCheckInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        for (int attempt = 0; attempt < replicas.size(); attempt++) {
+            Replica replica = select();
+            if (replica == null) {
+                break;
+            }
+            try {
+                Connection connection = replica.pool.getConnection();
+                replica.reads.increment();
+                return connection;
+            } catch (SQLException e) {
+                replica.eject("connection failed: " + e.getMessage());
+            }
+        }
+        primaryReads.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Replica pools use their configured credentials");
+    }
+
+    /**
+     * Probes every replica once. Runs on the health-check thread and is public so tests and
+     * operators can force a check.
+     */
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.pool.getConnection()) {
+                if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    replica.eject("validation failed");
+                    continue;
+                }
+                Duration lag = lagProbe.lag(connection);
+                replica.lag = lag;
+                if (lag == null) {
+                    replica.eject("replication lag unknown");
+                } else if (lag.compareTo(maxLag) > 0) {
+                    replica.eject("lagging by " + lag);
+                } else {
+                    replica.restore();
+                }
+            } catch (SQLException | RuntimeException e) {
+                replica.lag = null;
+                replica.eject("health check failed: " + e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (healthChecker != null) {
+            healthChecker.shutdownNow();
+        }
+        replicas.forEach(replica -> replica.pool.close());
+    }
+
+    private Replica select() {
+        int size = replicas.size();
+        if (size == 0) {
+            return null;
+        }
+        int start = Math.floorMod(rotation.getAndIncrement(), size);
+        Replica selected = null;
+        int fewestActive = Integer.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.healthy) {
+                continue;
+            }
+            int active = replica.activeConnections();
+            if (active < fewestActive) {
+                selected = replica;
+                fewestActive = active;
+            }
+        }
+        return selected;
+    }
+
+    private static Counter routedReads(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("datasource_read_routing_total")
+                .description("Read-only connections handed out, by target pool")
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+
+    private static final class Replica {
+
+        private final HikariDataSource pool;
+        private final Counter reads;
+        private volatile boolean healthy = true;
+        private volatile Duration lag;
+
+        private Replica(HikariDataSource pool, MeterRegistry meterRegistry) {
+            this.pool = pool;
+            this.reads = routedReads(meterRegistry, pool.getPoolName());
+            Gauge.builder("datasource_replica_healthy", this, replica -> replica.healthy ? 1 : 0)
+                    .description("Whether the replica is currently receiving reads")
+                    .tag("pool", pool.getPoolName())
+                    .register(meterRegistry);
+            Gauge.builder("datasource_replica_lag_seconds", this,
+                            replica -> replica.lag != null ? replica.lag.toMillis() / 1000.0 : Double.NaN)
+                    .description("Replication lag observed by the last health check")
+                    .tag("pool", pool.getPoolName())
+                    .register(meterRegistry);
+        }
+
+        private int activeConnections() {
+            HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+            return mxBean != null ? mxBean.getActiveConnections() : 0;
+        }
+
+        private void eject(String reason) {
+            if (healthy) {
+                logger.warn("Ejecting replica {} from read routing: {}", pool.getPoolName(), reason);
+            }
+            healthy = false;
+        }
+
+        private void restore() {
+            if (!healthy) {
+                logger.info("Replica {} is healthy again, resuming reads", pool.getPoolName());
+            }
+            healthy = true;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.bookmyseat.movieservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Progress of a catalog CSV import")
+public class CatalogImportResultDTO {
+
+    @Schema(description = "What the file contains", example = "SHOWTIMES")
+    private String kind;
+
+    @Schema(description = "File name within the import directory", example = "showtimes.csv")
+    private String fileName;
+
+    @Schema(description = "Import status", example = "COMPLETED")
+    private String status;
+
+    @Schema(description = "Rows written so far, across resumed runs", example = "1250000")
+    private long rowsImported;
+
+    @Schema(description = "Rows skipped as invalid, unresolvable or duplicate", example = "12")
+    private long rowsRejected;
+
+    @Schema(description = "Byte offset this run started from; non-zero when resuming", example = "0")
+    private long resumedFrom;
+
+    @Schema(description = "Bytes of the file processed", example = "73400320")
+    private long bytesRead;
+
+    @Schema(description = "File size in bytes", example = "73400320")
+    private long fileSize;
+
+    // Constructors
+    public CatalogImportResultDTO() {}
+
+    public CatalogImportResultDTO(String kind, String fileName, String status, long rowsImported,
+                                  long rowsRejected, long resumedFrom, long bytesRead, long fileSize) {
+        this.kind = kind;
+        this.fileName = fileName;
+        this.status = status;
+        this.rowsImported = rowsImported;
+        this.rowsRejected = rowsRejected;
+        this.resumedFrom = resumedFrom;
+        this.bytesRead = bytesRead;
+        this.fileSize = fileSize;
+    }
+
+    // Getters and Setters
+    public String getKind() {
+        return kind;
+    }
+
+    public void setKind(String kind) {
+        this.kind = kind;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public long getRowsImported() {
+        return rowsImported;
+    }
+
+    public void setRowsImported(long rowsImported) {
+        this.rowsImported = rowsImported;
+    }
+
+    public long getRowsRejected() {
+        return rowsRejected;
+    }
+
+    public void setRowsRejected(long rowsRejected) {
+        this.rowsRejected = rowsRejected;
+    }
+
+    public long getResumedFrom() {
+        return resumedFrom;
+    }
+
+    public void setResumedFrom(long resumedFrom) {
+        this.resumedFrom = resumedFrom;
+    }
+
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    public void setBytesRead(long bytesRead) {
+        this.bytesRead = bytesRead;
+    }
+
+    public long getFileSize() {
+        return fileSize;
+    }
+
+    public void setFileSize(long fileSize) {
+        this.fileSize = fileSize;
+    }
+}
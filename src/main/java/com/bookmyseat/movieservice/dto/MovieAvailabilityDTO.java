@@ -0,0 +1,67 @@
+package com.bookmyseat.movieservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Schema(description = "Showtime availability of a movie on one day")
+public class MovieAvailabilityDTO {
+
+    @Schema(description = "Show date", example = "2025-09-30")
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate showDate;
+
+    @Schema(description = "Number of showtimes on the day", example = "4")
+    private Integer totalShows;
+
+    @Schema(description = "Available seats summed over the day's showtimes", example = "420")
+    private Long availableSeats;
+
+    @Schema(description = "Start of the earliest showtime on the day", example = "2025-09-30T10:00:00")
+    private LocalDateTime earliestShow;
+
+    // Constructors
+    public MovieAvailabilityDTO() {}
+
+    public MovieAvailabilityDTO(LocalDate showDate, Integer totalShows, Long availableSeats, LocalDateTime earliestShow) {
+        this.showDate = showDate;
+        this.totalShows = totalShows;
+        this.availableSeats = availableSeats;
+        this.earliestShow = earliestShow;
+    }
+
+    // Getters and Setters
+    public LocalDate getShowDate() {
+        return showDate;
+    }
+
+    public void setShowDate(LocalDate showDate) {
+        this.showDate = showDate;
+    }
+
+    public Integer getTotalShows() {
+        return totalShows;
+    }
+
+    public void setTotalShows(Integer totalShows) {
+        this.totalShows = totalShows;
+    }
+
+    public Long getAvailableSeats() {
+        return availableSeats;
+    }
+
+    public void setAvailableSeats(Long availableSeats) {
+        this.availableSeats = availableSeats;
+    }
+
+    public LocalDateTime getEarliestShow() {
+        return earliestShow;
+    }
+
+    public void setEarliestShow(LocalDateTime earliestShow) {
+        this.earliestShow = earliestShow;
+    }
+}
@@ -1,6 +1,7 @@
 package com.bookmyseat.movieservice.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDate;
@@ -30,6 +31,10 @@ public class MovieDTO {
     @JsonFormat(pattern = "yyyy-MM-dd")
     private LocalDate releaseDate;
 
+    @Schema(description = "Showtime availability on the requested day; only present when requested")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private MovieAvailabilityDTO availability;
+
     // Constructors
     public MovieDTO() {}
 
@@ -100,4 +105,12 @@ public class MovieDTO {
     public void setReleaseDate(LocalDate releaseDate) {
         this.releaseDate = releaseDate;
     }
-}
\ No newline at end of file
+
+    public MovieAvailabilityDTO getAvailability() {
+        return availability;
+    }
+
+    public void setAvailability(MovieAvailabilityDTO availability) {
+        this.availability = availability;
+    }
+}
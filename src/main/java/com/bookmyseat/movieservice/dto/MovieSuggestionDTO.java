@@ -0,0 +1,38 @@
+package com.bookmyseat.movieservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Movie title suggestion")
+public class MovieSuggestionDTO {
+
+    @Schema(description = "Movie ID", example = "1")
+    private Long id;
+
+    @Schema(description = "Movie title", example = "Inception")
+    private String title;
+
+    // Constructors
+    public MovieSuggestionDTO() {}
+
+    public MovieSuggestionDTO(Long id, String title) {
+        this.id = id;
+        this.title = title;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+}
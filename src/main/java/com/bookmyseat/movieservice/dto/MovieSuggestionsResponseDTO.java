@@ -0,0 +1,28 @@
+package com.bookmyseat.movieservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Response containing title suggestions, best first")
+public class MovieSuggestionsResponseDTO {
+
+    @Schema(description = "List of suggestions")
+    private List<MovieSuggestionDTO> suggestions;
+
+    // Constructors
+    public MovieSuggestionsResponseDTO() {}
+
+    public MovieSuggestionsResponseDTO(List<MovieSuggestionDTO> suggestions) {
+        this.suggestions = suggestions;
+    }
+
+    // Getters and Setters
+    public List<MovieSuggestionDTO> getSuggestions() {
+        return suggestions;
+    }
+
+    public void setSuggestions(List<MovieSuggestionDTO> suggestions) {
+        this.suggestions = suggestions;
+    }
+}
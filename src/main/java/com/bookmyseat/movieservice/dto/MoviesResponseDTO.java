@@ -10,6 +10,9 @@ public class MoviesResponseDTO {
     @Schema(description = "List of movies")
     private List<MovieDTO> movies;
 
+    @Schema(description = "Cursor for the next page; null on the last page")
+    private String nextCursor;
+
     // Constructors
     public MoviesResponseDTO() {}
 
@@ -17,6 +20,11 @@ public class MoviesResponseDTO {
         this.movies = movies;
     }
 
+    public MoviesResponseDTO(List<MovieDTO> movies, String nextCursor) {
+        this.movies = movies;
+        this.nextCursor = nextCursor;
+    }
+
     // Getters and Setters
     public List<MovieDTO> getMovies() {
         return movies;
@@ -25,4 +33,12 @@ public class MoviesResponseDTO {
     public void setMovies(List<MovieDTO> movies) {
         this.movies = movies;
     }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.bookmyseat.movieservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Confirmed seat reservation")
+public class ReservationDTO {
+
+    @Schema(description = "Showtime ID", example = "1")
+    private Long showtimeId;
+
+    @Schema(description = "Seats reserved", example = "2")
+    private int seatsReserved;
+
+    @Schema(description = "Seats still available after this reservation", example = "98")
+    private int availableSeats;
+
+    // Constructors
+    public ReservationDTO() {}
+
+    public ReservationDTO(Long showtimeId, int seatsReserved, int availableSeats) {
+        this.showtimeId = showtimeId;
+        this.seatsReserved = seatsReserved;
+        this.availableSeats = availableSeats;
+    }
+
+    // Getters and Setters
+    public Long getShowtimeId() {
+        return showtimeId;
+    }
+
+    public void setShowtimeId(Long showtimeId) {
+        this.showtimeId = showtimeId;
+    }
+
+    public int getSeatsReserved() {
+        return seatsReserved;
+    }
+
+    public void setSeatsReserved(int seatsReserved) {
+        this.seatsReserved = seatsReserved;
+    }
+
+    public int getAvailableSeats() {
+        return availableSeats;
+    }
+
+    public void setAvailableSeats(int availableSeats) {
+        this.availableSeats = availableSeats;
+    }
+}
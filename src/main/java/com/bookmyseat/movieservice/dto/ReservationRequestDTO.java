@@ -0,0 +1,32 @@
+package com.bookmyseat.movieservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(description = "Seat reservation request")
+public class ReservationRequestDTO {
+
+    @Schema(description = "Number of seats to reserve", example = "2")
+    @NotNull
+    @Min(1)
+    @Max(10)
+    private Integer seats;
+
+    // Constructors
+    public ReservationRequestDTO() {}
+
+    public ReservationRequestDTO(Integer seats) {
+        this.seats = seats;
+    }
+
+    // Getters and Setters
+    public Integer getSeats() {
+        return seats;
+    }
+
+    public void setSeats(Integer seats) {
+        this.seats = seats;
+    }
+}
@@ -0,0 +1,52 @@
+package com.bookmyseat.movieservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Seats claimed on a showtime's seat map")
+public class SeatClaimDTO {
+
+    @Schema(description = "Showtime ID", example = "1")
+    private Long showtimeId;
+
+    @Schema(description = "Seats claimed", example = "[\"F7\", \"F8\"]")
+    private List<String> seats;
+
+    @Schema(description = "Seats still free after this claim", example = "296")
+    private int freeSeats;
+
+    // Constructors
+    public SeatClaimDTO() {}
+
+    public SeatClaimDTO(Long showtimeId, List<String> seats, int freeSeats) {
+        this.showtimeId = showtimeId;
+        this.seats = seats;
+        this.freeSeats = freeSeats;
+    }
+
+    // Getters and Setters
+    public Long getShowtimeId() {
+        return showtimeId;
+    }
+
+    public void setShowtimeId(Long showtimeId) {
+        this.showtimeId = showtimeId;
+    }
+
+    public List<String> getSeats() {
+        return seats;
+    }
+
+    public void setSeats(List<String> seats) {
+        this.seats = seats;
+    }
+
+    public int getFreeSeats() {
+        return freeSeats;
+    }
+
+    public void setFreeSeats(int freeSeats) {
+        this.freeSeats = freeSeats;
+    }
+}
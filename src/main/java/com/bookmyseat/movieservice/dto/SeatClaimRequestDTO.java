@@ -0,0 +1,32 @@
+package com.bookmyseat.movieservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "Request to claim specific seats")
+public class SeatClaimRequestDTO {
+
+    @Schema(description = "Seat labels, row letter then seat number", example = "[\"F7\", \"F8\"]")
+    @NotEmpty
+    @Size(max = 10)
+    private List<String> seats;
+
+    // Constructors
+    public SeatClaimRequestDTO() {}
+
+    public SeatClaimRequestDTO(List<String> seats) {
+        this.seats = seats;
+    }
+
+    // Getters and Setters
+    public List<String> getSeats() {
+        return seats;
+    }
+
+    public void setSeats(List<String> seats) {
+        this.seats = seats;
+    }
+}
@@ -0,0 +1,76 @@
+package com.bookmyseat.movieservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "Seats held for a customer until checkout completes or the hold expires")
+public class SeatHoldDTO {
+
+    @Schema(description = "Hold ID, used to confirm or release the hold", example = "1f0c7a52-3d4e-4b8a-9b52-0c1d2e3f4a5b")
+    private String holdId;
+
+    @Schema(description = "Showtime ID", example = "1")
+    private Long showtimeId;
+
+    @Schema(description = "Seats held", example = "2")
+    private int seats;
+
+    @Schema(description = "When the seats are released unless the hold is confirmed", example = "2025-10-01T17:35:00")
+    private LocalDateTime expiresAt;
+
+    @Schema(description = "Seats still available after this hold", example = "98")
+    private int availableSeats;
+
+    // Constructors
+    public SeatHoldDTO() {}
+
+    public SeatHoldDTO(String holdId, Long showtimeId, int seats, LocalDateTime expiresAt, int availableSeats) {
+        this.holdId = holdId;
+        this.showtimeId = showtimeId;
+        this.seats = seats;
+        this.expiresAt = expiresAt;
+        this.availableSeats = availableSeats;
+    }
+
+    // Getters and Setters
+    public String getHoldId() {
+        return holdId;
+    }
+
+    public void setHoldId(String holdId) {
+        this.holdId = holdId;
+    }
+
+    public Long getShowtimeId() {
+        return showtimeId;
+    }
+
+    public void setShowtimeId(Long showtimeId) {
+        this.showtimeId = showtimeId;
+    }
+
+    public int getSeats() {
+        return seats;
+    }
+
+    public void setSeats(int seats) {
+        this.seats = seats;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public int getAvailableSeats() {
+        return availableSeats;
+    }
+
+    public void setAvailableSeats(int availableSeats) {
+        this.availableSeats = availableSeats;
+    }
+}
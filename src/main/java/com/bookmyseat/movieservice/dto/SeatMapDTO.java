@@ -0,0 +1,88 @@
+package com.bookmyseat.movieservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Seat map of a showtime")
+public class SeatMapDTO {
+
+    @Schema(description = "Showtime ID", example = "1")
+    private Long showtimeId;
+
+    @Schema(description = "Theater name", example = "Theater 1")
+    private String theater;
+
+    @Schema(description = "Rows, lettered from A", example = "15")
+    private int rows;
+
+    @Schema(description = "Seats per row, numbered from 1", example = "20")
+    private int seatsPerRow;
+
+    @Schema(description = "Seats still free: unclaimed in the map and not taken by count through reservations or holds",
+            example = "298")
+    private int freeSeats;
+
+    @Schema(description = "Base64 bitset of claimed seats in row-major order; seat i is bit i % 8 of byte i / 8",
+            example = "AwAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA")
+    private String occupancy;
+
+    // Constructors
+    public SeatMapDTO() {}
+
+    public SeatMapDTO(Long showtimeId, String theater, int rows, int seatsPerRow, int freeSeats, String occupancy) {
+        this.showtimeId = showtimeId;
+        this.theater = theater;
+        this.rows = rows;
+        this.seatsPerRow = seatsPerRow;
+        this.freeSeats = freeSeats;
+        this.occupancy = occupancy;
+    }
+
+    // Getters and Setters
+    public Long getShowtimeId() {
+        return showtimeId;
+    }
+
+    public void setShowtimeId(Long showtimeId) {
+        this.showtimeId = showtimeId;
+    }
+
+    public String getTheater() {
+        return theater;
+    }
+
+    public void setTheater(String theater) {
+        this.theater = theater;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public void setRows(int rows) {
+        this.rows = rows;
+    }
+
+    public int getSeatsPerRow() {
+        return seatsPerRow;
+    }
+
+    public void setSeatsPerRow(int seatsPerRow) {
+        this.seatsPerRow = seatsPerRow;
+    }
+
+    public int getFreeSeats() {
+        return freeSeats;
+    }
+
+    public void setFreeSeats(int freeSeats) {
+        this.freeSeats = freeSeats;
+    }
+
+    public String getOccupancy() {
+        return occupancy;
+    }
+
+    public void setOccupancy(String occupancy) {
+        this.occupancy = occupancy;
+    }
+}
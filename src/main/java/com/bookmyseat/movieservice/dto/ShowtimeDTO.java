@@ -40,6 +40,11 @@ public class ShowtimeDTO {
         this.availableSeats = availableSeats;
     }
 
+    // For projections scoped to one movie; the title is filled in from the already loaded movie
+    public ShowtimeDTO(Long id, Long movieId, LocalDateTime showDateTime, String theater, Integer availableSeats) {
+        this(id, movieId, null, showDateTime, theater, availableSeats);
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
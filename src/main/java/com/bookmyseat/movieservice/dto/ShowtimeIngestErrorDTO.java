@@ -0,0 +1,38 @@
+package com.bookmyseat.movieservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Why a row of a bulk ingestion request was rejected")
+public class ShowtimeIngestErrorDTO {
+
+    @Schema(description = "Zero-based position of the row in the request", example = "3")
+    private int index;
+
+    @Schema(description = "Rejection reason", example = "Movie not found with ID: 42")
+    private String message;
+
+    // Constructors
+    public ShowtimeIngestErrorDTO() {}
+
+    public ShowtimeIngestErrorDTO(int index, String message) {
+        this.index = index;
+        this.message = message;
+    }
+
+    // Getters and Setters
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,28 @@
+package com.bookmyseat.movieservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Bulk showtime ingestion request")
+public class ShowtimeIngestRequestDTO {
+
+    @Schema(description = "Showtimes to create")
+    private List<ShowtimeIngestRowDTO> showtimes;
+
+    // Constructors
+    public ShowtimeIngestRequestDTO() {}
+
+    public ShowtimeIngestRequestDTO(List<ShowtimeIngestRowDTO> showtimes) {
+        this.showtimes = showtimes;
+    }
+
+    // Getters and Setters
+    public List<ShowtimeIngestRowDTO> getShowtimes() {
+        return showtimes;
+    }
+
+    public void setShowtimes(List<ShowtimeIngestRowDTO> showtimes) {
+        this.showtimes = showtimes;
+    }
+}
@@ -0,0 +1,52 @@
+package com.bookmyseat.movieservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Outcome of a bulk ingestion request")
+public class ShowtimeIngestResultDTO {
+
+    @Schema(description = "Rows received", example = "500")
+    private int received;
+
+    @Schema(description = "Rows inserted", example = "498")
+    private int inserted;
+
+    @Schema(description = "Rejected rows, in request order")
+    private List<ShowtimeIngestErrorDTO> errors;
+
+    // Constructors
+    public ShowtimeIngestResultDTO() {}
+
+    public ShowtimeIngestResultDTO(int received, int inserted, List<ShowtimeIngestErrorDTO> errors) {
+        this.received = received;
+        this.inserted = inserted;
+        this.errors = errors;
+    }
+
+    // Getters and Setters
+    public int getReceived() {
+        return received;
+    }
+
+    public void setReceived(int received) {
+        this.received = received;
+    }
+
+    public int getInserted() {
+        return inserted;
+    }
+
+    public void setInserted(int inserted) {
+        this.inserted = inserted;
+    }
+
+    public List<ShowtimeIngestErrorDTO> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<ShowtimeIngestErrorDTO> errors) {
+        this.errors = errors;
+    }
+}
@@ -0,0 +1,66 @@
+package com.bookmyseat.movieservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "Showtime to create in a bulk ingestion request")
+public class ShowtimeIngestRowDTO {
+
+    @Schema(description = "Movie ID", example = "1")
+    private Long movieId;
+
+    @Schema(description = "Show date and time", example = "2025-09-30T14:00:00")
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime showDateTime;
+
+    @Schema(description = "Theater name", example = "Theater 1")
+    private String theater;
+
+    @Schema(description = "Available seats", example = "100")
+    private Integer availableSeats;
+
+    // Constructors
+    public ShowtimeIngestRowDTO() {}
+
+    public ShowtimeIngestRowDTO(Long movieId, LocalDateTime showDateTime, String theater, Integer availableSeats) {
+        this.movieId = movieId;
+        this.showDateTime = showDateTime;
+        this.theater = theater;
+        this.availableSeats = availableSeats;
+    }
+
+    // Getters and Setters
+    public Long getMovieId() {
+        return movieId;
+    }
+
+    public void setMovieId(Long movieId) {
+        this.movieId = movieId;
+    }
+
+    public LocalDateTime getShowDateTime() {
+        return showDateTime;
+    }
+
+    public void setShowDateTime(LocalDateTime showDateTime) {
+        this.showDateTime = showDateTime;
+    }
+
+    public String getTheater() {
+        return theater;
+    }
+
+    public void setTheater(String theater) {
+        this.theater = theater;
+    }
+
+    public Integer getAvailableSeats() {
+        return availableSeats;
+    }
+
+    public void setAvailableSeats(Integer availableSeats) {
+        this.availableSeats = availableSeats;
+    }
+}
@@ -10,6 +10,9 @@ public class ShowtimesResponseDTO {
     @Schema(description = "List of showtimes")
     private List<ShowtimeDTO> showtimes;
 
+    @Schema(description = "Cursor for the next page; null on the last page")
+    private String nextCursor;
+
     // Constructors
     public ShowtimesResponseDTO() {}
 
@@ -17,6 +20,11 @@ public class ShowtimesResponseDTO {
         this.showtimes = showtimes;
     }
 
+    public ShowtimesResponseDTO(List<ShowtimeDTO> showtimes, String nextCursor) {
+        this.showtimes = showtimes;
+        this.nextCursor = nextCursor;
+    }
+
     // Getters and Setters
     public List<ShowtimeDTO> getShowtimes() {
         return showtimes;
@@ -25,4 +33,12 @@ public class ShowtimesResponseDTO {
     public void setShowtimes(List<ShowtimeDTO> showtimes) {
         this.showtimes = showtimes;
     }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,75 @@
+package com.bookmyseat.movieservice.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only view of a showtime moved out of the hot table by the archiver. Keeps the original ID
+ * and a plain movie ID so reporting queries need no join back to showtimes.
+ */
+@Entity
+@Table(name = "showtime_archive", indexes = {
+        @Index(name = "idx_archive_show_date_time", columnList = "show_date_time"),
+        @Index(name = "idx_archive_movie_show_date_time", columnList = "movie_id, show_date_time")
+})
+public class ArchivedShowtime {
+
+    @Id
+    private Long id;
+
+    @Column(name = "movie_id", nullable = false)
+    private Long movieId;
+
+    @Column(name = "show_date_time", nullable = false)
+    private LocalDateTime showDateTime;
+
+    @Column(length = 100, nullable = false)
+    private String theater;
+
+    @Column(name = "available_seats", nullable = false)
+    private Integer availableSeats;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    protected ArchivedShowtime() {}
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getMovieId() {
+        return movieId;
+    }
+
+    public LocalDateTime getShowDateTime() {
+        return showDateTime;
+    }
+
+    public String getTheater() {
+        return theater;
+    }
+
+    public Integer getAvailableSeats() {
+        return availableSeats;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+}
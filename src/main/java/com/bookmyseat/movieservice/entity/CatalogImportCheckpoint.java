@@ -0,0 +1,89 @@
+package com.bookmyseat.movieservice.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of one catalog CSV import, advanced by the importer in the same transaction as each
+ * batch it writes. A file whose size and modification time still match resumes at byte_offset.
+ */
+@Entity
+@Table(name = "catalog_import_checkpoints", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_import_kind_file", columnNames = {"kind", "file_name"})
+})
+public class CatalogImportCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(length = 20, nullable = false)
+    private String kind;
+
+    @Column(name = "file_name", nullable = false)
+    private String fileName;
+
+    @Column(name = "file_size", nullable = false)
+    private Long fileSize;
+
+    @Column(name = "file_modified_at", nullable = false)
+    private LocalDateTime fileModifiedAt;
+
+    @Column(name = "byte_offset", nullable = false)
+    private Long byteOffset;
+
+    @Column(name = "rows_imported", nullable = false)
+    private Long rowsImported;
+
+    @Column(name = "rows_rejected", nullable = false)
+    private Long rowsRejected;
+
+    @Column(length = 20, nullable = false)
+    private String status;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    protected CatalogImportCheckpoint() {}
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getKind() {
+        return kind;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public Long getFileSize() {
+        return fileSize;
+    }
+
+    public LocalDateTime getFileModifiedAt() {
+        return fileModifiedAt;
+    }
+
+    public Long getByteOffset() {
+        return byteOffset;
+    }
+
+    public Long getRowsImported() {
+        return rowsImported;
+    }
+
+    public Long getRowsRejected() {
+        return rowsRejected;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
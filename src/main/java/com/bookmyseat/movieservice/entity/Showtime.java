@@ -4,16 +4,21 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PositiveOrZero;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "showtime")
 @Table(name = "showtimes", indexes = {
-        @Index(name = "idx_movie_id", columnList = "movie_id"),
+        @Index(name = "idx_movie_show_date_time", columnList = "movie_id, show_date_time"),
         @Index(name = "idx_show_date_time", columnList = "show_date_time"),
-        @Index(name = "idx_theater", columnList = "theater")
+        @Index(name = "idx_theater_show_date_time", columnList = "theater, show_date_time"),
+        @Index(name = "idx_updated_at", columnList = "updated_at")
 })
 public class Showtime {
 
@@ -22,7 +27,8 @@ public class Showtime {
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "movie_id", nullable = false, foreignKey = @ForeignKey(name = "fk_showtime_movie"))
+    // No database constraint: MySQL does not support foreign keys on the partitioned showtimes table
+    @JoinColumn(name = "movie_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Movie movie;
 
     @NotNull
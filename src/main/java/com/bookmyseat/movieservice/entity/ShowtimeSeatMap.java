@@ -0,0 +1,39 @@
+package com.bookmyseat.movieservice.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Claimed seats of a showtime as a bitset, one bit per seat of the theater's layout in row-major
+ * order. Written by the seat map store in the same transaction as the showtime's seat count.
+ */
+@Entity
+@Table(name = "showtime_seat_maps")
+public class ShowtimeSeatMap {
+
+    @Id
+    @Column(name = "showtime_id")
+    private Long showtimeId;
+
+    @Lob
+    @Column(nullable = false)
+    private byte[] occupancy;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    protected ShowtimeSeatMap() {}
+
+    public Long getShowtimeId() {
+        return showtimeId;
+    }
+
+    public byte[] getOccupancy() {
+        return occupancy;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,44 @@
+package com.bookmyseat.movieservice.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Seat layout of a theater: seat_rows rows lettered from A, each with seats_per_row seats.
+ */
+@Entity
+@Table(name = "theater_layouts")
+public class TheaterLayout {
+
+    @Id
+    @Column(length = 100)
+    private String theater;
+
+    @Column(name = "seat_rows", nullable = false)
+    private Integer seatRows;
+
+    @Column(name = "seats_per_row", nullable = false)
+    private Integer seatsPerRow;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    protected TheaterLayout() {}
+
+    public String getTheater() {
+        return theater;
+    }
+
+    public Integer getSeatRows() {
+        return seatRows;
+    }
+
+    public Integer getSeatsPerRow() {
+        return seatsPerRow;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
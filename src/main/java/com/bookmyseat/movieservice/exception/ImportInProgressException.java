@@ -0,0 +1,8 @@
+package com.bookmyseat.movieservice.exception;
+
+public class ImportInProgressException extends RuntimeException {
+
+    public ImportInProgressException(String message) {
+        super(message);
+    }
+}
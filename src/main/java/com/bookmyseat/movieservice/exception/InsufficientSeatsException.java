@@ -0,0 +1,8 @@
+package com.bookmyseat.movieservice.exception;
+
+public class InsufficientSeatsException extends RuntimeException {
+
+    public InsufficientSeatsException(String message) {
+        super(message);
+    }
+}
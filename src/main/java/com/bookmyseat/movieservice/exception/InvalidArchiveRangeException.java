@@ -0,0 +1,8 @@
+package com.bookmyseat.movieservice.exception;
+
+public class InvalidArchiveRangeException extends RuntimeException {
+
+    public InvalidArchiveRangeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.bookmyseat.movieservice.exception;
+
+public class InvalidAvailabilityDateException extends RuntimeException {
+
+    public InvalidAvailabilityDateException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.bookmyseat.movieservice.exception;
+
+public class InvalidImportRequestException extends RuntimeException {
+
+    public InvalidImportRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.bookmyseat.movieservice.exception;
+
+public class InvalidIngestRequestException extends RuntimeException {
+
+    public InvalidIngestRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.bookmyseat.movieservice.exception;
+
+public class InvalidSeatException extends RuntimeException {
+
+    public InvalidSeatException(String message) {
+        super(message);
+    }
+}
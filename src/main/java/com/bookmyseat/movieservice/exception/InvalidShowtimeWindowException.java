@@ -0,0 +1,8 @@
+package com.bookmyseat.movieservice.exception;
+
+public class InvalidShowtimeWindowException extends RuntimeException {
+
+    public InvalidShowtimeWindowException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.bookmyseat.movieservice.exception;
+
+public class SeatHoldNotFoundException extends RuntimeException {
+
+    public SeatHoldNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.bookmyseat.movieservice.exception;
+
+public class SeatLayoutNotFoundException extends RuntimeException {
+
+    public SeatLayoutNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.bookmyseat.movieservice.exception;
+
+public class SeatsTakenException extends RuntimeException {
+
+    public SeatsTakenException(String message) {
+        super(message);
+    }
+}
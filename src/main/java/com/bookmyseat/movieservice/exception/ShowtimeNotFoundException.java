@@ -0,0 +1,8 @@
+package com.bookmyseat.movieservice.exception;
+
+public class ShowtimeNotFoundException extends RuntimeException {
+
+    public ShowtimeNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,207 @@
+package com.bookmyseat.movieservice.export;
+
+import com.bookmyseat.movieservice.exception.ExportCapacityExceededException;
+import com.bookmyseat.movieservice.exception.InvalidShowtimeWindowException;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams showtimes as newline-delimited JSON straight from a forward-only result set, one row
+ * at a time, so memory stays flat whatever the schedule size. Nothing is buffered beyond the
+ * driver's fetch window and the servlet output buffer: a slow consumer blocks the write, which in
+ * turn stops the cursor from advancing. Concurrent exports are capped because each one holds a
+ * database connection for its whole duration.
+ */
+@Component
+public class ShowtimeExporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShowtimeExporter.class);
+
+    static final String SELECT_EXPORT = "SELECT s.id, s.movie_id, m.title, s.show_date_time, s.theater, " +
+            "s.available_seats FROM showtimes s JOIN movies m ON m.id = s.movie_id";
+    private static final DateTimeFormatter SHOW_DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnly;
+    private final JsonFactory jsonFactory;
+    private final int fetchSize;
+    private final int flushEvery;
+    private final int maxConcurrent;
+    private final Semaphore permits;
+    private final Counter exportedRows;
+    private final Timer exportTimer;
+
+    @Autowired
+    public ShowtimeExporter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                            ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                            @Value("${movie.export.fetch-size:1000}") int fetchSize,
+                            @Value("${movie.export.flush-every:500}") int flushEvery,
+                            @Value("${movie.export.max-concurrent:4}") int maxConcurrent) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.jsonFactory = objectMapper.getFactory();
+        this.fetchSize = fetchSize;
+        this.flushEvery = flushEvery;
+        this.maxConcurrent = maxConcurrent;
+        this.permits = new Semaphore(maxConcurrent);
+        this.exportedRows = Counter.builder("showtime_export_rows_total")
+                .description("Showtimes written by the NDJSON export")
+                .register(meterRegistry);
+        this.exportTimer = Timer.builder("showtime_export_duration")
+                .description("Time taken to stream a showtime export")
+                .register(meterRegistry);
+        Gauge.builder("showtime_exports_active", permits, p -> maxConcurrent - p.availablePermits())
+                .description("Showtime exports currently streaming")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Reserves an export slot and returns the body that streams the matching showtimes, ordered
+     * by start time. Filters are optional; {@code to} is exclusive.
+     */
+    public StreamingResponseBody export(Long movieId, LocalDate from, LocalDate to) {
+        if (from != null && to != null && !to.isAfter(from)) {
+            throw new InvalidShowtimeWindowException("Export range end " + to + " must be after its start " + from);
+        }
+        if (!permits.tryAcquire()) {
+            throw new ExportCapacityExceededException(
+                    "All " + maxConcurrent + " showtime export slots are in use, retry later");
+        }
+        return outputStream -> {
+            try {
+                write(outputStream, movieId, from, to);
+            } finally {
+                permits.release();
+            }
+        };
+    }
+
+    /**
+     * Writes the matching showtimes to {@code outputStream} and returns how many were written.
+     */
+    public long write(OutputStream outputStream, Long movieId, LocalDate from, LocalDate to) throws IOException {
+        StringBuilder sql = new StringBuilder(SELECT_EXPORT);
+        List<Object> params = new ArrayList<>(3);
+        String conjunction = " WHERE ";
+        if (movieId != null) {
+            sql.append(conjunction).append("s.movie_id = ?");
+            params.add(movieId);
+            conjunction = " AND ";
+        }
+        if (from != null) {
+            sql.append(conjunction).append("s.show_date_time >= ?");
+            params.add(Timestamp.valueOf(from.atStartOfDay()));
+            conjunction = " AND ";
+        }
+        if (to != null) {
+            sql.append(conjunction).append("s.show_date_time < ?");
+            params.add(Timestamp.valueOf(to.atStartOfDay()));
+        }
+        sql.append(" ORDER BY s.show_date_time, s.id");
+
+        long started = System.nanoTime();
+        try (JsonGenerator json = jsonFactory.createGenerator(outputStream)) {
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            json.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+            long[] written = {0};
+            readOnly.executeWithoutResult(status -> jdbcTemplate.query(statement(sql.toString(), params), rs -> {
+                writeRow(json, rs);
+                if (++written[0] % flushEvery == 0) {
+                    flush(json);
+                }
+            }));
+            if (written[0] > 0) {
+                json.writeRaw('\n');
+            }
+            json.flush();
+            exportedRows.increment(written[0]);
+            logger.info("Exported {} showtimes - movieId: {}, from: {}, to: {}", written[0], movieId, from, to);
+            return written[0];
+        } catch (UncheckedIOException e) {
+            // Usually the client hung up; the cursor and connection are released on the way out
+            logger.warn("Showtime export aborted: {}", e.getCause().getMessage());
+            throw e.getCause();
+        } finally {
+            exportTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private PreparedStatementCreator statement(String sql, List<Object> params) {
+        return connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(streamingFetchSize(connection));
+            for (int i = 0; i < params.size(); i++) {
+                statement.setObject(i + 1, params.get(i));
+            }
+            return statement;
+        };
+    }
+
+    // Connector/J ignores a positive fetch size unless the URL enables useCursorFetch and reads the
+    // whole result into memory instead; Integer.MIN_VALUE switches it to row-by-row streaming
+    private int streamingFetchSize(Connection connection) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        if ("MySQL".equalsIgnoreCase(metaData.getDatabaseProductName())
+                && !metaData.getURL().contains("useCursorFetch=true")) {
+            return Integer.MIN_VALUE;
+        }
+        return fetchSize;
+    }
+
+    private static void writeRow(JsonGenerator json, ResultSet rs) throws SQLException {
+        try {
+            json.writeStartObject();
+            json.writeNumberField("id", rs.getLong(1));
+            json.writeNumberField("movieId", rs.getLong(2));
+            json.writeStringField("movieTitle", rs.getString(3));
+            json.writeStringField("showDateTime", rs.getTimestamp(4).toLocalDateTime().format(SHOW_DATE_TIME));
+            json.writeStringField("theater", rs.getString(5));
+            json.writeNumberField("availableSeats", rs.getInt(6));
+            json.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void flush(JsonGenerator json) {
+        try {
+            json.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
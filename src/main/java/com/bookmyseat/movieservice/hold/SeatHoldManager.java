@@ -0,0 +1,219 @@
+package com.bookmyseat.movieservice.hold;
+
+import com.bookmyseat.movieservice.cache.ShowtimeCacheEvictor;
+import com.bookmyseat.movieservice.dto.ReservationDTO;
+import com.bookmyseat.movieservice.dto.SeatHoldDTO;
+import com.bookmyseat.movieservice.exception.SeatHoldNotFoundException;
+import com.bookmyseat.movieservice.inventory.SeatInventory;
+import com.bookmyseat.movieservice.service.ShowtimeService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Seats held during checkout. A hold takes its seats from the showtime straight away, through the
+ * same path as a reservation, and gives them back unless it is confirmed before it expires.
+ * Pending expiries sit in a {@link TimingWheel}, so scheduling, confirming and releasing a hold
+ * cost the same with ten holds or ten million, and nothing is polled from the database. Seats of
+ * expired and released holds are summed per showtime and returned together on the next tick.
+ * Holds live in this instance's memory only: outstanding holds are released on shutdown, and a
+ * crash leaves their seats taken.
+ */
+@Component
+public class SeatHoldManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeatHoldManager.class);
+
+    static final String RETURN_SEATS = "UPDATE showtimes SET available_seats = available_seats + ?, updated_at = ? " +
+            "WHERE id = ?";
+
+    private final ShowtimeService showtimeService;
+    private final SeatInventory seatInventory;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ShowtimeCacheEvictor cacheEvictor;
+    private final Clock clock;
+    private final Duration holdDuration;
+    private final TimingWheel<SeatHold> wheel;
+    private final Map<String, SeatHold> holds = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> pendingReturns = new ConcurrentHashMap<>();
+    private final Counter expiredCounter;
+    private final Timer expiryLag;
+
+    @Autowired
+    public SeatHoldManager(ShowtimeService showtimeService, SeatInventory seatInventory, JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager, ShowtimeCacheEvictor cacheEvictor,
+                           Clock clock, MeterRegistry meterRegistry,
+                           @Value("${movie.holds.duration:PT5M}") Duration holdDuration,
+                           @Value("${movie.holds.tick:PT0.1S}") Duration tick,
+                           @Value("${movie.holds.wheel-size:4096}") int wheelSize) {
+        this.showtimeService = showtimeService;
+        this.seatInventory = seatInventory;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.cacheEvictor = cacheEvictor;
+        this.clock = clock;
+        this.holdDuration = holdDuration;
+        this.wheel = new TimingWheel<>(tick.toMillis(), wheelSize, clock.millis());
+        this.expiredCounter = Counter.builder("seat_holds_expired_total")
+                .description("Seat holds that expired before being confirmed")
+                .register(meterRegistry);
+        this.expiryLag = Timer.builder("seat_hold_expiry_lag")
+                .description("Delay between a hold's deadline and the release of its seats")
+                .register(meterRegistry);
+        Gauge.builder("seat_holds_active", holds, Map::size)
+                .description("Seat holds awaiting confirmation or expiry")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Takes the seats now and holds them for the configured duration.
+     */
+    public SeatHoldDTO hold(Long showtimeId, int seats) {
+        ReservationDTO taken = seatInventory.isEnabled()
+                ? seatInventory.reserve(showtimeId, seats)
+                : showtimeService.reserveSeats(showtimeId, seats);
+        long deadline = clock.millis() + holdDuration.toMillis();
+        SeatHold hold = new SeatHold(UUID.randomUUID().toString(), showtimeId, seats, deadline);
+        synchronized (wheel) {
+            hold.entry = wheel.schedule(hold, deadline);
+            holds.put(hold.holdId, hold);
+        }
+        LocalDateTime expiresAt = LocalDateTime.now(clock).plus(holdDuration);
+        return new SeatHoldDTO(hold.holdId, showtimeId, seats, expiresAt, taken.getAvailableSeats());
+    }
+
+    /**
+     * Makes a hold's seats permanent; the hold is gone afterwards.
+     */
+    public void confirm(String holdId) {
+        remove(holdId);
+    }
+
+    /**
+     * Gives a hold's seats back before it expires.
+     */
+    public void release(String holdId) {
+        SeatHold hold = remove(holdId);
+        pendingReturns.merge(hold.showtimeId, hold.seats, Integer::sum);
+    }
+
+    /**
+     * Expires the holds that are due and returns the seats of expired and released holds, one
+     * row per showtime. Returns how many holds expired.
+     */
+    @Scheduled(fixedDelayString = "${movie.holds.tick:PT0.1S}")
+    public synchronized int expire() {
+        long now = clock.millis();
+        List<SeatHold> expired = new ArrayList<>();
+        synchronized (wheel) {
+            wheel.advance(now, hold -> {
+                holds.remove(hold.holdId);
+                expired.add(hold);
+            });
+        }
+        for (SeatHold hold : expired) {
+            expiryLag.record(Duration.ofMillis(Math.max(0, now - hold.deadlineMillis)));
+            pendingReturns.merge(hold.showtimeId, hold.seats, Integer::sum);
+        }
+        expiredCounter.increment(expired.size());
+        returnPendingSeats();
+        return expired.size();
+    }
+
+    @PreDestroy
+    public synchronized void releaseOnShutdown() {
+        int released;
+        synchronized (wheel) {
+            released = holds.size();
+            holds.values().forEach(hold -> {
+                wheel.cancel(hold.entry);
+                pendingReturns.merge(hold.showtimeId, hold.seats, Integer::sum);
+            });
+            holds.clear();
+        }
+        returnPendingSeats();
+        logger.info("Released {} outstanding seat holds on shutdown", released);
+    }
+
+    public int activeHolds() {
+        return holds.size();
+    }
+
+    private SeatHold remove(String holdId) {
+        synchronized (wheel) {
+            SeatHold hold = holds.remove(holdId);
+            if (hold == null) {
+                throw new SeatHoldNotFoundException("Seat hold not found or already expired: " + holdId);
+            }
+            wheel.cancel(hold.entry);
+            return hold;
+        }
+    }
+
+    private void returnPendingSeats() {
+        if (pendingReturns.isEmpty()) {
+            return;
+        }
+        // Sorted so every batch locks the rows in the same order
+        Map<Long, Integer> returns = new TreeMap<>();
+        for (Long showtimeId : pendingReturns.keySet()) {
+            Integer seats = pendingReturns.remove(showtimeId);
+            if (seats != null) {
+                returns.put(showtimeId, seats);
+            }
+        }
+        if (seatInventory.isEnabled()) {
+            returns.forEach(seatInventory::release);
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now(clock));
+        List<Object[]> rows = new ArrayList<>(returns.size());
+        returns.forEach((showtimeId, seats) -> rows.add(new Object[] {seats, now, showtimeId}));
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(RETURN_SEATS, rows));
+            cacheEvictor.evictShowtimes();
+        } catch (RuntimeException e) {
+            returns.forEach((showtimeId, seats) -> pendingReturns.merge(showtimeId, seats, Integer::sum));
+            logger.error("Returning held seats failed for {} showtimes, will retry", rows.size(), e);
+        }
+    }
+
+    private static final class SeatHold {
+
+        private final String holdId;
+        private final Long showtimeId;
+        private final int seats;
+        private final long deadlineMillis;
+        private TimingWheel.Entry<SeatHold> entry;
+
+        private SeatHold(String holdId, Long showtimeId, int seats, long deadlineMillis) {
+            this.holdId = holdId;
+            this.showtimeId = showtimeId;
+            this.seats = seats;
+            this.deadlineMillis = deadlineMillis;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.bookmyseat.movieservice.hold;
+
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel: deadlines are rounded up to whole ticks and hashed into one of a
+ * power-of-two number of buckets, each a doubly linked list. Scheduling and cancelling are O(1)
+ * whatever the number of pending entries; advancing visits only the buckets of the ticks that
+ * passed. Deadlines more than one lap ahead share a bucket with nearer ones and are skipped until
+ * their lap comes round. Not thread-safe; callers serialize access.
+ */
+final class TimingWheel<T> {
+
+    private final long tickMillis;
+    private final long startMillis;
+    private final Entry<T>[] buckets;
+    private final int mask;
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick must be positive");
+        }
+        int count = wheelSize <= 1 ? 1 : Integer.highestOneBit(wheelSize - 1) << 1;
+        this.tickMillis = tickMillis;
+        this.startMillis = startMillis;
+        this.buckets = new Entry[count];
+        this.mask = count - 1;
+        for (int i = 0; i < count; i++) {
+            Entry<T> head = new Entry<>(null, 0);
+            head.prev = head;
+            head.next = head;
+            buckets[i] = head;
+        }
+    }
+
+    /**
+     * Schedules {@code item} to expire at the first tick at or after {@code deadlineMillis}. A
+     * deadline already in the past expires on the next {@link #advance}.
+     */
+    Entry<T> schedule(T item, long deadlineMillis) {
+        long ticks = Math.floorDiv(deadlineMillis - startMillis + tickMillis - 1, tickMillis);
+        Entry<T> entry = new Entry<>(item, Math.max(ticks, currentTick));
+        Entry<T> head = buckets[(int) (entry.deadlineTick & mask)];
+        entry.prev = head.prev;
+        entry.next = head;
+        head.prev.next = entry;
+        head.prev = entry;
+        size++;
+        return entry;
+    }
+
+    /**
+     * Removes a pending entry and returns whether it was still pending.
+     */
+    boolean cancel(Entry<T> entry) {
+        if (entry.next == null) {
+            return false;
+        }
+        unlink(entry);
+        return true;
+    }
+
+    /**
+     * Expires every entry due at or before {@code nowMillis}, handing each item to
+     * {@code expired}, and returns how many expired. After a stall longer than one lap each
+     * bucket is still visited only once.
+     */
+    int advance(long nowMillis, Consumer<T> expired) {
+        long targetTick = Math.floorDiv(nowMillis - startMillis, tickMillis);
+        if (targetTick < currentTick) {
+            return 0;
+        }
+        long lastTick = Math.min(targetTick, currentTick + mask);
+        int count = 0;
+        for (long tick = currentTick; tick <= lastTick; tick++) {
+            Entry<T> head = buckets[(int) (tick & mask)];
+            Entry<T> entry = head.next;
+            while (entry != head) {
+                Entry<T> next = entry.next;
+                if (entry.deadlineTick <= targetTick) {
+                    unlink(entry);
+                    expired.accept(entry.item);
+                    count++;
+                }
+                entry = next;
+            }
+        }
+        currentTick = targetTick + 1;
+        return count;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void unlink(Entry<T> entry) {
+        entry.prev.next = entry.next;
+        entry.next.prev = entry.prev;
+        entry.prev = null;
+        entry.next = null;
+        size--;
+    }
+
+    static final class Entry<T> {
+
+        private final T item;
+        private final long deadlineTick;
+        private Entry<T> prev;
+        private Entry<T> next;
+
+        private Entry(T item, long deadlineTick) {
+            this.item = item;
+            this.deadlineTick = deadlineTick;
+        }
+
+        T getItem() {
+            return item;
+        }
+    }
+}
@@ -0,0 +1,389 @@
+package com.bookmyseat.movieservice.importer;
+
+import com.bookmyseat.movieservice.cache.ShowtimeCacheEvictor;
+import com.bookmyseat.movieservice.catalog.MovieCatalog;
+import com.bookmyseat.movieservice.dto.CatalogImportResultDTO;
+import com.bookmyseat.movieservice.exception.ImportInProgressException;
+import com.bookmyseat.movieservice.exception.InvalidImportRequestException;
+import com.bookmyseat.movieservice.ingest.ShowtimeIngester;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads movies and showtimes from CSV files in the import directory. Files are read record by
+ * record with {@link CsvReader} and written in JDBC batches, so memory holds one batch plus a
+ * title-to-ID map of the catalog, never the file or an entity graph. Each batch commits together
+ * with its checkpoint row; an interrupted import of an unchanged file resumes after the last
+ * committed batch, so rows are neither lost nor written twice. An import claims its checkpoint
+ * row before reading the file, so across all instances only one import of a file runs at a time.
+ */
+@Component
+public class CatalogImporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogImporter.class);
+
+    static final String INSERT_MOVIE = "INSERT INTO movies (title, description, duration_minutes, genre, language, " +
+            "release_date, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String SELECT_TITLES = "SELECT id, title FROM movies ORDER BY id";
+    private static final String SELECT_CHECKPOINT = "SELECT id, file_size, file_modified_at, byte_offset, " +
+            "rows_imported, rows_rejected, status FROM catalog_import_checkpoints WHERE kind = ? AND file_name = ?";
+    private static final String INSERT_CHECKPOINT = "INSERT INTO catalog_import_checkpoints (kind, file_name, " +
+            "file_size, file_modified_at, byte_offset, rows_imported, rows_rejected, status, updated_at) " +
+            "VALUES (?, ?, ?, ?, 0, 0, 0, ?, ?)";
+    // Claims succeed only on a checkpoint no live import holds: one that is not in progress, or whose
+    // import stopped advancing it long enough ago to have died without marking it failed
+    private static final String CLAIM_CHECKPOINT = "UPDATE catalog_import_checkpoints SET status = ?, updated_at = ? " +
+            "WHERE id = ? AND (status <> ? OR updated_at < ?)";
+    private static final String RESET_CHECKPOINT = "UPDATE catalog_import_checkpoints SET file_size = ?, " +
+            "file_modified_at = ?, byte_offset = 0, rows_imported = 0, rows_rejected = 0, status = ?, updated_at = ? " +
+            "WHERE id = ? AND (status <> ? OR updated_at < ?)";
+    private static final String ADVANCE_CHECKPOINT = "UPDATE catalog_import_checkpoints SET byte_offset = ?, " +
+            "rows_imported = rows_imported + ?, rows_rejected = rows_rejected + ?, status = ?, updated_at = ? " +
+            "WHERE id = ?";
+    private static final String UPDATE_STATUS = "UPDATE catalog_import_checkpoints SET status = ?, updated_at = ? " +
+            "WHERE id = ?";
+
+    static final String IN_PROGRESS = "IN_PROGRESS";
+    static final String COMPLETED = "COMPLETED";
+    static final String FAILED = "FAILED";
+
+    private static final String MOVIES = "MOVIES";
+    private static final String SHOWTIMES = "SHOWTIMES";
+    private static final String[] MOVIE_COLUMNS = {"title", "description", "duration_minutes", "genre", "language",
+            "release_date"};
+    private static final String[] SHOWTIME_COLUMNS = {"movie_title", "show_date_time", "theater", "available_seats"};
+    private static final int MAX_LOGGED_REJECTIONS = 20;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ShowtimeCacheEvictor cacheEvictor;
+    private final MovieCatalog movieCatalog;
+    private final Clock clock;
+    private final MeterRegistry meterRegistry;
+    private final Path directory;
+    private final int batchSize;
+    private final int bufferSize;
+    private final Duration claimTimeout;
+
+    @Autowired
+    public CatalogImporter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                           ShowtimeCacheEvictor cacheEvictor, MovieCatalog movieCatalog, Clock clock,
+                           MeterRegistry meterRegistry,
+                           @Value("${movie.import.directory:imports}") String directory,
+                           @Value("${movie.import.batch-size:1000}") int batchSize,
+                           @Value("${movie.import.buffer-size:65536}") int bufferSize,
+                           @Value("${movie.import.claim-timeout:PT10M}") Duration claimTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.cacheEvictor = cacheEvictor;
+        this.movieCatalog = movieCatalog;
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+        this.directory = Paths.get(directory).toAbsolutePath().normalize();
+        this.batchSize = batchSize;
+        this.bufferSize = bufferSize;
+        this.claimTimeout = claimTimeout;
+    }
+
+    /**
+     * Imports a movies CSV with the columns title, duration_minutes and optionally description,
+     * genre, language and release_date. Titles already in the catalog are rejected as duplicates.
+     */
+    public CatalogImportResultDTO importMovies(String fileName) {
+        return run(MOVIES, fileName);
+    }
+
+    /**
+     * Imports a showtimes CSV with the columns movie_title, show_date_time, theater and
+     * available_seats. Movies are matched by title, ignoring case.
+     */
+    public CatalogImportResultDTO importShowtimes(String fileName) {
+        return run(SHOWTIMES, fileName);
+    }
+
+    private CatalogImportResultDTO run(String kind, String fileName) {
+        Path file = resolve(fileName);
+        try {
+            long fileSize = Files.size(file);
+            LocalDateTime modifiedAt = LocalDateTime.ofInstant(Files.getLastModifiedTime(file).toInstant(),
+                    ZoneOffset.UTC).truncatedTo(ChronoUnit.MICROS);
+            Checkpoint checkpoint = checkpoint(kind, fileName, fileSize, modifiedAt);
+            if (COMPLETED.equals(checkpoint.status)) {
+                logger.info("{} import of {} already completed, nothing to do", kind, fileName);
+                return result(kind, fileName, checkpoint, checkpoint.byteOffset, fileSize);
+            }
+            return importFrom(kind, file, fileName, checkpoint, fileSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private CatalogImportResultDTO importFrom(String kind, Path file, String fileName, Checkpoint checkpoint,
+                                              long fileSize) throws IOException {
+        long resumedFrom = checkpoint.byteOffset;
+        long started = System.nanoTime();
+        Map<String, Long> titles = loadTitles();
+        long[] totals = {0, 0};
+        try (CsvReader reader = new CsvReader(FileChannel.open(file, StandardOpenOption.READ), bufferSize)) {
+            int[] columns = reader.next() ? columns(reader, kind) : null;
+            if (resumedFrom > reader.position()) {
+                reader.position(resumedFrom);
+                logger.info("Resuming {} import of {} at byte {} of {}", kind, fileName, resumedFrom, fileSize);
+            }
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now(clock));
+            List<Object[]> batch = new ArrayList<>(batchSize);
+            long rejected = 0;
+            while (columns != null && reader.next()) {
+                try {
+                    batch.add(MOVIES.equals(kind) ? movieRow(reader, columns, titles, now)
+                            : showtimeRow(reader, columns, titles, now));
+                } catch (IllegalArgumentException | DateTimeException e) {
+                    if (totals[1] + rejected < MAX_LOGGED_REJECTIONS) {
+                        logger.warn("Rejected {} row ending at byte {} of {}: {}", kind, reader.position(), fileName,
+                                e.getMessage());
+                    }
+                    rejected++;
+                }
+                if (batch.size() == batchSize) {
+                    commit(kind, checkpoint, batch, rejected, reader.position(), IN_PROGRESS, totals);
+                    batch.clear();
+                    rejected = 0;
+                }
+            }
+            commit(kind, checkpoint, batch, rejected, reader.position(), COMPLETED, totals);
+            checkpoint.byteOffset = reader.position();
+        } catch (IOException | RuntimeException e) {
+            jdbcTemplate.update(UPDATE_STATUS, FAILED, Timestamp.valueOf(LocalDateTime.now(clock)), checkpoint.id);
+            logger.error("{} import of {} failed after {} rows, rerun to resume", kind, fileName, totals[0], e);
+            throw e;
+        } finally {
+            meterRegistry.timer("catalog_import_duration", "kind", kind.toLowerCase(Locale.ROOT))
+                    .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+
+        if (totals[0] > 0) {
+            afterImport(kind);
+        }
+        checkpoint.status = COMPLETED;
+        checkpoint.rowsImported += totals[0];
+        checkpoint.rowsRejected += totals[1];
+        logger.info("{} import of {} completed: {} rows imported, {} rejected", kind, fileName, totals[0], totals[1]);
+        return result(kind, fileName, checkpoint, resumedFrom, fileSize);
+    }
+
+    // The batch and the checkpoint that covers it commit or roll back together
+    private void commit(String kind, Checkpoint checkpoint, List<Object[]> batch, long rejected, long offset,
+                        String status, long[] totals) {
+        transactionTemplate.executeWithoutResult(tx -> {
+            if (!batch.isEmpty()) {
+                jdbcTemplate.batchUpdate(MOVIES.equals(kind) ? INSERT_MOVIE : ShowtimeIngester.INSERT_SHOWTIME, batch);
+            }
+            jdbcTemplate.update(ADVANCE_CHECKPOINT, offset, batch.size(), rejected, status,
+                    Timestamp.valueOf(LocalDateTime.now(clock)), checkpoint.id);
+        });
+        totals[0] += batch.size();
+        totals[1] += rejected;
+        String tag = kind.toLowerCase(Locale.ROOT);
+        meterRegistry.counter("catalog_import_rows_total", "kind", tag, "outcome", "imported").increment(batch.size());
+        meterRegistry.counter("catalog_import_rows_total", "kind", tag, "outcome", "rejected").increment(rejected);
+        logger.debug("{} import committed {} rows up to byte {}", kind, batch.size(), offset);
+    }
+
+    private static Object[] movieRow(CsvReader reader, int[] columns, Map<String, Long> titles, Timestamp now) {
+        String title = reader.get(columns[0]).trim();
+        if (title.isEmpty() || title.length() > 255) {
+            throw new IllegalArgumentException("title is required and must be at most 255 characters");
+        }
+        int duration = Integer.parseInt(reader.get(columns[2]).trim());
+        if (duration <= 0) {
+            throw new IllegalArgumentException("duration_minutes must be positive");
+        }
+        String releaseDate = optional(reader, columns[5]);
+        Date release = releaseDate != null ? Date.valueOf(LocalDate.parse(releaseDate)) : null;
+        // Imported movies get their IDs on insert; the placeholder only marks the title as taken
+        if (titles.putIfAbsent(titleKey(title), 0L) != null) {
+            throw new IllegalArgumentException("movie '" + title + "' already exists");
+        }
+        return new Object[] {title, optional(reader, columns[1]), duration, optional(reader, columns[3]),
+                optional(reader, columns[4]), release, now, now};
+    }
+
+    private static Object[] showtimeRow(CsvReader reader, int[] columns, Map<String, Long> titles, Timestamp now) {
+        Long movieId = titles.get(titleKey(reader.get(columns[0])));
+        if (movieId == null) {
+            throw new IllegalArgumentException("no movie titled '" + reader.get(columns[0]).trim() + "'");
+        }
+        LocalDateTime showDateTime = LocalDateTime.parse(reader.get(columns[1]).trim());
+        String theater = reader.get(columns[2]).trim();
+        if (theater.isEmpty() || theater.length() > 100) {
+            throw new IllegalArgumentException("theater is required and must be at most 100 characters");
+        }
+        int availableSeats = Integer.parseInt(reader.get(columns[3]).trim());
+        if (availableSeats < 0) {
+            throw new IllegalArgumentException("available_seats must be zero or more");
+        }
+        return new Object[] {movieId, Timestamp.valueOf(showDateTime), theater, availableSeats, now, now};
+    }
+
+    // Maps the expected columns to their positions in the header; optional movie columns may be absent
+    private static int[] columns(CsvReader reader, String kind) {
+        String[] expected = MOVIES.equals(kind) ? MOVIE_COLUMNS : SHOWTIME_COLUMNS;
+        int[] columns = new int[expected.length];
+        for (int i = 0; i < expected.length; i++) {
+            columns[i] = Integer.MAX_VALUE;
+            for (int column = 0; column < reader.size(); column++) {
+                if (expected[i].equalsIgnoreCase(reader.get(column).trim())) {
+                    columns[i] = column;
+                }
+            }
+            boolean required = !MOVIES.equals(kind) || i == 0 || i == 2;
+            if (required && columns[i] == Integer.MAX_VALUE) {
+                throw new InvalidImportRequestException(kind.toLowerCase(Locale.ROOT) + " file is missing the '"
+                        + expected[i] + "' column");
+            }
+        }
+        return columns;
+    }
+
+    private static String optional(CsvReader reader, int column) {
+        String value = reader.get(column).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static String titleKey(String title) {
+        return title.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // Titles are the only part of the catalog held in memory; the oldest movie wins a shared title
+    private Map<String, Long> loadTitles() {
+        Map<String, Long> titles = new HashMap<>();
+        jdbcTemplate.query(SELECT_TITLES, (RowCallbackHandler) rs -> titles.putIfAbsent(titleKey(rs.getString(2)),
+                rs.getLong(1)));
+        return titles;
+    }
+
+    // Returns the file's checkpoint claimed for this import, or as found when the file is already imported
+    private Checkpoint checkpoint(String kind, String fileName, long fileSize, LocalDateTime modifiedAt) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<Checkpoint> existing = findCheckpoint(kind, fileName);
+        if (existing.isEmpty()) {
+            try {
+                jdbcTemplate.update(INSERT_CHECKPOINT, kind, fileName, fileSize, Timestamp.valueOf(modifiedAt),
+                        IN_PROGRESS, Timestamp.valueOf(now));
+            } catch (DuplicateKeyException e) {
+                throw alreadyRunning(kind, fileName);
+            }
+            return findCheckpoint(kind, fileName).get(0);
+        }
+        Checkpoint checkpoint = existing.get(0);
+        boolean changed = checkpoint.fileSize != fileSize || !checkpoint.fileModifiedAt.equals(modifiedAt);
+        if (!changed && COMPLETED.equals(checkpoint.status)) {
+            return checkpoint;
+        }
+        Timestamp staleBefore = Timestamp.valueOf(now.minus(claimTimeout));
+        int claimed = changed
+                ? jdbcTemplate.update(RESET_CHECKPOINT, fileSize, Timestamp.valueOf(modifiedAt), IN_PROGRESS,
+                        Timestamp.valueOf(now), checkpoint.id, IN_PROGRESS, staleBefore)
+                : jdbcTemplate.update(CLAIM_CHECKPOINT, IN_PROGRESS, Timestamp.valueOf(now), checkpoint.id,
+                        IN_PROGRESS, staleBefore);
+        if (claimed != 1) {
+            throw alreadyRunning(kind, fileName);
+        }
+        if (!changed) {
+            checkpoint.status = IN_PROGRESS;
+            return checkpoint;
+        }
+        if (checkpoint.byteOffset > 0) {
+            logger.warn("{} changed since its last {} import; starting over from the beginning", fileName, kind);
+        }
+        return new Checkpoint(checkpoint.id, fileSize, modifiedAt, 0, 0, 0, IN_PROGRESS);
+    }
+
+    private List<Checkpoint> findCheckpoint(String kind, String fileName) {
+        return jdbcTemplate.query(SELECT_CHECKPOINT, (rs, rowNum) -> new Checkpoint(rs.getLong(1), rs.getLong(2),
+                rs.getTimestamp(3).toLocalDateTime(), rs.getLong(4), rs.getLong(5), rs.getLong(6), rs.getString(7)),
+                kind, fileName);
+    }
+
+    private static ImportInProgressException alreadyRunning(String kind, String fileName) {
+        return new ImportInProgressException("A " + kind.toLowerCase(Locale.ROOT) + " import of '" + fileName
+                + "' is already running, retry when it has finished");
+    }
+
+    private Path resolve(String fileName) {
+        Path file = fileName == null || fileName.isBlank() ? null : directory.resolve(fileName).normalize();
+        if (file == null || !file.startsWith(directory) || !Files.isRegularFile(file)) {
+            throw new InvalidImportRequestException("No import file named '" + fileName + "' in the import directory");
+        }
+        return file;
+    }
+
+    // Imported rows bypassed Hibernate and the catalog snapshot
+    private void afterImport(String kind) {
+        if (MOVIES.equals(kind)) {
+            movieCatalog.refresh();
+        } else {
+            cacheEvictor.evictShowtimeQueries();
+        }
+    }
+
+    private static CatalogImportResultDTO result(String kind, String fileName, Checkpoint checkpoint,
+                                                 long resumedFrom, long fileSize) {
+        return new CatalogImportResultDTO(kind, fileName, checkpoint.status, checkpoint.rowsImported,
+                checkpoint.rowsRejected, resumedFrom, checkpoint.byteOffset, fileSize);
+    }
+
+    private static final class Checkpoint {
+
+        private final long id;
+        private final long fileSize;
+        private final LocalDateTime fileModifiedAt;
+        private long byteOffset;
+        private long rowsImported;
+        private long rowsRejected;
+        private String status;
+
+        private Checkpoint(long id, long fileSize, LocalDateTime fileModifiedAt, long byteOffset,
+                           long rowsImported, long rowsRejected, String status) {
+            this.id = id;
+            this.fileSize = fileSize;
+            this.fileModifiedAt = fileModifiedAt;
+            this.byteOffset = byteOffset;
+            this.rowsImported = rowsImported;
+            this.rowsRejected = rowsRejected;
+            this.status = status;
+        }
+    }
+}
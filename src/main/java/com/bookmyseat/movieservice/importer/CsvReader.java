@@ -0,0 +1,158 @@
+package com.bookmyseat.movieservice.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Forward-only RFC 4180 reader over a {@link FileChannel}. Bytes are parsed straight out of one
+ * reused direct buffer and each field is decoded into a String only once it is complete, so a
+ * record costs one String per field and nothing per line. Parsing works on bytes rather than
+ * chars, which is safe for UTF-8 because the delimiters are ASCII, and lets {@link #position()}
+ * report the exact byte offset to resume from.
+ */
+final class CsvReader implements Closeable {
+
+    private static final byte COMMA = ',';
+    private static final byte QUOTE = '"';
+    private static final byte CR = '\r';
+    private static final byte LF = '\n';
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final List<String> fields = new ArrayList<>();
+    private byte[] field = new byte[256];
+    private long bufferStart;
+
+    CsvReader(FileChannel channel, int bufferSize) throws IOException {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+        position(0);
+        skipByteOrderMark();
+    }
+
+    /**
+     * Moves to {@code offset}, which must be a record boundary previously returned by
+     * {@link #position()}.
+     */
+    void position(long offset) throws IOException {
+        channel.position(offset);
+        buffer.clear().flip();
+        bufferStart = offset;
+    }
+
+    /**
+     * Byte offset just past the last record returned by {@link #next()}.
+     */
+    long position() {
+        return bufferStart + buffer.position();
+    }
+
+    /**
+     * Reads the next non-blank record, returning false at end of file.
+     */
+    boolean next() throws IOException {
+        fields.clear();
+        int length = 0;
+        boolean quoted = false;
+        boolean started = false;
+        while (true) {
+            int b = read();
+            if (b < 0) {
+                if (!started) {
+                    return false;
+                }
+                fields.add(decode(length));
+                return true;
+            }
+            if (quoted) {
+                if (b != QUOTE) {
+                    length = append(length, b);
+                } else if (peek() == QUOTE) {
+                    read();
+                    length = append(length, QUOTE);
+                } else {
+                    quoted = false;
+                }
+            } else if (b == COMMA) {
+                fields.add(decode(length));
+                length = 0;
+                started = true;
+            } else if (b == LF) {
+                if (started || length > 0) {
+                    fields.add(decode(length));
+                    return true;
+                }
+            } else if (b == QUOTE && length == 0) {
+                quoted = true;
+                started = true;
+            } else if (b != CR) {
+                length = append(length, b);
+                started = true;
+            }
+        }
+    }
+
+    int size() {
+        return fields.size();
+    }
+
+    String get(int index) {
+        return index < fields.size() ? fields.get(index) : "";
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private int read() throws IOException {
+        if (!buffer.hasRemaining() && !fill()) {
+            return -1;
+        }
+        return buffer.get() & 0xFF;
+    }
+
+    private int peek() throws IOException {
+        if (!buffer.hasRemaining() && !fill()) {
+            return -1;
+        }
+        return buffer.get(buffer.position()) & 0xFF;
+    }
+
+    private boolean fill() throws IOException {
+        bufferStart += buffer.limit();
+        buffer.clear();
+        int read;
+        do {
+            read = channel.read(buffer);
+        } while (read == 0);
+        buffer.flip();
+        return read > 0;
+    }
+
+    private int append(int length, int b) {
+        if (length == field.length) {
+            field = Arrays.copyOf(field, length * 2);
+        }
+        field[length] = (byte) b;
+        return length + 1;
+    }
+
+    private String decode(int length) {
+        return length == 0 ? "" : new String(field, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private void skipByteOrderMark() throws IOException {
+        if (peek() == 0xEF && buffer.remaining() >= 3
+                && (buffer.get(buffer.position() + 1) & 0xFF) == 0xBB
+                && (buffer.get(buffer.position() + 2) & 0xFF) == 0xBF) {
+            buffer.position(buffer.position() + 3);
+        }
+    }
+}
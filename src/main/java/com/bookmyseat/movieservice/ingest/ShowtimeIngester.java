@@ -0,0 +1,174 @@
+package com.bookmyseat.movieservice.ingest;
+
+import com.bookmyseat.movieservice.cache.ShowtimeCacheEvictor;
+import com.bookmyseat.movieservice.dto.ShowtimeIngestErrorDTO;
+import com.bookmyseat.movieservice.dto.ShowtimeIngestResultDTO;
+import com.bookmyseat.movieservice.dto.ShowtimeIngestRowDTO;
+import com.bookmyseat.movieservice.exception.InvalidIngestRequestException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Inserts showtimes in bulk with plain JDBC batches. Showtime IDs come from the table's
+ * AUTO_INCREMENT, which stops Hibernate from batching entity inserts at all; going through
+ * JdbcTemplate instead lets the MySQL driver rewrite each batch into one multi-row INSERT
+ * (rewriteBatchedStatements). Rows are validated up front, movie references in a single query,
+ * and rejected rows are reported by position while the rest are inserted in one transaction.
+ */
+@Component
+public class ShowtimeIngester {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShowtimeIngester.class);
+
+    // Shared with CatalogImporter, which writes the same columns in the same order
+    public static final String INSERT_SHOWTIME = "INSERT INTO showtimes (movie_id, show_date_time, theater, " +
+            "available_seats, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String SELECT_MOVIE_IDS = "SELECT id FROM movies WHERE id IN (%s)";
+    private static final int MAX_THEATER_LENGTH = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ShowtimeCacheEvictor cacheEvictor;
+    private final Clock clock;
+    private final int batchSize;
+    private final int maxRows;
+    private final Counter insertedCounter;
+    private final Counter rejectedCounter;
+    private final Timer ingestTimer;
+
+    @Autowired
+    public ShowtimeIngester(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                            ShowtimeCacheEvictor cacheEvictor, Clock clock, MeterRegistry meterRegistry,
+                            @Value("${movie.ingest.batch-size:500}") int batchSize,
+                            @Value("${movie.ingest.max-rows:10000}") int maxRows) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.cacheEvictor = cacheEvictor;
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.maxRows = maxRows;
+        this.insertedCounter = Counter.builder("showtime_ingest_rows_total")
+                .tag("outcome", "inserted")
+                .description("Showtime rows received by bulk ingestion")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("showtime_ingest_rows_total")
+                .tag("outcome", "rejected")
+                .description("Showtime rows received by bulk ingestion")
+                .register(meterRegistry);
+        this.ingestTimer = Timer.builder("showtime_ingest_duration")
+                .description("Time taken to validate and insert a bulk ingestion request")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Validates every row, inserts the valid ones and reports the rest. Throws
+     * {@link InvalidIngestRequestException} when the request is empty or larger than
+     * {@code max-rows}.
+     */
+    public ShowtimeIngestResultDTO ingest(List<ShowtimeIngestRowDTO> rows) {
+        if (rows == null || rows.isEmpty()) {
+            throw new InvalidIngestRequestException("Ingestion request contains no showtimes");
+        }
+        if (rows.size() > maxRows) {
+            throw new InvalidIngestRequestException(
+                    "Ingestion request has " + rows.size() + " showtimes, the limit is " + maxRows);
+        }
+
+        return ingestTimer.record(() -> {
+            String[] problems = new String[rows.size()];
+            Set<Long> movieIds = new LinkedHashSet<>();
+            for (int i = 0; i < rows.size(); i++) {
+                problems[i] = validate(rows.get(i));
+                if (problems[i] == null) {
+                    movieIds.add(rows.get(i).getMovieId());
+                }
+            }
+            Set<Long> knownMovieIds = findExistingMovieIds(movieIds);
+
+            List<ShowtimeIngestRowDTO> accepted = new ArrayList<>(rows.size());
+            List<ShowtimeIngestErrorDTO> errors = new ArrayList<>();
+            for (int i = 0; i < rows.size(); i++) {
+                if (problems[i] == null && !knownMovieIds.contains(rows.get(i).getMovieId())) {
+                    problems[i] = "Movie not found with ID: " + rows.get(i).getMovieId();
+                }
+                if (problems[i] == null) {
+                    accepted.add(rows.get(i));
+                } else {
+                    errors.add(new ShowtimeIngestErrorDTO(i, problems[i]));
+                }
+            }
+
+            if (!accepted.isEmpty()) {
+                insert(accepted);
+                cacheEvictor.evictShowtimeQueries();
+            }
+            insertedCounter.increment(accepted.size());
+            rejectedCounter.increment(errors.size());
+            logger.info("Ingested {} of {} showtimes, {} rejected", accepted.size(), rows.size(), errors.size());
+            return new ShowtimeIngestResultDTO(rows.size(), accepted.size(), errors);
+        });
+    }
+
+    private void insert(List<ShowtimeIngestRowDTO> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now(clock));
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(INSERT_SHOWTIME, rows, batchSize, (ps, row) -> {
+                    ps.setLong(1, row.getMovieId());
+                    ps.setTimestamp(2, Timestamp.valueOf(row.getShowDateTime()));
+                    ps.setString(3, row.getTheater());
+                    ps.setInt(4, row.getAvailableSeats());
+                    ps.setTimestamp(5, now);
+                    ps.setTimestamp(6, now);
+                }));
+    }
+
+    private Set<Long> findExistingMovieIds(Set<Long> movieIds) {
+        if (movieIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(movieIds.size(), "?"));
+        return new HashSet<>(jdbcTemplate.queryForList(String.format(SELECT_MOVIE_IDS, placeholders), Long.class,
+                movieIds.toArray()));
+    }
+
+    private static String validate(ShowtimeIngestRowDTO row) {
+        if (row == null) {
+            return "Showtime is empty";
+        }
+        if (row.getMovieId() == null) {
+            return "movieId is required";
+        }
+        if (row.getShowDateTime() == null) {
+            return "showDateTime is required";
+        }
+        if (row.getTheater() == null || row.getTheater().isBlank()) {
+            return "theater is required";
+        }
+        if (row.getTheater().length() > MAX_THEATER_LENGTH) {
+            return "theater must be at most " + MAX_THEATER_LENGTH + " characters";
+        }
+        if (row.getAvailableSeats() == null || row.getAvailableSeats() < 0) {
+            return "availableSeats must be zero or more";
+        }
+        return null;
+    }
+}
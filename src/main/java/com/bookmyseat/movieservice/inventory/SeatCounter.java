@@ -0,0 +1,142 @@
+package com.bookmyseat.movieservice.inventory;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Free seats of one showtime, split across independently CAS-updated stripes so that threads
+ * reserving the same showtime mostly touch different cache lines. A thread starts at its own
+ * stripe and moves on when it is short; only a request no single stripe can satisfy gathers seats
+ * from several, and those gatherers are serialized so two of them cannot starve each other while
+ * seats remain. Seats are never created or lost here: the stripes always sum to what is free.
+ */
+public final class SeatCounter {
+
+    // 32 ints = 128 bytes between stripes, enough to keep neighbours off each other's cache line
+    private static final int PAD = 32;
+
+    private final AtomicIntegerArray stripes;
+    private final int mask;
+    private final LocalDateTime showDateTime;
+    private final LongAdder unflushed = new LongAdder();
+    private final Object gather = new Object();
+
+    public SeatCounter(int availableSeats, int stripeCount, LocalDateTime showDateTime) {
+        int count = stripeCount <= 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1;
+        this.stripes = new AtomicIntegerArray(count * PAD);
+        this.mask = count - 1;
+        this.showDateTime = showDateTime;
+        for (int stripe = 0; stripe < count; stripe++) {
+            stripes.set(stripe * PAD, availableSeats / count + (stripe < availableSeats % count ? 1 : 0));
+        }
+    }
+
+    /**
+     * Takes {@code seats} seats if that many are free and returns whether it did.
+     */
+    public boolean tryTake(int seats) {
+        int start = home();
+        for (int i = 0; i <= mask; i++) {
+            if (takeAll((start + i) & mask, seats)) {
+                unflushed.add(-seats);
+                return true;
+            }
+        }
+        synchronized (gather) {
+            if (gatherAcrossStripes(start, seats)) {
+                unflushed.add(-seats);
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Puts {@code seats} previously taken seats back, e.g. when a hold lapses.
+     */
+    public void giveBack(int seats) {
+        stripes.getAndAdd(home() * PAD, seats);
+        unflushed.add(seats);
+    }
+
+    /**
+     * Free seats right now; a moving target while reservations are in flight.
+     */
+    public int available() {
+        int sum = 0;
+        for (int stripe = 0; stripe <= mask; stripe++) {
+            sum += stripes.get(stripe * PAD);
+        }
+        return sum;
+    }
+
+    public int stripeCount() {
+        return mask + 1;
+    }
+
+    LocalDateTime getShowDateTime() {
+        return showDateTime;
+    }
+
+    /**
+     * Net seat change not yet written to the database, reset to zero by this call.
+     */
+    long drainUnflushed() {
+        return unflushed.sumThenReset();
+    }
+
+    /**
+     * Puts back a delta that could not be written, so the next flush retries it.
+     */
+    void restoreUnflushed(long delta) {
+        unflushed.add(delta);
+    }
+
+    boolean hasUnflushed() {
+        return unflushed.sum() != 0;
+    }
+
+    private boolean takeAll(int stripe, int seats) {
+        int index = stripe * PAD;
+        int free;
+        while ((free = stripes.get(index)) >= seats) {
+            if (stripes.compareAndSet(index, free, free - seats)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean gatherAcrossStripes(int start, int seats) {
+        int[] taken = new int[mask + 1];
+        int missing = seats;
+        for (int i = 0; i <= mask && missing > 0; i++) {
+            int stripe = (start + i) & mask;
+            int index = stripe * PAD;
+            int free;
+            while ((free = stripes.get(index)) > 0) {
+                int take = Math.min(free, missing);
+                if (stripes.compareAndSet(index, free, free - take)) {
+                    taken[stripe] = take;
+                    missing -= take;
+                    break;
+                }
+            }
+        }
+        if (missing == 0) {
+            return true;
+        }
+        for (int stripe = 0; stripe <= mask; stripe++) {
+            if (taken[stripe] > 0) {
+                stripes.getAndAdd(stripe * PAD, taken[stripe]);
+            }
+        }
+        return false;
+    }
+
+    private int home() {
+        long id = Thread.currentThread().getId();
+        return (int) ((id * 0x9E3779B97F4A7C15L) >>> 40) & mask;
+    }
+}
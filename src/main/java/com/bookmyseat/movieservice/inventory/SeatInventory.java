@@ -0,0 +1,182 @@
+package com.bookmyseat.movieservice.inventory;
+
+import com.bookmyseat.movieservice.cache.ShowtimeCacheEvictor;
+import com.bookmyseat.movieservice.dto.ReservationDTO;
+import com.bookmyseat.movieservice.exception.InsufficientSeatsException;
+import com.bookmyseat.movieservice.exception.ShowtimeNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory seat inventory for reservations on very hot showtimes. Reservations are taken from a
+ * {@link SeatCounter} and acknowledged without touching the database; the flusher writes each
+ * showtime's net change since the last flush as one relative UPDATE, all showtimes in one batch.
+ * Counters are built from showtimes.available_seats on first use, so after a restart they resume
+ * from whatever was last flushed. Reservations acknowledged after the last flush are lost if the
+ * process dies, and the counters assume this instance is the only writer of the seats it holds.
+ */
+@Component
+public class SeatInventory {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeatInventory.class);
+
+    static final String SELECT_SEATS = "SELECT available_seats, show_date_time FROM showtimes WHERE id = ?";
+    static final String APPLY_DELTA = "UPDATE showtimes SET available_seats = available_seats + ?, updated_at = ? " +
+            "WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ShowtimeCacheEvictor cacheEvictor;
+    private final Clock clock;
+    private final boolean enabled;
+    private final int stripes;
+    private final Duration retainAfterShow;
+    private final Map<Long, SeatCounter> counters = new ConcurrentHashMap<>();
+    private final Counter flushedCounter;
+    private final Timer flushTimer;
+
+    @Autowired
+    public SeatInventory(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                         ShowtimeCacheEvictor cacheEvictor, Clock clock, MeterRegistry meterRegistry,
+                         @Value("${movie.inventory.enabled:false}") boolean enabled,
+                         @Value("${movie.inventory.stripes:0}") int stripes,
+                         @Value("${movie.inventory.retain-after-show:P1D}") Duration retainAfterShow) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.cacheEvictor = cacheEvictor;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.stripes = stripes > 0 ? stripes : Runtime.getRuntime().availableProcessors();
+        this.retainAfterShow = retainAfterShow;
+        this.flushedCounter = Counter.builder("seat_inventory_flushed_showtimes_total")
+                .description("Showtime seat deltas written by the inventory flusher")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("seat_inventory_flush_duration")
+                .description("Time taken to write pending seat deltas")
+                .register(meterRegistry);
+        Gauge.builder("seat_inventory_counters", counters, Map::size)
+                .description("Showtimes with an in-memory seat counter")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Takes the seats from memory; the database catches up on the next flush.
+     */
+    public ReservationDTO reserve(Long showtimeId, int seats) {
+        SeatCounter counter = counters.computeIfAbsent(showtimeId, this::load);
+        if (!counter.tryTake(seats)) {
+            throw new InsufficientSeatsException("Cannot reserve " + seats + " seats for showtime " + showtimeId
+                    + ", only " + counter.available() + " available");
+        }
+        return new ReservationDTO(showtimeId, seats, counter.available());
+    }
+
+    /**
+     * Seats still free as the counters see them, including reservations not yet flushed.
+     */
+    public int available(Long showtimeId) {
+        return counters.computeIfAbsent(showtimeId, this::load).available();
+    }
+
+    /**
+     * Returns seats taken earlier; they are free again at once and reach the database on the next flush.
+     */
+    public void release(Long showtimeId, int seats) {
+        counters.computeIfAbsent(showtimeId, this::load).giveBack(seats);
+    }
+
+    /**
+     * Writes every pending delta in one batch and returns how many showtimes were updated. A
+     * failed batch puts its deltas back for the next attempt.
+     */
+    @Scheduled(fixedDelayString = "${movie.inventory.flush-interval:PT0.2S}")
+    public synchronized int flush() {
+        if (counters.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now(clock));
+        List<Object[]> rows = new ArrayList<>();
+        counters.forEach((showtimeId, counter) -> {
+            long delta = counter.drainUnflushed();
+            if (delta != 0) {
+                rows.add(new Object[] {delta, now, showtimeId});
+            }
+        });
+        if (!rows.isEmpty()) {
+            // Same lock order on every flush
+            rows.sort(Comparator.comparing(row -> (Long) row[2]));
+            write(rows);
+        }
+        retireFinishedShowtimes();
+        return rows.size();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        int flushed = flush();
+        logger.info("Flushed seat inventory for {} showtimes on shutdown", flushed);
+    }
+
+    private void write(List<Object[]> rows) {
+        try {
+            int[] updated = flushTimer.record(() -> transactionTemplate.execute(status ->
+                    jdbcTemplate.batchUpdate(APPLY_DELTA, rows)));
+            cacheEvictor.evictShowtimes();
+            for (int i = 0; i < rows.size(); i++) {
+                if (updated[i] == 0) {
+                    logger.warn("Dropped seat delta {} for showtime {}, which no longer exists",
+                            rows.get(i)[0], rows.get(i)[2]);
+                }
+            }
+            flushedCounter.increment(rows.size());
+        } catch (RuntimeException e) {
+            for (Object[] row : rows) {
+                counters.get((Long) row[2]).restoreUnflushed((Long) row[0]);
+            }
+            logger.error("Seat inventory flush failed for {} showtimes, will retry", rows.size(), e);
+        }
+    }
+
+    // Long-finished showtimes take no more reservations and are archived away from the table
+    private void retireFinishedShowtimes() {
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(retainAfterShow);
+        counters.entrySet().removeIf(entry -> entry.getValue().getShowDateTime().isBefore(cutoff)
+                && !entry.getValue().hasUnflushed());
+    }
+
+    private SeatCounter load(Long showtimeId) {
+        List<SeatCounter> loaded = jdbcTemplate.query(SELECT_SEATS, (rs, rowNum) -> new SeatCounter(
+                rs.getInt(1), stripes, rs.getTimestamp(2).toLocalDateTime()), showtimeId);
+        if (loaded.isEmpty()) {
+            throw new ShowtimeNotFoundException("Showtime not found with ID: " + showtimeId);
+        }
+        logger.debug("Loaded seat counter for showtime {} with {} seats", showtimeId, loaded.get(0).available());
+        return loaded.get(0);
+    }
+}
@@ -1,5 +1,7 @@
 package com.bookmyseat.movieservice.mapper;
 
+import com.bookmyseat.movieservice.availability.AvailabilitySummary;
+import com.bookmyseat.movieservice.dto.MovieAvailabilityDTO;
 import com.bookmyseat.movieservice.dto.MovieDTO;
 import com.bookmyseat.movieservice.dto.MovieDetailDTO;
 import com.bookmyseat.movieservice.dto.ShowtimeDTO;
@@ -7,6 +9,7 @@ import com.bookmyseat.movieservice.entity.Movie;
 import com.bookmyseat.movieservice.entity.Showtime;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -28,6 +31,24 @@ public class MovieMapper {
         );
     }
 
+    // Copies rather than mutates: catalog DTOs are shared between requests
+    public MovieDTO withAvailability(MovieDTO movie, LocalDate date, AvailabilitySummary summary) {
+        MovieDTO copy = new MovieDTO(
+                movie.getId(),
+                movie.getTitle(),
+                movie.getDescription(),
+                movie.getDurationMinutes(),
+                movie.getGenre(),
+                movie.getLanguage(),
+                movie.getReleaseDate()
+        );
+        copy.setAvailability(summary != null
+                ? new MovieAvailabilityDTO(date, summary.getTotalShows(), summary.getAvailableSeats(),
+                        summary.getEarliestShow())
+                : new MovieAvailabilityDTO(date, 0, 0L, null));
+        return copy;
+    }
+
     public List<MovieDTO> toMovieDTOList(List<Movie> movies) {
         if (movies == null) {
             return null;
@@ -60,6 +81,26 @@ public class MovieMapper {
         );
     }
 
+    public MovieDetailDTO toMovieDetailDTO(Movie movie, List<ShowtimeDTO> showtimes) {
+        if (movie == null) {
+            return null;
+        }
+        if (showtimes != null) {
+            showtimes.forEach(showtime -> showtime.setMovieTitle(movie.getTitle()));
+        }
+
+        return new MovieDetailDTO(
+                movie.getId(),
+                movie.getTitle(),
+                movie.getDescription(),
+                movie.getDurationMinutes(),
+                movie.getGenre(),
+                movie.getLanguage(),
+                movie.getReleaseDate(),
+                showtimes
+        );
+    }
+
     public ShowtimeDTO toShowtimeDTO(Showtime showtime) {
         if (showtime == null) {
             return null;
@@ -0,0 +1,67 @@
+package com.bookmyseat.movieservice.pagination;
+
+import com.bookmyseat.movieservice.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset position: the sort key of the last row returned plus its ID as a tie-breaker.
+ * Clients only ever see the URL-safe Base64 form.
+ */
+public final class Cursor {
+
+    private static final char SEPARATOR = '\u0000';
+
+    private final String key;
+    private final long id;
+
+    private Cursor(String key, long id) {
+        this.key = key;
+        this.id = id;
+    }
+
+    public static Cursor of(String key, long id) {
+        return new Cursor(key != null ? key : "", id);
+    }
+
+    public static Cursor of(LocalDateTime key, long id) {
+        return new Cursor(key.toString(), id);
+    }
+
+    public static Cursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException("Invalid cursor: " + token);
+            }
+            return new Cursor(raw.substring(0, separator), Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Invalid cursor: " + token, e);
+        }
+    }
+
+    public String encode() {
+        String raw = key + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public LocalDateTime getKeyAsDateTime() {
+        try {
+            return LocalDateTime.parse(key);
+        } catch (DateTimeParseException e) {
+            throw new InvalidCursorException("Invalid cursor position: " + key, e);
+        }
+    }
+
+    public long getId() {
+        return id;
+    }
+}
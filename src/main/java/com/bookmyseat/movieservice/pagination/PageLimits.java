@@ -0,0 +1,26 @@
+package com.bookmyseat.movieservice.pagination;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PageLimits {
+
+    private final int defaultLimit;
+    private final int maxLimit;
+
+    @Autowired
+    public PageLimits(@Value("${movie.pagination.default-limit:50}") int defaultLimit,
+                      @Value("${movie.pagination.max-limit:500}") int maxLimit) {
+        this.defaultLimit = defaultLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    public int resolve(Integer requested) {
+        if (requested == null) {
+            return defaultLimit;
+        }
+        return Math.max(1, Math.min(requested, maxLimit));
+    }
+}
@@ -0,0 +1,35 @@
+package com.bookmyseat.movieservice.partition;
+
+import java.time.LocalDate;
+
+/**
+ * One RANGE COLUMNS partition of the showtimes table. A null upper bound is the MAXVALUE
+ * catch-all partition.
+ */
+public final class ShowtimePartition {
+
+    private final String name;
+    private final LocalDate upperBound;
+
+    public ShowtimePartition(String name, LocalDate upperBound) {
+        this.name = name;
+        this.upperBound = upperBound;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public LocalDate getUpperBound() {
+        return upperBound;
+    }
+
+    public boolean isCatchAll() {
+        return upperBound == null;
+    }
+
+    @Override
+    public String toString() {
+        return name + " < " + (upperBound != null ? upperBound : "MAXVALUE");
+    }
+}
@@ -0,0 +1,329 @@
+package com.bookmyseat.movieservice.partition;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Rolls the monthly RANGE COLUMNS partitions of the showtimes table: creates partitions
+ * {@code months-ahead} months past the current one by splitting the MAXVALUE catch-all, all
+ * missing months in one statement, and drops, or first exchanges out into a standalone archive
+ * table, partitions older than {@code retention-months}; empty ones are always dropped directly.
+ * Runs on the scheduler, once shortly after startup and then nightly, so DDL never holds up the
+ * application becoming ready. A MySQL named lock ensures only one replica does this at a time;
+ * on any other database, or an unpartitioned table, it does nothing.
+ */
+@Component
+public class ShowtimePartitionMaintainer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShowtimePartitionMaintainer.class);
+
+    static final String TABLE = "showtimes";
+    static final String CATCH_ALL = "p_future";
+    static final String ARCHIVE_PREFIX = "showtimes_archive_";
+    static final String LOCK_NAME = "movie_service.showtime_partitions";
+
+    private static final DateTimeFormatter MONTH_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM", Locale.ROOT);
+
+    public enum ExpiredAction { DROP, EXCHANGE }
+
+    public enum Outcome { COMPLETED, LOCKED, UNSUPPORTED, FAILED, DISABLED }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+    private final boolean enabled;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final ExpiredAction expiredAction;
+    private final Timer maintenanceTimer;
+    private final Counter createdCounter;
+    private final Counter expiredCounter;
+    private final Map<Outcome, Counter> outcomeCounters = new EnumMap<>(Outcome.class);
+
+    private volatile int partitionCount;
+    private volatile long horizonDays;
+
+    @Autowired
+    public ShowtimePartitionMaintainer(JdbcTemplate jdbcTemplate, Clock clock, MeterRegistry meterRegistry,
+                                       @Value("${movie.partitions.enabled:true}") boolean enabled,
+                                       @Value("${movie.partitions.months-ahead:3}") int monthsAhead,
+                                       @Value("${movie.partitions.retention-months:12}") int retentionMonths,
+                                       @Value("${movie.partitions.expired-action:EXCHANGE}") ExpiredAction expiredAction) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.expiredAction = expiredAction;
+        this.maintenanceTimer = Timer.builder("showtime_partition_maintenance_duration")
+                .description("Time taken by a showtimes partition maintenance run")
+                .register(meterRegistry);
+        this.createdCounter = Counter.builder("showtime_partitions_created_total")
+                .description("Showtimes partitions created ahead of time")
+                .register(meterRegistry);
+        this.expiredCounter = Counter.builder("showtime_partitions_expired_total")
+                .description("Expired showtimes partitions dropped or exchanged out")
+                .tag("action", expiredAction.name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry);
+        for (Outcome outcome : Outcome.values()) {
+            outcomeCounters.put(outcome, Counter.builder("showtime_partition_maintenance_total")
+                    .description("Showtimes partition maintenance runs by outcome")
+                    .tag("outcome", outcome.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+        Gauge.builder("showtime_partitions", this, m -> m.partitionCount)
+                .description("Range partitions of the showtimes table, catch-all included")
+                .register(meterRegistry);
+        Gauge.builder("showtime_partition_horizon_days", this, m -> m.horizonDays)
+                .description("Days until the last dated showtimes partition ends")
+                .register(meterRegistry);
+    }
+
+    // One-off run soon after startup, so a replica that was down over a month boundary catches up
+    @Scheduled(initialDelayString = "${movie.partitions.startup-delay:PT1M}")
+    public void maintainAfterStartup() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${movie.partitions.maintenance-cron:0 15 3 * * *}")
+    public Outcome maintain() {
+        Outcome outcome;
+        if (!enabled) {
+            outcome = Outcome.DISABLED;
+        } else {
+            Timer.Sample sample = Timer.start();
+            try {
+                outcome = jdbcTemplate.execute((ConnectionCallback<Outcome>) this::maintain);
+            } catch (DataAccessException e) {
+                logger.error("Showtimes partition maintenance failed", e);
+                outcome = Outcome.FAILED;
+            } finally {
+                sample.stop(maintenanceTimer);
+            }
+        }
+        outcomeCounters.get(outcome).increment();
+        return outcome;
+    }
+
+    private Outcome maintain(Connection connection) throws SQLException {
+        if (!"MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())) {
+            logger.debug("Skipping showtimes partition maintenance: not a MySQL database");
+            return Outcome.UNSUPPORTED;
+        }
+        if (!tryLock(connection)) {
+            logger.info("Skipping showtimes partition maintenance: another instance holds the lock");
+            return Outcome.LOCKED;
+        }
+        try {
+            List<ShowtimePartition> partitions = partitions(connection);
+            if (partitions.isEmpty()) {
+                logger.warn("Skipping showtimes partition maintenance: table is not partitioned");
+                return Outcome.UNSUPPORTED;
+            }
+
+            YearMonth current = YearMonth.now(clock);
+            boolean hasCatchAll = partitions.get(partitions.size() - 1).isCatchAll();
+            List<YearMonth> missing = missingMonths(partitions, current.plusMonths(monthsAhead));
+            if (!missing.isEmpty()) {
+                execute(connection, addPartitionsSql(missing, hasCatchAll));
+                createdCounter.increment(missing.size());
+                logger.info("Created {} showtimes partitions through {}", missing.size(),
+                        partitionName(missing.get(missing.size() - 1)));
+            }
+            for (ShowtimePartition partition : expired(partitions, current.minusMonths(retentionMonths).atDay(1))) {
+                if (expire(connection, partition)) {
+                    expiredCounter.increment();
+                }
+            }
+
+            updateGauges(partitions(connection));
+            return Outcome.COMPLETED;
+        } finally {
+            releaseLock(connection);
+        }
+    }
+
+    private boolean expire(Connection connection, ShowtimePartition partition) throws SQLException {
+        // An empty partition has nothing to archive, including one a previous run exchanged out
+        // before stopping, so it is dropped without creating an empty archive table
+        boolean archive = expiredAction == ExpiredAction.EXCHANGE && partitionHasRows(connection, partition);
+        String archiveTable = ARCHIVE_PREFIX + partition.getName();
+        if (archive && tableExists(connection, archiveTable)) {
+            logger.warn("Not archiving showtimes partition {}: {} already exists", partition.getName(), archiveTable);
+            return false;
+        }
+        for (String sql : expireSql(partition, archive)) {
+            execute(connection, sql);
+        }
+        logger.info("Expired showtimes partition {} ({})", partition.getName(), archive ? "archived" : "dropped");
+        return true;
+    }
+
+    static List<YearMonth> missingMonths(List<ShowtimePartition> partitions, YearMonth through) {
+        LocalDate highestBound = null;
+        for (ShowtimePartition partition : partitions) {
+            if (!partition.isCatchAll()
+                    && (highestBound == null || partition.getUpperBound().isAfter(highestBound))) {
+                highestBound = partition.getUpperBound();
+            }
+        }
+        List<YearMonth> missing = new ArrayList<>();
+        if (highestBound == null) {
+            return missing;
+        }
+        // The partition for month M is bounded by the first day of M + 1, so the highest bound is
+        // the first day of the first month not yet covered
+        for (YearMonth month = YearMonth.from(highestBound); !month.isAfter(through); month = month.plusMonths(1)) {
+            missing.add(month);
+        }
+        return missing;
+    }
+
+    static List<ShowtimePartition> expired(List<ShowtimePartition> partitions, LocalDate cutoff) {
+        List<ShowtimePartition> expired = new ArrayList<>();
+        for (ShowtimePartition partition : partitions) {
+            if (!partition.isCatchAll() && !partition.getUpperBound().isAfter(cutoff)) {
+                expired.add(partition);
+            }
+        }
+        return expired;
+    }
+
+    static String addPartitionsSql(List<YearMonth> months, boolean hasCatchAll) {
+        StringJoiner partitions = new StringJoiner(", ");
+        for (YearMonth month : months) {
+            partitions.add("PARTITION " + partitionName(month) + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + "')");
+        }
+        if (!hasCatchAll) {
+            return "ALTER TABLE " + TABLE + " ADD PARTITION (" + partitions + ")";
+        }
+        // Each REORGANIZE copies the catch-all's rows, so the missing months are split off in one;
+        // only rows scheduled past the first new bound move, normally none
+        return "ALTER TABLE " + TABLE + " REORGANIZE PARTITION " + CATCH_ALL + " INTO (" + partitions
+                + ", PARTITION " + CATCH_ALL + " VALUES LESS THAN (MAXVALUE))";
+    }
+
+    static List<String> exchangeSql(ShowtimePartition partition, String archiveTable) {
+        return List.of(
+                "CREATE TABLE " + archiveTable + " LIKE " + TABLE,
+                "ALTER TABLE " + archiveTable + " REMOVE PARTITIONING",
+                "ALTER TABLE " + TABLE + " EXCHANGE PARTITION " + partition.getName() + " WITH TABLE " + archiveTable);
+    }
+
+    static List<String> expireSql(ShowtimePartition partition, boolean archive) {
+        String drop = "ALTER TABLE " + TABLE + " DROP PARTITION " + partition.getName();
+        if (!archive) {
+            return List.of(drop);
+        }
+        List<String> sql = new ArrayList<>(exchangeSql(partition, ARCHIVE_PREFIX + partition.getName()));
+        sql.add(drop);
+        return sql;
+    }
+
+    static String partitionName(YearMonth month) {
+        return "p" + month.format(MONTH_SUFFIX);
+    }
+
+    static LocalDate parseBound(String description) {
+        if (description == null || "MAXVALUE".equalsIgnoreCase(description)) {
+            return null;
+        }
+        // RANGE COLUMNS descriptions are quoted literals such as '2025-10-01' or '2025-10-01 00:00:00'
+        String value = description.replace("'", "").trim();
+        return LocalDate.parse(value.length() > 10 ? value.substring(0, 10) : value);
+    }
+
+    private void updateGauges(List<ShowtimePartition> partitions) {
+        partitionCount = partitions.size();
+        LocalDate today = LocalDate.now(clock);
+        horizonDays = partitions.stream()
+                .filter(partition -> !partition.isCatchAll())
+                .map(ShowtimePartition::getUpperBound)
+                .max(LocalDate::compareTo)
+                .map(bound -> ChronoUnit.DAYS.between(today, bound))
+                .orElse(0L);
+    }
+
+    private static List<ShowtimePartition> partitions(Connection connection) throws SQLException {
+        List<ShowtimePartition> partitions = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT PARTITION_NAME, PARTITION_DESCRIPTION FROM information_schema.PARTITIONS " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL " +
+                "ORDER BY PARTITION_ORDINAL_POSITION")) {
+            statement.setString(1, TABLE);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    partitions.add(new ShowtimePartition(rs.getString(1), parseBound(rs.getString(2))));
+                }
+            }
+        }
+        return partitions;
+    }
+
+    private static boolean tableExists(Connection connection, String table) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT COUNT(*) FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?")) {
+            statement.setString(1, table);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getInt(1) > 0;
+            }
+        }
+    }
+
+    private static boolean partitionHasRows(Connection connection, ShowtimePartition partition) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(
+                     "SELECT 1 FROM " + TABLE + " PARTITION (" + partition.getName() + ") LIMIT 1")) {
+            return rs.next();
+        }
+    }
+
+    private static boolean tryLock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT GET_LOCK(?, 0)")) {
+            statement.setString(1, LOCK_NAME);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getInt(1) == 1;
+            }
+        }
+    }
+
+    private static void releaseLock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            statement.setString(1, LOCK_NAME);
+            statement.execute();
+        }
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
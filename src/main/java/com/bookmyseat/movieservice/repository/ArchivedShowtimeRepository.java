@@ -0,0 +1,38 @@
+package com.bookmyseat.movieservice.repository;
+
+import com.bookmyseat.movieservice.dto.ShowtimeDTO;
+import com.bookmyseat.movieservice.entity.ArchivedShowtime;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ArchivedShowtimeRepository extends JpaRepository<ArchivedShowtime, Long> {
+
+    // Keyset pages over [startTime, endTime): a cursor moves startTime up to the last row's time and
+    // skips rows at that exact time up to afterId, so the range stays sargable on the show time index
+
+    @Query("SELECT new com.bookmyseat.movieservice.dto.ShowtimeDTO(a.id, a.movieId, m.title, a.showDateTime, " +
+           "a.theater, a.availableSeats) FROM ArchivedShowtime a LEFT JOIN Movie m ON m.id = a.movieId " +
+           "WHERE a.showDateTime >= :startTime AND a.showDateTime < :endTime " +
+           "AND (a.showDateTime > :startTime OR a.id > :afterId) ORDER BY a.showDateTime, a.id")
+    List<ShowtimeDTO> findPage(@Param("startTime") LocalDateTime startTime,
+                               @Param("endTime") LocalDateTime endTime,
+                               @Param("afterId") long afterId,
+                               Limit limit);
+
+    @Query("SELECT new com.bookmyseat.movieservice.dto.ShowtimeDTO(a.id, a.movieId, m.title, a.showDateTime, " +
+           "a.theater, a.availableSeats) FROM ArchivedShowtime a LEFT JOIN Movie m ON m.id = a.movieId " +
+           "WHERE a.movieId = :movieId AND a.showDateTime >= :startTime AND a.showDateTime < :endTime " +
+           "AND (a.showDateTime > :startTime OR a.id > :afterId) ORDER BY a.showDateTime, a.id")
+    List<ShowtimeDTO> findMoviePage(@Param("movieId") Long movieId,
+                                    @Param("startTime") LocalDateTime startTime,
+                                    @Param("endTime") LocalDateTime endTime,
+                                    @Param("afterId") long afterId,
+                                    Limit limit);
+}
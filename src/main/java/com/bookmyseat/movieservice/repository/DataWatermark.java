@@ -0,0 +1,79 @@
+package com.bookmyseat.movieservice.repository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Cheap change marker for a set of rows: the latest updated_at plus the row count. The count
+ * catches deletes, which do not move max(updated_at).
+ */
+public final class DataWatermark {
+
+    public static final DataWatermark EMPTY = new DataWatermark(null, 0L);
+
+    private final LocalDateTime maxUpdatedAt;
+    private final long count;
+
+    public DataWatermark(LocalDateTime maxUpdatedAt, Long count) {
+        this.maxUpdatedAt = maxUpdatedAt;
+        this.count = count != null ? count : 0L;
+    }
+
+    public DataWatermark(LocalDateTime ownUpdatedAt, LocalDateTime childMaxUpdatedAt, Long childCount) {
+        this(latest(ownUpdatedAt, childMaxUpdatedAt), childCount);
+    }
+
+    public DataWatermark combine(DataWatermark other) {
+        return new DataWatermark(latest(maxUpdatedAt, other.maxUpdatedAt), count + other.count);
+    }
+
+    /**
+     * Strong entity tag for a response built from this watermark and the given request parameters.
+     */
+    public String toETag(Object... keyParts) {
+        long updatedMicros = maxUpdatedAt != null
+                ? maxUpdatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + maxUpdatedAt.getNano() / 1_000
+                : 0L;
+        return "\"" + Long.toHexString(updatedMicros) + "-" + Long.toHexString(count)
+                + "-" + Integer.toHexString(Arrays.deepHashCode(keyParts)) + "\"";
+    }
+
+    public LocalDateTime getMaxUpdatedAt() {
+        return maxUpdatedAt;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        if (a == null) {
+            return b;
+        }
+        return b == null || a.isAfter(b) ? a : b;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DataWatermark)) {
+            return false;
+        }
+        DataWatermark that = (DataWatermark) o;
+        return count == that.count && Objects.equals(maxUpdatedAt, that.maxUpdatedAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxUpdatedAt, count);
+    }
+
+    @Override
+    public String toString() {
+        return "DataWatermark{maxUpdatedAt=" + maxUpdatedAt + ", count=" + count + "}";
+    }
+}
@@ -1,5 +1,6 @@
 package com.bookmyseat.movieservice.repository;
 
+import com.bookmyseat.movieservice.dto.MovieDTO;
 import com.bookmyseat.movieservice.entity.Movie;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -12,14 +13,17 @@ import java.util.Optional;
 @Repository
 public interface MovieRepository extends JpaRepository<Movie, Long> {
 
-    @Query("SELECT m FROM Movie m WHERE " +
-           "(:genre IS NULL OR m.genre = :genre) AND " +
-           "(:language IS NULL OR m.language = :language)")
-    List<Movie> findMoviesWithFilters(@Param("genre") String genre,
-                                     @Param("language") String language);
+    @Query("SELECT new com.bookmyseat.movieservice.repository.DataWatermark(MAX(m.updatedAt), COUNT(m)) FROM Movie m")
+    DataWatermark findWatermark();
 
-    @Query("SELECT m FROM Movie m LEFT JOIN FETCH m.showtimes WHERE m.id = :id")
-    Optional<Movie> findByIdWithShowtimes(@Param("id") Long id);
+    @Query("SELECT new com.bookmyseat.movieservice.repository.DataWatermark(m.updatedAt, MAX(s.updatedAt), COUNT(s)) " +
+           "FROM Movie m LEFT JOIN m.showtimes s WHERE m.id = :id GROUP BY m.id, m.updatedAt")
+    Optional<DataWatermark> findDetailWatermark(@Param("id") Long id);
+
+    // Projects straight into DTOs: no managed entities, dirty-checking snapshots or mapper copy
+    @Query("SELECT new com.bookmyseat.movieservice.dto.MovieDTO(m.id, m.title, m.description, m.durationMinutes, " +
+           "m.genre, m.language, m.releaseDate) FROM Movie m")
+    List<MovieDTO> findAllMovieDTOs();
 
     List<Movie> findByGenre(String genre);
 
@@ -1,7 +1,10 @@
 package com.bookmyseat.movieservice.repository;
 
+import com.bookmyseat.movieservice.availability.ShowtimeAvailability;
+import com.bookmyseat.movieservice.dto.ShowtimeDTO;
 import com.bookmyseat.movieservice.entity.Showtime;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -9,35 +12,92 @@ import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface ShowtimeRepository extends JpaRepository<Showtime, Long> {
+public interface ShowtimeRepository extends JpaRepository<Showtime, Long>, ShowtimeRepositoryCustom {
 
-    @Query("SELECT s FROM Showtime s JOIN FETCH s.movie WHERE " +
-           "(:movieId IS NULL OR s.movie.id = :movieId) AND " +
-           "(:date IS NULL OR DATE(s.showDateTime) = :date) AND " +
-           "(:theater IS NULL OR s.theater = :theater)")
-    List<Showtime> findShowtimesWithFilters(@Param("movieId") Long movieId,
-                                           @Param("date") LocalDate date,
-                                           @Param("theater") String theater);
+    // Date filters are expressed as half-open [start of day, start of next day) ranges on the raw
+    // column so MySQL can range-scan idx_show_date_time and the composite indexes instead of
+    // evaluating DATE(show_date_time) row by row. Multi-filter lookups live in
+    // ShowtimeRepositoryCustomImpl, which emits one minimal query per filter combination.
+
+    @Query("SELECT new com.bookmyseat.movieservice.repository.DataWatermark(MAX(s.updatedAt), COUNT(s)) FROM Showtime s")
+    DataWatermark findWatermark();
 
     List<Showtime> findByMovieId(Long movieId);
 
-    @Query("SELECT s FROM Showtime s WHERE DATE(s.showDateTime) = :date")
-    List<Showtime> findByShowDate(@Param("date") LocalDate date);
+    // Second phase of the movie detail fetch: only showtime columns in a bounded time window,
+    // range-scanned on the (movie_id, show_date_time) index with no join back to the movie row
+    @Query("SELECT new com.bookmyseat.movieservice.dto.ShowtimeDTO(s.id, s.movie.id, s.showDateTime, s.theater, " +
+           "s.availableSeats) FROM Showtime s WHERE s.movie.id = :movieId " +
+           "AND s.showDateTime >= :startTime AND s.showDateTime < :endTime ORDER BY s.showDateTime, s.id")
+    List<ShowtimeDTO> findDetailShowtimes(@Param("movieId") Long movieId,
+                                          @Param("startTime") LocalDateTime startTime,
+                                          @Param("endTime") LocalDateTime endTime);
+
+    // Availability summary: a full load of the summarized days, then incremental polls on idx_updated_at
+    @Query("SELECT new com.bookmyseat.movieservice.availability.ShowtimeAvailability(s.id, s.movie.id, " +
+           "s.showDateTime, s.availableSeats, s.updatedAt) FROM Showtime s " +
+           "WHERE s.showDateTime >= :startTime AND s.showDateTime < :endTime")
+    List<ShowtimeAvailability> findAvailability(@Param("startTime") LocalDateTime startTime,
+                                                @Param("endTime") LocalDateTime endTime);
+
+    @Query("SELECT new com.bookmyseat.movieservice.availability.ShowtimeAvailability(s.id, s.movie.id, " +
+           "s.showDateTime, s.availableSeats, s.updatedAt) FROM Showtime s " +
+           "WHERE s.updatedAt >= :updatedSince AND s.showDateTime >= :startTime")
+    List<ShowtimeAvailability> findAvailabilityChanges(@Param("updatedSince") LocalDateTime updatedSince,
+                                                       @Param("startTime") LocalDateTime startTime);
+
+    default List<Showtime> findByShowDate(LocalDate date) {
+        return findByShowDateTimeBetween(startOf(date), startOfNext(date));
+    }
 
     List<Showtime> findByTheater(String theater);
 
-    @Query("SELECT s FROM Showtime s WHERE s.movie.id = :movieId AND DATE(s.showDateTime) = :date")
-    List<Showtime> findByMovieIdAndShowDate(@Param("movieId") Long movieId, @Param("date") LocalDate date);
+    @Query("SELECT s FROM Showtime s WHERE s.movie.id = :movieId " +
+           "AND s.showDateTime >= :startTime AND s.showDateTime < :endTime")
+    List<Showtime> findByMovieIdAndShowDateTimeBetween(@Param("movieId") Long movieId,
+                                                      @Param("startTime") LocalDateTime startTime,
+                                                      @Param("endTime") LocalDateTime endTime);
+
+    default List<Showtime> findByMovieIdAndShowDate(Long movieId, LocalDate date) {
+        return findByMovieIdAndShowDateTimeBetween(movieId, startOf(date), startOfNext(date));
+    }
 
     @Query("SELECT s FROM Showtime s WHERE s.movie.id = :movieId AND s.theater = :theater")
     List<Showtime> findByMovieIdAndTheater(@Param("movieId") Long movieId, @Param("theater") String theater);
 
-    @Query("SELECT s FROM Showtime s WHERE DATE(s.showDateTime) = :date AND s.theater = :theater")
-    List<Showtime> findByShowDateAndTheater(@Param("date") LocalDate date, @Param("theater") String theater);
+    @Query("SELECT s FROM Showtime s WHERE s.theater = :theater " +
+           "AND s.showDateTime >= :startTime AND s.showDateTime < :endTime")
+    List<Showtime> findByTheaterAndShowDateTimeBetween(@Param("theater") String theater,
+                                                      @Param("startTime") LocalDateTime startTime,
+                                                      @Param("endTime") LocalDateTime endTime);
+
+    default List<Showtime> findByShowDateAndTheater(LocalDate date, String theater) {
+        return findByTheaterAndShowDateTimeBetween(theater, startOf(date), startOfNext(date));
+    }
 
     @Query("SELECT s FROM Showtime s WHERE s.showDateTime >= :startTime AND s.showDateTime < :endTime")
     List<Showtime> findByShowDateTimeBetween(@Param("startTime") LocalDateTime startTime,
                                            @Param("endTime") LocalDateTime endTime);
-}
\ No newline at end of file
+
+    // Check and decrement in one statement, so concurrent reservations cannot both see the same
+    // seats; the row lock lasts only until the surrounding short transaction commits
+    @Modifying
+    @Query("UPDATE Showtime s SET s.availableSeats = s.availableSeats - :seats, s.updatedAt = :now " +
+           "WHERE s.id = :showtimeId AND s.availableSeats >= :seats")
+    int reserveSeats(@Param("showtimeId") Long showtimeId, @Param("seats") int seats,
+                     @Param("now") LocalDateTime now);
+
+    @Query("SELECT s.availableSeats FROM Showtime s WHERE s.id = :showtimeId")
+    Optional<Integer> findAvailableSeats(@Param("showtimeId") Long showtimeId);
+
+    private static LocalDateTime startOf(LocalDate date) {
+        return date != null ? date.atStartOfDay() : null;
+    }
+
+    private static LocalDateTime startOfNext(LocalDate date) {
+        return date != null ? date.plusDays(1).atStartOfDay() : null;
+    }
+}
@@ -0,0 +1,13 @@
+package com.bookmyseat.movieservice.repository;
+
+import com.bookmyseat.movieservice.dto.ShowtimeDTO;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ShowtimeRepositoryCustom {
+
+    List<ShowtimeDTO> findShowtimeDTOPage(Long movieId, LocalDate date, String theater,
+                                          LocalDateTime afterTime, Long afterId, int limit);
+}
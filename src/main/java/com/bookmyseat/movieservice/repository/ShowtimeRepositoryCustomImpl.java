@@ -0,0 +1,106 @@
+package com.bookmyseat.movieservice.repository;
+
+import com.bookmyseat.movieservice.cache.ShowtimeCacheEvictor;
+import com.bookmyseat.movieservice.dto.ShowtimeDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Emits showtime queries that carry only the predicates a request actually uses. Every filter
+ * combination maps to one fixed JPQL string, so MySQL plans each shape against its own index
+ * and Hibernate and the driver cache one prepared statement per shape.
+ */
+public class ShowtimeRepositoryCustomImpl implements ShowtimeRepositoryCustom {
+
+    static final int MOVIE = 1;
+    static final int DATE = 1 << 1;
+    static final int THEATER = 1 << 2;
+    static final int AFTER = 1 << 3;
+
+    // Read paths project straight into the DTO, skipping entity hydration and the mapper copy
+    static final String SELECT_DTO = "SELECT new com.bookmyseat.movieservice.dto.ShowtimeDTO(" +
+            "s.id, m.id, m.title, s.showDateTime, s.theater, s.availableSeats) FROM Showtime s JOIN s.movie m";
+
+    private static final String[] PAGE_QUERIES = queries(AFTER << 1);
+
+    private final EntityManager entityManager;
+
+    @Autowired
+    public ShowtimeRepositoryCustomImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<ShowtimeDTO> findShowtimeDTOPage(Long movieId, LocalDate date, String theater,
+                                                 LocalDateTime afterTime, Long afterId, int limit) {
+        int shape = shapeOf(movieId, date, theater) | (afterTime != null ? AFTER : 0);
+        TypedQuery<ShowtimeDTO> query = cacheable(entityManager.createQuery(PAGE_QUERIES[shape], ShowtimeDTO.class));
+        bindFilters(query, shape, movieId, date, theater);
+        if ((shape & AFTER) != 0) {
+            query.setParameter("afterTime", afterTime);
+            query.setParameter("afterId", afterId);
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    // Hibernate invalidates cached results when the showtimes or movies table changes through JPA;
+    // components that write showtimes over JDBC evict this region through ShowtimeCacheEvictor
+    private static <T> TypedQuery<T> cacheable(TypedQuery<T> query) {
+        return query.setHint(HibernateHints.HINT_CACHEABLE, true)
+                .setHint(HibernateHints.HINT_CACHE_REGION, ShowtimeCacheEvictor.QUERY_REGION);
+    }
+
+    static int shapeOf(Long movieId, LocalDate date, String theater) {
+        return (movieId != null ? MOVIE : 0) | (date != null ? DATE : 0) | (theater != null ? THEATER : 0);
+    }
+
+    static String jpql(int shape) {
+        StringBuilder jpql = new StringBuilder(SELECT_DTO);
+        String keyword = " WHERE ";
+        if ((shape & MOVIE) != 0) {
+            jpql.append(keyword).append("s.movie.id = :movieId");
+            keyword = " AND ";
+        }
+        if ((shape & DATE) != 0) {
+            // Half-open range on the raw column keeps the predicate sargable
+            jpql.append(keyword).append("s.showDateTime >= :dayStart AND s.showDateTime < :dayEnd");
+            keyword = " AND ";
+        }
+        if ((shape & THEATER) != 0) {
+            jpql.append(keyword).append("s.theater = :theater");
+            keyword = " AND ";
+        }
+        if ((shape & AFTER) != 0) {
+            jpql.append(keyword).append("(s.showDateTime > :afterTime OR " +
+                    "(s.showDateTime = :afterTime AND s.id > :afterId))");
+        }
+        return jpql.append(" ORDER BY s.showDateTime, s.id").toString();
+    }
+
+    private static String[] queries(int shapes) {
+        String[] queries = new String[shapes];
+        for (int shape = 0; shape < shapes; shape++) {
+            queries[shape] = jpql(shape);
+        }
+        return queries;
+    }
+
+    private static void bindFilters(TypedQuery<?> query, int shape, Long movieId, LocalDate date, String theater) {
+        if ((shape & MOVIE) != 0) {
+            query.setParameter("movieId", movieId);
+        }
+        if ((shape & DATE) != 0) {
+            query.setParameter("dayStart", date.atStartOfDay());
+            query.setParameter("dayEnd", date.plusDays(1).atStartOfDay());
+        }
+        if ((shape & THEATER) != 0) {
+            query.setParameter("theater", theater);
+        }
+    }
+}
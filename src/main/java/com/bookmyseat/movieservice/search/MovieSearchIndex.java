@@ -0,0 +1,243 @@
+package com.bookmyseat.movieservice.search;
+
+import com.bookmyseat.movieservice.catalog.MovieCatalog;
+import com.bookmyseat.movieservice.catalog.MovieCatalogRefreshedEvent;
+import com.bookmyseat.movieservice.catalog.MovieCatalogSnapshot;
+import com.bookmyseat.movieservice.dto.MovieDTO;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory inverted index over movie titles and descriptions, fed from the {@link MovieCatalog}
+ * so searches never reach the database. Each catalog refresh is applied as a diff: only movies
+ * whose title or description changed are re-tokenized.
+ *
+ * <p>Every query term must match (exactly, or as a prefix of an indexed term), and results are
+ * ranked by BM25-style term weights with title hits boosted over description hits. Readers run
+ * concurrently with an update and may briefly see a movie that is half re-indexed; they never
+ * see a movie that has been removed.
+ */
+@Component
+public class MovieSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(MovieSearchIndex.class);
+
+    static final float TITLE_BOOST = 3.0f;
+    static final float PREFIX_PENALTY = 0.5f;
+    private static final float K1 = 1.2f;
+
+    private final MovieCatalog movieCatalog;
+    private final int minPrefixLength;
+    private final int maxPrefixExpansions;
+    private final Timer searchTimer;
+
+    // term -> (movie id -> term weight in that movie)
+    private final ConcurrentSkipListMap<String, Map<Long, Float>> postings = new ConcurrentSkipListMap<>();
+    private final Map<Long, IndexedMovie> documents = new ConcurrentHashMap<>();
+    private volatile MovieCatalogSnapshot indexed;
+
+    @Autowired
+    public MovieSearchIndex(MovieCatalog movieCatalog, MeterRegistry meterRegistry,
+                            @Value("${movie.search.min-prefix-length:2}") int minPrefixLength,
+                            @Value("${movie.search.max-prefix-expansions:64}") int maxPrefixExpansions) {
+        this.movieCatalog = movieCatalog;
+        this.minPrefixLength = minPrefixLength;
+        this.maxPrefixExpansions = maxPrefixExpansions;
+        this.searchTimer = Timer.builder("movie_search_duration")
+                .description("Time taken to answer a movie search from the in-memory index")
+                .register(meterRegistry);
+        Gauge.builder("movie_search_terms", postings, Map::size)
+                .description("Distinct terms in the movie search index")
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onCatalogRefreshed(MovieCatalogRefreshedEvent event) {
+        sync(event.getCurrent());
+    }
+
+    /**
+     * Returns up to {@code limit} movies matching every term of {@code query}, best match first.
+     */
+    public List<MovieDTO> search(String query, int limit) {
+        MovieCatalogSnapshot current = movieCatalog.current();
+        if (current != indexed) {
+            sync(current);
+        }
+        return searchTimer.record(() -> rank(new LinkedHashSet<>(SearchTokenizer.tokenize(query)), limit));
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    synchronized void sync(MovieCatalogSnapshot target) {
+        if (target == null || target == indexed) {
+            return;
+        }
+        Map<Long, MovieDTO> incoming = new HashMap<>(target.size() * 2);
+        for (MovieDTO movie : target.getMovies()) {
+            incoming.put(movie.getId(), movie);
+        }
+
+        int removed = 0;
+        for (Long id : new ArrayList<>(documents.keySet())) {
+            if (!incoming.containsKey(id)) {
+                unindex(documents.remove(id));
+                removed++;
+            }
+        }
+        int reindexed = 0;
+        for (MovieDTO movie : incoming.values()) {
+            IndexedMovie existing = documents.get(movie.getId());
+            if (existing != null && existing.sameText(movie)) {
+                // Only non-text fields may have changed; swap the DTO that results are served from
+                documents.put(movie.getId(), new IndexedMovie(movie, existing.terms));
+                continue;
+            }
+            if (existing != null) {
+                unindex(existing);
+            }
+            index(movie);
+            reindexed++;
+        }
+        indexed = target;
+        logger.debug("Movie search index synced: {} re-indexed, {} removed, {} movies, {} terms",
+                reindexed, removed, documents.size(), postings.size());
+    }
+
+    private void index(MovieDTO movie) {
+        Map<String, Integer> titleFrequencies = frequencies(movie.getTitle());
+        Map<String, Integer> descriptionFrequencies = frequencies(movie.getDescription());
+        Set<String> terms = new HashSet<>(titleFrequencies.keySet());
+        terms.addAll(descriptionFrequencies.keySet());
+
+        for (String term : terms) {
+            float weight = TITLE_BOOST * saturate(titleFrequencies.getOrDefault(term, 0))
+                    + saturate(descriptionFrequencies.getOrDefault(term, 0));
+            postings.computeIfAbsent(term, key -> new ConcurrentHashMap<>()).put(movie.getId(), weight);
+        }
+        documents.put(movie.getId(), new IndexedMovie(movie, terms));
+    }
+
+    private void unindex(IndexedMovie movie) {
+        Long id = movie.movie.getId();
+        for (String term : movie.terms) {
+            postings.computeIfPresent(term, (key, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    private List<MovieDTO> rank(Set<String> queryTerms, int limit) {
+        if (queryTerms.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Float> scores = null;
+        for (String queryTerm : queryTerms) {
+            Map<Long, Float> termScores = score(queryTerm);
+            if (scores == null) {
+                scores = termScores;
+            } else {
+                scores.keySet().retainAll(termScores.keySet());
+                scores.replaceAll((id, score) -> score + termScores.get(id));
+            }
+            if (scores.isEmpty()) {
+                return List.of();
+            }
+        }
+
+        List<Map.Entry<Long, Float>> ranked = new ArrayList<>(scores.entrySet());
+        ranked.sort(Map.Entry.<Long, Float>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey()));
+        List<MovieDTO> results = new ArrayList<>(Math.min(limit, ranked.size()));
+        for (Map.Entry<Long, Float> entry : ranked) {
+            IndexedMovie movie = documents.get(entry.getKey());
+            if (movie != null) {
+                results.add(movie.movie);
+                if (results.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return results;
+    }
+
+    // Best score per movie for one query term, over its exact match and its prefix expansions
+    private Map<Long, Float> score(String queryTerm) {
+        Map<Long, Float> scores = new HashMap<>();
+        int documentCount = Math.max(documents.size(), 1);
+        accumulate(scores, postings.get(queryTerm), documentCount, 1.0f);
+        if (queryTerm.length() >= minPrefixLength) {
+            int expansions = 0;
+            for (Map.Entry<String, Map<Long, Float>> entry : postings.tailMap(queryTerm, false).entrySet()) {
+                if (!entry.getKey().startsWith(queryTerm) || expansions++ == maxPrefixExpansions) {
+                    break;
+                }
+                accumulate(scores, entry.getValue(), documentCount, PREFIX_PENALTY);
+            }
+        }
+        return scores;
+    }
+
+    private static void accumulate(Map<Long, Float> scores, Map<Long, Float> termPostings, int documentCount,
+                                   float factor) {
+        if (termPostings == null) {
+            return;
+        }
+        float idf = idf(documentCount, termPostings.size());
+        termPostings.forEach((id, weight) -> scores.merge(id, factor * idf * weight, Math::max));
+    }
+
+    static float idf(int documentCount, int documentFrequency) {
+        return (float) Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    private static float saturate(int frequency) {
+        return frequency == 0 ? 0f : frequency * (K1 + 1) / (frequency + K1);
+    }
+
+    private static Map<String, Integer> frequencies(String text) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : SearchTokenizer.tokenize(text)) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        return frequencies;
+    }
+
+    private static final class IndexedMovie {
+
+        private final MovieDTO movie;
+        private final Set<String> terms;
+
+        private IndexedMovie(MovieDTO movie, Set<String> terms) {
+            this.movie = movie;
+            this.terms = terms;
+        }
+
+        private boolean sameText(MovieDTO other) {
+            return Objects.equals(movie.getTitle(), other.getTitle())
+                    && Objects.equals(movie.getDescription(), other.getDescription());
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.bookmyseat.movieservice.search;
+
+import com.bookmyseat.movieservice.catalog.MovieCatalog;
+import com.bookmyseat.movieservice.catalog.MovieCatalogRefreshedEvent;
+import com.bookmyseat.movieservice.catalog.MovieCatalogSnapshot;
+import com.bookmyseat.movieservice.dto.MovieSuggestionDTO;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Serves title autocomplete from a {@link TitleTrie} rebuilt off to the side whenever the movie
+ * catalog changes and swapped in whole, so lookups never block and never reach the database.
+ */
+@Component
+public class TitleSuggester {
+
+    private static final Logger logger = LoggerFactory.getLogger(TitleSuggester.class);
+
+    private final MovieCatalog movieCatalog;
+    private final int maxSuggestions;
+    private final Timer buildTimer;
+    private volatile Built built = new Built(null, TitleTrie.empty());
+
+    @Autowired
+    public TitleSuggester(MovieCatalog movieCatalog, MeterRegistry meterRegistry,
+                          @Value("${movie.suggest.max-suggestions:10}") int maxSuggestions) {
+        this.movieCatalog = movieCatalog;
+        this.maxSuggestions = maxSuggestions;
+        this.buildTimer = Timer.builder("movie_suggest_build_duration")
+                .description("Time taken to rebuild the title suggestion trie")
+                .register(meterRegistry);
+        Gauge.builder("movie_suggest_trie_bytes", this, suggester -> suggester.built.trie.footprintBytes())
+                .description("Memory held by the title suggestion trie arrays")
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onCatalogRefreshed(MovieCatalogRefreshedEvent event) {
+        rebuild(event.getCurrent());
+    }
+
+    public List<MovieSuggestionDTO> suggest(String prefix, Integer limit) {
+        MovieCatalogSnapshot current = movieCatalog.current();
+        Built snapshot = built;
+        if (snapshot.source != current) {
+            snapshot = rebuild(current);
+        }
+        int resolved = limit != null ? Math.max(1, Math.min(limit, maxSuggestions)) : maxSuggestions;
+        return snapshot.trie.suggest(prefix, resolved);
+    }
+
+    private synchronized Built rebuild(MovieCatalogSnapshot source) {
+        if (built.source == source) {
+            return built;
+        }
+        TitleTrie trie = buildTimer.record(() -> TitleTrie.build(source.getMovies(), maxSuggestions));
+        built = new Built(source, trie);
+        logger.debug("Title suggestions rebuilt: {} titles, {} nodes, {} bytes",
+                trie.size(), trie.nodeCount(), trie.footprintBytes());
+        return built;
+    }
+
+    private static final class Built {
+
+        private final MovieCatalogSnapshot source;
+        private final TitleTrie trie;
+
+        private Built(MovieCatalogSnapshot source, TitleTrie trie) {
+            this.source = source;
+            this.trie = trie;
+        }
+    }
+}
@@ -0,0 +1,332 @@
+package com.bookmyseat.movieservice.search;
+
+import com.bookmyseat.movieservice.dto.MovieDTO;
+import com.bookmyseat.movieservice.dto.MovieSuggestionDTO;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.TreeMap;
+
+/**
+ * Immutable radix tree over normalized movie titles, flattened into parallel arrays. Every title
+ * is inserted whole and from each later word onwards, so "dark" suggests "The Dark Knight".
+ * Each node stores its top suggestions precomputed, so a lookup walks at most the prefix length
+ * and allocates only a small list view.
+ *
+ * <p>Suggestions whose title starts with the prefix rank above those matching a later word;
+ * within each group shorter titles come first, then alphabetical order.
+ */
+public final class TitleTrie {
+
+    private static final Comparator<MovieDTO> SUGGESTION_ORDER = Comparator
+            .comparingInt((MovieDTO movie) -> movie.getTitle().length())
+            .thenComparing(MovieDTO::getTitle, String.CASE_INSENSITIVE_ORDER)
+            .thenComparing(MovieDTO::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private static final int ROOT = 0;
+
+    // Node n is reached over the edge labels[labelStart[n], labelStart[n] + labelLength[n]). Its
+    // children are the nodes childStart[n] .. childStart[n] + childCount[n] - 1, sorted by first
+    // label character. Its suggestions are top[topStart[n], topStart[n] + topCount[n]).
+    private final char[] labels;
+    private final int[] labelStart;
+    private final int[] labelLength;
+    private final int[] childStart;
+    private final int[] childCount;
+    private final int[] topStart;
+    private final int[] topCount;
+    private final int[] top;
+    private final MovieSuggestionDTO[] suggestions;
+
+    private TitleTrie(char[] labels, int[] labelStart, int[] labelLength, int[] childStart, int[] childCount,
+                      int[] topStart, int[] topCount, int[] top, MovieSuggestionDTO[] suggestions) {
+        this.labels = labels;
+        this.labelStart = labelStart;
+        this.labelLength = labelLength;
+        this.childStart = childStart;
+        this.childCount = childCount;
+        this.topStart = topStart;
+        this.topCount = topCount;
+        this.top = top;
+        this.suggestions = suggestions;
+    }
+
+    /**
+     * Builds a trie keeping up to {@code maxSuggestions} suggestions per node.
+     */
+    public static TitleTrie build(List<MovieDTO> movies, int maxSuggestions) {
+        List<MovieDTO> ranked = new ArrayList<>(movies.size());
+        for (MovieDTO movie : movies) {
+            if (movie.getTitle() != null) {
+                ranked.add(movie);
+            }
+        }
+        ranked.sort(SUGGESTION_ORDER);
+
+        MovieSuggestionDTO[] suggestions = new MovieSuggestionDTO[ranked.size()];
+        List<List<String>> words = new ArrayList<>(ranked.size());
+        for (int i = 0; i < ranked.size(); i++) {
+            suggestions[i] = new MovieSuggestionDTO(ranked.get(i).getId(), ranked.get(i).getTitle());
+            words.add(SearchTokenizer.tokenize(ranked.get(i).getTitle()));
+        }
+
+        // Insert whole titles before later-word suffixes, each pass in rank order, so every node's
+        // list fills up best-first and can simply stop at maxSuggestions
+        BuildNode root = new BuildNode();
+        for (int i = 0; i < ranked.size(); i++) {
+            if (!words.get(i).isEmpty()) {
+                root.insert(String.join(" ", words.get(i)), i, maxSuggestions);
+            }
+        }
+        for (int i = 0; i < ranked.size(); i++) {
+            List<String> titleWords = words.get(i);
+            for (int from = 1; from < titleWords.size(); from++) {
+                root.insert(String.join(" ", titleWords.subList(from, titleWords.size())), i, maxSuggestions);
+            }
+        }
+        return flatten(root, suggestions);
+    }
+
+    public static TitleTrie empty() {
+        return build(List.of(), 1);
+    }
+
+    /**
+     * Returns up to {@code limit} suggestions for titles with a word starting with {@code prefix}.
+     */
+    public List<MovieSuggestionDTO> suggest(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        int node = ROOT;
+        int position = 0;
+        while (position < normalized.length()) {
+            node = findChild(node, normalized.charAt(position));
+            if (node < 0) {
+                return List.of();
+            }
+            int start = labelStart[node];
+            int end = start + labelLength[node];
+            for (int i = start; i < end && position < normalized.length(); i++, position++) {
+                if (labels[i] != normalized.charAt(position)) {
+                    return List.of();
+                }
+            }
+        }
+        return new SuggestionList(topStart[node], Math.min(topCount[node], limit));
+    }
+
+    public int nodeCount() {
+        return labelStart.length;
+    }
+
+    public int size() {
+        return suggestions.length;
+    }
+
+    /**
+     * Bytes held by the flattened arrays, not counting the suggestion objects whose titles are
+     * shared with the movie catalog.
+     */
+    public long footprintBytes() {
+        return (long) labels.length * Character.BYTES
+                + (long) labelStart.length * Integer.BYTES * 6
+                + (long) top.length * Integer.BYTES
+                + (long) suggestions.length * 4;
+    }
+
+    private int findChild(int node, char c) {
+        int low = childStart[node];
+        int high = low + childCount[node] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char first = labels[labelStart[mid]];
+            if (first < c) {
+                low = mid + 1;
+            } else if (first > c) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    // Same normalization as the titles, keeping a trailing space so "star " only matches whole words
+    static String normalize(String prefix) {
+        if (prefix == null) {
+            return "";
+        }
+        String ascii = normalizeAscii(prefix);
+        if (ascii != null) {
+            return ascii;
+        }
+        String normalized = String.join(" ", SearchTokenizer.tokenize(prefix));
+        if (!normalized.isEmpty() && Character.isWhitespace(prefix.charAt(prefix.length() - 1))) {
+            normalized += ' ';
+        }
+        return normalized;
+    }
+
+    // Allocation-light equivalent of the tokenizer for the common all-ASCII keystroke; null otherwise
+    private static String normalizeAscii(String prefix) {
+        char[] out = new char[prefix.length()];
+        int length = 0;
+        boolean separator = false;
+        for (int i = 0; i < prefix.length(); i++) {
+            char c = prefix.charAt(i);
+            if (c >= 0x80) {
+                return null;
+            }
+            if (Character.isLetterOrDigit(c)) {
+                if (separator && length > 0) {
+                    out[length++] = ' ';
+                }
+                separator = false;
+                out[length++] = Character.toLowerCase(c);
+            } else if (c != '\'') {
+                separator = true;
+            }
+        }
+        if (length > 0 && Character.isWhitespace(prefix.charAt(prefix.length() - 1))) {
+            out[length++] = ' ';
+        }
+        return new String(out, 0, length);
+    }
+
+    private static TitleTrie flatten(BuildNode root, MovieSuggestionDTO[] suggestions) {
+        StringBuilder labels = new StringBuilder();
+        IntArray labelStart = new IntArray();
+        IntArray labelLength = new IntArray();
+        IntArray childStart = new IntArray();
+        IntArray childCount = new IntArray();
+        IntArray topStart = new IntArray();
+        IntArray topCount = new IntArray();
+        IntArray top = new IntArray();
+
+        // Breadth-first, so each node's children are numbered contiguously
+        Deque<BuildNode> queue = new ArrayDeque<>();
+        labelStart.add(0);
+        labelLength.add(0);
+        queue.add(root);
+        int next = 1;
+        while (!queue.isEmpty()) {
+            BuildNode node = queue.poll();
+            childStart.add(next);
+            childCount.add(node.children.size());
+            topStart.add(top.size());
+            topCount.add(node.top.size());
+            top.addAll(node.top);
+
+            for (Map.Entry<Character, BuildNode> edge : node.children.entrySet()) {
+                // Collapse single-child chains into one edge; they share the same suggestions
+                labelStart.add(labels.length());
+                labels.append(edge.getKey().charValue());
+                BuildNode child = edge.getValue();
+                while (child.children.size() == 1 && !child.terminal) {
+                    Map.Entry<Character, BuildNode> only = child.children.firstEntry();
+                    labels.append(only.getKey().charValue());
+                    child = only.getValue();
+                }
+                labelLength.add(labels.length() - labelStart.get(labelStart.size() - 1));
+                queue.add(child);
+                next++;
+            }
+        }
+
+        char[] labelChars = new char[labels.length()];
+        labels.getChars(0, labels.length(), labelChars, 0);
+        return new TitleTrie(labelChars, labelStart.toArray(), labelLength.toArray(), childStart.toArray(),
+                childCount.toArray(), topStart.toArray(), topCount.toArray(), top.toArray(), suggestions);
+    }
+
+    private final class SuggestionList extends AbstractList<MovieSuggestionDTO> implements RandomAccess {
+
+        private final int offset;
+        private final int size;
+
+        private SuggestionList(int offset, int size) {
+            this.offset = offset;
+            this.size = size;
+        }
+
+        @Override
+        public MovieSuggestionDTO get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return suggestions[top[offset + index]];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    private static final class BuildNode {
+
+        private final TreeMap<Character, BuildNode> children = new TreeMap<>();
+        private final IntArray top = new IntArray();
+        private boolean terminal;
+
+        private void insert(String key, int suggestion, int maxSuggestions) {
+            BuildNode node = this;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new BuildNode());
+                if (node.top.size() < maxSuggestions && !node.top.contains(suggestion)) {
+                    node.top.add(suggestion);
+                }
+            }
+            node.terminal = true;
+        }
+    }
+
+    private static final class IntArray {
+
+        private int[] values = new int[8];
+        private int size;
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private void addAll(IntArray other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.values[i]);
+            }
+        }
+
+        private int get(int index) {
+            return values[index];
+        }
+
+        private boolean contains(int value) {
+            for (int i = 0; i < size; i++) {
+                if (values[i] == value) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.bookmyseat.movieservice.seatmap;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Every run of adjacent seats in a row, for each party size, ranked once per layout from best to
+ * worst. A seat's quality falls off with its distance from the ideal row, two thirds of the way
+ * back, and from the middle of the row; a block scores the sum over its seats. Each block also
+ * carries its bit masks, at most two words since a block never exceeds 64 seats, so allocation
+ * walks the ranking and tests a block's seats with one or two word reads until a free block's
+ * claim succeeds. Tables only depend on the layout and are shared by all showtimes that use it.
+ */
+public final class SeatBlockTable {
+
+    private static final double IDEAL_ROW = 2.0 / 3.0;
+    private static final double ROW_WEIGHT = 2.0;
+
+    private final SeatLayout layout;
+    private final Block[][] blocks;
+
+    public SeatBlockTable(SeatLayout layout, int maxPartySize) {
+        this.layout = layout;
+        int largest = Math.min(Math.min(maxPartySize, layout.getSeatsPerRow()), 64);
+        this.blocks = new Block[largest + 1][];
+        for (int size = 1; size <= largest; size++) {
+            blocks[size] = rank(size);
+        }
+    }
+
+    public int maxPartySize() {
+        return blocks.length - 1;
+    }
+
+    /**
+     * Claims the best free block of {@code partySize} adjacent seats and returns its seat
+     * indexes, or {@code null} if no row has that many free seats side by side.
+     */
+    public int[] allocate(SeatMap map, int partySize) {
+        if (partySize < 1 || partySize > maxPartySize()) {
+            throw new IllegalArgumentException("Party size " + partySize + " outside 1.." + maxPartySize());
+        }
+        for (Block block : blocks[partySize]) {
+            // Lost races fall through to the next best block
+            if (map.isFree(block.word, block.lowMask, block.highMask) && map.tryClaim(block.seats)) {
+                return block.seats.clone();
+            }
+        }
+        return null;
+    }
+
+    private Block[] rank(int size) {
+        int rows = layout.getRows();
+        int perRow = layout.getSeatsPerRow();
+        double[] rowCost = new double[rows];
+        double idealRow = (rows - 1) * IDEAL_ROW;
+        for (int row = 0; row < rows; row++) {
+            rowCost[row] = ROW_WEIGHT * Math.abs(row - idealRow) / Math.max(1, rows - 1);
+        }
+        double middle = (perRow - 1) / 2.0;
+        List<Block> ranked = new ArrayList<>(rows * (perRow - size + 1));
+        for (int row = 0; row < rows; row++) {
+            for (int first = 0; first + size <= perRow; first++) {
+                double cost = 0;
+                for (int seat = first; seat < first + size; seat++) {
+                    cost += rowCost[row] + Math.abs(seat - middle) / Math.max(1, perRow - 1);
+                }
+                ranked.add(new Block(row * perRow + first, size, cost));
+            }
+        }
+        ranked.sort(Comparator.comparingDouble((Block block) -> block.cost).thenComparingInt(block -> block.seats[0]));
+        return ranked.toArray(new Block[0]);
+    }
+
+    private static final class Block {
+
+        private final int[] seats;
+        private final double cost;
+        private final int word;
+        private final long lowMask;
+        private final long highMask;
+
+        private Block(int start, int size, double cost) {
+            this.seats = new int[size];
+            for (int i = 0; i < size; i++) {
+                seats[i] = start + i;
+            }
+            this.cost = cost;
+            this.word = start >>> 6;
+            int offset = start & 63;
+            long bits = size == 64 ? -1L : (1L << size) - 1;
+            this.lowMask = bits << offset;
+            this.highMask = offset == 0 ? 0 : bits >>> (64 - offset);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.bookmyseat.movieservice.seatmap;
+
+import java.util.Objects;
+
+/**
+ * Rows lettered from A, seats numbered from 1; seat "C7" has index 2 * seatsPerRow + 6.
+ */
+public final class SeatLayout {
+
+    static final int MAX_ROWS = 26;
+
+    private final int rows;
+    private final int seatsPerRow;
+
+    public SeatLayout(int rows, int seatsPerRow) {
+        if (rows < 1 || rows > MAX_ROWS || seatsPerRow < 1) {
+            throw new IllegalArgumentException("Invalid seat layout " + rows + "x" + seatsPerRow);
+        }
+        this.rows = rows;
+        this.seatsPerRow = seatsPerRow;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getSeatsPerRow() {
+        return seatsPerRow;
+    }
+
+    public int capacity() {
+        return rows * seatsPerRow;
+    }
+
+    /**
+     * Index of a seat label such as "C7", or -1 if the label is malformed or outside the layout.
+     */
+    public int indexOf(String label) {
+        if (label == null || label.length() < 2 || label.length() > 5) {
+            return -1;
+        }
+        int row = Character.toUpperCase(label.charAt(0)) - 'A';
+        if (row < 0 || row >= rows) {
+            return -1;
+        }
+        int seat = 0;
+        for (int i = 1; i < label.length(); i++) {
+            char c = label.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            seat = seat * 10 + (c - '0');
+        }
+        if (seat < 1 || seat > seatsPerRow) {
+            return -1;
+        }
+        return row * seatsPerRow + seat - 1;
+    }
+
+    public String labelOf(int index) {
+        return (char) ('A' + index / seatsPerRow) + Integer.toString(index % seatsPerRow + 1);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SeatLayout)) {
+            return false;
+        }
+        SeatLayout that = (SeatLayout) o;
+        return rows == that.rows && seatsPerRow == that.seatsPerRow;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(rows, seatsPerRow);
+    }
+}
@@ -0,0 +1,142 @@
+package com.bookmyseat.movieservice.seatmap;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Claimed seats of one showtime, one bit per seat packed into 64-bit words. A claim sets all of
+ * its bits or none: each affected word is compare-and-set in ascending order, and a word that
+ * already has one of the requested bits undoes the words set before it. Claims of seats in
+ * different words never contend, and a clash is detected without taking a lock.
+ */
+public final class SeatMap {
+
+    private final int capacity;
+    private final AtomicLongArray words;
+
+    public SeatMap(int capacity) {
+        this.capacity = capacity;
+        this.words = new AtomicLongArray((capacity + 63) >>> 6);
+    }
+
+    /**
+     * Rebuilds a map from {@link #encode} output; bits beyond the capacity are ignored.
+     */
+    public static SeatMap decode(byte[] bytes, int capacity) {
+        SeatMap map = new SeatMap(capacity);
+        long[] words = new long[map.words.length()];
+        int limit = Math.min(bytes.length, (capacity + 7) >>> 3);
+        for (int i = 0; i < limit; i++) {
+            words[i >>> 3] |= (bytes[i] & 0xFFL) << ((i & 7) << 3);
+        }
+        if ((capacity & 63) != 0) {
+            words[words.length - 1] &= (1L << capacity) - 1;
+        }
+        for (int i = 0; i < words.length; i++) {
+            map.words.set(i, words[i]);
+        }
+        return map;
+    }
+
+    /**
+     * Packs words into the persisted form: seat i is bit i % 8 of byte i / 8.
+     */
+    public static byte[] encode(long[] words, int capacity) {
+        byte[] bytes = new byte[(capacity + 7) >>> 3];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (words[i >>> 3] >>> ((i & 7) << 3));
+        }
+        return bytes;
+    }
+
+    /**
+     * Claims every seat in {@code seats} (distinct indexes below the capacity) and returns
+     * whether it did; on {@code false} nothing was claimed.
+     */
+    public boolean tryClaim(int[] seats) {
+        long[] masks = masks(seats);
+        for (int word = 0; word < masks.length; word++) {
+            if (masks[word] != 0 && !setAll(word, masks[word])) {
+                for (int done = 0; done < word; done++) {
+                    if (masks[done] != 0) {
+                        clearAll(done, masks[done]);
+                    }
+                }
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Frees seats claimed earlier by this caller.
+     */
+    public void release(int[] seats) {
+        long[] masks = masks(seats);
+        for (int word = 0; word < masks.length; word++) {
+            if (masks[word] != 0) {
+                clearAll(word, masks[word]);
+            }
+        }
+    }
+
+    public boolean isClaimed(int seat) {
+        return (words.get(seat >>> 6) & (1L << seat)) != 0;
+    }
+
+    /**
+     * Whether none of the bits in {@code lowMask} of {@code word} and {@code highMask} of the
+     * next word are claimed; a hint only, the claim itself decides.
+     */
+    boolean isFree(int word, long lowMask, long highMask) {
+        return (words.get(word) & lowMask) == 0 && (highMask == 0 || (words.get(word + 1) & highMask) == 0);
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public int freeSeats() {
+        int claimed = 0;
+        for (int i = 0; i < words.length(); i++) {
+            claimed += Long.bitCount(words.get(i));
+        }
+        return capacity - claimed;
+    }
+
+    public byte[] toBytes() {
+        return encode(words(), capacity);
+    }
+
+    long[] words() {
+        long[] snapshot = new long[words.length()];
+        for (int i = 0; i < snapshot.length; i++) {
+            snapshot[i] = words.get(i);
+        }
+        return snapshot;
+    }
+
+    long[] masks(int[] seats) {
+        long[] masks = new long[words.length()];
+        for (int seat : seats) {
+            masks[seat >>> 6] |= 1L << seat;
+        }
+        return masks;
+    }
+
+    private boolean setAll(int word, long mask) {
+        long current;
+        while (((current = words.get(word)) & mask) == 0) {
+            if (words.compareAndSet(word, current, current | mask)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void clearAll(int word, long mask) {
+        long current;
+        do {
+            current = words.get(word);
+        } while (!words.compareAndSet(word, current, current & ~mask));
+    }
+}
@@ -0,0 +1,266 @@
+package com.bookmyseat.movieservice.seatmap;
+
+import com.bookmyseat.movieservice.cache.ShowtimeCacheEvictor;
+import com.bookmyseat.movieservice.dto.SeatClaimDTO;
+import com.bookmyseat.movieservice.dto.SeatMapDTO;
+import com.bookmyseat.movieservice.exception.InsufficientSeatsException;
+import com.bookmyseat.movieservice.exception.InvalidSeatException;
+import com.bookmyseat.movieservice.exception.SeatLayoutNotFoundException;
+import com.bookmyseat.movieservice.exception.SeatsTakenException;
+import com.bookmyseat.movieservice.exception.ShowtimeNotFoundException;
+import com.bookmyseat.movieservice.inventory.SeatInventory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Seat maps of showtimes whose theater has a layout. Maps are loaded from showtime_seat_maps on
+ * first use and kept in memory. A claim is decided by
+ * compare-and-set on the in-memory bitset, which turns away clashing claims without a database
+ * round trip; the winner then writes the showtime's bitset and takes the seats off
+ * available_seats in one transaction, and undoes its bits if that fails. Writes of one showtime
+ * are serialized and always carry only committed claims, so a failed claim never reaches the
+ * BLOB. With the in-memory seat inventory enabled the seats are taken from its counters instead
+ * of the column, which it owns in that mode. The map only records seat-level claims: seats
+ * reserved or held by count have no seat, so the free count reported is the smaller of the map's
+ * and the showtime's own. Like the seat inventory, this assumes one instance takes the claims of
+ * a showtime.
+ */
+@Component
+public class SeatMapStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeatMapStore.class);
+
+    // Same cap as a reservation
+    static final int MAX_PARTY_SIZE = 10;
+
+    static final String SELECT_SHOWTIME = "SELECT s.theater, s.show_date_time, l.seat_rows, l.seats_per_row, " +
+            "m.occupancy FROM showtimes s LEFT JOIN theater_layouts l ON l.theater = s.theater " +
+            "LEFT JOIN showtime_seat_maps m ON m.showtime_id = s.id WHERE s.id = ?";
+    static final String TAKE_SEATS = "UPDATE showtimes SET available_seats = available_seats - ?, updated_at = ? " +
+            "WHERE id = ? AND available_seats >= ?";
+    // The partitioning column is part of the primary key, so reading by both prunes to one partition
+    static final String SELECT_AVAILABLE = "SELECT available_seats FROM showtimes WHERE id = ? AND show_date_time = ?";
+    static final String UPDATE_MAP = "UPDATE showtime_seat_maps SET occupancy = ?, updated_at = ? WHERE showtime_id = ?";
+    static final String INSERT_MAP = "INSERT INTO showtime_seat_maps (occupancy, updated_at, showtime_id) " +
+            "VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ShowtimeCacheEvictor cacheEvictor;
+    private final SeatInventory seatInventory;
+    private final Clock clock;
+    private final Duration retainAfterShow;
+    private final Map<Long, ShowtimeSeats> maps = new ConcurrentHashMap<>();
+    private final Map<SeatLayout, SeatBlockTable> blockTables = new ConcurrentHashMap<>();
+    private final Counter conflictCounter;
+
+    @Autowired
+    public SeatMapStore(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                        ShowtimeCacheEvictor cacheEvictor, SeatInventory seatInventory, Clock clock,
+                        MeterRegistry meterRegistry,
+                        @Value("${movie.seat-maps.retain-after-show:P1D}") Duration retainAfterShow) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.cacheEvictor = cacheEvictor;
+        this.seatInventory = seatInventory;
+        this.clock = clock;
+        this.retainAfterShow = retainAfterShow;
+        this.conflictCounter = Counter.builder("seat_map_claim_conflicts_total")
+                .description("Seat claims refused because a requested seat was already taken")
+                .register(meterRegistry);
+        Gauge.builder("seat_maps_cached", maps, Map::size)
+                .description("Showtime seat maps held in memory")
+                .register(meterRegistry);
+    }
+
+    public SeatMapDTO getSeatMap(Long showtimeId) {
+        ShowtimeSeats seats = maps.computeIfAbsent(showtimeId, this::load);
+        return new SeatMapDTO(showtimeId, seats.theater, seats.layout.getRows(), seats.layout.getSeatsPerRow(),
+                freeSeats(showtimeId, seats), Base64.getEncoder().encodeToString(seats.map.toBytes()));
+    }
+
+    /**
+     * Claims all of {@code labels} or none of them.
+     */
+    public SeatClaimDTO claim(Long showtimeId, List<String> labels) {
+        ShowtimeSeats seats = maps.computeIfAbsent(showtimeId, this::load);
+        int[] indexes = indexesOf(seats.layout, labels);
+        if (!seats.map.tryClaim(indexes)) {
+            conflictCounter.increment();
+            throw new SeatsTakenException("Seats already taken for showtime " + showtimeId + ": "
+                    + String.join(", ", takenLabels(seats, indexes)));
+        }
+        return commit(showtimeId, seats, indexes);
+    }
+
+    /**
+     * Claims the best {@code partySize} adjacent seats still free, ranked by the layout's
+     * {@link SeatBlockTable}.
+     */
+    public SeatClaimDTO claimBestAvailable(Long showtimeId, int partySize) {
+        ShowtimeSeats seats = maps.computeIfAbsent(showtimeId, this::load);
+        SeatBlockTable table = blockTables.computeIfAbsent(seats.layout,
+                layout -> new SeatBlockTable(layout, MAX_PARTY_SIZE));
+        if (partySize > table.maxPartySize()) {
+            throw new InvalidSeatException("No row of theater " + seats.theater + " seats " + partySize + " together");
+        }
+        int[] indexes = table.allocate(seats.map, partySize);
+        if (indexes == null) {
+            conflictCounter.increment();
+            throw new SeatsTakenException("No " + partySize + " seats together left for showtime " + showtimeId);
+        }
+        return commit(showtimeId, seats, indexes);
+    }
+
+    // Long-finished showtimes take no more claims and are archived away from the table
+    @Scheduled(fixedDelayString = "${movie.seat-maps.retire-interval:PT1H}")
+    public void retireFinishedShowtimes() {
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(retainAfterShow);
+        maps.values().removeIf(seats -> seats.showDateTime.isBefore(cutoff));
+    }
+
+    private SeatClaimDTO commit(Long showtimeId, ShowtimeSeats seats, int[] indexes) {
+        try {
+            persist(showtimeId, seats, indexes);
+        } catch (RuntimeException e) {
+            seats.map.release(indexes);
+            throw e;
+        }
+        List<String> claimed = new ArrayList<>(indexes.length);
+        for (int index : indexes) {
+            claimed.add(seats.layout.labelOf(index));
+        }
+        return new SeatClaimDTO(showtimeId, claimed, freeSeats(showtimeId, seats));
+    }
+
+    // Seats taken by count through reservations and holds never set a bit
+    private int freeSeats(Long showtimeId, ShowtimeSeats seats) {
+        int available = seatInventory.isEnabled()
+                ? seatInventory.available(showtimeId)
+                : jdbcTemplate.queryForObject(SELECT_AVAILABLE, Integer.class, showtimeId,
+                        Timestamp.valueOf(seats.showDateTime));
+        return Math.min(seats.map.freeSeats(), available);
+    }
+
+    private void persist(Long showtimeId, ShowtimeSeats seats, int[] indexes) {
+        synchronized (seats) {
+            long[] next = seats.persisted.clone();
+            long[] masks = seats.map.masks(indexes);
+            for (int word = 0; word < next.length; word++) {
+                next[word] |= masks[word];
+            }
+            byte[] occupancy = SeatMap.encode(next, seats.layout.capacity());
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now(clock));
+            if (seatInventory.isEnabled()) {
+                // The in-memory counters own available_seats in this mode; writing the column here would go unseen
+                seatInventory.reserve(showtimeId, indexes.length);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> writeMap(showtimeId, occupancy, now));
+                } catch (RuntimeException e) {
+                    seatInventory.release(showtimeId, indexes.length);
+                    throw e;
+                }
+            } else {
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (jdbcTemplate.update(TAKE_SEATS, indexes.length, now, showtimeId, indexes.length) == 0) {
+                        throw new InsufficientSeatsException("Cannot claim " + indexes.length + " seats for showtime "
+                                + showtimeId + ", its seat count is exhausted");
+                    }
+                    writeMap(showtimeId, occupancy, now);
+                });
+                cacheEvictor.evictShowtimes();
+            }
+            seats.persisted = next;
+        }
+    }
+
+    private void writeMap(Long showtimeId, byte[] occupancy, Timestamp now) {
+        if (jdbcTemplate.update(UPDATE_MAP, occupancy, now, showtimeId) == 0) {
+            jdbcTemplate.update(INSERT_MAP, occupancy, now, showtimeId);
+        }
+    }
+
+    private ShowtimeSeats load(Long showtimeId) {
+        List<ShowtimeSeats> loaded = jdbcTemplate.query(SELECT_SHOWTIME, (rs, rowNum) -> {
+            String theater = rs.getString(1);
+            if (rs.getObject(3) == null) {
+                throw new SeatLayoutNotFoundException("No seat layout for theater " + theater);
+            }
+            SeatLayout layout = new SeatLayout(rs.getInt(3), rs.getInt(4));
+            byte[] occupancy = rs.getBytes(5);
+            SeatMap map = occupancy == null ? new SeatMap(layout.capacity()) : SeatMap.decode(occupancy, layout.capacity());
+            return new ShowtimeSeats(theater, rs.getTimestamp(2).toLocalDateTime(), layout, map);
+        }, showtimeId);
+        if (loaded.isEmpty()) {
+            throw new ShowtimeNotFoundException("Showtime not found with ID: " + showtimeId);
+        }
+        logger.debug("Loaded seat map for showtime {} with {} free seats", showtimeId, loaded.get(0).map.freeSeats());
+        return loaded.get(0);
+    }
+
+    private static int[] indexesOf(SeatLayout layout, List<String> labels) {
+        int[] indexes = new int[labels.size()];
+        boolean[] seen = new boolean[layout.capacity()];
+        for (int i = 0; i < indexes.length; i++) {
+            int index = layout.indexOf(labels.get(i));
+            if (index < 0) {
+                throw new InvalidSeatException("No seat " + labels.get(i) + " in a " + layout.getRows() + "x"
+                        + layout.getSeatsPerRow() + " layout");
+            }
+            if (seen[index]) {
+                throw new InvalidSeatException("Seat " + labels.get(i) + " requested more than once");
+            }
+            seen[index] = true;
+            indexes[i] = index;
+        }
+        return indexes;
+    }
+
+    private static List<String> takenLabels(ShowtimeSeats seats, int[] indexes) {
+        List<String> taken = new ArrayList<>();
+        for (int index : indexes) {
+            if (seats.map.isClaimed(index)) {
+                taken.add(seats.layout.labelOf(index));
+            }
+        }
+        return taken;
+    }
+
+    private static final class ShowtimeSeats {
+
+        private final String theater;
+        private final LocalDateTime showDateTime;
+        private final SeatLayout layout;
+        private final SeatMap map;
+        // Bits of committed claims only, guarded by this
+        private long[] persisted;
+
+        private ShowtimeSeats(String theater, LocalDateTime showDateTime, SeatLayout layout, SeatMap map) {
+            this.theater = theater;
+            this.showDateTime = showDateTime;
+            this.layout = layout;
+            this.map = map;
+            this.persisted = map.words();
+        }
+    }
+}
@@ -2,12 +2,25 @@ package com.bookmyseat.movieservice.service;
 
 import com.bookmyseat.movieservice.dto.MovieDTO;
 import com.bookmyseat.movieservice.dto.MovieDetailDTO;
+import com.bookmyseat.movieservice.dto.MovieSuggestionDTO;
+import com.bookmyseat.movieservice.pagination.CursorPage;
+import com.bookmyseat.movieservice.window.ShowtimeWindow;
 
+import java.time.LocalDate;
 import java.util.List;
 
 public interface MovieService {
 
-    List<MovieDTO> getAllMovies(String genre, String language);
+    CursorPage<MovieDTO> getMovies(String genre, String language, String cursor, Integer limit);
+
+    CursorPage<MovieDTO> getMovies(String genre, String language, String cursor, Integer limit,
+                                   LocalDate availabilityDate);
+
+    List<MovieDTO> searchMovies(String query, Integer limit);
+
+    List<MovieSuggestionDTO> suggestMovies(String prefix, Integer limit);
 
     MovieDetailDTO getMovieById(Long movieId);
+
+    MovieDetailDTO getMovieById(Long movieId, ShowtimeWindow window);
 }
\ No newline at end of file
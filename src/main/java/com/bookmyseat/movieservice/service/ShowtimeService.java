@@ -1,11 +1,16 @@
 package com.bookmyseat.movieservice.service;
 
+import com.bookmyseat.movieservice.dto.ReservationDTO;
 import com.bookmyseat.movieservice.dto.ShowtimeDTO;
+import com.bookmyseat.movieservice.pagination.CursorPage;
 
 import java.time.LocalDate;
-import java.util.List;
 
 public interface ShowtimeService {
 
-    List<ShowtimeDTO> getAllShowtimes(Long movieId, LocalDate date, String theater);
+    CursorPage<ShowtimeDTO> getShowtimes(Long movieId, LocalDate date, String theater, String cursor, Integer limit);
+
+    CursorPage<ShowtimeDTO> getArchivedShowtimes(Long movieId, LocalDate from, LocalDate to, String cursor, Integer limit);
+
+    ReservationDTO reserveSeats(Long showtimeId, int seats);
 }
\ No newline at end of file
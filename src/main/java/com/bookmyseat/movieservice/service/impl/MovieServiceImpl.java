@@ -1,18 +1,36 @@
 package com.bookmyseat.movieservice.service.impl;
 
+import com.bookmyseat.movieservice.availability.MovieAvailabilityIndex;
+import com.bookmyseat.movieservice.cache.DataWatermarks;
+import com.bookmyseat.movieservice.cache.MovieDetailCache;
+import com.bookmyseat.movieservice.catalog.MovieCatalog;
 import com.bookmyseat.movieservice.dto.MovieDTO;
 import com.bookmyseat.movieservice.dto.MovieDetailDTO;
+import com.bookmyseat.movieservice.dto.MovieSuggestionDTO;
+import com.bookmyseat.movieservice.dto.ShowtimeDTO;
 import com.bookmyseat.movieservice.entity.Movie;
+import com.bookmyseat.movieservice.exception.InvalidAvailabilityDateException;
 import com.bookmyseat.movieservice.exception.MovieNotFoundException;
 import com.bookmyseat.movieservice.mapper.MovieMapper;
+import com.bookmyseat.movieservice.pagination.Cursor;
+import com.bookmyseat.movieservice.pagination.CursorPage;
+import com.bookmyseat.movieservice.pagination.PageLimits;
+import com.bookmyseat.movieservice.repository.DataWatermark;
 import com.bookmyseat.movieservice.repository.MovieRepository;
+import com.bookmyseat.movieservice.repository.ShowtimeRepository;
+import com.bookmyseat.movieservice.search.MovieSearchIndex;
+import com.bookmyseat.movieservice.search.TitleSuggester;
 import com.bookmyseat.movieservice.service.MovieService;
+import com.bookmyseat.movieservice.window.ShowtimeWindow;
+import com.bookmyseat.movieservice.window.ShowtimeWindows;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -22,36 +40,116 @@ public class MovieServiceImpl implements MovieService {
     private static final Logger logger = LoggerFactory.getLogger(MovieServiceImpl.class);
 
     private final MovieRepository movieRepository;
+    private final ShowtimeRepository showtimeRepository;
     private final MovieMapper movieMapper;
+    private final MovieCatalog movieCatalog;
+    private final MovieDetailCache movieDetailCache;
+    private final DataWatermarks dataWatermarks;
+    private final PageLimits pageLimits;
+    private final ShowtimeWindows showtimeWindows;
+    private final MovieSearchIndex movieSearchIndex;
+    private final TitleSuggester titleSuggester;
+    private final MovieAvailabilityIndex movieAvailabilityIndex;
 
     @Autowired
-    public MovieServiceImpl(MovieRepository movieRepository, MovieMapper movieMapper) {
+    public MovieServiceImpl(MovieRepository movieRepository, ShowtimeRepository showtimeRepository,
+                            MovieMapper movieMapper, MovieCatalog movieCatalog, MovieDetailCache movieDetailCache,
+                            DataWatermarks dataWatermarks, PageLimits pageLimits,
+                            ShowtimeWindows showtimeWindows, MovieSearchIndex movieSearchIndex,
+                            TitleSuggester titleSuggester, MovieAvailabilityIndex movieAvailabilityIndex) {
         this.movieRepository = movieRepository;
+        this.showtimeRepository = showtimeRepository;
         this.movieMapper = movieMapper;
+        this.movieCatalog = movieCatalog;
+        this.movieDetailCache = movieDetailCache;
+        this.dataWatermarks = dataWatermarks;
+        this.pageLimits = pageLimits;
+        this.showtimeWindows = showtimeWindows;
+        this.movieSearchIndex = movieSearchIndex;
+        this.titleSuggester = titleSuggester;
+        this.movieAvailabilityIndex = movieAvailabilityIndex;
     }
 
     @Override
-    public List<MovieDTO> getAllMovies(String genre, String language) {
-        logger.info("Fetching movies with filters - genre: {}, language: {}", genre, language);
+    public CursorPage<MovieDTO> getMovies(String genre, String language, String cursor, Integer limit) {
+        return getMovies(genre, language, cursor, limit, null);
+    }
+
+    @Override
+    public CursorPage<MovieDTO> getMovies(String genre, String language, String cursor, Integer limit,
+                                          LocalDate availabilityDate) {
+        logger.info("Fetching movie page with filters - genre: {}, language: {}, cursor: {}, limit: {}, availability: {}",
+                   genre, language, cursor, limit, availabilityDate);
+
+        if (availabilityDate != null && !movieAvailabilityIndex.covers(availabilityDate)) {
+            throw new InvalidAvailabilityDateException("Availability is only summarized for the next "
+                    + movieAvailabilityIndex.getDays() + " days, not " + availabilityDate);
+        }
+        Cursor after = cursor != null ? Cursor.decode(cursor) : null;
+        CursorPage<MovieDTO> page = movieCatalog.current().page(genre, language, after, pageLimits.resolve(limit));
+        if (availabilityDate != null) {
+            page = new CursorPage<>(withAvailability(page.getItems(), availabilityDate), page.getNextCursor());
+        }
+
+        logger.info("Found {} movies", page.getItems().size());
+        return page;
+    }
+
+    @Override
+    public List<MovieDTO> searchMovies(String query, Integer limit) {
+        logger.info("Searching movies - query: {}, limit: {}", query, limit);
 
-        List<Movie> movies = movieRepository.findMoviesWithFilters(genre, language);
+        List<MovieDTO> movies = movieSearchIndex.search(query, pageLimits.resolve(limit));
 
         logger.info("Found {} movies", movies.size());
-        return movieMapper.toMovieDTOList(movies);
+        return movies;
+    }
+
+    // Called on every keystroke, so it logs at debug rather than info
+    @Override
+    public List<MovieSuggestionDTO> suggestMovies(String prefix, Integer limit) {
+        List<MovieSuggestionDTO> suggestions = titleSuggester.suggest(prefix, limit);
+        logger.debug("Found {} suggestions for prefix: {}", suggestions.size(), prefix);
+        return suggestions;
     }
 
     @Override
     public MovieDetailDTO getMovieById(Long movieId) {
-        logger.info("Fetching movie with ID: {}", movieId);
+        return getMovieById(movieId, showtimeWindows.resolve(null, null));
+    }
+
+    @Override
+    public MovieDetailDTO getMovieById(Long movieId, ShowtimeWindow window) {
+        logger.info("Fetching movie with ID: {} and showtimes in {}", movieId, window);
+
+        DataWatermark watermark = dataWatermarks.movie(movieId)
+                .orElseThrow(() -> movieNotFound(movieId));
+        return movieDetailCache.get(movieId, window, watermark, id -> loadMovieDetail(id, window));
+    }
+
+    // Two narrow queries instead of a JOIN FETCH that repeats the movie row, TEXT description
+    // included, once per showtime. The movie row itself is usually a second-level cache hit.
+    private MovieDetailDTO loadMovieDetail(Long movieId, ShowtimeWindow window) {
+        Movie movie = movieRepository.findById(movieId)
+                .orElseThrow(() -> movieNotFound(movieId));
+        List<ShowtimeDTO> showtimes =
+                showtimeRepository.findDetailShowtimes(movieId, window.getFrom(), window.getTo());
 
-        Movie movie = movieRepository.findByIdWithShowtimes(movieId)
-                .orElseThrow(() -> {
-                    logger.warn("Movie not found with ID: {}", movieId);
-                    return new MovieNotFoundException("Movie not found with ID: " + movieId);
-                });
+        logger.info("Found movie: {} with {} showtimes", movie.getTitle(), showtimes.size());
+        return movieMapper.toMovieDetailDTO(movie, showtimes);
+    }
+
+    private List<MovieDTO> withAvailability(List<MovieDTO> movies, LocalDate date) {
+        List<MovieDTO> enriched = new ArrayList<>(movies.size());
+        for (MovieDTO movie : movies) {
+            enriched.add(movieMapper.withAvailability(movie, date,
+                    movieAvailabilityIndex.get(movie.getId(), date).orElse(null)));
+        }
+        return enriched;
+    }
 
-        logger.info("Found movie: {} with {} showtimes", movie.getTitle(),
-                   movie.getShowtimes() != null ? movie.getShowtimes().size() : 0);
-        return movieMapper.toMovieDetailDTO(movie);
+    private MovieNotFoundException movieNotFound(Long movieId) {
+        logger.warn("Movie not found with ID: {}", movieId);
+        return new MovieNotFoundException("Movie not found with ID: " + movieId);
     }
-}
\ No newline at end of file
+}
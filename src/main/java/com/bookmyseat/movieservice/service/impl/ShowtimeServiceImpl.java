@@ -1,17 +1,27 @@
 package com.bookmyseat.movieservice.service.impl;
 
+import com.bookmyseat.movieservice.dto.ReservationDTO;
 import com.bookmyseat.movieservice.dto.ShowtimeDTO;
-import com.bookmyseat.movieservice.entity.Showtime;
-import com.bookmyseat.movieservice.mapper.MovieMapper;
+import com.bookmyseat.movieservice.exception.InsufficientSeatsException;
+import com.bookmyseat.movieservice.exception.InvalidArchiveRangeException;
+import com.bookmyseat.movieservice.exception.InvalidCursorException;
+import com.bookmyseat.movieservice.exception.ShowtimeNotFoundException;
+import com.bookmyseat.movieservice.pagination.Cursor;
+import com.bookmyseat.movieservice.pagination.CursorPage;
+import com.bookmyseat.movieservice.pagination.PageLimits;
+import com.bookmyseat.movieservice.repository.ArchivedShowtimeRepository;
 import com.bookmyseat.movieservice.repository.ShowtimeRepository;
 import com.bookmyseat.movieservice.service.ShowtimeService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
@@ -21,22 +31,99 @@ public class ShowtimeServiceImpl implements ShowtimeService {
     private static final Logger logger = LoggerFactory.getLogger(ShowtimeServiceImpl.class);
 
     private final ShowtimeRepository showtimeRepository;
-    private final MovieMapper movieMapper;
+    private final ArchivedShowtimeRepository archivedShowtimeRepository;
+    private final PageLimits pageLimits;
+    private final Clock clock;
 
     @Autowired
-    public ShowtimeServiceImpl(ShowtimeRepository showtimeRepository, MovieMapper movieMapper) {
+    public ShowtimeServiceImpl(ShowtimeRepository showtimeRepository,
+                               ArchivedShowtimeRepository archivedShowtimeRepository, PageLimits pageLimits,
+                               Clock clock) {
         this.showtimeRepository = showtimeRepository;
-        this.movieMapper = movieMapper;
+        this.archivedShowtimeRepository = archivedShowtimeRepository;
+        this.pageLimits = pageLimits;
+        this.clock = clock;
     }
 
     @Override
-    public List<ShowtimeDTO> getAllShowtimes(Long movieId, LocalDate date, String theater) {
-        logger.info("Fetching showtimes with filters - movieId: {}, date: {}, theater: {}",
-                   movieId, date, theater);
+    public CursorPage<ShowtimeDTO> getShowtimes(Long movieId, LocalDate date, String theater,
+                                                String cursor, Integer limit) {
+        logger.info("Fetching showtime page with filters - movieId: {}, date: {}, theater: {}, cursor: {}, limit: {}",
+                   movieId, date, theater, cursor, limit);
 
-        List<Showtime> showtimes = showtimeRepository.findShowtimesWithFilters(movieId, date, theater);
+        Cursor after = cursor != null ? Cursor.decode(cursor) : null;
+        int pageSize = pageLimits.resolve(limit);
+
+        // One extra row tells us whether another page exists without a COUNT query
+        List<ShowtimeDTO> showtimes = showtimeRepository.findShowtimeDTOPage(movieId, date, theater,
+                after != null ? after.getKeyAsDateTime() : null,
+                after != null ? after.getId() : null,
+                pageSize + 1);
+
+        String nextCursor = null;
+        if (showtimes.size() > pageSize) {
+            showtimes = showtimes.subList(0, pageSize);
+            ShowtimeDTO last = showtimes.get(pageSize - 1);
+            nextCursor = Cursor.of(last.getShowDateTime(), last.getId()).encode();
+        }
 
         logger.info("Found {} showtimes", showtimes.size());
-        return movieMapper.toShowtimeDTOList(showtimes);
+        return new CursorPage<>(showtimes, nextCursor);
+    }
+
+    @Override
+    public CursorPage<ShowtimeDTO> getArchivedShowtimes(Long movieId, LocalDate from, LocalDate to,
+                                                        String cursor, Integer limit) {
+        logger.info("Fetching archived showtime page - movieId: {}, from: {}, to: {}, cursor: {}, limit: {}",
+                   movieId, from, to, cursor, limit);
+
+        if (!to.isAfter(from)) {
+            throw new InvalidArchiveRangeException("Archive range end " + to + " must be after its start " + from);
+        }
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.atStartOfDay();
+        long afterId = 0L;
+        if (cursor != null) {
+            Cursor after = Cursor.decode(cursor);
+            // A cursor from another range would silently restart or skip the listing
+            if (after.getKeyAsDateTime().isBefore(start) || !after.getKeyAsDateTime().isBefore(end)) {
+                throw new InvalidCursorException("Cursor does not belong to the archive range " + from + " to " + to);
+            }
+            start = after.getKeyAsDateTime();
+            afterId = after.getId();
+        }
+        int pageSize = pageLimits.resolve(limit);
+
+        List<ShowtimeDTO> showtimes = movieId != null
+                ? archivedShowtimeRepository.findMoviePage(movieId, start, end, afterId, Limit.of(pageSize + 1))
+                : archivedShowtimeRepository.findPage(start, end, afterId, Limit.of(pageSize + 1));
+
+        String nextCursor = null;
+        if (showtimes.size() > pageSize) {
+            showtimes = showtimes.subList(0, pageSize);
+            ShowtimeDTO last = showtimes.get(pageSize - 1);
+            nextCursor = Cursor.of(last.getShowDateTime(), last.getId()).encode();
+        }
+
+        logger.info("Found {} archived showtimes", showtimes.size());
+        return new CursorPage<>(showtimes, nextCursor);
+    }
+
+    @Override
+    @Transactional
+    public ReservationDTO reserveSeats(Long showtimeId, int seats) {
+        logger.info("Reserving {} seats for showtime {}", seats, showtimeId);
+
+        int updated = showtimeRepository.reserveSeats(showtimeId, seats, LocalDateTime.now(clock));
+        // Read inside the same transaction, so a successful update sees its own result
+        int availableSeats = showtimeRepository.findAvailableSeats(showtimeId)
+                .orElseThrow(() -> new ShowtimeNotFoundException("Showtime not found with ID: " + showtimeId));
+        if (updated == 0) {
+            throw new InsufficientSeatsException("Cannot reserve " + seats + " seats for showtime " + showtimeId
+                    + ", only " + availableSeats + " available");
+        }
+
+        logger.info("Reserved {} seats for showtime {}, {} left", seats, showtimeId, availableSeats);
+        return new ReservationDTO(showtimeId, seats, availableSeats);
     }
-}
\ No newline at end of file
+}
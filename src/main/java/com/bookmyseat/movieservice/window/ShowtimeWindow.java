@@ -0,0 +1,48 @@
+package com.bookmyseat.movieservice.window;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Half-open [from, to) range of show times embedded in a movie detail response.
+ */
+public final class ShowtimeWindow {
+
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+
+    public ShowtimeWindow(LocalDateTime from, LocalDateTime to) {
+        this.from = from;
+        this.to = to;
+    }
+
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    public LocalDateTime getTo() {
+        return to;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ShowtimeWindow)) {
+            return false;
+        }
+        ShowtimeWindow that = (ShowtimeWindow) o;
+        return from.equals(that.from) && to.equals(that.to);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(from, to);
+    }
+
+    @Override
+    public String toString() {
+        return "[" + from + ", " + to + ")";
+    }
+}
@@ -0,0 +1,42 @@
+package com.bookmyseat.movieservice.window;
+
+import com.bookmyseat.movieservice.exception.InvalidShowtimeWindowException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+@Component
+public class ShowtimeWindows {
+
+    private final Clock clock;
+    private final Duration defaultWindow;
+    private final Duration maxWindow;
+
+    @Autowired
+    public ShowtimeWindows(Clock clock,
+                           @Value("${movie.detail.showtime-window:P7D}") Duration defaultWindow,
+                           @Value("${movie.detail.max-showtime-window:P90D}") Duration maxWindow) {
+        this.clock = clock;
+        this.defaultWindow = defaultWindow;
+        this.maxWindow = maxWindow;
+    }
+
+    public ShowtimeWindow resolve(LocalDateTime from, LocalDateTime to) {
+        // Whole minutes keep the default window, and the cache key and ETag derived from it,
+        // stable for a minute at a time instead of changing on every request
+        LocalDateTime start = from != null ? from : LocalDateTime.now(clock).truncatedTo(ChronoUnit.MINUTES);
+        LocalDateTime end = to != null ? to : start.plus(defaultWindow);
+        if (!end.isAfter(start)) {
+            throw new InvalidShowtimeWindowException("Showtime window end " + end + " must be after its start " + start);
+        }
+        if (Duration.between(start, end).compareTo(maxWindow) > 0) {
+            throw new InvalidShowtimeWindowException("Showtime window cannot be longer than " + maxWindow);
+        }
+        return new ShowtimeWindow(start, end);
+    }
+}
@@ -0,0 +1,2 @@
+-- Lets MAX(updated_at) for the showtimes ETag watermark be answered from the index
+CREATE INDEX idx_updated_at ON showtimes (updated_at);
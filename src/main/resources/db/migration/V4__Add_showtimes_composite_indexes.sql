@@ -0,0 +1,8 @@
+-- Composite indexes for the per-movie and per-theater date range lookups
+CREATE INDEX idx_movie_show_date_time ON showtimes (movie_id, show_date_time);
+CREATE INDEX idx_theater_show_date_time ON showtimes (theater, show_date_time);
+
+-- The single-column indexes are now left prefixes of the composites above; the movie_id
+-- foreign key is served by idx_movie_show_date_time
+DROP INDEX idx_movie_id ON showtimes;
+DROP INDEX idx_theater ON showtimes;
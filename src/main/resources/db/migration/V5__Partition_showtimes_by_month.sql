@@ -0,0 +1,18 @@
+-- Range-partition showtimes by month of show_date_time so date-filtered queries prune to the
+-- partitions they touch and expired months can be dropped or exchanged out as a whole.
+-- ShowtimePartitionMaintainer keeps monthly partitions created ahead of time.
+
+-- MySQL does not allow foreign keys on partitioned tables; showtimes are deleted explicitly
+ALTER TABLE showtimes DROP FOREIGN KEY showtimes_ibfk_1;
+
+-- Every unique key on a partitioned table must include the partitioning column
+ALTER TABLE showtimes DROP PRIMARY KEY, ADD PRIMARY KEY (id, show_date_time);
+
+ALTER TABLE showtimes PARTITION BY RANGE COLUMNS (show_date_time) (
+    PARTITION p_history VALUES LESS THAN ('2025-09-01'),
+    PARTITION p202509 VALUES LESS THAN ('2025-10-01'),
+    PARTITION p202510 VALUES LESS THAN ('2025-11-01'),
+    PARTITION p202511 VALUES LESS THAN ('2025-12-01'),
+    PARTITION p202512 VALUES LESS THAN ('2026-01-01'),
+    PARTITION p_future VALUES LESS THAN (MAXVALUE)
+);
@@ -0,0 +1,14 @@
+-- Cold store for showtimes that have already been shown. ShowtimeArchiver moves rows here in
+-- small chunks so the hot showtimes table and its indexes only hold the active schedule.
+CREATE TABLE showtime_archive (
+    id BIGINT NOT NULL PRIMARY KEY,
+    movie_id BIGINT NOT NULL,
+    show_date_time DATETIME NOT NULL,
+    theater VARCHAR(100) NOT NULL,
+    available_seats INT NOT NULL,
+    created_at TIMESTAMP(6) NULL,
+    updated_at TIMESTAMP(6) NULL,
+    archived_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    INDEX idx_archive_show_date_time (show_date_time),
+    INDEX idx_archive_movie_show_date_time (movie_id, show_date_time)
+) ROW_FORMAT = COMPRESSED;
@@ -0,0 +1,15 @@
+-- One row per imported CSV file. CatalogImporter advances byte_offset and the row counts in the
+-- same transaction as each batch, so an interrupted import resumes exactly after its last batch.
+CREATE TABLE catalog_import_checkpoints (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    kind VARCHAR(20) NOT NULL,
+    file_name VARCHAR(255) NOT NULL,
+    file_size BIGINT NOT NULL,
+    file_modified_at TIMESTAMP(6) NOT NULL,
+    byte_offset BIGINT NOT NULL,
+    rows_imported BIGINT NOT NULL,
+    rows_rejected BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    UNIQUE KEY uk_import_kind_file (kind, file_name)
+);
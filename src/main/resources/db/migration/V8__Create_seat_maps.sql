@@ -0,0 +1,25 @@
+-- Seat layout per theater: rows lettered from A, seats numbered from 1 within a row.
+CREATE TABLE theater_layouts (
+    theater VARCHAR(100) NOT NULL PRIMARY KEY,
+    seat_rows INT NOT NULL,
+    seats_per_row INT NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL
+);
+
+-- Claimed seats of a showtime, one bit per seat in row-major order (seat i is bit i % 8 of byte
+-- i / 8), so a 300-seat screen takes 38 bytes. No foreign key: showtimes is partitioned.
+CREATE TABLE showtime_seat_maps (
+    showtime_id BIGINT NOT NULL PRIMARY KEY,
+    occupancy BLOB NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL
+);
+
+INSERT INTO theater_layouts (theater, seat_rows, seats_per_row, updated_at) VALUES
+('Theater 1', 15, 20, CURRENT_TIMESTAMP(6)),
+('Theater 2', 15, 20, CURRENT_TIMESTAMP(6)),
+('Theater 3', 15, 20, CURRENT_TIMESTAMP(6)),
+('Theater 4', 15, 20, CURRENT_TIMESTAMP(6)),
+('Theater 5', 15, 20, CURRENT_TIMESTAMP(6)),
+('Theater 6', 15, 20, CURRENT_TIMESTAMP(6)),
+('Theater 7', 15, 20, CURRENT_TIMESTAMP(6)),
+('Theater 8', 15, 20, CURRENT_TIMESTAMP(6));
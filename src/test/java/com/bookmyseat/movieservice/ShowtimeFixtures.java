@@ -0,0 +1,74 @@
+package com.bookmyseat.movieservice;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Seeds movies and showtimes over JDBC for tests of components that write the showtimes table
+ * directly. Rows are stamped a week before {@link #NOW}, so a write made at NOW shows in
+ * updated_at, and each showtime's generated ID is handed back instead of being looked up again.
+ */
+public final class ShowtimeFixtures {
+
+    public static final LocalDateTime NOW = LocalDateTime.of(2025, 9, 30, 8, 0);
+    public static final long MOVIE_ID = 1L;
+
+    private static final String INSERT_MOVIE = "INSERT INTO movies (id, title, description, duration_minutes, genre, " +
+            "language, release_date, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_SHOWTIME = "INSERT INTO showtimes (movie_id, show_date_time, theater, " +
+            "available_seats, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Timestamp created = Timestamp.valueOf(NOW.minusDays(7));
+
+    public ShowtimeFixtures(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public static Clock fixedClock() {
+        return Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+    }
+
+    public Timestamp created() {
+        return created;
+    }
+
+    // Inception, as movie MOVIE_ID
+    public void insertMovie() {
+        insertMovie(MOVIE_ID, "Inception", "Dreams", 148, "Sci-Fi", "English", LocalDate.of(2010, 7, 16));
+    }
+
+    public void insertMovie(long id, String title, String description, int durationMinutes, String genre,
+                            String language, LocalDate releaseDate) {
+        jdbcTemplate.update(INSERT_MOVIE, id, title, description, durationMinutes, genre, language,
+                Date.valueOf(releaseDate), created, created);
+    }
+
+    public long insertShowtime(LocalDateTime showDateTime, String theater, int availableSeats) {
+        return insertShowtime(MOVIE_ID, showDateTime, theater, availableSeats);
+    }
+
+    public long insertShowtime(long movieId, LocalDateTime showDateTime, String theater, int availableSeats) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT_SHOWTIME, new String[] {"id"});
+            statement.setLong(1, movieId);
+            statement.setTimestamp(2, Timestamp.valueOf(showDateTime));
+            statement.setString(3, theater);
+            statement.setInt(4, availableSeats);
+            statement.setTimestamp(5, created);
+            statement.setTimestamp(6, created);
+            return statement;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+}
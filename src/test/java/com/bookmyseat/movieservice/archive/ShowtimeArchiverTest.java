@@ -0,0 +1,149 @@
+package com.bookmyseat.movieservice.archive;
+
+import com.bookmyseat.movieservice.cache.ShowtimeCacheEvictor;
+import com.bookmyseat.movieservice.dto.ShowtimeDTO;
+import com.bookmyseat.movieservice.entity.ArchivedShowtime;
+import com.bookmyseat.movieservice.entity.Movie;
+import com.bookmyseat.movieservice.entity.Showtime;
+import com.bookmyseat.movieservice.repository.ArchivedShowtimeRepository;
+import com.bookmyseat.movieservice.repository.MovieRepository;
+import com.bookmyseat.movieservice.repository.ShowtimeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "movie.archive.archive-after=P1D",
+        "movie.archive.chunk-size=3",
+        "movie.archive.max-chunks-per-run=2",
+        "movie.archive.chunk-pause=PT0S"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({ShowtimeArchiver.class, ShowtimeCacheEvictor.class, ShowtimeArchiverTest.Config.class})
+class ShowtimeArchiverTest {
+
+    // "Now" is 2025-10-10 12:00, so everything that started before 2025-10-09 12:00 is expired
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 10, 10, 12, 0);
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        Clock clock() {
+            return Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private ShowtimeArchiver showtimeArchiver;
+
+    @Autowired
+    private ShowtimeRepository showtimeRepository;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private ArchivedShowtimeRepository archivedShowtimeRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Movie movie;
+    private List<Showtime> expired;
+
+    @BeforeEach
+    void setUp() {
+        movie = movieRepository.save(new Movie("Inception", "A mind-bending thriller", 148, "Sci-Fi", "English",
+                LocalDate.of(2010, 7, 16)));
+        expired = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            expired.add(new Showtime(movie, NOW.minusDays(3).plusHours(i), "Theater " + i, 100 - i));
+        }
+        showtimeRepository.saveAll(expired);
+        showtimeRepository.save(new Showtime(movie, NOW.minusHours(2), "Theater 1", 90));
+        showtimeRepository.save(new Showtime(movie, NOW.plusDays(1), "Theater 1", 120));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void archiveExpired_ShouldMoveOnlyExpiredRowsAndKeepTheirValues() {
+        double countedBefore = meterRegistry.get("showtime_archive_rows_total").counter().count();
+
+        int archived = showtimeArchiver.archiveExpired();
+
+        assertEquals(4, archived);
+        assertEquals(2, showtimeRepository.count());
+        assertEquals(4, archivedShowtimeRepository.count());
+
+        Showtime original = expired.get(2);
+        ArchivedShowtime copy = archivedShowtimeRepository.findById(original.getId()).orElseThrow();
+        assertEquals(movie.getId(), copy.getMovieId());
+        assertEquals(original.getShowDateTime(), copy.getShowDateTime());
+        assertEquals("Theater 2", copy.getTheater());
+        assertEquals(98, copy.getAvailableSeats());
+        assertEquals(NOW, copy.getArchivedAt());
+        assertEquals(countedBefore + 4, meterRegistry.get("showtime_archive_rows_total").counter().count());
+    }
+
+    @Test
+    void archiveExpired_ShouldStopAfterMaxChunksAndResumeNextRun() {
+        for (int i = 0; i < 4; i++) {
+            showtimeRepository.save(new Showtime(movie, NOW.minusDays(5).plusHours(i), "IMAX", 50));
+        }
+        entityManager.flush();
+
+        // Two chunks of three per run
+        assertEquals(6, showtimeArchiver.archiveExpired());
+        assertEquals(2, showtimeArchiver.archiveExpired());
+        assertEquals(0, showtimeArchiver.archiveExpired());
+        assertEquals(8, archivedShowtimeRepository.count());
+    }
+
+    @Test
+    void findPage_ShouldWalkArchiveInShowTimeOrderWithMovieTitle() {
+        showtimeArchiver.archiveExpired();
+        LocalDateTime from = NOW.minusDays(4);
+        LocalDateTime to = NOW;
+
+        List<ShowtimeDTO> first = archivedShowtimeRepository.findPage(from, to, 0L, Limit.of(3));
+        ShowtimeDTO last = first.get(2);
+        List<ShowtimeDTO> rest = archivedShowtimeRepository.findPage(last.getShowDateTime(), to, last.getId(),
+                Limit.of(3));
+
+        assertEquals(List.of(expired.get(0).getId(), expired.get(1).getId(), expired.get(2).getId()),
+                first.stream().map(ShowtimeDTO::getId).toList());
+        assertEquals(List.of(expired.get(3).getId()), rest.stream().map(ShowtimeDTO::getId).toList());
+        assertEquals("Inception", first.get(0).getMovieTitle());
+        assertEquals(4, archivedShowtimeRepository.findMoviePage(movie.getId(), from, to, 0L, Limit.of(10)).size());
+        assertTrue(archivedShowtimeRepository.findMoviePage(movie.getId() + 1, from, to, 0L, Limit.of(10)).isEmpty());
+    }
+}
@@ -0,0 +1,178 @@
+package com.bookmyseat.movieservice.availability;
+
+import com.bookmyseat.movieservice.entity.Movie;
+import com.bookmyseat.movieservice.repository.MovieRepository;
+import com.bookmyseat.movieservice.repository.ShowtimeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class MovieAvailabilityIndexTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 9, 30);
+    private static final LocalDateTime WRITTEN = TODAY.atTime(7, 0);
+
+    @Autowired
+    private ShowtimeRepository showtimeRepository;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private MutableClock clock;
+    private SimpleMeterRegistry meterRegistry;
+    private MovieAvailabilityIndex index;
+    private Long inception;
+    private Long dangal;
+
+    @BeforeEach
+    void setUp() {
+        inception = movieRepository.save(new Movie("Inception", "A mind-bending thriller", 148, "Sci-Fi", "English",
+                LocalDate.of(2010, 7, 16))).getId();
+        dangal = movieRepository.save(new Movie("Dangal", "Wrestling drama", 161, "Biography", "Hindi",
+                LocalDate.of(2016, 12, 23))).getId();
+        movieRepository.flush();
+
+        insert(inception, TODAY.atTime(14, 0), 100);
+        insert(inception, TODAY.atTime(10, 0), 20);
+        insert(inception, TODAY.plusDays(1).atTime(18, 0), 150);
+        insert(dangal, TODAY.atTime(21, 0), 0);
+        // Outside the two summarized days
+        insert(inception, TODAY.plusDays(2).atTime(18, 0), 150);
+        insert(inception, TODAY.minusDays(1).atTime(18, 0), 150);
+
+        clock = new MutableClock(TODAY.atTime(8, 0).toInstant(ZoneOffset.UTC));
+        meterRegistry = new SimpleMeterRegistry();
+        index = new MovieAvailabilityIndex(showtimeRepository, clock, meterRegistry, 2,
+                Duration.ofMinutes(15), Duration.ofSeconds(5));
+    }
+
+    @Test
+    void get_ShouldSummarizeShowsSeatsAndEarliestShowPerMovieDay() {
+        AvailabilitySummary today = index.get(inception, TODAY).orElseThrow();
+
+        assertEquals(2, today.getTotalShows());
+        assertEquals(120L, today.getAvailableSeats());
+        assertEquals(TODAY.atTime(10, 0), today.getEarliestShow());
+        assertEquals(1, index.get(inception, TODAY.plusDays(1)).orElseThrow().getTotalShows());
+        assertEquals(0L, index.get(dangal, TODAY).orElseThrow().getAvailableSeats());
+        assertTrue(index.get(dangal, TODAY.plusDays(1)).isEmpty());
+        assertTrue(index.get(inception, TODAY.plusDays(2)).isEmpty());
+        assertTrue(index.covers(TODAY.plusDays(1)));
+        assertFalse(index.covers(TODAY.plusDays(2)));
+        assertFalse(index.covers(TODAY.minusDays(1)));
+    }
+
+    @Test
+    void refresh_ShouldApplySeatChangesAndNewShowtimesIncrementally() {
+        long version = index.version();
+        Long earliest = jdbcTemplate.queryForObject(
+                "SELECT id FROM showtimes WHERE show_date_time = ?", Long.class, Timestamp.valueOf(TODAY.atTime(10, 0)));
+
+        jdbcTemplate.update("UPDATE showtimes SET available_seats = 0, updated_at = ? WHERE id = ?",
+                Timestamp.valueOf(WRITTEN.plusMinutes(10)), earliest);
+        insert(dangal, TODAY.plusDays(1).atTime(9, 0), 80, WRITTEN.plusMinutes(10));
+        clock.advance(Duration.ofSeconds(5));
+        index.refresh();
+
+        assertEquals(100L, index.get(inception, TODAY).orElseThrow().getAvailableSeats());
+        assertEquals(80L, index.get(dangal, TODAY.plusDays(1)).orElseThrow().getAvailableSeats());
+        assertTrue(index.version() > version);
+        assertEquals(1L, meterRegistry.get("movie_availability_refresh_duration").tag("mode", "incremental")
+                .timer().count());
+
+        // Rows re-read through the overlap window but unchanged do not bump the version
+        long unchanged = index.version();
+        clock.advance(Duration.ofSeconds(5));
+        index.refresh();
+        assertEquals(unchanged, index.version());
+    }
+
+    @Test
+    void refresh_ShouldMoveShowtimeBetweenDaysAndDropItOutsideTheWindow() {
+        Long evening = jdbcTemplate.queryForObject(
+                "SELECT id FROM showtimes WHERE show_date_time = ?", Long.class, Timestamp.valueOf(TODAY.atTime(21, 0)));
+        index.version();
+
+        jdbcTemplate.update("UPDATE showtimes SET show_date_time = ?, updated_at = ? WHERE id = ?",
+                Timestamp.valueOf(TODAY.plusDays(5).atTime(21, 0)), Timestamp.valueOf(WRITTEN.plusMinutes(1)), evening);
+        clock.advance(Duration.ofSeconds(5));
+        index.refresh();
+
+        assertTrue(index.get(dangal, TODAY).isEmpty());
+    }
+
+    @Test
+    void refresh_ShouldRebuildOnDayRollAndPickUpDeletes() {
+        assertTrue(index.get(dangal, TODAY).isPresent());
+        jdbcTemplate.update("DELETE FROM showtimes WHERE movie_id = ?", dangal);
+
+        clock.advance(Duration.ofDays(1));
+        index.refresh();
+
+        assertTrue(index.get(inception, TODAY).isEmpty());
+        assertEquals(1, index.get(inception, TODAY.plusDays(2)).orElseThrow().getTotalShows());
+        assertTrue(index.covers(TODAY.plusDays(2)));
+        assertEquals(2L, meterRegistry.get("movie_availability_refresh_duration").tag("mode", "full")
+                .timer().count());
+    }
+
+    private void insert(Long movieId, LocalDateTime showTime, int seats) {
+        insert(movieId, showTime, seats, WRITTEN);
+    }
+
+    private void insert(Long movieId, LocalDateTime showTime, int seats, LocalDateTime updatedAt) {
+        jdbcTemplate.update("INSERT INTO showtimes (movie_id, show_date_time, theater, available_seats, created_at, " +
+                "updated_at) VALUES (?, ?, 'Theater 1', ?, ?, ?)", movieId, Timestamp.valueOf(showTime), seats,
+                Timestamp.valueOf(updatedAt), Timestamp.valueOf(updatedAt));
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
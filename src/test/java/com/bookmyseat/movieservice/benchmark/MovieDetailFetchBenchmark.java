@@ -0,0 +1,157 @@
+package com.bookmyseat.movieservice.benchmark;
+
+import com.bookmyseat.movieservice.MovieServiceApplication;
+import com.bookmyseat.movieservice.dto.MovieDetailDTO;
+import com.bookmyseat.movieservice.dto.ShowtimeDTO;
+import com.bookmyseat.movieservice.entity.Movie;
+import com.bookmyseat.movieservice.mapper.MovieMapper;
+import com.bookmyseat.movieservice.repository.MovieRepository;
+import com.bookmyseat.movieservice.repository.ShowtimeRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Movie detail latency for the single LEFT JOIN FETCH against the two-phase fetch (movie row,
+ * then a narrow showtime projection). Result-set bytes per call are printed at setup: MySQL's
+ * text protocol ships every value as a length-prefixed string, so summing the string width of
+ * each returned value approximates what crosses the wire.
+ *
+ * <pre>mvn -Pbenchmark test-compile exec:exec -Dbenchmark=MovieDetailFetchBenchmark</pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MovieDetailFetchBenchmark {
+
+    private static final long MOVIE_ID = 1L;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2025, 9, 1);
+
+    // Repeats every movie column once per showtime row, which is why the detail path no longer uses it
+    private static final String JOIN_FETCH = "SELECT m FROM Movie m LEFT JOIN FETCH m.showtimes WHERE m.id = :id";
+    private static final String JOIN_FETCH_SQL = "SELECT m.id, m.title, m.description, m.duration_minutes, m.genre, " +
+            "m.language, m.release_date, m.created_at, m.updated_at, s.id, s.movie_id, s.show_date_time, s.theater, " +
+            "s.available_seats, s.created_at, s.updated_at FROM movies m LEFT JOIN showtimes s ON s.movie_id = m.id " +
+            "WHERE m.id = ?";
+    private static final String MOVIE_SQL = "SELECT m.id, m.title, m.description, m.duration_minutes, m.genre, " +
+            "m.language, m.release_date, m.created_at, m.updated_at FROM movies m WHERE m.id = ?";
+    private static final String SHOWTIME_SQL = "SELECT s.id, s.movie_id, s.show_date_time, s.theater, " +
+            "s.available_seats FROM showtimes s WHERE s.movie_id = ? ORDER BY s.show_date_time, s.id";
+
+    @Param({"20", "200", "1000"})
+    public int showtimes;
+
+    private ConfigurableApplicationContext context;
+    private MovieRepository movieRepository;
+    private ShowtimeRepository showtimeRepository;
+    private EntityManager entityManager;
+    private MovieMapper movieMapper;
+    private TransactionTemplate readOnly;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(MovieServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.profiles.active=test", "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN", "--logging.level.com.bookmyseat.movieservice=WARN");
+        movieRepository = context.getBean(MovieRepository.class);
+        showtimeRepository = context.getBean(ShowtimeRepository.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(
+                context.getBean(EntityManagerFactory.class));
+        movieMapper = context.getBean(MovieMapper.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        seed(jdbcTemplate);
+        System.out.printf("%nResult-set bytes per call (%d showtimes): join fetch=%d, two-phase=%d%n", showtimes,
+                resultSetBytes(jdbcTemplate, JOIN_FETCH_SQL),
+                resultSetBytes(jdbcTemplate, MOVIE_SQL) + resultSetBytes(jdbcTemplate, SHOWTIME_SQL));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MovieDetailDTO joinFetchDetail() {
+        return readOnly.execute(status -> movieMapper.toMovieDetailDTO(
+                entityManager.createQuery(JOIN_FETCH, Movie.class).setParameter("id", MOVIE_ID).getSingleResult()));
+    }
+
+    @Benchmark
+    public MovieDetailDTO twoPhaseDetail() {
+        return readOnly.execute(status -> {
+            Movie movie = movieRepository.findById(MOVIE_ID).orElseThrow();
+            List<ShowtimeDTO> detailShowtimes = showtimeRepository.findDetailShowtimes(MOVIE_ID,
+                FIRST_DAY.atStartOfDay(), FIRST_DAY.plusYears(1).atStartOfDay());
+            return movieMapper.toMovieDetailDTO(movie, detailShowtimes);
+        });
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.of(2025, 8, 1, 0, 0));
+        jdbcTemplate.update("INSERT INTO movies (id, title, description, duration_minutes, genre, language, " +
+                "release_date, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                MOVIE_ID, "Movie 1", "Synopsis ".repeat(40), 120, "Drama", "English",
+                Date.valueOf(LocalDate.of(2025, 1, 1)), now, now);
+
+        List<Object[]> rows = new ArrayList<>();
+        for (int show = 0; show < showtimes; show++) {
+            LocalDateTime showTime = FIRST_DAY.plusDays(show / 20).atTime(10, 0).plusMinutes((show % 20) * 30L);
+            rows.add(new Object[] {MOVIE_ID, Timestamp.valueOf(showTime), "Theater " + (show % 5), 100, now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO showtimes (movie_id, show_date_time, theater, available_seats, " +
+                "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    private static long resultSetBytes(JdbcTemplate jdbcTemplate, String sql) {
+        long[] bytes = new long[1];
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> bytes[0] += rowBytes(rs), MOVIE_ID);
+        return bytes[0];
+    }
+
+    private static long rowBytes(ResultSet rs) throws SQLException {
+        long bytes = 0;
+        for (int column = 1; column <= rs.getMetaData().getColumnCount(); column++) {
+            String value = rs.getString(column);
+            bytes += value != null ? value.getBytes(StandardCharsets.UTF_8).length + 1 : 1;
+        }
+        return bytes;
+    }
+}
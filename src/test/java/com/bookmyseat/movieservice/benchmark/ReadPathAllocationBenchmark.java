@@ -0,0 +1,137 @@
+package com.bookmyseat.movieservice.benchmark;
+
+import com.bookmyseat.movieservice.MovieServiceApplication;
+import com.bookmyseat.movieservice.dto.MovieDTO;
+import com.bookmyseat.movieservice.dto.ShowtimeDTO;
+import com.bookmyseat.movieservice.entity.Showtime;
+import com.bookmyseat.movieservice.mapper.MovieMapper;
+import com.bookmyseat.movieservice.repository.MovieRepository;
+import com.bookmyseat.movieservice.repository.ShowtimeRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Allocation per read request for the entity + mapper path against direct DTO projection.
+ * Boots the application on the in-memory H2 test profile; compare the gc.alloc.rate.norm
+ * (bytes/op) column of each entity/projected pair.
+ *
+ * <pre>mvn -Pbenchmark test-compile exec:exec -Dbenchmark=ReadPathAllocationBenchmark</pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReadPathAllocationBenchmark {
+
+    private static final int MOVIES = 200;
+    private static final int SHOWTIMES_PER_MOVIE = 20;
+    private static final int PAGE_SIZE = 50;
+    private static final LocalDate DAY = LocalDate.of(2025, 9, 1);
+    // The read path before DTO projection, kept here so the repository no longer carries it
+    private static final String ENTITY_PAGE = "SELECT s FROM Showtime s JOIN FETCH s.movie " +
+            "WHERE s.showDateTime >= :dayStart AND s.showDateTime < :dayEnd ORDER BY s.showDateTime, s.id";
+
+    private ConfigurableApplicationContext context;
+    private MovieRepository movieRepository;
+    private ShowtimeRepository showtimeRepository;
+    private EntityManager entityManager;
+    private MovieMapper movieMapper;
+    private TransactionTemplate readOnly;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(MovieServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.profiles.active=test", "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN", "--logging.level.com.bookmyseat.movieservice=WARN");
+        movieRepository = context.getBean(MovieRepository.class);
+        showtimeRepository = context.getBean(ShowtimeRepository.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(
+                context.getBean(EntityManagerFactory.class));
+        movieMapper = context.getBean(MovieMapper.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        seed(context.getBean(JdbcTemplate.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<MovieDTO> entityMovieList() {
+        return readOnly.execute(status -> movieMapper.toMovieDTOList(movieRepository.findAll()));
+    }
+
+    @Benchmark
+    public List<MovieDTO> projectedMovieList() {
+        return readOnly.execute(status -> movieRepository.findAllMovieDTOs());
+    }
+
+    @Benchmark
+    public List<ShowtimeDTO> entityShowtimePage() {
+        return readOnly.execute(status -> movieMapper.toShowtimeDTOList(
+                entityManager.createQuery(ENTITY_PAGE, Showtime.class)
+                        .setParameter("dayStart", DAY.atStartOfDay())
+                        .setParameter("dayEnd", DAY.plusDays(1).atStartOfDay())
+                        .setMaxResults(PAGE_SIZE)
+                        .getResultList()));
+    }
+
+    @Benchmark
+    public List<ShowtimeDTO> projectedShowtimePage() {
+        return readOnly.execute(status ->
+                showtimeRepository.findShowtimeDTOPage(null, DAY, null, null, null, PAGE_SIZE));
+    }
+
+    private static void seed(JdbcTemplate jdbcTemplate) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.of(2025, 8, 1, 0, 0));
+        List<Object[]> movies = new ArrayList<>();
+        for (int i = 1; i <= MOVIES; i++) {
+            movies.add(new Object[] {(long) i, "Movie " + i, "Synopsis ".repeat(40) + i, 120, "Drama", "English",
+                    Date.valueOf(LocalDate.of(2025, 1, 1)), now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO movies (id, title, description, duration_minutes, genre, language, " +
+                "release_date, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", movies);
+
+        List<Object[]> showtimes = new ArrayList<>();
+        for (int i = 1; i <= MOVIES; i++) {
+            for (int show = 0; show < SHOWTIMES_PER_MOVIE; show++) {
+                LocalDateTime showTime = DAY.atTime(10, 0).plusMinutes(show * 30L);
+                showtimes.add(new Object[] {(long) i, Timestamp.valueOf(showTime), "Theater " + (show % 5), 100, now, now});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO showtimes (movie_id, show_date_time, theater, available_seats, " +
+                "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)", showtimes);
+    }
+}
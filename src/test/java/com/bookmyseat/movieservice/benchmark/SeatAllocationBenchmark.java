@@ -0,0 +1,71 @@
+package com.bookmyseat.movieservice.benchmark;
+
+import com.bookmyseat.movieservice.seatmap.SeatBlockTable;
+import com.bookmyseat.movieservice.seatmap.SeatLayout;
+import com.bookmyseat.movieservice.seatmap.SeatMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Best-available allocation latency on one shared 300-seat map, with threads racing for the same
+ * best blocks. Each operation claims a block and frees it again, so occupancy stays at the
+ * configured fill; at 90% most party sizes scan far down the ranking or find nothing.
+ *
+ * <pre>mvn -Pbenchmark test-compile exec:exec -Dbenchmark=SeatAllocationBenchmark</pre>
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class SeatAllocationBenchmark {
+
+    private static final SeatLayout LAYOUT = new SeatLayout(15, 20);
+
+    @Param({"0.5", "0.9"})
+    public double fill;
+
+    @Param({"2", "6"})
+    public int partySize;
+
+    private SeatBlockTable table;
+    private SeatMap map;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        table = new SeatBlockTable(LAYOUT, 10);
+        map = new SeatMap(LAYOUT.capacity());
+        Random random = new Random(42);
+        int target = (int) (LAYOUT.capacity() * fill);
+        for (int claimed = 0; claimed < target; ) {
+            if (map.tryClaim(new int[] {random.nextInt(LAYOUT.capacity())})) {
+                claimed++;
+            }
+        }
+    }
+
+    @Benchmark
+    public int[] allocateAndRelease() {
+        int[] block = table.allocate(map, partySize);
+        if (block != null) {
+            map.release(block);
+        }
+        return block;
+    }
+}
@@ -0,0 +1,52 @@
+package com.bookmyseat.movieservice.benchmark;
+
+import com.bookmyseat.movieservice.inventory.SeatCounter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory reservations per second on one hot showtime. One stripe is a single CAS target that
+ * every thread fights over; with one stripe per core, throughput should grow with the thread
+ * count. Run with increasing {@code -t} to see the scaling.
+ *
+ * <pre>mvn -Pbenchmark test-compile exec:exec -Dbenchmark="SeatCounterBenchmark -t 8"</pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SeatCounterBenchmark {
+
+    private static final LocalDateTime SHOW = LocalDateTime.of(2025, 10, 1, 18, 0);
+
+    @Param({"1", "16"})
+    public int stripes;
+
+    private SeatCounter counter;
+
+    // Refilled every iteration so the counter never sells out mid-measurement
+    @Setup(Level.Iteration)
+    public void setUp() {
+        counter = new SeatCounter(Integer.MAX_VALUE, stripes, SHOW);
+    }
+
+    @Benchmark
+    public boolean reserveOneSeat() {
+        return counter.tryTake(1);
+    }
+}
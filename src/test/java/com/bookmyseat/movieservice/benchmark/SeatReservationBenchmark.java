@@ -0,0 +1,121 @@
+package com.bookmyseat.movieservice.benchmark;
+
+import com.bookmyseat.movieservice.MovieServiceApplication;
+import com.bookmyseat.movieservice.dto.ReservationDTO;
+import com.bookmyseat.movieservice.entity.Showtime;
+import com.bookmyseat.movieservice.repository.ShowtimeRepository;
+import com.bookmyseat.movieservice.service.ShowtimeService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reservations per second on a single hot showtime with every thread competing for the same
+ * row. The conditional UPDATE is compared with the read-modify-write the booking flow used to do
+ * from outside; after each iteration the seats actually taken are checked against the
+ * reservations that reported success, which exposes the lost updates of the latter.
+ *
+ * <pre>mvn -Pbenchmark test-compile exec:exec -Dbenchmark=SeatReservationBenchmark</pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SeatReservationBenchmark {
+
+    private static final long MOVIE_ID = 1L;
+    private static final int SEATS = 1_000_000_000;
+
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate jdbcTemplate;
+    private ShowtimeService showtimeService;
+    private ShowtimeRepository showtimeRepository;
+    private TransactionTemplate transactionTemplate;
+    private long showtimeId;
+    private final AtomicLong reported = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(MovieServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.profiles.active=test", "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN", "--logging.level.com.bookmyseat.movieservice=WARN");
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        showtimeService = context.getBean(ShowtimeService.class);
+        showtimeRepository = context.getBean(ShowtimeRepository.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.of(2025, 8, 1, 0, 0));
+        jdbcTemplate.update("INSERT INTO movies (id, title, description, duration_minutes, genre, language, " +
+                "release_date, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                MOVIE_ID, "Movie 1", "Synopsis", 120, "Drama", "English",
+                Date.valueOf(LocalDate.of(2025, 1, 1)), now, now);
+        jdbcTemplate.update("INSERT INTO showtimes (movie_id, show_date_time, theater, available_seats, " +
+                "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)",
+                MOVIE_ID, Timestamp.valueOf(LocalDateTime.of(2025, 10, 1, 18, 0)), "IMAX", SEATS, now, now);
+        showtimeId = jdbcTemplate.queryForObject("SELECT id FROM showtimes", Long.class);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetSeats() {
+        jdbcTemplate.update("UPDATE showtimes SET available_seats = ? WHERE id = ?", SEATS, showtimeId);
+        reported.set(0);
+    }
+
+    @TearDown(Level.Iteration)
+    public void checkSeats() {
+        long taken = SEATS - jdbcTemplate.queryForObject("SELECT available_seats FROM showtimes WHERE id = ?",
+                Integer.class, showtimeId);
+        System.out.printf("%nReservations reported: %d, seats taken: %d, lost updates: %d%n",
+                reported.get(), taken, reported.get() - taken);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ReservationDTO conditionalUpdate() {
+        ReservationDTO reservation = showtimeService.reserveSeats(showtimeId, 1);
+        reported.incrementAndGet();
+        return reservation;
+    }
+
+    @Benchmark
+    public Integer readModifyWrite() {
+        Integer left = transactionTemplate.execute(status -> {
+            Showtime showtime = showtimeRepository.findById(showtimeId).orElseThrow();
+            showtime.setAvailableSeats(showtime.getAvailableSeats() - 1);
+            return showtime.getAvailableSeats();
+        });
+        reported.incrementAndGet();
+        return left;
+    }
+}
@@ -0,0 +1,119 @@
+package com.bookmyseat.movieservice.benchmark;
+
+import com.bookmyseat.movieservice.MovieServiceApplication;
+import com.bookmyseat.movieservice.dto.ShowtimeIngestResultDTO;
+import com.bookmyseat.movieservice.dto.ShowtimeIngestRowDTO;
+import com.bookmyseat.movieservice.entity.Movie;
+import com.bookmyseat.movieservice.entity.Showtime;
+import com.bookmyseat.movieservice.ingest.ShowtimeIngester;
+import com.bookmyseat.movieservice.repository.MovieRepository;
+import com.bookmyseat.movieservice.repository.ShowtimeRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk showtime ingestion through {@link ShowtimeIngester}'s JDBC batches against the entity path
+ * it replaces, where IDENTITY IDs force Hibernate to issue and round-trip one INSERT per row. Runs
+ * on the in-memory test database, so it understates the gap on MySQL, where every saved row is
+ * also a network round trip and rewriteBatchedStatements folds a whole batch into one statement.
+ *
+ * <pre>mvn -Pbenchmark test-compile exec:exec -Dbenchmark=ShowtimeIngestBenchmark</pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ShowtimeIngestBenchmark {
+
+    private static final long MOVIE_ID = 1L;
+    private static final LocalDateTime FIRST_SHOW = LocalDateTime.of(2025, 10, 1, 10, 0);
+
+    @Param({"1000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate jdbcTemplate;
+    private MovieRepository movieRepository;
+    private ShowtimeRepository showtimeRepository;
+    private ShowtimeIngester showtimeIngester;
+    private TransactionTemplate transactionTemplate;
+    private List<ShowtimeIngestRowDTO> batch;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(MovieServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.profiles.active=test", "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN", "--logging.level.com.bookmyseat.movieservice=WARN");
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        movieRepository = context.getBean(MovieRepository.class);
+        showtimeRepository = context.getBean(ShowtimeRepository.class);
+        showtimeIngester = context.getBean(ShowtimeIngester.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.of(2025, 8, 1, 0, 0));
+        jdbcTemplate.update("INSERT INTO movies (id, title, description, duration_minutes, genre, language, " +
+                "release_date, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                MOVIE_ID, "Movie 1", "Synopsis", 120, "Drama", "English",
+                Date.valueOf(LocalDate.of(2025, 1, 1)), now, now);
+
+        batch = new ArrayList<>(rows);
+        for (int row = 0; row < rows; row++) {
+            batch.add(new ShowtimeIngestRowDTO(MOVIE_ID, FIRST_SHOW.plusMinutes(row * 30L), "Theater " + (row % 8), 100));
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void clearShowtimes() {
+        jdbcTemplate.update("DELETE FROM showtimes");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int entityRowByRow() {
+        return transactionTemplate.execute(status -> {
+            Movie movie = movieRepository.getReferenceById(MOVIE_ID);
+            for (ShowtimeIngestRowDTO row : batch) {
+                showtimeRepository.save(new Showtime(movie, row.getShowDateTime(), row.getTheater(),
+                        row.getAvailableSeats()));
+            }
+            return batch.size();
+        });
+    }
+
+    @Benchmark
+    public ShowtimeIngestResultDTO jdbcBatch() {
+        return showtimeIngester.ingest(batch);
+    }
+}
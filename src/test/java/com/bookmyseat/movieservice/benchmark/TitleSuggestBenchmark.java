@@ -0,0 +1,98 @@
+package com.bookmyseat.movieservice.benchmark;
+
+import com.bookmyseat.movieservice.dto.MovieDTO;
+import com.bookmyseat.movieservice.dto.MovieSuggestionDTO;
+import com.bookmyseat.movieservice.search.SearchTokenizer;
+import com.bookmyseat.movieservice.search.TitleTrie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Title autocomplete lookup latency and allocation on the flattened {@link TitleTrie}, against
+ * scanning every title the way clients used to filter /movies. Setup prints the trie's node
+ * count and array footprint; compare gc.alloc.rate.norm (bytes/op) for per-lookup allocation.
+ *
+ * <pre>mvn -Pbenchmark test-compile exec:exec -Dbenchmark=TitleSuggestBenchmark</pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TitleSuggestBenchmark {
+
+    private static final String[] WORDS = {"the", "dark", "star", "night", "return", "of", "lost", "city", "last",
+            "king", "dream", "storm", "silent", "river", "iron", "shadow", "golden", "empire", "ghost", "love",
+            "war", "secret", "garden", "fire", "ice", "moon", "blood", "house", "road", "winter"};
+    private static final int LIMIT = 10;
+
+    @Param({"1000", "10000", "100000"})
+    private int movies;
+
+    private TitleTrie trie;
+    private List<MovieDTO> catalog;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        catalog = new ArrayList<>(movies);
+        for (int i = 1; i <= movies; i++) {
+            int length = 1 + random.nextInt(4);
+            StringBuilder title = new StringBuilder();
+            for (int word = 0; word < length; word++) {
+                String next = WORDS[random.nextInt(WORDS.length)];
+                title.append(word == 0 ? Character.toUpperCase(next.charAt(0)) + next.substring(1) : " " + next);
+            }
+            catalog.add(new MovieDTO((long) i, title.append(' ').append(i).toString(), null, 120, "Drama", "English", null));
+        }
+        trie = TitleTrie.build(catalog, LIMIT);
+        System.out.printf("%n%d titles: %d trie nodes, %d bytes of trie arrays (%.1f bytes/title)%n",
+                movies, trie.nodeCount(), trie.footprintBytes(), (double) trie.footprintBytes() / movies);
+    }
+
+    @Benchmark
+    public List<MovieSuggestionDTO> trieShortPrefix() {
+        return trie.suggest("st", LIMIT);
+    }
+
+    @Benchmark
+    public List<MovieSuggestionDTO> trieLongPrefix() {
+        return trie.suggest("dark night ret", LIMIT);
+    }
+
+    @Benchmark
+    public List<MovieDTO> scanShortPrefix() {
+        return scan("st");
+    }
+
+    private List<MovieDTO> scan(String prefix) {
+        List<MovieDTO> matches = new ArrayList<>();
+        for (MovieDTO movie : catalog) {
+            for (String word : SearchTokenizer.tokenize(movie.getTitle())) {
+                if (word.startsWith(prefix)) {
+                    matches.add(movie);
+                    break;
+                }
+            }
+        }
+        matches.sort(Comparator.comparingInt(movie -> movie.getTitle().length()));
+        return matches.subList(0, Math.min(LIMIT, matches.size()));
+    }
+}
@@ -0,0 +1,163 @@
+package com.bookmyseat.movieservice.cache;
+
+import com.bookmyseat.movieservice.dto.MovieDetailDTO;
+import com.bookmyseat.movieservice.dto.ShowtimeDTO;
+import com.bookmyseat.movieservice.repository.DataWatermark;
+import com.bookmyseat.movieservice.window.ShowtimeWindow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MovieDetailCacheTest {
+
+    private static final DataWatermark WATERMARK = new DataWatermark(LocalDateTime.of(2025, 9, 29, 10, 0), 4L);
+    private static final ShowtimeWindow WINDOW =
+            new ShowtimeWindow(LocalDateTime.of(2025, 9, 29, 10, 0), LocalDateTime.of(2025, 10, 6, 10, 0));
+
+    private SimpleMeterRegistry meterRegistry;
+    private MovieDetailCache movieDetailCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        movieDetailCache = new MovieDetailCache(meterRegistry, 1_000_000L, Duration.ofMinutes(5));
+    }
+
+    @Test
+    void get_ConcurrentMissesForSameMovie_ShouldLoadOnce() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<MovieDetailDTO>> results = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return movieDetailCache.get(1L, WINDOW, WATERMARK, id -> {
+                        loads.incrementAndGet();
+                        sleep(50);
+                        return detail(id, 2);
+                    });
+                }));
+            }
+            start.countDown();
+
+            MovieDetailDTO first = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<MovieDetailDTO> result : results) {
+                assertSame(first, result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_ShouldRecordHitsMissesAndLoadTime() {
+        movieDetailCache.get(1L, WINDOW, WATERMARK, id -> detail(id, 1));
+        movieDetailCache.get(1L, WINDOW, WATERMARK, id -> detail(id, 1));
+        movieDetailCache.get(1L, WINDOW, WATERMARK, id -> detail(id, 1));
+
+        assertEquals(2.0, meterRegistry.get("cache.gets").tag("cache", "movieDetail")
+                .tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "movieDetail")
+                .tag("result", "miss").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.load.duration").tag("cache", "movieDetail")
+                .functionTimer().count());
+    }
+
+    @Test
+    void get_WhenWeightExceeded_ShouldEvictEntries() {
+        SimpleMeterRegistry smallRegistry = new SimpleMeterRegistry();
+        MovieDetailCache smallCache = new MovieDetailCache(smallRegistry, 4_000L, Duration.ofMinutes(5));
+
+        for (long id = 1; id <= 20; id++) {
+            smallCache.get(id, WINDOW, WATERMARK, movieId -> detail(movieId, 5));
+        }
+        smallCache.cleanUp();
+
+        assertTrue(smallRegistry.get("cache.evictions").tag("cache", "movieDetail")
+                .functionCounter().count() > 0);
+    }
+
+    @Test
+    void invalidate_ShouldForceReload() {
+        AtomicInteger loads = new AtomicInteger();
+
+        movieDetailCache.get(1L, WINDOW, WATERMARK, id -> {
+            loads.incrementAndGet();
+            return detail(id, 0);
+        });
+        movieDetailCache.invalidate(1L);
+        movieDetailCache.get(1L, WINDOW, WATERMARK, id -> {
+            loads.incrementAndGet();
+            return detail(id, 0);
+        });
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_WithNewWatermark_ShouldLoadAgain() {
+        AtomicInteger loads = new AtomicInteger();
+        DataWatermark newer = new DataWatermark(LocalDateTime.of(2025, 9, 29, 11, 0), 5L);
+
+        movieDetailCache.get(1L, WINDOW, WATERMARK, id -> detail(id, loads.incrementAndGet()));
+        movieDetailCache.get(1L, WINDOW, WATERMARK, id -> detail(id, loads.incrementAndGet()));
+        MovieDetailDTO reloaded = movieDetailCache.get(1L, WINDOW, newer, id -> detail(id, loads.incrementAndGet()));
+
+        assertEquals(2, loads.get());
+        assertEquals(2, reloaded.getShowtimes().size());
+    }
+
+    @Test
+    void get_WithDifferentWindow_ShouldCacheSeparately() {
+        AtomicInteger loads = new AtomicInteger();
+        ShowtimeWindow wider = new ShowtimeWindow(WINDOW.getFrom(), WINDOW.getTo().plusDays(7));
+
+        MovieDetailDTO narrow = movieDetailCache.get(1L, WINDOW, WATERMARK, id -> detail(id, loads.incrementAndGet()));
+        MovieDetailDTO wide = movieDetailCache.get(1L, wider, WATERMARK, id -> detail(id, loads.incrementAndGet()));
+
+        assertEquals(2, loads.get());
+        assertNotSame(narrow, wide);
+        assertSame(narrow, movieDetailCache.get(1L, WINDOW, WATERMARK, id -> detail(id, loads.incrementAndGet())));
+    }
+
+    @Test
+    void weigh_ShouldGrowWithShowtimes() {
+        assertTrue(MovieDetailCache.weigh(detail(1L, 10)) > MovieDetailCache.weigh(detail(1L, 1)));
+    }
+
+    private static MovieDetailDTO detail(Long id, int showtimeCount) {
+        List<ShowtimeDTO> showtimes = new ArrayList<>();
+        for (int i = 0; i < showtimeCount; i++) {
+            showtimes.add(new ShowtimeDTO((long) i, id, "Inception",
+                    LocalDateTime.of(2025, 9, 30, 14, 0).plusHours(i), "Theater 1", 100));
+        }
+        return new MovieDetailDTO(id, "Inception", "A mind-bending thriller", 148,
+                "Sci-Fi", "English", LocalDate.of(2010, 7, 16), showtimes);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
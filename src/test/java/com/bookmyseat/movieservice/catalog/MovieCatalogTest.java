@@ -0,0 +1,215 @@
+package com.bookmyseat.movieservice.catalog;
+
+import com.bookmyseat.movieservice.dto.MovieDTO;
+import com.bookmyseat.movieservice.entity.Movie;
+import com.bookmyseat.movieservice.mapper.MovieMapper;
+import com.bookmyseat.movieservice.pagination.Cursor;
+import com.bookmyseat.movieservice.pagination.CursorPage;
+import com.bookmyseat.movieservice.repository.DataWatermark;
+import com.bookmyseat.movieservice.repository.MovieRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MovieCatalogTest {
+
+    @Mock
+    private MovieRepository movieRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private MovieCatalog movieCatalog;
+    private SimpleMeterRegistry meterRegistry;
+
+    private Movie inception;
+    private Movie darkKnight;
+    private Movie dangal;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        movieCatalog = new MovieCatalog(movieRepository, eventPublisher, meterRegistry);
+
+        inception = new Movie("Inception", "A mind-bending thriller", 148, "Sci-Fi", "English", LocalDate.of(2010, 7, 16));
+        inception.setId(1L);
+        darkKnight = new Movie("The Dark Knight", "Batman faces the Joker", 152, "Action", "English", LocalDate.of(2008, 7, 18));
+        darkKnight.setId(2L);
+        dangal = new Movie("Dangal", "Wrestling drama", 161, "Biography", "Hindi", LocalDate.of(2016, 12, 23));
+        dangal.setId(6L);
+    }
+
+    @Test
+    void current_ShouldLoadSnapshotOnceAndReuseIt() {
+        when(movieRepository.findAllMovieDTOs()).thenReturn(dtos(inception, darkKnight));
+
+        MovieCatalogSnapshot first = movieCatalog.current();
+        MovieCatalogSnapshot second = movieCatalog.current();
+
+        assertSame(first, second);
+        assertEquals(2, first.size());
+        verify(movieRepository, times(1)).findAllMovieDTOs();
+    }
+
+    @Test
+    void refresh_ShouldSwapInNewSnapshot() {
+        when(movieRepository.findAllMovieDTOs())
+                .thenReturn(dtos(inception))
+                .thenReturn(dtos(inception, darkKnight, dangal));
+
+        MovieCatalogSnapshot before = movieCatalog.current();
+        MovieCatalogSnapshot after = movieCatalog.refresh();
+
+        assertNotSame(before, after);
+        assertEquals(1, before.size());
+        assertEquals(3, after.size());
+        assertSame(after, movieCatalog.current());
+        assertEquals(3.0, meterRegistry.get("movie_catalog_size").gauge().value());
+        assertEquals(2, meterRegistry.get("movie_catalog_refresh_duration").timer().count());
+    }
+
+    @Test
+    void refresh_ShouldPublishEventWithPreviousAndCurrentSnapshot() {
+        when(movieRepository.findAllMovieDTOs()).thenReturn(dtos(inception));
+
+        MovieCatalogSnapshot before = movieCatalog.current();
+        MovieCatalogSnapshot after = movieCatalog.refresh();
+
+        ArgumentCaptor<MovieCatalogRefreshedEvent> events = ArgumentCaptor.forClass(MovieCatalogRefreshedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertNull(events.getAllValues().get(0).getPrevious());
+        assertSame(before, events.getAllValues().get(1).getPrevious());
+        assertSame(after, events.getAllValues().get(1).getCurrent());
+    }
+
+    @Test
+    void refresh_WhenWatermarkUnchanged_ShouldKeepSnapshotWithoutReloading() {
+        DataWatermark watermark = new DataWatermark(LocalDateTime.of(2025, 9, 29, 10, 0), 1L);
+        when(movieRepository.findWatermark()).thenReturn(watermark);
+        when(movieRepository.findAllMovieDTOs()).thenReturn(dtos(inception));
+
+        MovieCatalogSnapshot before = movieCatalog.current();
+        MovieCatalogSnapshot after = movieCatalog.refresh();
+
+        assertSame(before, after);
+        assertSame(watermark, after.getWatermark());
+        verify(movieRepository, times(1)).findAllMovieDTOs();
+        verify(eventPublisher, times(1)).publishEvent(any(MovieCatalogRefreshedEvent.class));
+    }
+
+    @Test
+    void refresh_WhenWatermarkChanged_ShouldRebuild() {
+        when(movieRepository.findWatermark())
+                .thenReturn(new DataWatermark(LocalDateTime.of(2025, 9, 29, 10, 0), 1L))
+                .thenReturn(new DataWatermark(LocalDateTime.of(2025, 9, 29, 10, 0), 2L));
+        when(movieRepository.findAllMovieDTOs())
+                .thenReturn(dtos(inception))
+                .thenReturn(dtos(inception, darkKnight));
+
+        movieCatalog.current();
+        MovieCatalogSnapshot after = movieCatalog.refresh();
+
+        assertEquals(2, after.size());
+        assertEquals(2L, after.getWatermark().getCount());
+    }
+
+    @Test
+    void refresh_WhenRepositoryFails_ShouldKeepPreviousSnapshot() {
+        when(movieRepository.findAllMovieDTOs())
+                .thenReturn(dtos(inception))
+                .thenThrow(new IllegalStateException("database unavailable"));
+
+        MovieCatalogSnapshot before = movieCatalog.current();
+
+        assertThrows(IllegalStateException.class, () -> movieCatalog.refresh());
+        assertSame(before, movieCatalog.current());
+    }
+
+    @Test
+    void snapshot_ShouldAnswerEveryFilterCombination() {
+        MovieCatalogSnapshot snapshot = MovieCatalogSnapshot.of(new MovieMapper()
+                .toMovieDTOList(Arrays.asList(dangal, darkKnight, inception)));
+
+        assertEquals(Arrays.asList(6L, 1L, 2L), ids(snapshot.find(null, null)));
+        assertEquals(Arrays.asList(2L), ids(snapshot.find("Action", null)));
+        assertEquals(Arrays.asList(1L, 2L), ids(snapshot.find(null, "English")));
+        assertEquals(Arrays.asList(1L), ids(snapshot.find("Sci-Fi", "English")));
+        assertTrue(snapshot.find("Sci-Fi", "Hindi").isEmpty());
+        assertTrue(snapshot.find("Horror", null).isEmpty());
+    }
+
+    @Test
+    void snapshot_PageShouldResumeAfterCursorWithinFilter() {
+        MovieCatalogSnapshot snapshot = MovieCatalogSnapshot.of(new MovieMapper()
+                .toMovieDTOList(Arrays.asList(dangal, darkKnight, inception)));
+
+        CursorPage<MovieDTO> first = snapshot.page(null, "English", null, 1);
+        CursorPage<MovieDTO> second = snapshot.page(null, "English", Cursor.decode(first.getNextCursor()), 1);
+
+        assertEquals(Arrays.asList(1L), ids(first.getItems()));
+        assertEquals(Arrays.asList(2L), ids(second.getItems()));
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    void snapshot_PageShouldSkipPastRemovedCursorRow() {
+        // The cursor row no longer exists; the page must start at the next title, not restart
+        MovieCatalogSnapshot snapshot = MovieCatalogSnapshot.of(new MovieMapper()
+                .toMovieDTOList(Arrays.asList(dangal, darkKnight)));
+
+        CursorPage<MovieDTO> page = snapshot.page(null, null, Cursor.of("Inception", 1L), 10);
+
+        assertEquals(Arrays.asList(2L), ids(page.getItems()));
+    }
+
+    @Test
+    void snapshot_ShouldMatchFiltersCaseInsensitively() {
+        MovieCatalogSnapshot snapshot = MovieCatalogSnapshot.of(new MovieMapper()
+                .toMovieDTOList(Arrays.asList(inception, dangal)));
+
+        assertEquals(Arrays.asList(1L), ids(snapshot.find("sci-fi", "ENGLISH")));
+        assertEquals(Arrays.asList(6L), ids(snapshot.find(null, "hindi")));
+    }
+
+    @Test
+    void snapshot_ShouldSkipNullGenreAndLanguageInIndexes() {
+        Movie untagged = new Movie("Untitled", null, 90, null, null, null);
+        untagged.setId(10L);
+        MovieCatalogSnapshot snapshot = MovieCatalogSnapshot.of(new MovieMapper()
+                .toMovieDTOList(Arrays.asList(untagged, inception)));
+
+        assertEquals(2, snapshot.find(null, null).size());
+        assertEquals(Arrays.asList(1L), ids(snapshot.find("Sci-Fi", null)));
+    }
+
+    @Test
+    void snapshot_ShouldBeImmutable() {
+        MovieCatalogSnapshot snapshot = MovieCatalogSnapshot.of(new MovieMapper()
+                .toMovieDTOList(Arrays.asList(inception)));
+
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getMovies().clear());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.find("Sci-Fi", null).clear());
+    }
+
+    private static List<MovieDTO> dtos(Movie... movies) {
+        return new MovieMapper().toMovieDTOList(Arrays.asList(movies));
+    }
+
+    private static List<Long> ids(List<MovieDTO> movies) {
+        return movies.stream().map(MovieDTO::getId).toList();
+    }
+}
@@ -0,0 +1,114 @@
+package com.bookmyseat.movieservice.config;
+
+import com.bookmyseat.movieservice.entity.Movie;
+import com.bookmyseat.movieservice.entity.Showtime;
+import com.bookmyseat.movieservice.repository.MovieRepository;
+import com.bookmyseat.movieservice.repository.ShowtimeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.orm.jpa.HibernateMetricsAutoConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Commits for real: the query cache only trusts results once the writing transaction completes
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:hibernate-cache;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "movie.hibernate-cache.enabled=true",
+        "movie.hibernate-cache.statistics=true",
+        "movie.hibernate-cache.regions.movie.maximum-size=100",
+        "movie.hibernate-cache.regions.showtime-queries.maximum-size=100",
+        "movie.hibernate-cache.regions.showtime-queries.expire-after-write=PT1M"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(HibernateCacheConfig.class)
+@ImportAutoConfiguration({MetricsAutoConfiguration.class, CompositeMeterRegistryAutoConfiguration.class,
+        SimpleMetricsExportAutoConfiguration.class, HibernateMetricsAutoConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class HibernateCacheConfigTest {
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private ShowtimeRepository showtimeRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+    private Movie movie;
+
+    @BeforeEach
+    void setUp() {
+        movie = movieRepository.save(new Movie("Inception", "A mind-bending thriller", 148, "Sci-Fi", "English",
+                LocalDate.of(2010, 7, 16)));
+        Showtime showtime = new Showtime(movie, LocalDateTime.of(2025, 10, 1, 18, 0), "IMAX", 100);
+        showtimeRepository.save(showtime);
+
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        showtimeRepository.deleteAll();
+        movieRepository.deleteAll();
+    }
+
+    @Test
+    void findById_ShouldBeServedFromSecondLevelCacheAfterFirstLoad() {
+        movieRepository.findById(movie.getId());
+        movieRepository.findById(movie.getId());
+
+        assertEquals(1, statistics.getDomainDataRegionStatistics("movie").getMissCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics("movie").getHitCount());
+    }
+
+    @Test
+    void filterQueries_ShouldBeServedFromQueryCacheUntilTableChanges() {
+        assertEquals(1, showtimeRepository.findShowtimeDTOPage(movie.getId(), null, null, null, null, 10).size());
+        assertEquals(1, showtimeRepository.findShowtimeDTOPage(movie.getId(), null, null, null, null, 10).size());
+
+        assertEquals(1, statistics.getQueryRegionStatistics("showtime-queries").getHitCount());
+
+        // A write to the table invalidates the cached result instead of serving it stale
+        showtimeRepository.save(new Showtime(movie, LocalDateTime.of(2025, 10, 1, 21, 0), "IMAX", 100));
+
+        assertEquals(2, showtimeRepository.findShowtimeDTOPage(movie.getId(), null, null, null, null, 10).size());
+    }
+
+    @Test
+    void statistics_ShouldBeExportedThroughMicrometer() {
+        movieRepository.findById(movie.getId());
+        movieRepository.findById(movie.getId());
+
+        assertEquals(1.0, meterRegistry.get("hibernate.second.level.cache.requests")
+                .tag("region", "movie").tag("result", "hit").functionCounter().count());
+        assertNotNull(meterRegistry.find("hibernate.cache.query.requests").functionCounter());
+    }
+}
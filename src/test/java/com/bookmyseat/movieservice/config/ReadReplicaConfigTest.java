@@ -0,0 +1,74 @@
+package com.bookmyseat.movieservice.config;
+
+import com.bookmyseat.movieservice.datasource.ReplicaRoutingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadReplicaConfigTest {
+
+    private static final String PRIMARY_URL = "jdbc:h2:mem:config-primary;DB_CLOSE_DELAY=-1";
+    private static final String REPLICA_URL = "jdbc:h2:mem:config-replica;DB_CLOSE_DELAY=-1";
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(DataSourceAutoConfiguration.class))
+            .withUserConfiguration(ReadReplicaConfig.class)
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+            .withPropertyValues("spring.datasource.url=" + PRIMARY_URL, "spring.datasource.username=sa");
+
+    @Test
+    void whenDisabled_ShouldKeepSingleDataSource() {
+        contextRunner.run(context -> {
+            assertEquals(0, context.getBeansOfType(ReplicaRoutingDataSource.class).size());
+            assertFalse(context.getBean(DataSource.class) instanceof LazyConnectionDataSourceProxy);
+        });
+    }
+
+    @Test
+    void whenEnabled_ShouldRouteReadOnlyTransactionsToReplica() {
+        seed(PRIMARY_URL, "primary");
+        seed(REPLICA_URL, "replica");
+
+        contextRunner
+                .withPropertyValues(
+                        "movie.datasource.read-replicas.enabled=true",
+                        "movie.datasource.read-replicas.lag-probe=none",
+                        "movie.datasource.read-replicas.health-check-interval=0s",
+                        "movie.datasource.read-replicas.replicas[0].name=local-replica",
+                        "movie.datasource.read-replicas.replicas[0].url=" + REPLICA_URL)
+                .run(context -> {
+                    DataSource dataSource = context.getBean(DataSource.class);
+                    assertTrue(dataSource instanceof LazyConnectionDataSourceProxy);
+
+                    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+                    TransactionTemplate transactions =
+                            new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+                    transactions.setReadOnly(true);
+
+                    assertEquals("replica", transactions.execute(status ->
+                            jdbcTemplate.queryForObject("SELECT name FROM node", String.class)));
+                    assertEquals("primary", jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+                    assertNotNull(context.getBean(MeterRegistry.class).find("hikaricp.connections")
+                            .tag("pool", "local-replica").gauge());
+                });
+    }
+
+    private static void seed(String url, String name) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(url, "sa", ""));
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+        jdbcTemplate.execute("DELETE FROM node");
+        jdbcTemplate.update("INSERT INTO node VALUES (?)", name);
+    }
+}
@@ -0,0 +1,152 @@
+package com.bookmyseat.movieservice.config;
+
+import com.bookmyseat.movieservice.cache.ShowtimeCacheEvictor;
+import com.bookmyseat.movieservice.entity.Movie;
+import com.bookmyseat.movieservice.entity.Showtime;
+import com.bookmyseat.movieservice.hold.SeatHoldManager;
+import com.bookmyseat.movieservice.inventory.SeatInventory;
+import com.bookmyseat.movieservice.pagination.PageLimits;
+import com.bookmyseat.movieservice.repository.MovieRepository;
+import com.bookmyseat.movieservice.repository.ShowtimeRepository;
+import com.bookmyseat.movieservice.seatmap.SeatMapStore;
+import com.bookmyseat.movieservice.service.ShowtimeService;
+import com.bookmyseat.movieservice.service.impl.ShowtimeServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Components that write showtimes over JDBC must evict the caches Hibernate cannot invalidate for them
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:showtime-cache-eviction;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "movie.hibernate-cache.enabled=true",
+        "movie.hibernate-cache.statistics=true",
+        "movie.hibernate-cache.regions.showtime.maximum-size=100",
+        "movie.hibernate-cache.regions.showtime-queries.maximum-size=100",
+        "movie.hibernate-cache.regions.showtime-queries.expire-after-write=PT1M"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({HibernateCacheConfig.class, ShowtimeCacheEvictor.class, ClockConfig.class, PageLimits.class,
+        ShowtimeServiceImpl.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ShowtimeCacheEvictionTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-09-30T08:00:00Z"), ZoneOffset.UTC);
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private ShowtimeRepository showtimeRepository;
+
+    @Autowired
+    private ShowtimeService showtimeService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ShowtimeCacheEvictor cacheEvictor;
+
+    private Movie movie;
+    private Showtime showtime;
+
+    @BeforeEach
+    void setUp() {
+        movie = movieRepository.save(new Movie("Inception", "A mind-bending thriller", 148, "Sci-Fi", "English",
+                LocalDate.of(2010, 7, 16)));
+        showtime = showtimeRepository.save(new Showtime(movie, LocalDateTime.of(2025, 10, 1, 18, 0), "IMAX", 100));
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    @AfterEach
+    void tearDown() {
+        showtimeRepository.deleteAll();
+        movieRepository.deleteAll();
+    }
+
+    @Test
+    void seatInventoryFlush_ShouldEvictCachedShowtimes() {
+        assertEquals(100, cachedAvailableSeats());
+        assertEquals(100, showtimeRepository.findById(showtime.getId()).orElseThrow().getAvailableSeats());
+        SeatInventory inventory = new SeatInventory(jdbcTemplate, transactionManager, cacheEvictor, CLOCK,
+                new SimpleMeterRegistry(), true, 2, Duration.ofDays(1));
+
+        inventory.reserve(showtime.getId(), 3);
+        inventory.flush();
+
+        assertEquals(97, cachedAvailableSeats());
+        assertEquals(97, showtimeRepository.findById(showtime.getId()).orElseThrow().getAvailableSeats());
+    }
+
+    @Test
+    void expiredSeatHolds_ShouldEvictCachedShowtimes() {
+        SeatInventory inventory = new SeatInventory(jdbcTemplate, transactionManager, cacheEvictor, CLOCK,
+                new SimpleMeterRegistry(), false, 1, Duration.ofDays(1));
+        // Holds expire on the first tick, returning their seats over JDBC
+        SeatHoldManager holds = new SeatHoldManager(showtimeService, inventory, jdbcTemplate, transactionManager,
+                cacheEvictor, CLOCK, new SimpleMeterRegistry(), Duration.ZERO, Duration.ofMillis(100), 64);
+
+        holds.hold(showtime.getId(), 4);
+        assertEquals(96, cachedAvailableSeats());
+        assertEquals(96, showtimeRepository.findById(showtime.getId()).orElseThrow().getAvailableSeats());
+
+        assertEquals(1, holds.expire());
+
+        assertEquals(100, cachedAvailableSeats());
+        assertEquals(100, showtimeRepository.findById(showtime.getId()).orElseThrow().getAvailableSeats());
+    }
+
+    @Test
+    void seatMapClaims_ShouldEvictCachedShowtimes() {
+        jdbcTemplate.update("INSERT INTO theater_layouts (theater, seat_rows, seats_per_row, updated_at) " +
+                "VALUES ('IMAX', 10, 10, CURRENT_TIMESTAMP)");
+        assertEquals(100, cachedAvailableSeats());
+        SeatInventory inventory = new SeatInventory(jdbcTemplate, transactionManager, cacheEvictor, CLOCK,
+                new SimpleMeterRegistry(), false, 1, Duration.ofDays(1));
+        SeatMapStore store = new SeatMapStore(jdbcTemplate, transactionManager, cacheEvictor, inventory,
+                CLOCK, new SimpleMeterRegistry(), Duration.ofDays(1));
+
+        try {
+            store.claim(showtime.getId(), List.of("E5", "E6"));
+
+            assertEquals(98, cachedAvailableSeats());
+        } finally {
+            jdbcTemplate.update("DELETE FROM showtime_seat_maps");
+            jdbcTemplate.update("DELETE FROM theater_layouts");
+        }
+    }
+
+    private int cachedAvailableSeats() {
+        return showtimeRepository.findShowtimeDTOPage(movie.getId(), null, null, null, null, 10)
+                .get(0).getAvailableSeats();
+    }
+}
@@ -1,35 +1,105 @@
 package com.bookmyseat.movieservice.controller;
 
+import com.bookmyseat.movieservice.cache.DataWatermarks;
+import com.bookmyseat.movieservice.cache.ResponseBodyCache;
+import com.bookmyseat.movieservice.dto.CatalogImportResultDTO;
+import com.bookmyseat.movieservice.dto.MovieAvailabilityDTO;
 import com.bookmyseat.movieservice.dto.MovieDTO;
+import com.bookmyseat.movieservice.dto.MovieSuggestionDTO;
 import com.bookmyseat.movieservice.dto.MovieDetailDTO;
+import com.bookmyseat.movieservice.dto.ReservationDTO;
+import com.bookmyseat.movieservice.dto.SeatClaimDTO;
+import com.bookmyseat.movieservice.dto.SeatHoldDTO;
+import com.bookmyseat.movieservice.dto.SeatMapDTO;
 import com.bookmyseat.movieservice.dto.ShowtimeDTO;
+import com.bookmyseat.movieservice.dto.ShowtimeIngestErrorDTO;
+import com.bookmyseat.movieservice.dto.ShowtimeIngestResultDTO;
+import com.bookmyseat.movieservice.export.ShowtimeExporter;
+import com.bookmyseat.movieservice.hold.SeatHoldManager;
+import com.bookmyseat.movieservice.importer.CatalogImporter;
+import com.bookmyseat.movieservice.inventory.SeatInventory;
+import com.bookmyseat.movieservice.ingest.ShowtimeIngester;
+import com.bookmyseat.movieservice.exception.ExportCapacityExceededException;
+import com.bookmyseat.movieservice.exception.ImportInProgressException;
+import com.bookmyseat.movieservice.exception.InsufficientSeatsException;
+import com.bookmyseat.movieservice.exception.InvalidArchiveRangeException;
+import com.bookmyseat.movieservice.exception.InvalidAvailabilityDateException;
+import com.bookmyseat.movieservice.exception.InvalidCursorException;
+import com.bookmyseat.movieservice.exception.InvalidImportRequestException;
+import com.bookmyseat.movieservice.exception.InvalidIngestRequestException;
 import com.bookmyseat.movieservice.exception.MovieNotFoundException;
+import com.bookmyseat.movieservice.exception.SeatHoldNotFoundException;
+import com.bookmyseat.movieservice.exception.SeatsTakenException;
+import com.bookmyseat.movieservice.exception.ShowtimeNotFoundException;
+import com.bookmyseat.movieservice.pagination.CursorPage;
+import com.bookmyseat.movieservice.seatmap.SeatMapStore;
+import com.bookmyseat.movieservice.repository.DataWatermark;
 import com.bookmyseat.movieservice.service.MovieService;
 import com.bookmyseat.movieservice.service.ShowtimeService;
+import com.bookmyseat.movieservice.window.ShowtimeWindow;
+import com.bookmyseat.movieservice.window.ShowtimeWindows;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
 
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(MovieController.class)
+@Import({ResponseBodyCache.class, ShowtimeWindows.class, MovieControllerTest.MetricsConfig.class})
 @ActiveProfiles("test")
 class MovieControllerTest {
 
+    @TestConfiguration
+    static class MetricsConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        Clock clock() {
+            return Clock.fixed(Instant.parse("2025-09-30T08:00:30Z"), ZoneOffset.UTC);
+        }
+    }
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -39,15 +109,51 @@ class MovieControllerTest {
     @MockBean
     private ShowtimeService showtimeService;
 
+    @MockBean
+    private DataWatermarks dataWatermarks;
+
+    @MockBean
+    private ShowtimeExporter showtimeExporter;
+
+    @MockBean
+    private ShowtimeIngester showtimeIngester;
+
+    @MockBean
+    private CatalogImporter catalogImporter;
+
+    @MockBean
+    private SeatInventory seatInventory;
+
+    @MockBean
+    private SeatHoldManager seatHoldManager;
+
+    @MockBean
+    private SeatMapStore seatMapStore;
+
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private ResponseBodyCache responseBodyCache;
+
     private MovieDTO movieDTO;
     private MovieDetailDTO movieDetailDTO;
     private ShowtimeDTO showtimeDTO;
+    private DataWatermark watermark;
 
     @BeforeEach
     void setUp() {
+        responseBodyCache.invalidateRegion(ResponseBodyCache.MOVIES);
+        responseBodyCache.invalidateRegion(ResponseBodyCache.SHOWTIMES);
+
+        watermark = new DataWatermark(LocalDateTime.of(2025, 9, 29, 10, 0), 8L);
+        when(dataWatermarks.movies()).thenReturn(watermark);
+        when(dataWatermarks.showtimes()).thenReturn(watermark);
+        when(dataWatermarks.movie(1L)).thenReturn(Optional.of(watermark));
+        when(movieService.getMovies(any(), any(), any(), any(), any())).thenReturn(new CursorPage<>(List.of(), null));
+        when(showtimeService.getShowtimes(any(), any(), any(), any(), any()))
+                .thenReturn(new CursorPage<>(List.of(), null));
+
         movieDTO = new MovieDTO(1L, "Inception", "A mind-bending thriller",
                 148, "Sci-Fi", "English", LocalDate.of(2010, 7, 16));
 
@@ -63,7 +169,7 @@ class MovieControllerTest {
     @Test
     void getAllMovies_ShouldReturnMoviesList() throws Exception {
         List<MovieDTO> movies = Arrays.asList(movieDTO);
-        when(movieService.getAllMovies(null, null)).thenReturn(movies);
+        when(movieService.getMovies(null, null, null, null, null)).thenReturn(new CursorPage<>(movies, null));
 
         mockMvc.perform(get("/api/v1/movies"))
                 .andExpect(status().isOk())
@@ -77,7 +183,7 @@ class MovieControllerTest {
     @Test
     void getAllMovies_WithFilters_ShouldReturnFilteredMovies() throws Exception {
         List<MovieDTO> movies = Arrays.asList(movieDTO);
-        when(movieService.getAllMovies("Sci-Fi", "English")).thenReturn(movies);
+        when(movieService.getMovies("Sci-Fi", "English", null, null, null)).thenReturn(new CursorPage<>(movies, null));
 
         mockMvc.perform(get("/api/v1/movies")
                         .param("genre", "Sci-Fi")
@@ -90,7 +196,7 @@ class MovieControllerTest {
 
     @Test
     void getMovieById_ShouldReturnMovie() throws Exception {
-        when(movieService.getMovieById(1L)).thenReturn(movieDetailDTO);
+        when(movieService.getMovieById(eq(1L), any())).thenReturn(movieDetailDTO);
 
         mockMvc.perform(get("/api/v1/movies/1"))
                 .andExpect(status().isOk())
@@ -101,9 +207,56 @@ class MovieControllerTest {
                 .andExpect(jsonPath("$.showtimes").isArray());
     }
 
+    @Test
+    void getMovieById_WithoutWindow_ShouldRequestNextSevenDaysFromCurrentMinute() throws Exception {
+        when(movieService.getMovieById(eq(1L), any())).thenReturn(movieDetailDTO);
+
+        mockMvc.perform(get("/api/v1/movies/1"))
+                .andExpect(status().isOk());
+
+        verify(movieService).getMovieById(1L, new ShowtimeWindow(
+                LocalDateTime.of(2025, 9, 30, 8, 0), LocalDateTime.of(2025, 10, 7, 8, 0)));
+    }
+
+    @Test
+    void getMovieById_WithFromAndTo_ShouldRequestThatWindow() throws Exception {
+        when(movieService.getMovieById(eq(1L), any())).thenReturn(movieDetailDTO);
+
+        mockMvc.perform(get("/api/v1/movies/1")
+                        .param("from", "2025-09-01T00:00:00")
+                        .param("to", "2025-10-15T00:00:00"))
+                .andExpect(status().isOk());
+
+        verify(movieService).getMovieById(1L, new ShowtimeWindow(
+                LocalDateTime.of(2025, 9, 1, 0, 0), LocalDateTime.of(2025, 10, 15, 0, 0)));
+    }
+
+    @Test
+    void getMovieById_WithDifferentWindows_ShouldReturnDifferentETags() throws Exception {
+        when(movieService.getMovieById(eq(1L), any())).thenReturn(movieDetailDTO);
+
+        String defaultWindow = mockMvc.perform(get("/api/v1/movies/1"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String widened = mockMvc.perform(get("/api/v1/movies/1").param("to", "2025-10-30T00:00:00"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertNotEquals(defaultWindow, widened);
+    }
+
+    @Test
+    void getMovieById_WithToBeforeFrom_ShouldReturn400() throws Exception {
+        mockMvc.perform(get("/api/v1/movies/1")
+                        .param("from", "2025-10-15T00:00:00")
+                        .param("to", "2025-10-01T00:00:00"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid Showtime Window"));
+
+        verify(movieService, never()).getMovieById(any(), any());
+    }
+
     @Test
     void getMovieById_MovieNotFound_ShouldReturn404() throws Exception {
-        when(movieService.getMovieById(999L)).thenThrow(new MovieNotFoundException("Movie not found with ID: 999"));
+        when(movieService.getMovieById(eq(999L), any())).thenThrow(new MovieNotFoundException("Movie not found with ID: 999"));
 
         mockMvc.perform(get("/api/v1/movies/999"))
                 .andExpect(status().isNotFound())
@@ -116,7 +269,7 @@ class MovieControllerTest {
     @Test
     void getAllShowtimes_ShouldReturnShowtimesList() throws Exception {
         List<ShowtimeDTO> showtimes = Arrays.asList(showtimeDTO);
-        when(showtimeService.getAllShowtimes(null, null, null)).thenReturn(showtimes);
+        when(showtimeService.getShowtimes(null, null, null, null, null)).thenReturn(new CursorPage<>(showtimes, null));
 
         mockMvc.perform(get("/api/v1/showtimes"))
                 .andExpect(status().isOk())
@@ -130,8 +283,8 @@ class MovieControllerTest {
     @Test
     void getAllShowtimes_WithFilters_ShouldReturnFilteredShowtimes() throws Exception {
         List<ShowtimeDTO> showtimes = Arrays.asList(showtimeDTO);
-        when(showtimeService.getAllShowtimes(eq(1L), any(LocalDate.class), eq("Theater 1")))
-                .thenReturn(showtimes);
+        when(showtimeService.getShowtimes(eq(1L), any(LocalDate.class), eq("Theater 1"), isNull(), isNull()))
+                .thenReturn(new CursorPage<>(showtimes, null));
 
         mockMvc.perform(get("/api/v1/showtimes")
                         .param("movieId", "1")
@@ -142,4 +295,503 @@ class MovieControllerTest {
                 .andExpect(jsonPath("$.showtimes[0].movieId").value(1))
                 .andExpect(jsonPath("$.showtimes[0].theater").value("Theater 1"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getAllMovies_RepeatedRequests_ShouldServeCachedBytes() throws Exception {
+        when(movieService.getMovies("Sci-Fi", null, null, null, null)).thenReturn(new CursorPage<>(Arrays.asList(movieDTO), null));
+
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/v1/movies").param("genre", "Sci-Fi"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.movies[0].title").value("Inception"));
+        }
+
+        verify(movieService, times(1)).getMovies("Sci-Fi", null, null, null, null);
+    }
+
+    @Test
+    void getAllMovies_WithGzipAcceptEncoding_ShouldReturnCompressedBody() throws Exception {
+        when(movieService.getMovies(null, null, null, null, null)).thenReturn(new CursorPage<>(Arrays.asList(movieDTO), null));
+
+        byte[] compressed = mockMvc.perform(get("/api/v1/movies")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            String json = new String(in.readAllBytes());
+            assertTrue(json.contains("\"title\":\"Inception\""));
+        }
+    }
+
+    @Test
+    void getAllMovies_WithAcceptEncodingQValues_ShouldOnlyCompressWhenGzipIsAccepted() throws Exception {
+        when(movieService.getMovies(null, null, null, null, null))
+                .thenReturn(new CursorPage<>(Arrays.asList(movieDTO), null));
+
+        for (String accepted : new String[] {"GZIP;q=0.5", "br, *;q=0.1", "deflate, x-gzip"}) {
+            mockMvc.perform(get("/api/v1/movies").header(HttpHeaders.ACCEPT_ENCODING, accepted))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"));
+        }
+        for (String refused : new String[] {"gzip;q=0", "*;q=0.5, gzip;q=0", "identity, *;q=0", "gzipx, deflate"}) {
+            mockMvc.perform(get("/api/v1/movies").header(HttpHeaders.ACCEPT_ENCODING, refused))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                    .andExpect(jsonPath("$.movies[0].title").value("Inception"));
+        }
+    }
+
+    @Test
+    void getAllShowtimes_DifferentFilters_ShouldBeCachedSeparately() throws Exception {
+        when(showtimeService.getShowtimes(null, null, "Theater 1", null, null)).thenReturn(new CursorPage<>(Arrays.asList(showtimeDTO), null));
+        when(showtimeService.getShowtimes(null, null, "Theater 2", null, null)).thenReturn(new CursorPage<>(List.of(), null));
+
+        mockMvc.perform(get("/api/v1/showtimes").param("theater", "Theater 1"))
+                .andExpect(jsonPath("$.showtimes[0].theater").value("Theater 1"));
+        mockMvc.perform(get("/api/v1/showtimes").param("theater", "Theater 2"))
+                .andExpect(jsonPath("$.showtimes").isEmpty());
+        mockMvc.perform(get("/api/v1/showtimes").param("theater", "Theater 1"))
+                .andExpect(jsonPath("$.showtimes[0].theater").value("Theater 1"));
+
+        verify(showtimeService, times(1)).getShowtimes(null, null, "Theater 1", null, null);
+        verify(showtimeService, times(1)).getShowtimes(null, null, "Theater 2", null, null);
+    }
+
+    @Test
+    void getAllMovies_WithMatchingIfNoneMatch_ShouldReturn304WithoutLoading() throws Exception {
+        String eTag = mockMvc.perform(get("/api/v1/movies"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        responseBodyCache.invalidateRegion(ResponseBodyCache.MOVIES);
+
+        mockMvc.perform(get("/api/v1/movies").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+
+        verify(movieService, times(1)).getMovies(null, null, null, null, null);
+    }
+
+    @Test
+    void getAllMovies_WhenWatermarkChanges_ShouldReturnNewBody() throws Exception {
+        when(movieService.getMovies(null, null, null, null, null)).thenReturn(new CursorPage<>(Arrays.asList(movieDTO), null));
+        String eTag = mockMvc.perform(get("/api/v1/movies"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        when(dataWatermarks.movies()).thenReturn(new DataWatermark(LocalDateTime.of(2025, 9, 29, 11, 0), 8L));
+
+        mockMvc.perform(get("/api/v1/movies").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.movies[0].title").value("Inception"));
+
+        verify(movieService, times(2)).getMovies(null, null, null, null, null);
+    }
+
+    @Test
+    void getAllMovies_GzipAndIdentity_ShouldHaveDifferentETags() throws Exception {
+        String identity = mockMvc.perform(get("/api/v1/movies"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String gzip = mockMvc.perform(get("/api/v1/movies").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertNotEquals(identity, gzip);
+    }
+
+    @Test
+    void getMovieById_WithMatchingIfNoneMatch_ShouldReturn304WithoutLoading() throws Exception {
+        when(movieService.getMovieById(eq(1L), any())).thenReturn(movieDetailDTO);
+        String eTag = mockMvc.perform(get("/api/v1/movies/1"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/movies/1").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        verify(movieService, times(1)).getMovieById(eq(1L), any());
+    }
+
+    @Test
+    void getAllShowtimes_WithMatchingIfNoneMatch_ShouldReturn304WithoutLoading() throws Exception {
+        String eTag = watermark.toETag(ResponseBodyCache.SHOWTIMES, 1L, null, null, null, null, false);
+
+        mockMvc.perform(get("/api/v1/showtimes").param("movieId", "1").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        verify(showtimeService, never()).getShowtimes(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void getAllMovies_WithCursorAndLimit_ShouldReturnNextCursor() throws Exception {
+        when(movieService.getMovies(null, null, "abc", 1, null))
+                .thenReturn(new CursorPage<>(Arrays.asList(movieDTO), "def"));
+
+        mockMvc.perform(get("/api/v1/movies").param("cursor", "abc").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.movies[0].title").value("Inception"))
+                .andExpect(jsonPath("$.nextCursor").value("def"));
+    }
+
+    @Test
+    void getAllMovies_DifferentCursors_ShouldHaveDifferentETags() throws Exception {
+        String first = mockMvc.perform(get("/api/v1/movies").param("limit", "1"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String second = mockMvc.perform(get("/api/v1/movies").param("limit", "1").param("cursor", "abc"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    void getAllShowtimes_WithCursor_ShouldReturnNextCursor() throws Exception {
+        when(showtimeService.getShowtimes(null, null, null, "abc", 1))
+                .thenReturn(new CursorPage<>(Arrays.asList(showtimeDTO), "def"));
+
+        mockMvc.perform(get("/api/v1/showtimes").param("cursor", "abc").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.showtimes[0].id").value(1))
+                .andExpect(jsonPath("$.nextCursor").value("def"));
+    }
+
+    @Test
+    void getAllShowtimes_WithInvalidCursor_ShouldReturn400() throws Exception {
+        when(showtimeService.getShowtimes(null, null, null, "garbage", null))
+                .thenThrow(new InvalidCursorException("Invalid cursor: garbage"));
+
+        mockMvc.perform(get("/api/v1/showtimes").param("cursor", "garbage"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid Cursor"));
+    }
+
+    @Test
+    void getArchivedShowtimes_ShouldReturnPageWithoutCaching() throws Exception {
+        when(showtimeService.getArchivedShowtimes(1L, LocalDate.of(2025, 9, 1), LocalDate.of(2025, 10, 1), null, null))
+                .thenReturn(new CursorPage<>(Arrays.asList(showtimeDTO), "def"));
+
+        mockMvc.perform(get("/api/v1/showtimes/archive")
+                        .param("movieId", "1")
+                        .param("from", "2025-09-01")
+                        .param("to", "2025-10-01"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.showtimes[0].id").value(1))
+                .andExpect(jsonPath("$.nextCursor").value("def"));
+    }
+
+    @Test
+    void getArchivedShowtimes_WithEmptyRange_ShouldReturn400() throws Exception {
+        when(showtimeService.getArchivedShowtimes(null, LocalDate.of(2025, 9, 1), LocalDate.of(2025, 9, 1), null, null))
+                .thenThrow(new InvalidArchiveRangeException("Archive range end 2025-09-01 must be after its start 2025-09-01"));
+
+        mockMvc.perform(get("/api/v1/showtimes/archive").param("from", "2025-09-01").param("to", "2025-09-01"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid Archive Range"));
+    }
+
+    @Test
+    void searchMovies_ShouldReturnMatchesInRankOrder() throws Exception {
+        when(movieService.searchMovies("incep", 5)).thenReturn(Arrays.asList(movieDTO));
+
+        mockMvc.perform(get("/api/v1/movies/search").param("q", "incep").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.movies[0].title").value("Inception"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        verify(movieService, never()).getMovieById(any(), any());
+    }
+
+    @Test
+    void suggestMovies_ShouldReturnSuggestions() throws Exception {
+        when(movieService.suggestMovies("inc", null)).thenReturn(List.of(new MovieSuggestionDTO(1L, "Inception")));
+
+        mockMvc.perform(get("/api/v1/movies/suggest").param("prefix", "inc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.suggestions[0].id").value(1))
+                .andExpect(jsonPath("$.suggestions[0].title").value("Inception"));
+    }
+
+    @Test
+    void getAllMovies_WithAvailabilityDate_ShouldEmbedAvailabilityAndTagByVersion() throws Exception {
+        LocalDate date = LocalDate.of(2025, 9, 30);
+        MovieDTO withAvailability = new MovieDTO(1L, "Inception", "A mind-bending thriller",
+                148, "Sci-Fi", "English", LocalDate.of(2010, 7, 16));
+        withAvailability.setAvailability(new MovieAvailabilityDTO(date, 3, 0L, LocalDateTime.of(2025, 9, 30, 10, 0)));
+        when(movieService.getMovies(null, null, null, null, date))
+                .thenReturn(new CursorPage<>(Arrays.asList(withAvailability), null));
+        when(dataWatermarks.availability()).thenReturn(7L);
+
+        String first = mockMvc.perform(get("/api/v1/movies").param("availabilityDate", "2025-09-30"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.movies[0].availability.showDate").value("2025-09-30"))
+                .andExpect(jsonPath("$.movies[0].availability.totalShows").value(3))
+                .andExpect(jsonPath("$.movies[0].availability.availableSeats").value(0))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        when(dataWatermarks.availability()).thenReturn(8L);
+        String second = mockMvc.perform(get("/api/v1/movies").param("availabilityDate", "2025-09-30"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertNotEquals(first, second);
+        verify(movieService, times(2)).getMovies(null, null, null, null, date);
+    }
+
+    @Test
+    void getAllMovies_WithoutAvailabilityDate_ShouldOmitAvailability() throws Exception {
+        when(movieService.getMovies(null, null, null, null, null)).thenReturn(new CursorPage<>(Arrays.asList(movieDTO), null));
+
+        mockMvc.perform(get("/api/v1/movies"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.movies[0].availability").doesNotExist());
+
+        verify(dataWatermarks, never()).availability();
+    }
+
+    @Test
+    void getAllMovies_WithUnsummarizedAvailabilityDate_ShouldReturn400() throws Exception {
+        when(movieService.getMovies(null, null, null, null, LocalDate.of(2030, 1, 1)))
+                .thenThrow(new InvalidAvailabilityDateException("Availability is only summarized for the next 14 days"));
+
+        mockMvc.perform(get("/api/v1/movies").param("availabilityDate", "2030-01-01"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid Availability Date"));
+    }
+
+    @Test
+    void exportShowtimes_ShouldStreamNdjson() throws Exception {
+        StreamingResponseBody body = out -> out.write("{\"id\":1}\n{\"id\":2}\n".getBytes(StandardCharsets.UTF_8));
+        when(showtimeExporter.export(1L, LocalDate.of(2025, 9, 30), LocalDate.of(2025, 10, 1))).thenReturn(body);
+
+        MvcResult result = mockMvc.perform(get("/api/v1/showtimes/export")
+                        .param("movieId", "1")
+                        .param("from", "2025-09-30")
+                        .param("to", "2025-10-01"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-store"))
+                .andExpect(content().string("{\"id\":1}\n{\"id\":2}\n"));
+    }
+
+    @Test
+    void exportShowtimes_WhenAllSlotsBusy_ShouldReturn503() throws Exception {
+        when(showtimeExporter.export(null, null, null))
+                .thenThrow(new ExportCapacityExceededException("All 4 showtime export slots are in use, retry later"));
+
+        mockMvc.perform(get("/api/v1/showtimes/export"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.error").value("Service Unavailable"));
+    }
+
+    @Test
+    void ingestShowtimes_ShouldReturnInsertedCountAndRejectedRows() throws Exception {
+        when(showtimeIngester.ingest(anyList())).thenReturn(
+                new ShowtimeIngestResultDTO(2, 1, List.of(new ShowtimeIngestErrorDTO(1, "Movie not found with ID: 42"))));
+
+        mockMvc.perform(post("/api/v1/showtimes/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"showtimes\":[" +
+                                "{\"movieId\":1,\"showDateTime\":\"2025-10-01T18:00:00\",\"theater\":\"Theater 1\",\"availableSeats\":100}," +
+                                "{\"movieId\":42,\"showDateTime\":\"2025-10-01T18:00:00\",\"theater\":\"Theater 1\",\"availableSeats\":100}]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(2))
+                .andExpect(jsonPath("$.inserted").value(1))
+                .andExpect(jsonPath("$.errors[0].index").value(1))
+                .andExpect(jsonPath("$.errors[0].message").value("Movie not found with ID: 42"));
+
+        verify(showtimeIngester).ingest(argThat(rows -> rows.size() == 2
+                && rows.get(0).getShowDateTime().equals(LocalDateTime.of(2025, 10, 1, 18, 0))));
+    }
+
+    @Test
+    void ingestShowtimes_WithEmptyRequest_ShouldReturn400() throws Exception {
+        when(showtimeIngester.ingest(any())).thenThrow(new InvalidIngestRequestException("Ingestion request contains no showtimes"));
+
+        mockMvc.perform(post("/api/v1/showtimes/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"showtimes\":[]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid Ingest Request"));
+    }
+
+    @Test
+    void importShowtimes_ShouldReturnImportProgress() throws Exception {
+        when(catalogImporter.importShowtimes("showtimes.csv")).thenReturn(
+                new CatalogImportResultDTO("SHOWTIMES", "showtimes.csv", "COMPLETED", 1200, 3, 4096, 90000, 90000));
+
+        mockMvc.perform(post("/api/v1/imports/showtimes").param("file", "showtimes.csv"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.rowsImported").value(1200))
+                .andExpect(jsonPath("$.resumedFrom").value(4096));
+    }
+
+    @Test
+    void importShowtimes_WithUnknownFile_ShouldReturn400() throws Exception {
+        when(catalogImporter.importShowtimes("missing.csv"))
+                .thenThrow(new InvalidImportRequestException(
+                        "No import file named 'missing.csv' in the import directory"));
+
+        mockMvc.perform(post("/api/v1/imports/showtimes").param("file", "missing.csv"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid Import Request"));
+    }
+
+    @Test
+    void importMovies_WhileAnotherImportRuns_ShouldReturn409() throws Exception {
+        when(catalogImporter.importMovies("movies.csv"))
+                .thenThrow(new ImportInProgressException(
+                        "A movies import of 'movies.csv' is already running, retry when it has finished"));
+
+        mockMvc.perform(post("/api/v1/imports/movies").param("file", "movies.csv"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("Conflict"));
+    }
+
+    @Test
+    void reserveSeats_ShouldReturn201WithRemainingSeats() throws Exception {
+        when(showtimeService.reserveSeats(1L, 2)).thenReturn(new ReservationDTO(1L, 2, 148));
+
+        mockMvc.perform(post("/api/v1/showtimes/1/reservations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"seats\":2}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.showtimeId").value(1))
+                .andExpect(jsonPath("$.seatsReserved").value(2))
+                .andExpect(jsonPath("$.availableSeats").value(148));
+    }
+
+    @Test
+    void reserveSeats_WhenSoldOut_ShouldReturn409() throws Exception {
+        when(showtimeService.reserveSeats(1L, 4))
+                .thenThrow(new InsufficientSeatsException("Cannot reserve 4 seats for showtime 1, only 3 available"));
+
+        mockMvc.perform(post("/api/v1/showtimes/1/reservations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"seats\":4}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("Insufficient Seats"));
+    }
+
+    @Test
+    void reserveSeats_WhenShowtimeMissing_ShouldReturn404() throws Exception {
+        when(showtimeService.reserveSeats(99L, 1)).thenThrow(new ShowtimeNotFoundException("Showtime not found with ID: 99"));
+
+        mockMvc.perform(post("/api/v1/showtimes/99/reservations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"seats\":1}"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("Showtime not found with ID: 99"));
+    }
+
+    @Test
+    void reserveSeats_WithInvalidSeatCount_ShouldReturn400() throws Exception {
+        mockMvc.perform(post("/api/v1/showtimes/1/reservations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"seats\":0}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Validation Failed"));
+
+        verify(showtimeService, never()).reserveSeats(anyLong(), anyInt());
+    }
+
+    @Test
+    void reserveSeats_WithInMemoryInventory_ShouldReserveFromInventory() throws Exception {
+        when(seatInventory.isEnabled()).thenReturn(true);
+        when(seatInventory.reserve(1L, 2)).thenReturn(new ReservationDTO(1L, 2, 48));
+
+        mockMvc.perform(post("/api/v1/showtimes/1/reservations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"seats\":2}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.availableSeats").value(48));
+
+        verify(showtimeService, never()).reserveSeats(anyLong(), anyInt());
+    }
+
+    @Test
+    void holdSeats_ShouldReturn201WithHold() throws Exception {
+        when(seatHoldManager.hold(1L, 2)).thenReturn(
+                new SeatHoldDTO("hold-1", 1L, 2, LocalDateTime.of(2025, 10, 1, 17, 35), 98));
+
+        mockMvc.perform(post("/api/v1/showtimes/1/holds")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"seats\":2}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.holdId").value("hold-1"))
+                .andExpect(jsonPath("$.seats").value(2))
+                .andExpect(jsonPath("$.expiresAt").value("2025-10-01T17:35:00"))
+                .andExpect(jsonPath("$.availableSeats").value(98));
+    }
+
+    @Test
+    void confirmHold_ShouldReturn204() throws Exception {
+        mockMvc.perform(post("/api/v1/holds/hold-1/confirmation"))
+                .andExpect(status().isNoContent());
+
+        verify(seatHoldManager).confirm("hold-1");
+    }
+
+    @Test
+    void releaseHold_WhenExpired_ShouldReturn404() throws Exception {
+        doThrow(new SeatHoldNotFoundException("Seat hold not found or already expired: hold-1"))
+                .when(seatHoldManager).release("hold-1");
+
+        mockMvc.perform(delete("/api/v1/holds/hold-1"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("Seat hold not found or already expired: hold-1"));
+    }
+
+    @Test
+    void getSeatMap_ShouldReturnLayoutAndBitset() throws Exception {
+        when(seatMapStore.getSeatMap(1L)).thenReturn(new SeatMapDTO(1L, "Theater 1", 15, 20, 298, "AwAA"));
+
+        mockMvc.perform(get("/api/v1/showtimes/1/seats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rows").value(15))
+                .andExpect(jsonPath("$.seatsPerRow").value(20))
+                .andExpect(jsonPath("$.occupancy").value("AwAA"));
+    }
+
+    @Test
+    void claimSeats_ShouldReturn201WithClaimedSeats() throws Exception {
+        when(seatMapStore.claim(1L, List.of("F7", "F8"))).thenReturn(new SeatClaimDTO(1L, List.of("F7", "F8"), 296));
+
+        mockMvc.perform(post("/api/v1/showtimes/1/seats/claims")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"seats\":[\"F7\",\"F8\"]}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.seats[1]").value("F8"))
+                .andExpect(jsonPath("$.freeSeats").value(296));
+    }
+
+    @Test
+    void claimSeats_WhenSeatTaken_ShouldReturn409() throws Exception {
+        when(seatMapStore.claim(1L, List.of("F7")))
+                .thenThrow(new SeatsTakenException("Seats already taken for showtime 1: F7"));
+
+        mockMvc.perform(post("/api/v1/showtimes/1/seats/claims")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"seats\":[\"F7\"]}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("Seats Taken"));
+    }
+
+    @Test
+    void claimBestAvailableSeats_ShouldReturn201WithAllocatedSeats() throws Exception {
+        when(seatMapStore.claimBestAvailable(1L, 2)).thenReturn(new SeatClaimDTO(1L, List.of("J10", "J11"), 298));
+
+        mockMvc.perform(post("/api/v1/showtimes/1/seats/best-available")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"seats\":2}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.seats[0]").value("J10"))
+                .andExpect(jsonPath("$.freeSeats").value(298));
+    }
+}
@@ -0,0 +1,184 @@
+package com.bookmyseat.movieservice.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplicaRoutingDataSourceTest {
+
+    private static final Duration MAX_LAG = Duration.ofSeconds(5);
+
+    private HikariDataSource primary;
+    private HikariDataSource replica1;
+    private HikariDataSource replica2;
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicReference<Duration> replica1Lag;
+    private ReplicaRoutingDataSource router;
+
+    @BeforeEach
+    void setUp() {
+        primary = node("primary");
+        replica1 = node("replica-1");
+        replica2 = node("replica-2");
+        meterRegistry = new SimpleMeterRegistry();
+        replica1Lag = new AtomicReference<>(Duration.ZERO);
+
+        ReplicaLagProbe lagProbe = connection ->
+                "replica-1".equals(nodeName(connection)) ? replica1Lag.get() : Duration.ZERO;
+        router = new ReplicaRoutingDataSource(primary, List.of(replica1, replica2), lagProbe, MAX_LAG,
+                Duration.ZERO, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        router.close();
+        primary.close();
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldUseReplicaAndReadWriteShouldUsePrimary() {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(router);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        TransactionTemplate transactions = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        transactions.setReadOnly(true);
+        String readOnly = transactions.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+        transactions.setReadOnly(false);
+        String readWrite = transactions.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+
+        assertTrue(readOnly.startsWith("replica-"), readOnly);
+        assertEquals("primary", readWrite);
+    }
+
+    @Test
+    void getConnection_ShouldPreferReplicaWithFewestActiveConnections() throws SQLException {
+        try (Connection held = router.getConnection()) {
+            String busy = nodeName(held);
+
+            for (int i = 0; i < 4; i++) {
+                try (Connection next = router.getConnection()) {
+                    assertNotEquals(busy, nodeName(next));
+                }
+            }
+        }
+    }
+
+    @Test
+    void getConnection_WhenIdle_ShouldRotateAcrossReplicas() throws SQLException {
+        String first;
+        String second;
+        try (Connection connection = router.getConnection()) {
+            first = nodeName(connection);
+        }
+        try (Connection connection = router.getConnection()) {
+            second = nodeName(connection);
+        }
+
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    void getConnection_WhenReplicaFails_ShouldEjectItAndUseTheOther() throws SQLException {
+        replica1.close();
+
+        for (int i = 0; i < 3; i++) {
+            try (Connection connection = router.getConnection()) {
+                assertEquals("replica-2", nodeName(connection));
+            }
+        }
+        assertEquals(0.0, meterRegistry.get("datasource_replica_healthy").tag("pool", "replica-1").gauge().value());
+    }
+
+    @Test
+    void getConnection_WhenNoReplicaAvailable_ShouldFallBackToPrimary() throws SQLException {
+        replica1.close();
+        replica2.close();
+
+        try (Connection connection = router.getConnection()) {
+            assertEquals("primary", nodeName(connection));
+        }
+        assertEquals(1.0, meterRegistry.get("datasource_read_routing_total").tag("target", "primary").counter().count());
+    }
+
+    @Test
+    void checkReplicas_WhenLagExceedsMaximum_ShouldEjectUntilCaughtUp() throws SQLException {
+        replica1Lag.set(Duration.ofSeconds(30));
+        router.checkReplicas();
+
+        for (int i = 0; i < 3; i++) {
+            try (Connection connection = router.getConnection()) {
+                assertEquals("replica-2", nodeName(connection));
+            }
+        }
+        assertEquals(30.0, meterRegistry.get("datasource_replica_lag_seconds").tag("pool", "replica-1").gauge().value());
+
+        replica1Lag.set(Duration.ofSeconds(1));
+        router.checkReplicas();
+
+        assertEquals(1.0, meterRegistry.get("datasource_replica_healthy").tag("pool", "replica-1").gauge().value());
+    }
+
+    @Test
+    void checkReplicas_WhenLagUnknown_ShouldEject() {
+        replica1Lag.set(null);
+
+        router.checkReplicas();
+
+        assertEquals(0.0, meterRegistry.get("datasource_replica_healthy").tag("pool", "replica-1").gauge().value());
+        assertEquals(1.0, meterRegistry.get("datasource_replica_healthy").tag("pool", "replica-2").gauge().value());
+    }
+
+    @Test
+    void getConnection_ShouldCountReadsPerPool() throws SQLException {
+        for (int i = 0; i < 4; i++) {
+            try (Connection connection = router.getConnection()) {
+                nodeName(connection);
+            }
+        }
+
+        double replicaReads = meterRegistry.get("datasource_read_routing_total").tag("target", "replica-1").counter().count()
+                + meterRegistry.get("datasource_read_routing_total").tag("target", "replica-2").counter().count();
+        assertEquals(4.0, replicaReads);
+    }
+
+    private static HikariDataSource node(String name) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName(name);
+        pool.setJdbcUrl("jdbc:h2:mem:routing-" + name + "-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        pool.setUsername("sa");
+        pool.setMaximumPoolSize(4);
+        pool.setConnectionTimeout(500);
+        try (Connection connection = pool.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE node (name VARCHAR(20))");
+            statement.execute("INSERT INTO node VALUES ('" + name + "')");
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+        return pool;
+    }
+
+    private static String nodeName(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT name FROM node")) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+}
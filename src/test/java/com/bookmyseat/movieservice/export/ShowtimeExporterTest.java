@@ -0,0 +1,144 @@
+package com.bookmyseat.movieservice.export;
+
+import com.bookmyseat.movieservice.ShowtimeFixtures;
+import com.bookmyseat.movieservice.exception.ExportCapacityExceededException;
+import com.bookmyseat.movieservice.exception.InvalidShowtimeWindowException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class ShowtimeExporterTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 9, 30);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SimpleMeterRegistry meterRegistry;
+    private ShowtimeExporter exporter;
+
+    @BeforeEach
+    void setUp() {
+        ShowtimeFixtures fixtures = new ShowtimeFixtures(jdbcTemplate);
+        fixtures.insertMovie();
+        fixtures.insertMovie(2, "Dangal", "Wrestling", 161, "Biography", "Hindi", LocalDate.of(2016, 12, 23));
+        for (int i = 0; i < 25; i++) {
+            fixtures.insertShowtime(i % 2 + 1L, DAY.atTime(10, 0).plusHours(i), "Theater " + (i % 3), 100 + i);
+        }
+
+        meterRegistry = new SimpleMeterRegistry();
+        exporter = new ShowtimeExporter(jdbcTemplate, transactionManager, objectMapper, meterRegistry, 10, 4, 1);
+    }
+
+    @Test
+    void write_ShouldStreamOneJsonObjectPerLineInShowTimeOrder() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long written = exporter.write(out, null, null, null);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(25, written);
+        assertEquals(25, lines.length);
+        assertTrue(out.toString(StandardCharsets.UTF_8).endsWith("}\n"));
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals(1L, first.get("movieId").asLong());
+        assertEquals("Inception", first.get("movieTitle").asText());
+        assertEquals("2025-09-30T10:00:00", first.get("showDateTime").asText());
+        assertEquals("Theater 0", first.get("theater").asText());
+        assertEquals(100, first.get("availableSeats").asInt());
+        for (int i = 1; i < lines.length; i++) {
+            assertTrue(objectMapper.readTree(lines[i]).get("showDateTime").asText()
+                    .compareTo(objectMapper.readTree(lines[i - 1]).get("showDateTime").asText()) > 0);
+        }
+        assertEquals(25.0, meterRegistry.get("showtime_export_rows_total").counter().count());
+    }
+
+    @Test
+    void write_ShouldApplyMovieAndDateFilters() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long written = exporter.write(out, 2L, DAY, DAY.plusDays(1));
+
+        assertEquals(7, written);
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            JsonNode row = objectMapper.readTree(line);
+            assertEquals("Dangal", row.get("movieTitle").asText());
+            assertTrue(LocalDateTime.parse(row.get("showDateTime").asText()).isBefore(DAY.plusDays(1).atStartOfDay()));
+        }
+        ByteArrayOutputStream none = new ByteArrayOutputStream();
+        assertEquals(0, exporter.write(none, 3L, null, null));
+        assertEquals(0, none.size());
+    }
+
+    @Test
+    void write_WhenClientDisconnects_ShouldStopAndPropagateIOException() {
+        CountingFailingStream out = new CountingFailingStream();
+
+        assertThrows(IOException.class, () -> exporter.write(out, null, null, null));
+        // Flushed every 4 rows, so the failure surfaces long before the whole result is read
+        assertEquals(4, out.received.toString(StandardCharsets.UTF_8).split("\n").length);
+    }
+
+    @Test
+    void export_ShouldCapConcurrentExportsAndReleaseSlotWhenDone() throws IOException {
+        StreamingResponseBody body = exporter.export(null, null, null);
+
+        assertThrows(ExportCapacityExceededException.class, () -> exporter.export(null, null, null));
+        assertEquals(1.0, meterRegistry.get("showtime_exports_active").gauge().value());
+
+        body.writeTo(new ByteArrayOutputStream());
+        assertEquals(0.0, meterRegistry.get("showtime_exports_active").gauge().value());
+        assertNotNull(exporter.export(null, null, null));
+    }
+
+    @Test
+    void export_WithEmptyRange_ShouldThrowInvalidShowtimeWindowException() {
+        assertThrows(InvalidShowtimeWindowException.class, () -> exporter.export(null, DAY, DAY));
+        assertEquals(0.0, meterRegistry.get("showtime_exports_active").gauge().value());
+    }
+
+    private static final class CountingFailingStream extends OutputStream {
+
+        private final ByteArrayOutputStream received = new ByteArrayOutputStream();
+
+        @Override
+        public void write(int b) {
+            received.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            received.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            throw new IOException("Broken pipe");
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.bookmyseat.movieservice.hold;
+
+import com.bookmyseat.movieservice.ShowtimeFixtures;
+import com.bookmyseat.movieservice.cache.ShowtimeCacheEvictor;
+import com.bookmyseat.movieservice.dto.SeatHoldDTO;
+import com.bookmyseat.movieservice.exception.InsufficientSeatsException;
+import com.bookmyseat.movieservice.exception.SeatHoldNotFoundException;
+import com.bookmyseat.movieservice.inventory.SeatInventory;
+import com.bookmyseat.movieservice.pagination.PageLimits;
+import com.bookmyseat.movieservice.repository.ArchivedShowtimeRepository;
+import com.bookmyseat.movieservice.repository.ShowtimeRepository;
+import com.bookmyseat.movieservice.service.impl.ShowtimeServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+import static com.bookmyseat.movieservice.ShowtimeFixtures.NOW;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(ShowtimeCacheEvictor.class)
+class SeatHoldManagerTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ShowtimeCacheEvictor cacheEvictor;
+
+    @Autowired
+    private ShowtimeRepository showtimeRepository;
+
+    @Autowired
+    private ArchivedShowtimeRepository archivedShowtimeRepository;
+
+    private MutableClock clock;
+    private SimpleMeterRegistry meterRegistry;
+    private SeatHoldManager holds;
+    private long showtime;
+    private long otherShowtime;
+
+    @BeforeEach
+    void setUp() {
+        ShowtimeFixtures fixtures = new ShowtimeFixtures(jdbcTemplate);
+        fixtures.insertMovie();
+        showtime = fixtures.insertShowtime(NOW.plusDays(1), "IMAX", 10);
+        otherShowtime = fixtures.insertShowtime(NOW.plusDays(2), "IMAX", 50);
+
+        clock = new MutableClock(NOW.toInstant(ZoneOffset.UTC));
+        meterRegistry = new SimpleMeterRegistry();
+        SeatInventory inventory = new SeatInventory(jdbcTemplate, transactionManager, cacheEvictor, clock,
+                meterRegistry, false, 1, Duration.ofDays(1));
+        holds = new SeatHoldManager(new ShowtimeServiceImpl(showtimeRepository, archivedShowtimeRepository,
+                new PageLimits(50, 500), clock), inventory, jdbcTemplate, transactionManager, cacheEvictor, clock,
+                meterRegistry, Duration.ofMinutes(5), Duration.ofMillis(100), 64);
+    }
+
+    @Test
+    void hold_ShouldTakeSeatsAtOnceAndReturnThemInOneBatchOnExpiry() {
+        SeatHoldDTO first = holds.hold(showtime, 4);
+        holds.hold(showtime, 3);
+        holds.hold(otherShowtime, 5);
+
+        assertEquals(NOW.plusMinutes(5), first.getExpiresAt());
+        assertEquals(6, first.getAvailableSeats());
+        assertEquals(3, seatsInDatabase(showtime));
+        assertThrows(InsufficientSeatsException.class, () -> holds.hold(showtime, 4));
+
+        clock.advance(Duration.ofMinutes(4));
+        assertEquals(0, holds.expire());
+        assertEquals(3, holds.activeHolds());
+
+        clock.advance(Duration.ofMinutes(1).plusMillis(250));
+        assertEquals(3, holds.expire());
+        assertEquals(10, seatsInDatabase(showtime));
+        assertEquals(50, seatsInDatabase(otherShowtime));
+        assertEquals(0, holds.activeHolds());
+        assertEquals(3, meterRegistry.counter("seat_holds_expired_total").count());
+        assertEquals(250, meterRegistry.timer("seat_hold_expiry_lag").max(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void confirm_ShouldKeepSeatsAndEndTheHold() {
+        SeatHoldDTO hold = holds.hold(showtime, 4);
+
+        holds.confirm(hold.getHoldId());
+        clock.advance(Duration.ofMinutes(10));
+
+        assertEquals(0, holds.expire());
+        assertEquals(6, seatsInDatabase(showtime));
+        assertThrows(SeatHoldNotFoundException.class, () -> holds.release(hold.getHoldId()));
+    }
+
+    @Test
+    void release_ShouldReturnSeatsOnNextTick() {
+        SeatHoldDTO hold = holds.hold(showtime, 4);
+
+        holds.release(hold.getHoldId());
+        assertEquals(6, seatsInDatabase(showtime));
+
+        assertEquals(0, holds.expire());
+        assertEquals(10, seatsInDatabase(showtime));
+        assertThrows(SeatHoldNotFoundException.class, () -> holds.confirm(hold.getHoldId()));
+    }
+
+    @Test
+    void releaseOnShutdown_ShouldReturnSeatsOfOutstandingHolds() {
+        holds.hold(showtime, 2);
+        holds.hold(showtime, 5);
+
+        holds.releaseOnShutdown();
+
+        assertEquals(10, seatsInDatabase(showtime));
+        assertEquals(0, holds.activeHolds());
+    }
+
+    private int seatsInDatabase(long showtimeId) {
+        return jdbcTemplate.queryForObject("SELECT available_seats FROM showtimes WHERE id = ?", Integer.class,
+                showtimeId);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
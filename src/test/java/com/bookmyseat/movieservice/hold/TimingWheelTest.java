@@ -0,0 +1,58 @@
+package com.bookmyseat.movieservice.hold;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    @Test
+    void advance_ShouldExpireEntriesAtTheirTickOnly() {
+        TimingWheel<String> wheel = new TimingWheel<>(100, 8, 0);
+        wheel.schedule("a", 250);
+        wheel.schedule("b", 300);
+        wheel.schedule("c", 950);
+        List<String> expired = new ArrayList<>();
+
+        assertEquals(0, wheel.advance(299, expired::add));
+        assertEquals(2, wheel.advance(300, expired::add));
+        assertEquals(List.of("a", "b"), expired);
+
+        // "c" shares a bucket with tick 2 but is a lap further away
+        assertEquals(0, wheel.advance(999, expired::add));
+        assertEquals(1, wheel.advance(1000, expired::add));
+        assertEquals(List.of("a", "b", "c"), expired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void advance_AfterStallOfSeveralLaps_ShouldExpireEverythingDue() {
+        TimingWheel<Integer> wheel = new TimingWheel<>(10, 4, 0);
+        for (int i = 0; i < 100; i++) {
+            wheel.schedule(i, i * 10L);
+        }
+        wheel.schedule(1000, 10_000);
+        List<Integer> expired = new ArrayList<>();
+
+        assertEquals(100, wheel.advance(5_000, expired::add));
+        assertEquals(1, wheel.size());
+        assertEquals(1, wheel.advance(10_000, expired::add));
+    }
+
+    @Test
+    void cancel_ShouldRemoveEntryOnce() {
+        TimingWheel<String> wheel = new TimingWheel<>(100, 8, 0);
+        TimingWheel.Entry<String> entry = wheel.schedule("a", 100);
+        wheel.schedule("late", -500);
+
+        assertTrue(wheel.cancel(entry));
+        assertFalse(wheel.cancel(entry));
+
+        List<String> expired = new ArrayList<>();
+        assertEquals(1, wheel.advance(100, expired::add));
+        assertEquals(List.of("late"), expired);
+    }
+}
@@ -0,0 +1,235 @@
+package com.bookmyseat.movieservice.importer;
+
+import com.bookmyseat.movieservice.cache.ShowtimeCacheEvictor;
+import com.bookmyseat.movieservice.catalog.MovieCatalog;
+import com.bookmyseat.movieservice.dto.CatalogImportResultDTO;
+import com.bookmyseat.movieservice.exception.ImportInProgressException;
+import com.bookmyseat.movieservice.exception.InvalidImportRequestException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+// Batches must really commit and roll back, so the test runs outside the usual test transaction
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(ShowtimeCacheEvictor.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CatalogImporterTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 9, 30, 8, 0);
+
+    @TempDir
+    Path directory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ShowtimeCacheEvictor cacheEvictor;
+
+    private MovieCatalog movieCatalog;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        movieCatalog = mock(MovieCatalog.class);
+        meterRegistry = new SimpleMeterRegistry();
+        Timestamp now = Timestamp.valueOf(NOW);
+        jdbcTemplate.update("INSERT INTO movies (title, description, duration_minutes, genre, language, " +
+                "created_at, updated_at) VALUES ('Inception', 'Dreams', 148, 'Sci-Fi', 'English', ?, ?)", now, now);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM showtimes");
+        jdbcTemplate.update("DELETE FROM movies");
+        jdbcTemplate.update("DELETE FROM catalog_import_checkpoints");
+    }
+
+    @Test
+    void importMovies_ShouldInsertNewMoviesAndRejectDuplicatesAndInvalidRows() throws IOException {
+        write("movies.csv", "title,duration_minutes,genre,release_date\n" +
+                "Dangal,161,Biography,2016-12-23\n" +
+                "inception,148,Sci-Fi,2010-07-16\n" +
+                "\"Crouching Tiger, Hidden Dragon\",120,,\n" +
+                "Broken,abc,Drama,\n" +
+                "Dangal,161,Biography,2016-12-23\n");
+
+        CatalogImportResultDTO result = importer(jdbcTemplate, 2).importMovies("movies.csv");
+
+        assertEquals("COMPLETED", result.getStatus());
+        assertEquals(2, result.getRowsImported());
+        assertEquals(3, result.getRowsRejected());
+        assertEquals(Files.size(directory.resolve("movies.csv")), result.getBytesRead());
+        assertEquals(List.of("Crouching Tiger, Hidden Dragon", "Dangal", "Inception"),
+                jdbcTemplate.queryForList("SELECT title FROM movies ORDER BY title", String.class));
+        assertNull(jdbcTemplate.queryForObject(
+                "SELECT genre FROM movies WHERE title = 'Crouching Tiger, Hidden Dragon'", String.class));
+        verify(movieCatalog).refresh();
+    }
+
+    @Test
+    void importShowtimes_ShouldResolveMoviesByTitleAndSkipCompletedFiles() throws IOException {
+        write("showtimes.csv", "movie_title,show_date_time,theater,available_seats\n" +
+                "INCEPTION,2025-10-01T18:00:00,Theater 1,100\n" +
+                "Inception,2025-10-01T21:00:00,Theater 2,80\n" +
+                "Unknown,2025-10-01T18:00:00,Theater 1,100\n" +
+                "Inception,tomorrow,Theater 1,100\n");
+        CatalogImporter importer = importer(jdbcTemplate, 10);
+
+        CatalogImportResultDTO result = importer.importShowtimes("showtimes.csv");
+        CatalogImportResultDTO rerun = importer.importShowtimes("showtimes.csv");
+
+        assertEquals(2, result.getRowsImported());
+        assertEquals(2, result.getRowsRejected());
+        assertEquals("COMPLETED", rerun.getStatus());
+        assertEquals(2, rerun.getRowsImported());
+        List<Map<String, Object>> showtimes = jdbcTemplate.queryForList(
+                "SELECT s.theater, m.title FROM showtimes s JOIN movies m ON m.id = s.movie_id ORDER BY s.show_date_time");
+        assertEquals(2, showtimes.size());
+        assertEquals("Inception", showtimes.get(1).get("title"));
+        assertEquals("Theater 2", showtimes.get(1).get("theater"));
+        assertEquals(2.0, meterRegistry.get("catalog_import_rows_total")
+                .tags("kind", "showtimes", "outcome", "imported").counter().count());
+        verify(movieCatalog, never()).refresh();
+    }
+
+    @Test
+    void importShowtimes_AfterFailedBatch_ShouldResumeWithoutDuplicates() throws IOException {
+        StringBuilder csv = new StringBuilder("movie_title,show_date_time,theater,available_seats\n");
+        for (int i = 0; i < 7; i++) {
+            csv.append("Inception,2025-10-01T").append(10 + i).append(":00:00,Theater 1,").append(i).append('\n');
+        }
+        write("showtimes.csv", csv.toString());
+
+        assertThrows(DataAccessResourceFailureException.class,
+                () -> importer(new FailingJdbcTemplate(jdbcTemplate, 2), 3).importShowtimes("showtimes.csv"));
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM showtimes", Integer.class));
+        Map<String, Object> checkpoint = jdbcTemplate.queryForMap(
+                "SELECT status, rows_imported, byte_offset FROM catalog_import_checkpoints");
+        assertEquals("FAILED", checkpoint.get("status"));
+        assertEquals(3L, ((Number) checkpoint.get("rows_imported")).longValue());
+
+        CatalogImportResultDTO resumed = importer(jdbcTemplate, 3).importShowtimes("showtimes.csv");
+
+        assertEquals(((Number) checkpoint.get("byte_offset")).longValue(), resumed.getResumedFrom());
+        assertEquals(7, resumed.getRowsImported());
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6), jdbcTemplate.queryForList(
+                "SELECT available_seats FROM showtimes ORDER BY show_date_time", Integer.class));
+    }
+
+    @Test
+    void importShowtimes_WhenFileChanged_ShouldStartOver() throws IOException {
+        Path file = write("showtimes.csv", "movie_title,show_date_time,theater,available_seats\n" +
+                "Inception,2025-10-01T18:00:00,Theater 1,100\n");
+        CatalogImporter importer = importer(jdbcTemplate, 10);
+        importer.importShowtimes("showtimes.csv");
+
+        Files.writeString(file, "movie_title,show_date_time,theater,available_seats\n" +
+                "Inception,2025-10-02T18:00:00,Theater 1,100\n" +
+                "Inception,2025-10-02T21:00:00,Theater 1,100\n");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 60_000));
+        CatalogImportResultDTO result = importer.importShowtimes("showtimes.csv");
+
+        assertEquals(0, result.getResumedFrom());
+        assertEquals(2, result.getRowsImported());
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM showtimes", Integer.class));
+    }
+
+    @Test
+    void importShowtimes_WhileAnotherInstanceHoldsTheCheckpoint_ShouldRefuseUntilTheClaimGoesStale()
+            throws IOException {
+        write("showtimes.csv", "movie_title,show_date_time,theater,available_seats\n" +
+                "Inception,2025-10-01T18:00:00,Theater 1,100\n" +
+                "Inception,2025-10-01T21:00:00,Theater 1,100\n");
+        assertThrows(DataAccessResourceFailureException.class,
+                () -> importer(new FailingJdbcTemplate(jdbcTemplate, 1), 10).importShowtimes("showtimes.csv"));
+        // Another instance claimed the failed import and is still advancing its checkpoint
+        jdbcTemplate.update("UPDATE catalog_import_checkpoints SET status = 'IN_PROGRESS'");
+
+        assertThrows(ImportInProgressException.class,
+                () -> importer(jdbcTemplate, 10).importShowtimes("showtimes.csv"));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM showtimes", Integer.class));
+
+        CatalogImporter later = importer(jdbcTemplate, 10, NOW.plusMinutes(11));
+        CatalogImportResultDTO result = later.importShowtimes("showtimes.csv");
+
+        assertEquals("COMPLETED", result.getStatus());
+        assertEquals(2, result.getRowsImported());
+    }
+
+    @Test
+    void importShowtimes_WithMissingColumnOrUnknownFile_ShouldThrowInvalidImportRequestException() throws IOException {
+        write("showtimes.csv", "movie_title,theater\nInception,Theater 1\n");
+        CatalogImporter importer = importer(jdbcTemplate, 10);
+
+        assertThrows(InvalidImportRequestException.class, () -> importer.importShowtimes("showtimes.csv"));
+        assertThrows(InvalidImportRequestException.class, () -> importer.importShowtimes("missing.csv"));
+        assertThrows(InvalidImportRequestException.class, () -> importer.importShowtimes("../showtimes.csv"));
+    }
+
+    private CatalogImporter importer(JdbcTemplate template, int batchSize) {
+        return importer(template, batchSize, NOW);
+    }
+
+    private CatalogImporter importer(JdbcTemplate template, int batchSize, LocalDateTime now) {
+        return new CatalogImporter(template, transactionManager, cacheEvictor, movieCatalog,
+                Clock.fixed(now.toInstant(ZoneOffset.UTC), ZoneOffset.UTC), meterRegistry,
+                directory.toString(), batchSize, 16, Duration.ofMinutes(10));
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.writeString(directory.resolve(name), content);
+    }
+
+    private static final class FailingJdbcTemplate extends JdbcTemplate {
+
+        private int batchesLeft;
+
+        private FailingJdbcTemplate(JdbcTemplate delegate, int failOnBatch) {
+            super(delegate.getDataSource());
+            this.batchesLeft = failOnBatch;
+        }
+
+        @Override
+        public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+            if (--batchesLeft == 0) {
+                throw new DataAccessResourceFailureException("Connection lost");
+            }
+            return super.batchUpdate(sql, batchArgs);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.bookmyseat.movieservice.importer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvReaderTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void next_ShouldHandleQuotingLineEndingsAndBlankLines() throws IOException {
+        List<List<String>> records = readAll("title,description\r\n" +
+                "Inception,\"Dreams, within \"\"dreams\"\"\"\r\n" +
+                "\r\n" +
+                "\"Multi\nline\",\n" +
+                ",last");
+
+        assertEquals(List.of(
+                List.of("title", "description"),
+                List.of("Inception", "Dreams, within \"dreams\""),
+                List.of("Multi\nline", ""),
+                List.of("", "last")), records);
+    }
+
+    @Test
+    void next_ShouldDecodeMultiByteCharactersSplitAcrossBufferRefills() throws IOException {
+        // An 8-byte buffer forces refills in the middle of multi-byte sequences
+        List<List<String>> records = readAll("﻿title\nAmélie\n千と千尋の神隠し\n", 8);
+
+        assertEquals(List.of(List.of("title"), List.of("Amélie"), List.of("千と千尋の神隠し")), records);
+    }
+
+    @Test
+    void position_ShouldResumeAtARecordBoundary() throws IOException {
+        Path file = write("a,1\nb,2\nc,3\n");
+        long afterFirst;
+        try (CsvReader reader = open(file, 4)) {
+            assertTrue(reader.next());
+            afterFirst = reader.position();
+            assertEquals(4, afterFirst);
+        }
+
+        try (CsvReader reader = open(file, 4)) {
+            reader.position(afterFirst);
+            assertTrue(reader.next());
+            assertEquals("b", reader.get(0));
+            assertTrue(reader.next());
+            assertEquals("3", reader.get(1));
+            assertEquals(Files.size(file), reader.position());
+            assertFalse(reader.next());
+        }
+    }
+
+    @Test
+    void get_BeyondLastField_ShouldReturnEmptyString() throws IOException {
+        try (CsvReader reader = open(write("only\n"), 64)) {
+            assertTrue(reader.next());
+            assertEquals(1, reader.size());
+            assertEquals("", reader.get(3));
+        }
+    }
+
+    private List<List<String>> readAll(String content) throws IOException {
+        return readAll(content, 64);
+    }
+
+    private List<List<String>> readAll(String content, int bufferSize) throws IOException {
+        List<List<String>> records = new ArrayList<>();
+        try (CsvReader reader = open(write(content), bufferSize)) {
+            while (reader.next()) {
+                List<String> record = new ArrayList<>();
+                for (int i = 0; i < reader.size(); i++) {
+                    record.add(reader.get(i));
+                }
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    private Path write(String content) throws IOException {
+        return Files.writeString(Files.createTempFile(directory, "import", ".csv"), content, StandardCharsets.UTF_8);
+    }
+
+    private static CsvReader open(Path file, int bufferSize) throws IOException {
+        return new CsvReader(FileChannel.open(file, StandardOpenOption.READ), bufferSize);
+    }
+}
@@ -0,0 +1,119 @@
+package com.bookmyseat.movieservice.ingest;
+
+import com.bookmyseat.movieservice.ShowtimeFixtures;
+import com.bookmyseat.movieservice.cache.ShowtimeCacheEvictor;
+import com.bookmyseat.movieservice.dto.ShowtimeIngestResultDTO;
+import com.bookmyseat.movieservice.dto.ShowtimeIngestRowDTO;
+import com.bookmyseat.movieservice.exception.InvalidIngestRequestException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static com.bookmyseat.movieservice.ShowtimeFixtures.NOW;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(ShowtimeCacheEvictor.class)
+class ShowtimeIngesterTest {
+
+    private static final LocalDateTime SHOW = LocalDateTime.of(2025, 10, 1, 18, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ShowtimeCacheEvictor cacheEvictor;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ShowtimeIngester ingester;
+
+    @BeforeEach
+    void setUp() {
+        new ShowtimeFixtures(jdbcTemplate).insertMovie();
+
+        meterRegistry = new SimpleMeterRegistry();
+        ingester = new ShowtimeIngester(jdbcTemplate, transactionManager, cacheEvictor,
+                ShowtimeFixtures.fixedClock(), meterRegistry, 4, 20);
+    }
+
+    @Test
+    void ingest_ShouldInsertAllRowsAcrossBatches() {
+        List<ShowtimeIngestRowDTO> rows = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            rows.add(new ShowtimeIngestRowDTO(1L, SHOW.plusHours(i), "Theater " + i, 100 + i));
+        }
+
+        ShowtimeIngestResultDTO result = ingester.ingest(rows);
+
+        assertEquals(10, result.getReceived());
+        assertEquals(10, result.getInserted());
+        assertTrue(result.getErrors().isEmpty());
+        List<Map<String, Object>> inserted = jdbcTemplate.queryForList(
+                "SELECT movie_id, show_date_time, theater, available_seats, updated_at FROM showtimes ORDER BY show_date_time");
+        assertEquals(10, inserted.size());
+        assertEquals("Theater 9", inserted.get(9).get("theater"));
+        assertEquals(109, ((Number) inserted.get(9).get("available_seats")).intValue());
+        assertEquals(Timestamp.valueOf(NOW), inserted.get(0).get("updated_at"));
+        assertEquals(10.0, meterRegistry.get("showtime_ingest_rows_total").tag("outcome", "inserted").counter().count());
+    }
+
+    @Test
+    void ingest_ShouldReportInvalidRowsByPositionAndInsertTheRest() {
+        List<ShowtimeIngestRowDTO> rows = Arrays.asList(
+                new ShowtimeIngestRowDTO(1L, SHOW, "Theater 1", 100),
+                new ShowtimeIngestRowDTO(42L, SHOW, "Theater 1", 100),
+                new ShowtimeIngestRowDTO(1L, null, "Theater 1", 100),
+                new ShowtimeIngestRowDTO(1L, SHOW, " ", 100),
+                new ShowtimeIngestRowDTO(1L, SHOW, "Theater 2", -1),
+                null,
+                new ShowtimeIngestRowDTO(1L, SHOW.plusHours(3), "Theater 2", 0));
+
+        ShowtimeIngestResultDTO result = ingester.ingest(rows);
+
+        assertEquals(7, result.getReceived());
+        assertEquals(2, result.getInserted());
+        assertEquals(List.of(1, 2, 3, 4, 5), result.getErrors().stream().map(e -> e.getIndex()).toList());
+        assertEquals("Movie not found with ID: 42", result.getErrors().get(0).getMessage());
+        assertEquals("showDateTime is required", result.getErrors().get(1).getMessage());
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM showtimes", Integer.class));
+        assertEquals(5.0, meterRegistry.get("showtime_ingest_rows_total").tag("outcome", "rejected").counter().count());
+    }
+
+    @Test
+    void ingest_WithOnlyInvalidRows_ShouldInsertNothing() {
+        ShowtimeIngestResultDTO result = ingester.ingest(List.of(new ShowtimeIngestRowDTO(7L, SHOW, "Theater 1", 10)));
+
+        assertEquals(0, result.getInserted());
+        assertEquals(1, result.getErrors().size());
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM showtimes", Integer.class));
+    }
+
+    @Test
+    void ingest_WithEmptyOrOversizedRequest_ShouldThrowInvalidIngestRequestException() {
+        List<ShowtimeIngestRowDTO> tooMany = Collections.nCopies(21, new ShowtimeIngestRowDTO(1L, SHOW, "Theater 1", 10));
+
+        assertThrows(InvalidIngestRequestException.class, () -> ingester.ingest(null));
+        assertThrows(InvalidIngestRequestException.class, () -> ingester.ingest(List.of()));
+        assertThrows(InvalidIngestRequestException.class, () -> ingester.ingest(tooMany));
+    }
+}
@@ -0,0 +1,73 @@
+package com.bookmyseat.movieservice.inventory;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeatCounterTest {
+
+    private static final LocalDateTime SHOW = LocalDateTime.of(2025, 10, 1, 18, 0);
+
+    @Test
+    void constructor_ShouldRoundStripesToPowerOfTwoAndSpreadSeats() {
+        assertEquals(1, new SeatCounter(10, 1, SHOW).stripeCount());
+        assertEquals(4, new SeatCounter(10, 3, SHOW).stripeCount());
+        assertEquals(8, new SeatCounter(10, 8, SHOW).stripeCount());
+        assertEquals(10, new SeatCounter(10, 3, SHOW).available());
+    }
+
+    @Test
+    void tryTake_ShouldGatherSeatsSpreadAcrossStripes() {
+        // 7 seats over 4 stripes is 2, 2, 2, 1: no single stripe holds 5
+        SeatCounter counter = new SeatCounter(7, 4, SHOW);
+
+        assertTrue(counter.tryTake(5));
+        assertEquals(2, counter.available());
+        assertFalse(counter.tryTake(3));
+        assertEquals(2, counter.available());
+        assertTrue(counter.tryTake(2));
+        assertFalse(counter.tryTake(1));
+        assertEquals(-7, counter.drainUnflushed());
+        assertEquals(0, counter.drainUnflushed());
+    }
+
+    @Test
+    void tryTake_UnderContention_ShouldSellEverySeatExactlyOnce() throws InterruptedException {
+        SeatCounter counter = new SeatCounter(10_000, 8, SHOW);
+        AtomicInteger sold = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            int seats = t % 3 + 1;
+            threads.add(new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                while (counter.available() > 0) {
+                    if (counter.tryTake(seats)) {
+                        sold.addAndGet(seats);
+                    } else if (counter.tryTake(1)) {
+                        sold.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(10_000, sold.get());
+        assertEquals(0, counter.available());
+        assertEquals(-10_000, counter.drainUnflushed());
+    }
+}
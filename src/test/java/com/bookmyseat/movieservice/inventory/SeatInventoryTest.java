@@ -0,0 +1,112 @@
+package com.bookmyseat.movieservice.inventory;
+
+import com.bookmyseat.movieservice.ShowtimeFixtures;
+import com.bookmyseat.movieservice.cache.ShowtimeCacheEvictor;
+import com.bookmyseat.movieservice.dto.ReservationDTO;
+import com.bookmyseat.movieservice.exception.InsufficientSeatsException;
+import com.bookmyseat.movieservice.exception.ShowtimeNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+
+import static com.bookmyseat.movieservice.ShowtimeFixtures.NOW;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(ShowtimeCacheEvictor.class)
+class SeatInventoryTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ShowtimeCacheEvictor cacheEvictor;
+
+    private long hotShowtime;
+    private long pastShowtime;
+
+    @BeforeEach
+    void setUp() {
+        ShowtimeFixtures fixtures = new ShowtimeFixtures(jdbcTemplate);
+        fixtures.insertMovie();
+        hotShowtime = fixtures.insertShowtime(NOW.plusDays(1), "IMAX", 100);
+        pastShowtime = fixtures.insertShowtime(NOW.minusDays(2), "IMAX", 50);
+    }
+
+    @Test
+    void reserve_ShouldAcknowledgeFromMemoryAndFlushOneNetDelta() {
+        SeatInventory inventory = inventory();
+
+        ReservationDTO first = inventory.reserve(hotShowtime, 3);
+        ReservationDTO second = inventory.reserve(hotShowtime, 4);
+
+        assertEquals(97, first.getAvailableSeats());
+        assertEquals(93, second.getAvailableSeats());
+        assertEquals(100, seatsInDatabase(hotShowtime));
+
+        assertEquals(1, inventory.flush());
+        assertEquals(93, seatsInDatabase(hotShowtime));
+        assertEquals(Timestamp.valueOf(NOW), jdbcTemplate.queryForObject(
+                "SELECT updated_at FROM showtimes WHERE id = ?", Timestamp.class, hotShowtime));
+        assertEquals(0, inventory.flush());
+    }
+
+    @Test
+    void reserve_AfterRestart_ShouldRebuildCountersFromFlushedSeats() {
+        SeatInventory before = inventory();
+        before.reserve(hotShowtime, 10);
+        before.flushOnShutdown();
+
+        SeatInventory after = inventory();
+
+        assertEquals(89, after.reserve(hotShowtime, 1).getAvailableSeats());
+    }
+
+    @Test
+    void reserve_WhenSoldOutOrUnknown_ShouldThrow() {
+        SeatInventory inventory = inventory();
+        inventory.reserve(hotShowtime, 98);
+
+        assertThrows(InsufficientSeatsException.class, () -> inventory.reserve(hotShowtime, 3));
+        assertEquals(2, inventory.reserve(hotShowtime, 2).getSeatsReserved());
+        assertThrows(ShowtimeNotFoundException.class, () -> inventory.reserve(-1L, 1));
+    }
+
+    @Test
+    void flush_ShouldRetireCountersOfLongFinishedShowtimes() {
+        SeatInventory inventory = inventory();
+        inventory.reserve(pastShowtime, 5);
+        jdbcTemplate.update("UPDATE showtimes SET available_seats = 40 WHERE id = ?", pastShowtime);
+
+        inventory.flush();
+
+        // The delta was written before the counter was dropped; the next use reloads from the table
+        assertEquals(35, seatsInDatabase(pastShowtime));
+        assertEquals(34, inventory.reserve(pastShowtime, 1).getAvailableSeats());
+    }
+
+    private SeatInventory inventory() {
+        return new SeatInventory(jdbcTemplate, transactionManager, cacheEvictor, ShowtimeFixtures.fixedClock(),
+                new SimpleMeterRegistry(), true, 4, Duration.ofDays(1));
+    }
+
+    private int seatsInDatabase(long showtimeId) {
+        return jdbcTemplate.queryForObject("SELECT available_seats FROM showtimes WHERE id = ?", Integer.class,
+                showtimeId);
+    }
+}
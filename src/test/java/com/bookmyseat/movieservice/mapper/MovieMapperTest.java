@@ -222,6 +222,27 @@ class MovieMapperTest {
         assertTrue(movieDetailDTO.getShowtimes().isEmpty());
     }
 
+    @Test
+    void testToMovieDetailDTO_WithSeparatelyLoadedShowtimes() {
+        // Given
+        Movie movie = new Movie("Inception", "Mind-bending thriller", 148, "Sci-Fi", "English", LocalDate.of(2010, 7, 16));
+        movie.setId(1L);
+        List<ShowtimeDTO> showtimes = Arrays.asList(
+                new ShowtimeDTO(10L, 1L, LocalDateTime.of(2023, 12, 25, 19, 0), "Theater A", 100),
+                new ShowtimeDTO(11L, 1L, LocalDateTime.of(2023, 12, 25, 22, 0), "Theater B", 150));
+
+        // When
+        MovieDetailDTO movieDetailDTO = movieMapper.toMovieDetailDTO(movie, showtimes);
+
+        // Then
+        assertNotNull(movieDetailDTO);
+        assertEquals(1L, movieDetailDTO.getId());
+        assertEquals("Mind-bending thriller", movieDetailDTO.getDescription());
+        assertSame(showtimes, movieDetailDTO.getShowtimes());
+        assertTrue(movieDetailDTO.getShowtimes().stream().allMatch(s -> "Inception".equals(s.getMovieTitle())));
+        assertNull(movieMapper.toMovieDetailDTO(null, showtimes));
+    }
+
     @Test
     void testToShowtimeDTO_WithValidShowtime() {
         // Given
@@ -0,0 +1,117 @@
+package com.bookmyseat.movieservice.partition;
+
+import com.bookmyseat.movieservice.partition.ShowtimePartitionMaintainer.ExpiredAction;
+import com.bookmyseat.movieservice.partition.ShowtimePartitionMaintainer.Outcome;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShowtimePartitionMaintainerTest {
+
+    private static final List<ShowtimePartition> PARTITIONS = List.of(
+            new ShowtimePartition("p_history", LocalDate.of(2025, 9, 1)),
+            new ShowtimePartition("p202509", LocalDate.of(2025, 10, 1)),
+            new ShowtimePartition("p202510", LocalDate.of(2025, 11, 1)),
+            new ShowtimePartition("p_future", null));
+
+    @Test
+    void missingMonths_ShouldContinueFromHighestBoundThroughTargetMonth() {
+        assertEquals(List.of(YearMonth.of(2025, 11), YearMonth.of(2025, 12), YearMonth.of(2026, 1)),
+                ShowtimePartitionMaintainer.missingMonths(PARTITIONS, YearMonth.of(2026, 1)));
+        assertTrue(ShowtimePartitionMaintainer.missingMonths(PARTITIONS, YearMonth.of(2025, 10)).isEmpty());
+    }
+
+    @Test
+    void expired_ShouldOnlySelectPartitionsEndingByCutoff() {
+        List<ShowtimePartition> expired = ShowtimePartitionMaintainer.expired(PARTITIONS, LocalDate.of(2025, 10, 1));
+
+        assertEquals(List.of("p_history", "p202509"), expired.stream().map(ShowtimePartition::getName).toList());
+        assertTrue(ShowtimePartitionMaintainer.expired(PARTITIONS, LocalDate.of(2030, 1, 1)).stream()
+                .noneMatch(ShowtimePartition::isCatchAll));
+    }
+
+    @Test
+    void addPartitionsSql_ShouldSplitCatchAllWhenPresent() {
+        assertEquals("ALTER TABLE showtimes REORGANIZE PARTITION p_future INTO (PARTITION p202511 VALUES LESS THAN " +
+                "('2025-12-01'), PARTITION p_future VALUES LESS THAN (MAXVALUE))",
+                ShowtimePartitionMaintainer.addPartitionsSql(List.of(YearMonth.of(2025, 11)), true));
+        assertEquals("ALTER TABLE showtimes ADD PARTITION (PARTITION p202512 VALUES LESS THAN ('2026-01-01'))",
+                ShowtimePartitionMaintainer.addPartitionsSql(List.of(YearMonth.of(2025, 12)), false));
+    }
+
+    @Test
+    void addPartitionsSql_ShouldSplitAllMissingMonthsOffCatchAllAtOnce() {
+        List<YearMonth> missing = ShowtimePartitionMaintainer.missingMonths(PARTITIONS, YearMonth.of(2026, 1));
+
+        assertEquals("ALTER TABLE showtimes REORGANIZE PARTITION p_future INTO (" +
+                "PARTITION p202511 VALUES LESS THAN ('2025-12-01'), " +
+                "PARTITION p202512 VALUES LESS THAN ('2026-01-01'), " +
+                "PARTITION p202601 VALUES LESS THAN ('2026-02-01'), " +
+                "PARTITION p_future VALUES LESS THAN (MAXVALUE))",
+                ShowtimePartitionMaintainer.addPartitionsSql(missing, true));
+    }
+
+    @Test
+    void exchangeSql_ShouldSwapPartitionIntoUnpartitionedArchiveTable() {
+        List<String> sql = ShowtimePartitionMaintainer.exchangeSql(PARTITIONS.get(1), "showtimes_archive_p202509");
+
+        assertEquals(List.of(
+                "CREATE TABLE showtimes_archive_p202509 LIKE showtimes",
+                "ALTER TABLE showtimes_archive_p202509 REMOVE PARTITIONING",
+                "ALTER TABLE showtimes EXCHANGE PARTITION p202509 WITH TABLE showtimes_archive_p202509"), sql);
+    }
+
+    @Test
+    void expireSql_ShouldOnlyExchangePartitionsThatHaveRows() {
+        ShowtimePartition partition = PARTITIONS.get(1);
+
+        assertEquals(List.of("ALTER TABLE showtimes DROP PARTITION p202509"),
+                ShowtimePartitionMaintainer.expireSql(partition, false));
+        List<String> archived = ShowtimePartitionMaintainer.expireSql(partition, true);
+        assertEquals(4, archived.size());
+        assertEquals(ShowtimePartitionMaintainer.exchangeSql(partition, "showtimes_archive_p202509"),
+                archived.subList(0, 3));
+        assertEquals("ALTER TABLE showtimes DROP PARTITION p202509", archived.get(3));
+    }
+
+    @Test
+    void parseBound_ShouldReadRangeColumnsDescriptions() {
+        assertEquals(LocalDate.of(2025, 10, 1), ShowtimePartitionMaintainer.parseBound("'2025-10-01 00:00:00'"));
+        assertEquals(LocalDate.of(2025, 10, 1), ShowtimePartitionMaintainer.parseBound("'2025-10-01'"));
+        assertNull(ShowtimePartitionMaintainer.parseBound("MAXVALUE"));
+    }
+
+    @Test
+    void maintain_OnNonMySqlDatabase_ShouldSkipAndRecordOutcome() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(
+                new DriverManagerDataSource("jdbc:h2:mem:partitions;MODE=MySQL", "sa", ""));
+        ShowtimePartitionMaintainer maintainer = new ShowtimePartitionMaintainer(jdbcTemplate,
+                Clock.fixed(Instant.parse("2025-10-15T00:00:00Z"), ZoneOffset.UTC), meterRegistry,
+                true, 3, 12, ExpiredAction.EXCHANGE);
+
+        assertEquals(Outcome.UNSUPPORTED, maintainer.maintain());
+        assertEquals(1.0, meterRegistry.get("showtime_partition_maintenance_total")
+                .tag("outcome", "unsupported").counter().count());
+    }
+
+    @Test
+    void maintain_WhenDisabled_ShouldNotTouchDatabase() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ShowtimePartitionMaintainer maintainer = new ShowtimePartitionMaintainer(new JdbcTemplate(),
+                Clock.systemUTC(), meterRegistry, false, 3, 12, ExpiredAction.DROP);
+
+        assertEquals(Outcome.DISABLED, maintainer.maintain());
+        assertEquals(0L, meterRegistry.get("showtime_partition_maintenance_duration").timer().count());
+    }
+}
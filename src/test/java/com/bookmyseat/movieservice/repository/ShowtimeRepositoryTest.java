@@ -0,0 +1,337 @@
+package com.bookmyseat.movieservice.repository;
+
+import com.bookmyseat.movieservice.dto.MovieDTO;
+import com.bookmyseat.movieservice.dto.ShowtimeDTO;
+import com.bookmyseat.movieservice.entity.Movie;
+import com.bookmyseat.movieservice.entity.Showtime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class ShowtimeRepositoryTest {
+
+    private static final int MOVIES = 20;
+    private static final int DAYS = 30;
+    private static final String[] THEATERS = {"Theater 1", "Theater 2", "Theater 3", "Theater 4", "IMAX"};
+    private static final LocalDate FIRST_DAY = LocalDate.of(2025, 9, 1);
+
+    @Autowired
+    private ShowtimeRepository showtimeRepository;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Movie movie;
+
+    @BeforeEach
+    void setUp() {
+        List<Movie> movies = new ArrayList<>();
+        for (int i = 0; i < MOVIES; i++) {
+            movies.add(new Movie("Movie " + i, "Synthetic movie " + i, 120, "Drama", "English",
+                    LocalDate.of(2025, 1, 1)));
+        }
+        movies = movieRepository.saveAllAndFlush(movies);
+        movie = movies.get(0);
+
+        // 20 movies x 30 days x 5 theaters x 4 shows = 12,000 showtimes
+        List<Object[]> rows = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.of(2025, 8, 1, 0, 0));
+        for (Movie m : movies) {
+            for (int day = 0; day < DAYS; day++) {
+                for (String theater : THEATERS) {
+                    for (int show = 0; show < 4; show++) {
+                        LocalDateTime showTime = FIRST_DAY.plusDays(day).atTime(show * 6, 0);
+                        rows.add(new Object[] {m.getId(), Timestamp.valueOf(showTime), theater, 100, now, now});
+                    }
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO showtimes (movie_id, show_date_time, theater, available_seats, " +
+                "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    @Test
+    void findByShowDate_ShouldIncludeMidnightAndExcludeNextMidnight() {
+        LocalDate day = FIRST_DAY.plusDays(3);
+
+        List<Showtime> showtimes = showtimeRepository.findByShowDate(day);
+
+        assertEquals(MOVIES * THEATERS.length * 4, showtimes.size());
+        assertTrue(showtimes.stream().allMatch(s -> s.getShowDateTime().toLocalDate().equals(day)));
+        assertTrue(showtimes.stream().anyMatch(s -> s.getShowDateTime().equals(day.atStartOfDay())));
+    }
+
+    @Test
+    void findShowtimeDTOPage_ShouldApplyDateRangeWithOtherFilters() {
+        LocalDate day = FIRST_DAY.plusDays(10);
+
+        List<ShowtimeDTO> all = showtimeRepository.findShowtimeDTOPage(movie.getId(), day, "IMAX", null, null, 1000);
+        List<ShowtimeDTO> noDate = showtimeRepository.findShowtimeDTOPage(movie.getId(), null, "IMAX",
+                null, null, 1000);
+
+        assertEquals(4, all.size());
+        assertEquals(DAYS * 4, noDate.size());
+    }
+
+    @Test
+    void findByMovieIdAndShowDate_ShouldReturnOnlyThatMoviesDay() {
+        LocalDate day = FIRST_DAY.plusDays(5);
+
+        List<Showtime> showtimes = showtimeRepository.findByMovieIdAndShowDate(movie.getId(), day);
+
+        assertEquals(THEATERS.length * 4, showtimes.size());
+    }
+
+    @Test
+    void findByShowDateAndTheater_ShouldReturnOnlyThatTheatersDay() {
+        LocalDate day = FIRST_DAY.plusDays(5);
+
+        List<Showtime> showtimes = showtimeRepository.findByShowDateAndTheater(day, "Theater 2");
+
+        assertEquals(MOVIES * 4, showtimes.size());
+        assertTrue(showtimes.stream().allMatch(s -> "Theater 2".equals(s.getTheater())));
+    }
+
+    @Test
+    void findShowtimeDTOPage_ShouldWalkEveryRowOnceInKeysetOrder() {
+        List<ShowtimeDTO> seen = new ArrayList<>();
+        LocalDateTime afterTime = null;
+        Long afterId = null;
+        while (true) {
+            List<ShowtimeDTO> page = showtimeRepository.findShowtimeDTOPage(movie.getId(), null, "IMAX",
+                    afterTime, afterId, 7);
+            seen.addAll(page);
+            if (page.size() < 7) {
+                break;
+            }
+            ShowtimeDTO last = page.get(page.size() - 1);
+            afterTime = last.getShowDateTime();
+            afterId = last.getId();
+        }
+
+        assertEquals(DAYS * 4, seen.size());
+        assertEquals(DAYS * 4, seen.stream().map(ShowtimeDTO::getId).distinct().count());
+        for (int i = 1; i < seen.size(); i++) {
+            ShowtimeDTO previous = seen.get(i - 1);
+            ShowtimeDTO current = seen.get(i);
+            assertTrue(previous.getShowDateTime().isBefore(current.getShowDateTime())
+                    || (previous.getShowDateTime().equals(current.getShowDateTime())
+                        && previous.getId() < current.getId()));
+        }
+    }
+
+    @Test
+    void findShowtimeDTOPage_ShouldBreakTimeTiesById() {
+        // Every movie shares the same slots, so one timestamp spans many rows
+        LocalDateTime slot = FIRST_DAY.atTime(6, 0);
+        List<ShowtimeDTO> first = showtimeRepository.findShowtimeDTOPage(null, FIRST_DAY, "Theater 1", null, null, 5);
+        ShowtimeDTO last = first.get(first.size() - 1);
+
+        List<ShowtimeDTO> next = showtimeRepository.findShowtimeDTOPage(null, FIRST_DAY, "Theater 1",
+                last.getShowDateTime(), last.getId(), 100);
+
+        assertEquals(MOVIES * 4 - 5, next.size());
+        assertTrue(next.stream().noneMatch(s -> first.stream().anyMatch(f -> f.getId().equals(s.getId()))));
+        assertTrue(next.stream().anyMatch(s -> s.getShowDateTime().equals(slot)));
+    }
+
+    @Test
+    void keysetSeekPredicate_ShouldUseShowDateTimeIndex() {
+        String plan = explain("SELECT * FROM showtimes WHERE show_date_time > TIMESTAMP '2025-09-05 00:00:00' " +
+                "OR (show_date_time = TIMESTAMP '2025-09-05 00:00:00' AND id > 100) " +
+                "ORDER BY show_date_time, id LIMIT 50");
+
+        assertTrue(plan.contains("idx_show_date_time"), plan);
+    }
+
+    @Test
+    void findShowtimeDTOPage_EveryShape_ShouldMatchInMemoryFilter() {
+        LocalDate day = FIRST_DAY.plusDays(2);
+        List<Showtime> all = showtimeRepository.findAll();
+
+        for (Long movieId : new Long[] {null, movie.getId()}) {
+            for (LocalDate date : new LocalDate[] {null, day}) {
+                for (String theater : new String[] {null, "Theater 3"}) {
+                    long expected = all.stream()
+                            .filter(s -> movieId == null || s.getMovie().getId().equals(movieId))
+                            .filter(s -> date == null || s.getShowDateTime().toLocalDate().equals(date))
+                            .filter(s -> theater == null || s.getTheater().equals(theater))
+                            .count();
+
+                    assertEquals(expected, showtimeRepository.findShowtimeDTOPage(movieId, date, theater,
+                                    null, null, all.size()).size(),
+                            "movieId=" + movieId + ", date=" + date + ", theater=" + theater);
+                }
+            }
+        }
+    }
+
+    @Test
+    void findShowtimeDTOPage_ShouldProjectEveryField() {
+        LocalDate day = FIRST_DAY.plusDays(4);
+
+        List<ShowtimeDTO> dtos = showtimeRepository.findShowtimeDTOPage(null, day, "IMAX", null, null, 25);
+
+        assertEquals(25, dtos.size());
+        for (ShowtimeDTO dto : dtos) {
+            Showtime entity = showtimeRepository.findById(dto.getId()).orElseThrow();
+            assertEquals(entity.getId(), dto.getId());
+            assertEquals(entity.getMovie().getId(), dto.getMovieId());
+            assertEquals(entity.getMovie().getTitle(), dto.getMovieTitle());
+            assertEquals(entity.getShowDateTime(), dto.getShowDateTime());
+            assertEquals(entity.getTheater(), dto.getTheater());
+            assertEquals(entity.getAvailableSeats(), dto.getAvailableSeats());
+        }
+    }
+
+    @Test
+    void findShowtimeDTOPage_ShouldNotLoadEntitiesIntoPersistenceContext() {
+        entityManager.clear();
+
+        List<ShowtimeDTO> dtos = showtimeRepository.findShowtimeDTOPage(movie.getId(), FIRST_DAY, null,
+                null, null, 100);
+
+        assertEquals(THEATERS.length * 4, dtos.size());
+        assertFalse(entityManager.getEntityManager().contains(movie));
+        assertTrue(dtos.stream().allMatch(dto -> dto.getMovieTitle().equals(movie.getTitle())));
+    }
+
+    @Test
+    void findDetailShowtimes_ShouldReturnMoviesShowtimesInTimeOrderWithoutJoiningMovie() {
+        entityManager.clear();
+
+        List<ShowtimeDTO> dtos = showtimeRepository.findDetailShowtimes(movie.getId(),
+                FIRST_DAY.atStartOfDay(), FIRST_DAY.plusDays(DAYS).atStartOfDay());
+
+        assertEquals(DAYS * THEATERS.length * 4, dtos.size());
+        assertTrue(dtos.stream().allMatch(dto -> dto.getMovieId().equals(movie.getId()) && dto.getMovieTitle() == null));
+        for (int i = 1; i < dtos.size(); i++) {
+            ShowtimeDTO previous = dtos.get(i - 1);
+            ShowtimeDTO current = dtos.get(i);
+            assertTrue(previous.getShowDateTime().isBefore(current.getShowDateTime())
+                    || (previous.getShowDateTime().equals(current.getShowDateTime())
+                        && previous.getId() < current.getId()));
+        }
+        assertFalse(entityManager.getEntityManager().contains(movie));
+    }
+
+    @Test
+    void findDetailShowtimes_ShouldOnlyReturnShowtimesInsideHalfOpenWindow() {
+        LocalDateTime from = FIRST_DAY.plusDays(3).atTime(6, 0);
+        LocalDateTime to = FIRST_DAY.plusDays(5).atTime(6, 0);
+
+        List<ShowtimeDTO> dtos = showtimeRepository.findDetailShowtimes(movie.getId(), from, to);
+
+        // Days 3 and 4 from 06:00 on: shows at 06:00, 12:00, 18:00 and next 00:00, per theater
+        assertEquals(2 * THEATERS.length * 4, dtos.size());
+        assertEquals(from, dtos.get(0).getShowDateTime());
+        assertTrue(dtos.stream().allMatch(dto -> dto.getShowDateTime().isBefore(to)));
+    }
+
+    @Test
+    void findAllMovieDTOs_ShouldProjectEveryMovie() {
+        entityManager.clear();
+
+        List<MovieDTO> dtos = movieRepository.findAllMovieDTOs();
+
+        assertEquals(MOVIES, dtos.size());
+        assertTrue(dtos.stream().anyMatch(dto -> dto.getId().equals(movie.getId())
+                && dto.getTitle().equals(movie.getTitle()) && dto.getGenre().equals("Drama")));
+    }
+
+    @Test
+    void generatedQueries_ShouldOnlyContainRequestedPredicates() {
+        String select = ShowtimeRepositoryCustomImpl.SELECT_DTO;
+        String theaterOnly = ShowtimeRepositoryCustomImpl.jpql(ShowtimeRepositoryCustomImpl.THEATER);
+        String movieAndDate = ShowtimeRepositoryCustomImpl.jpql(
+                ShowtimeRepositoryCustomImpl.MOVIE | ShowtimeRepositoryCustomImpl.DATE);
+
+        assertEquals(select + " WHERE s.theater = :theater ORDER BY s.showDateTime, s.id", theaterOnly);
+        assertEquals(select + " WHERE s.movie.id = :movieId " +
+                "AND s.showDateTime >= :dayStart AND s.showDateTime < :dayEnd ORDER BY s.showDateTime, s.id",
+                movieAndDate);
+        assertFalse(ShowtimeRepositoryCustomImpl.jpql(0).contains("WHERE"));
+    }
+
+    @Test
+    void dateRangePredicate_ShouldUseShowDateTimeIndex() {
+        String plan = explain("SELECT * FROM showtimes WHERE show_date_time >= TIMESTAMP '2025-09-05 00:00:00' " +
+                "AND show_date_time < TIMESTAMP '2025-09-06 00:00:00'");
+
+        assertTrue(plan.contains("idx_show_date_time"), plan);
+    }
+
+    @Test
+    void movieAndDateRangePredicate_ShouldUseCompositeIndex() {
+        String plan = explain("SELECT * FROM showtimes WHERE movie_id = " + movie.getId() +
+                " AND show_date_time >= TIMESTAMP '2025-09-05 00:00:00' " +
+                "AND show_date_time < TIMESTAMP '2025-09-06 00:00:00'");
+
+        assertTrue(plan.contains("idx_movie_show_date_time"), plan);
+    }
+
+    @Test
+    void theaterAndDateRangePredicate_ShouldUseCompositeIndex() {
+        String plan = explain("SELECT * FROM showtimes WHERE theater = 'IMAX' " +
+                "AND show_date_time >= TIMESTAMP '2025-09-05 00:00:00' " +
+                "AND show_date_time < TIMESTAMP '2025-09-06 00:00:00'");
+
+        assertTrue(plan.contains("idx_theater_show_date_time"), plan);
+    }
+
+    @Test
+    void functionWrappedDatePredicate_ShouldNotUseAnyIndex() {
+        // The shape the repository used before: the function call hides the column from the index
+        String plan = explain("SELECT * FROM showtimes WHERE CAST(show_date_time AS DATE) = DATE '2025-09-05'");
+
+        assertFalse(plan.contains("idx_show_date_time"), plan);
+        assertTrue(plan.contains("tablescan"), plan);
+    }
+
+    private String explain(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class))
+                .toLowerCase(Locale.ROOT);
+    }
+
+    @Test
+    void reserveSeats_ShouldDecrementOnlyWhileEnoughSeatsRemain() {
+        Showtime showtime = showtimeRepository.save(new Showtime(movie, LocalDateTime.of(2025, 12, 1, 18, 0),
+                "IMAX", 5));
+        LocalDateTime now = LocalDateTime.of(2025, 11, 30, 9, 0);
+        entityManager.flush();
+
+        assertEquals(1, showtimeRepository.reserveSeats(showtime.getId(), 3, now));
+        assertEquals(0, showtimeRepository.reserveSeats(showtime.getId(), 3, now));
+        assertEquals(1, showtimeRepository.reserveSeats(showtime.getId(), 2, now));
+        assertEquals(0, showtimeRepository.reserveSeats(showtime.getId(), 1, now));
+
+        assertEquals(0, showtimeRepository.findAvailableSeats(showtime.getId()).orElseThrow());
+        assertEquals(Timestamp.valueOf(now), jdbcTemplate.queryForObject(
+                "SELECT updated_at FROM showtimes WHERE id = ?", Timestamp.class, showtime.getId()));
+        assertEquals(0, showtimeRepository.reserveSeats(-1L, 1, now));
+        assertTrue(showtimeRepository.findAvailableSeats(-1L).isEmpty());
+    }
+}
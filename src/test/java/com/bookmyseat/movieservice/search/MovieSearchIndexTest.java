@@ -0,0 +1,122 @@
+package com.bookmyseat.movieservice.search;
+
+import com.bookmyseat.movieservice.catalog.MovieCatalog;
+import com.bookmyseat.movieservice.catalog.MovieCatalogRefreshedEvent;
+import com.bookmyseat.movieservice.catalog.MovieCatalogSnapshot;
+import com.bookmyseat.movieservice.dto.MovieDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MovieSearchIndexTest {
+
+    @Mock
+    private MovieCatalog movieCatalog;
+
+    private MovieSearchIndex index;
+    private SimpleMeterRegistry meterRegistry;
+
+    private final MovieDTO inception = movie(1L, "Inception", "A thief who steals secrets through dream-sharing technology");
+    private final MovieDTO darkKnight = movie(2L, "The Dark Knight", "Batman faces the Joker, a criminal mastermind");
+    private final MovieDTO interstellar = movie(3L, "Interstellar", "Explorers travel through a wormhole near Saturn");
+    private final MovieDTO amelie = movie(4L, "Amélie", "A shy waitress in Paris decides to change lives; a dream of kindness");
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        index = new MovieSearchIndex(movieCatalog, meterRegistry, 2, 64);
+    }
+
+    @Test
+    void tokenize_ShouldFoldCaseAccentsAndApostrophes() {
+        assertEquals(List.of("amelie", "schindlers", "list", "2"), SearchTokenizer.tokenize("Amélie, Schindler's LIST-2!"));
+        assertTrue(SearchTokenizer.tokenize("  -- ").isEmpty());
+        assertTrue(SearchTokenizer.tokenize(null).isEmpty());
+    }
+
+    @Test
+    void search_ShouldRankTitleMatchesAboveDescriptionMatches() {
+        catalog(inception, darkKnight, interstellar, amelie, movie(5L, "Dream Team", "Basketball documentary"));
+
+        List<MovieDTO> results = index.search("dream", 10);
+
+        assertEquals(List.of(5L, 1L, 4L), ids(results));
+    }
+
+    @Test
+    void search_ShouldRequireEveryTermAndMatchPrefixes() {
+        catalog(inception, darkKnight, interstellar, amelie);
+
+        assertEquals(List.of(3L), ids(index.search("inter worm", 10)));
+        assertEquals(List.of(1L, 3L), ids(index.search("through", 10)));
+        assertEquals(List.of(4L), ids(index.search("AMELIE paris", 10)));
+        assertTrue(index.search("inter joker", 10).isEmpty());
+        // Single-letter terms only match whole words
+        assertTrue(index.search("i", 10).isEmpty());
+        assertTrue(index.search("  ", 10).isEmpty());
+    }
+
+    @Test
+    void search_ShouldPreferExactMatchOverPrefixMatch() {
+        catalog(movie(1L, "Star", "A story"), movie(2L, "Stardust", "A story"));
+
+        assertEquals(List.of(1L, 2L), ids(index.search("star", 10)));
+        assertEquals(List.of(1L), ids(index.search("star", 1)));
+    }
+
+    @Test
+    void onCatalogRefreshed_ShouldApplyOnlyTheChanges() {
+        MovieCatalogSnapshot first = catalog(inception, darkKnight, interstellar);
+        index.search("joker", 10);
+
+        MovieDTO renamed = movie(2L, "The Dark Knight Rises", "Bane takes over Gotham");
+        MovieDTO regenred = movie(3L, "Interstellar", "Explorers travel through a wormhole near Saturn");
+        regenred.setGenre("Drama");
+        MovieCatalogSnapshot second = MovieCatalogSnapshot.of(List.of(inception, renamed, regenred, amelie));
+        index.onCatalogRefreshed(new MovieCatalogRefreshedEvent(first, second));
+        when(movieCatalog.current()).thenReturn(second);
+
+        assertTrue(index.search("joker", 10).isEmpty());
+        assertEquals(List.of(2L), ids(index.search("gotham", 10)));
+        assertEquals("Drama", index.search("wormhole", 10).get(0).getGenre());
+        assertEquals(List.of(4L), ids(index.search("waitress", 10)));
+
+        index.onCatalogRefreshed(new MovieCatalogRefreshedEvent(second, MovieCatalogSnapshot.of(List.of(inception))));
+        assertEquals(1, index.size());
+        assertEquals(List.of(1L), ids(index.search("thief", 10)));
+    }
+
+    @Test
+    void search_ShouldSyncWithCatalogOnFirstUseAndRecordLatency() {
+        catalog(inception);
+
+        assertEquals(List.of(1L), ids(index.search("incep", 10)));
+        assertEquals(1L, meterRegistry.get("movie_search_duration").timer().count());
+        assertTrue(meterRegistry.get("movie_search_terms").gauge().value() > 0);
+        verify(movieCatalog).current();
+    }
+
+    private MovieCatalogSnapshot catalog(MovieDTO... movies) {
+        MovieCatalogSnapshot snapshot = MovieCatalogSnapshot.of(List.of(movies));
+        when(movieCatalog.current()).thenReturn(snapshot);
+        return snapshot;
+    }
+
+    private static MovieDTO movie(Long id, String title, String description) {
+        return new MovieDTO(id, title, description, 120, "Sci-Fi", "English", LocalDate.of(2010, 7, 16));
+    }
+
+    private static List<Long> ids(List<MovieDTO> movies) {
+        return movies.stream().map(MovieDTO::getId).toList();
+    }
+}
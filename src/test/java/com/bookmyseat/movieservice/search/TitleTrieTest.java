@@ -0,0 +1,111 @@
+package com.bookmyseat.movieservice.search;
+
+import com.bookmyseat.movieservice.catalog.MovieCatalog;
+import com.bookmyseat.movieservice.catalog.MovieCatalogRefreshedEvent;
+import com.bookmyseat.movieservice.catalog.MovieCatalogSnapshot;
+import com.bookmyseat.movieservice.dto.MovieDTO;
+import com.bookmyseat.movieservice.dto.MovieSuggestionDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TitleTrieTest {
+
+    private static final List<MovieDTO> MOVIES = List.of(
+            movie(1L, "The Dark Knight"),
+            movie(2L, "The Dark Knight Rises"),
+            movie(3L, "Star Wars"),
+            movie(4L, "Stardust"),
+            movie(5L, "A Star Is Born"),
+            movie(6L, "Dangal"),
+            movie(7L, "Amélie"),
+            movie(8L, "Dark"));
+
+    @Test
+    void suggest_ShouldRankTitleStartsAboveLaterWordsThenShorterTitles() {
+        TitleTrie trie = TitleTrie.build(MOVIES, 10);
+
+        assertEquals(List.of(8L, 1L, 2L), ids(trie.suggest("dark", 10)));
+        assertEquals(List.of(8L, 6L, 1L, 2L), ids(trie.suggest("Da", 10)));
+        assertEquals(List.of(4L, 3L, 5L), ids(trie.suggest("sta", 10)));
+        assertEquals(List.of(3L, 5L), ids(trie.suggest("star ", 10)));
+    }
+
+    @Test
+    void suggest_ShouldMatchAcrossCompressedEdgesAndNormalizeInput() {
+        TitleTrie trie = TitleTrie.build(MOVIES, 10);
+
+        assertEquals(List.of(1L, 2L), ids(trie.suggest("THE DARK  kni", 10)));
+        assertEquals(List.of(2L), ids(trie.suggest("knight r", 10)));
+        assertEquals(List.of(7L), ids(trie.suggest("ame", 10)));
+        assertEquals("Amélie", trie.suggest("amé", 10).get(0).getTitle());
+        assertTrue(trie.suggest("knightx", 10).isEmpty());
+        assertTrue(trie.suggest("zzz", 10).isEmpty());
+        assertTrue(trie.suggest("  ", 10).isEmpty());
+    }
+
+    @Test
+    void normalize_ShouldAgreeWithTokenizerForAsciiAndNonAsciiInput() {
+        assertEquals("schindlers list 2 ", TitleTrie.normalize("  Schindler's -- LIST-2 "));
+        assertEquals("star", TitleTrie.normalize("star-"));
+        assertEquals("amelie ", TitleTrie.normalize("Amélie "));
+        assertEquals("", TitleTrie.normalize(" ,. "));
+        assertEquals("", TitleTrie.normalize(null));
+    }
+
+    @Test
+    void suggest_ShouldCapSuggestionsAtLimitAndBuildSize() {
+        TitleTrie trie = TitleTrie.build(MOVIES, 2);
+
+        assertEquals(List.of(8L, 6L), ids(trie.suggest("d", 10)));
+        assertEquals(List.of(8L), ids(trie.suggest("d", 1)));
+        assertThrows(IndexOutOfBoundsException.class, () -> trie.suggest("d", 1).get(1));
+    }
+
+    @Test
+    void build_ShouldCollapseSingleChildChains() {
+        TitleTrie trie = TitleTrie.build(List.of(movie(1L, "Interstellar")), 10);
+
+        // Root plus a single edge holding the whole title
+        assertEquals(2, trie.nodeCount());
+        assertEquals(1, trie.size());
+        assertTrue(trie.footprintBytes() > 0);
+        assertTrue(TitleTrie.empty().suggest("a", 10).isEmpty());
+    }
+
+    @Test
+    void titleSuggester_ShouldRebuildWhenCatalogChanges() {
+        MovieCatalog movieCatalog = mock(MovieCatalog.class);
+        MovieCatalogSnapshot first = MovieCatalogSnapshot.of(MOVIES);
+        when(movieCatalog.current()).thenReturn(first);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TitleSuggester suggester = new TitleSuggester(movieCatalog, meterRegistry, 3);
+
+        assertEquals(List.of(4L, 3L, 5L), ids(suggester.suggest("sta", null)));
+        assertEquals(List.of(4L), ids(suggester.suggest("sta", 1)));
+        assertEquals(List.of(4L, 3L, 5L), ids(suggester.suggest("sta", 50)));
+
+        List<MovieDTO> changed = new ArrayList<>(MOVIES);
+        changed.add(movie(9L, "Stay"));
+        MovieCatalogSnapshot second = MovieCatalogSnapshot.of(changed);
+        suggester.onCatalogRefreshed(new MovieCatalogRefreshedEvent(first, second));
+        when(movieCatalog.current()).thenReturn(second);
+
+        assertEquals(List.of(9L, 4L, 3L), ids(suggester.suggest("sta", null)));
+        assertEquals(2L, meterRegistry.get("movie_suggest_build_duration").timer().count());
+        assertTrue(meterRegistry.get("movie_suggest_trie_bytes").gauge().value() > 0);
+    }
+
+    private static MovieDTO movie(Long id, String title) {
+        return new MovieDTO(id, title, null, 120, "Drama", "English", null);
+    }
+
+    private static List<Long> ids(List<MovieSuggestionDTO> suggestions) {
+        return suggestions.stream().map(MovieSuggestionDTO::getId).toList();
+    }
+}
@@ -0,0 +1,58 @@
+package com.bookmyseat.movieservice.seatmap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeatBlockTableTest {
+
+    private final SeatLayout layout = new SeatLayout(15, 20);
+
+    @Test
+    void allocate_ShouldPickMiddleOfIdealRowThenSpreadOut() {
+        SeatBlockTable table = new SeatBlockTable(layout, 10);
+        SeatMap map = new SeatMap(layout.capacity());
+
+        assertArrayEquals(new int[] {layout.indexOf("J10"), layout.indexOf("J11")}, table.allocate(map, 2));
+        // The middle of the next row beats the off-centre seats left in row J
+        assertArrayEquals(new int[] {layout.indexOf("K10"), layout.indexOf("K11")}, table.allocate(map, 2));
+        assertEquals(296, map.freeSeats());
+    }
+
+    @Test
+    void allocate_ShouldSkipRowsWithoutEnoughAdjacentSeats() {
+        SeatBlockTable table = new SeatBlockTable(new SeatLayout(2, 5), 5);
+        SeatMap map = new SeatMap(10);
+        // Row B is preferred but only has seats 1-2 and 4-5 free
+        map.tryClaim(new int[] {7});
+
+        int[] block = table.allocate(map, 3);
+
+        assertArrayEquals(new int[] {1, 2, 3}, block);
+        assertNull(table.allocate(map, 3));
+        assertNotNull(table.allocate(map, 2));
+    }
+
+    @Test
+    void allocate_UntilNoBlockFits_ShouldNeverOverlapIncludingBlocksAcrossWords() {
+        SeatLayout wide = new SeatLayout(4, 50);
+        SeatBlockTable table = new SeatBlockTable(wide, 10);
+        SeatMap map = new SeatMap(wide.capacity());
+
+        int claimed = 0;
+        int[] block;
+        while ((block = table.allocate(map, 5)) != null) {
+            claimed += block.length;
+        }
+
+        assertEquals(200 - claimed, map.freeSeats());
+        for (int row = 0; row < 4; row++) {
+            int run = 0;
+            for (int seat = row * 50; seat < row * 50 + 50; seat++) {
+                run = map.isClaimed(seat) ? 0 : run + 1;
+                assertTrue(run < 5, "row " + row + " still has 5 adjacent free seats");
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> table.allocate(map, 11));
+    }
+}
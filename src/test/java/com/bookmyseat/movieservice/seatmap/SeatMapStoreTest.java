@@ -0,0 +1,182 @@
+package com.bookmyseat.movieservice.seatmap;
+
+import com.bookmyseat.movieservice.ShowtimeFixtures;
+import com.bookmyseat.movieservice.cache.ShowtimeCacheEvictor;
+import com.bookmyseat.movieservice.dto.SeatClaimDTO;
+import com.bookmyseat.movieservice.dto.SeatMapDTO;
+import com.bookmyseat.movieservice.exception.InsufficientSeatsException;
+import com.bookmyseat.movieservice.exception.InvalidSeatException;
+import com.bookmyseat.movieservice.exception.SeatLayoutNotFoundException;
+import com.bookmyseat.movieservice.exception.SeatsTakenException;
+import com.bookmyseat.movieservice.exception.ShowtimeNotFoundException;
+import com.bookmyseat.movieservice.inventory.SeatInventory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+
+import static com.bookmyseat.movieservice.ShowtimeFixtures.NOW;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(ShowtimeCacheEvictor.class)
+class SeatMapStoreTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ShowtimeCacheEvictor cacheEvictor;
+
+    private long showtime;
+    private long unmappedShowtime;
+
+    @BeforeEach
+    void setUp() {
+        ShowtimeFixtures fixtures = new ShowtimeFixtures(jdbcTemplate);
+        fixtures.insertMovie();
+        jdbcTemplate.update("INSERT INTO theater_layouts (theater, seat_rows, seats_per_row, updated_at) " +
+                "VALUES ('IMAX', 15, 20, ?)", fixtures.created());
+        showtime = fixtures.insertShowtime(NOW.plusDays(1), "IMAX", 300);
+        unmappedShowtime = fixtures.insertShowtime(NOW.plusDays(1), "Studio", 40);
+    }
+
+    @Test
+    void claim_ShouldPersistBitsetAndSeatCountTogether() {
+        SeatMapStore store = store();
+
+        SeatClaimDTO claim = store.claim(showtime, List.of("a1", "A2"));
+
+        assertEquals(List.of("A1", "A2"), claim.getSeats());
+        assertEquals(298, claim.getFreeSeats());
+        assertEquals(298, jdbcTemplate.queryForObject("SELECT available_seats FROM showtimes WHERE id = ?",
+                Integer.class, showtime));
+        byte[] occupancy = jdbcTemplate.queryForObject("SELECT occupancy FROM showtime_seat_maps WHERE showtime_id = ?",
+                byte[].class, showtime);
+        assertEquals(38, occupancy.length);
+        assertEquals(0b11, occupancy[0]);
+    }
+
+    @Test
+    void claim_WhenAnySeatIsTaken_ShouldClaimNone() {
+        SeatMapStore store = store();
+        store.claim(showtime, List.of("F8"));
+
+        SeatsTakenException e = assertThrows(SeatsTakenException.class,
+                () -> store.claim(showtime, List.of("F7", "F8", "F9")));
+
+        assertTrue(e.getMessage().endsWith(": F8"));
+        assertEquals(299, store.getSeatMap(showtime).getFreeSeats());
+        assertEquals(3, store.claim(showtime, List.of("F7", "F9", "F10")).getSeats().size());
+    }
+
+    @Test
+    void claim_WhenSeatCountIsExhausted_ShouldUndoBits() {
+        SeatMapStore store = store();
+        jdbcTemplate.update("UPDATE showtimes SET available_seats = 1 WHERE id = ?", showtime);
+
+        assertThrows(InsufficientSeatsException.class, () -> store.claim(showtime, List.of("B1", "B2")));
+
+        assertEquals(1, store.getSeatMap(showtime).getFreeSeats());
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM showtime_seat_maps", Integer.class));
+        assertEquals(1, store.claim(showtime, List.of("B1")).getSeats().size());
+    }
+
+    @Test
+    void getSeatMap_AfterSeatsTakenByCount_ShouldNotReportThemFree() {
+        SeatMapStore store = store();
+        store.claim(showtime, List.of("A1"));
+        // A count-based reservation takes seats without setting bits
+        jdbcTemplate.update("UPDATE showtimes SET available_seats = available_seats - 250 WHERE id = ?", showtime);
+
+        SeatMapDTO map = store.getSeatMap(showtime);
+
+        assertEquals(49, map.getFreeSeats());
+        assertEquals(48, store.claim(showtime, List.of("A2")).getFreeSeats());
+    }
+
+    @Test
+    void getSeatMap_AfterRestart_ShouldReloadFromBlob() {
+        store().claim(showtime, List.of("O20"));
+
+        SeatMapDTO map = store().getSeatMap(showtime);
+
+        assertEquals(15, map.getRows());
+        assertEquals(20, map.getSeatsPerRow());
+        assertEquals(299, map.getFreeSeats());
+        assertEquals((byte) 0b1000, Base64.getDecoder().decode(map.getOccupancy())[37]);
+    }
+
+    @Test
+    void claim_WithInvalidSeatsOrShowtime_ShouldThrow() {
+        SeatMapStore store = store();
+
+        assertThrows(InvalidSeatException.class, () -> store.claim(showtime, List.of("Z1")));
+        assertThrows(InvalidSeatException.class, () -> store.claim(showtime, List.of("C3", "c3")));
+        assertThrows(SeatLayoutNotFoundException.class, () -> store.getSeatMap(unmappedShowtime));
+        assertThrows(ShowtimeNotFoundException.class, () -> store.getSeatMap(-1L));
+    }
+
+    @Test
+    void claimBestAvailable_ShouldClaimAdjacentSeatsAndPersistThem() {
+        SeatMapStore store = store();
+        store.claim(showtime, List.of("J10"));
+
+        SeatClaimDTO claim = store.claimBestAvailable(showtime, 3);
+
+        assertEquals(3, claim.getSeats().size());
+        assertFalse(claim.getSeats().contains("J10"));
+        assertEquals(296, claim.getFreeSeats());
+        assertEquals(296, jdbcTemplate.queryForObject("SELECT available_seats FROM showtimes WHERE id = ?",
+                Integer.class, showtime));
+        assertEquals(296, store().getSeatMap(showtime).getFreeSeats());
+    }
+
+    @Test
+    void claim_WithInMemoryInventory_ShouldTakeSeatsFromItsCounters() {
+        SeatInventory inventory = inventory(true);
+        SeatMapStore store = store(inventory);
+        jdbcTemplate.update("UPDATE showtimes SET available_seats = 3 WHERE id = ?", showtime);
+
+        store.claim(showtime, List.of("A1", "A2"));
+
+        // The column is left to the inventory's flush, and its counter already knows the seats are gone
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT available_seats FROM showtimes WHERE id = ?",
+                Integer.class, showtime));
+        assertThrows(InsufficientSeatsException.class, () -> inventory.reserve(showtime, 2));
+        assertThrows(InsufficientSeatsException.class, () -> store.claim(showtime, List.of("B1", "B2")));
+        assertEquals(1, store.getSeatMap(showtime).getFreeSeats());
+        inventory.flush();
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT available_seats FROM showtimes WHERE id = ?",
+                Integer.class, showtime));
+    }
+
+    private SeatMapStore store() {
+        return store(inventory(false));
+    }
+
+    private SeatMapStore store(SeatInventory inventory) {
+        return new SeatMapStore(jdbcTemplate, transactionManager, cacheEvictor, inventory, ShowtimeFixtures.fixedClock(),
+                new SimpleMeterRegistry(), Duration.ofDays(1));
+    }
+
+    private SeatInventory inventory(boolean enabled) {
+        return new SeatInventory(jdbcTemplate, transactionManager, cacheEvictor, ShowtimeFixtures.fixedClock(),
+                new SimpleMeterRegistry(), enabled, 2, Duration.ofDays(1));
+    }
+}
@@ -0,0 +1,84 @@
+package com.bookmyseat.movieservice.seatmap;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeatMapTest {
+
+    @Test
+    void tryClaim_WhenOneSeatIsTaken_ShouldClaimNoneAcrossWords() {
+        SeatMap map = new SeatMap(300);
+        assertTrue(map.tryClaim(new int[] {130}));
+
+        assertFalse(map.tryClaim(new int[] {5, 70, 130}));
+
+        assertFalse(map.isClaimed(5));
+        assertFalse(map.isClaimed(70));
+        assertEquals(299, map.freeSeats());
+        assertTrue(map.tryClaim(new int[] {5, 70, 299}));
+        assertEquals(296, map.freeSeats());
+    }
+
+    @Test
+    void encode_ShouldPackThreeHundredSeatsIntoThirtyEightBytesAndRoundTrip() {
+        SeatMap map = new SeatMap(300);
+        map.tryClaim(new int[] {0, 1, 63, 64, 299});
+
+        byte[] bytes = map.toBytes();
+        SeatMap decoded = SeatMap.decode(bytes, 300);
+
+        assertEquals(38, bytes.length);
+        assertEquals(0b11, bytes[0]);
+        assertEquals(0b1000, bytes[37]);
+        assertArrayEquals(bytes, decoded.toBytes());
+        assertEquals(295, decoded.freeSeats());
+    }
+
+    @Test
+    void tryClaim_FromManyThreads_ShouldGiveEachSeatToExactlyOneClaim() throws Exception {
+        SeatMap map = new SeatMap(256);
+        AtomicInteger claimed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            Future<?>[] futures = new Future<?>[8];
+            for (int t = 0; t < futures.length; t++) {
+                futures[t] = executor.submit(() -> {
+                    // Pairs straddle word boundaries, so partially set claims must be undone
+                    for (int seat = 0; seat < 255; seat++) {
+                        if (map.tryClaim(new int[] {seat, seat + 1})) {
+                            claimed.addAndGet(2);
+                        }
+                    }
+                });
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(256 - claimed.get(), map.freeSeats());
+    }
+
+    @Test
+    void seatLayout_ShouldMapLabelsToRowMajorIndexes() {
+        SeatLayout layout = new SeatLayout(15, 20);
+
+        assertEquals(0, layout.indexOf("A1"));
+        assertEquals(46, layout.indexOf("c7"));
+        assertEquals(299, layout.indexOf("O20"));
+        assertEquals("C7", layout.labelOf(46));
+        assertEquals(-1, layout.indexOf("P1"));
+        assertEquals(-1, layout.indexOf("A21"));
+        assertEquals(-1, layout.indexOf("A0"));
+        assertEquals(-1, layout.indexOf("A-1"));
+    }
+}
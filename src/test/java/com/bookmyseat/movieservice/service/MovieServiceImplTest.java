@@ -1,26 +1,53 @@
 package com.bookmyseat.movieservice.service;
 
+import com.bookmyseat.movieservice.availability.AvailabilitySummary;
+import com.bookmyseat.movieservice.availability.MovieAvailabilityIndex;
+import com.bookmyseat.movieservice.cache.DataWatermarks;
+import com.bookmyseat.movieservice.cache.MovieDetailCache;
+import com.bookmyseat.movieservice.catalog.MovieCatalog;
+import com.bookmyseat.movieservice.catalog.MovieCatalogSnapshot;
 import com.bookmyseat.movieservice.dto.MovieDTO;
 import com.bookmyseat.movieservice.dto.MovieDetailDTO;
+import com.bookmyseat.movieservice.dto.MovieSuggestionDTO;
+import com.bookmyseat.movieservice.dto.ShowtimeDTO;
 import com.bookmyseat.movieservice.entity.Movie;
 import com.bookmyseat.movieservice.exception.MovieNotFoundException;
+import com.bookmyseat.movieservice.exception.InvalidCursorException;
+import com.bookmyseat.movieservice.exception.InvalidAvailabilityDateException;
 import com.bookmyseat.movieservice.mapper.MovieMapper;
+import com.bookmyseat.movieservice.pagination.CursorPage;
+import com.bookmyseat.movieservice.pagination.PageLimits;
+import com.bookmyseat.movieservice.repository.DataWatermark;
 import com.bookmyseat.movieservice.repository.MovieRepository;
+import com.bookmyseat.movieservice.repository.ShowtimeRepository;
+import com.bookmyseat.movieservice.search.MovieSearchIndex;
+import com.bookmyseat.movieservice.search.TitleSuggester;
 import com.bookmyseat.movieservice.service.impl.MovieServiceImpl;
+import com.bookmyseat.movieservice.window.ShowtimeWindow;
+import com.bookmyseat.movieservice.window.ShowtimeWindows;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,9 +56,38 @@ class MovieServiceImplTest {
     @Mock
     private MovieRepository movieRepository;
 
+    @Mock
+    private ShowtimeRepository showtimeRepository;
+
     @Mock
     private MovieMapper movieMapper;
 
+    @Mock
+    private MovieCatalog movieCatalog;
+
+    @Mock
+    private DataWatermarks dataWatermarks;
+
+    @Mock
+    private MovieSearchIndex movieSearchIndex;
+
+    @Mock
+    private TitleSuggester titleSuggester;
+
+    @Mock
+    private MovieAvailabilityIndex movieAvailabilityIndex;
+
+    @Spy
+    private MovieDetailCache movieDetailCache =
+            new MovieDetailCache(new SimpleMeterRegistry(), 1_000_000L, Duration.ofMinutes(5));
+
+    @Spy
+    private PageLimits pageLimits = new PageLimits(2, 3);
+
+    @Spy
+    private ShowtimeWindows showtimeWindows = new ShowtimeWindows(
+            Clock.fixed(Instant.parse("2025-09-30T08:00:00Z"), ZoneOffset.UTC), Duration.ofDays(7), Duration.ofDays(90));
+
     @InjectMocks
     private MovieServiceImpl movieService;
 
@@ -41,6 +97,9 @@ class MovieServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(dataWatermarks.movie(anyLong())).thenReturn(
+                Optional.of(new DataWatermark(LocalDateTime.of(2025, 9, 29, 10, 0), 4L)));
+
         movie = new Movie("Inception", "A mind-bending thriller", 148,
                 "Sci-Fi", "English", LocalDate.of(2010, 7, 16));
         movie.setId(1L);
@@ -52,47 +111,10 @@ class MovieServiceImplTest {
                 148, "Sci-Fi", "English", LocalDate.of(2010, 7, 16), null);
     }
 
-    @Test
-    void getAllMovies_ShouldReturnMoviesList() {
-        List<Movie> movies = Arrays.asList(movie);
-        List<MovieDTO> movieDTOs = Arrays.asList(movieDTO);
-
-        when(movieRepository.findMoviesWithFilters(null, null)).thenReturn(movies);
-        when(movieMapper.toMovieDTOList(movies)).thenReturn(movieDTOs);
-
-        List<MovieDTO> result = movieService.getAllMovies(null, null);
-
-        assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals("Inception", result.get(0).getTitle());
-
-        verify(movieRepository).findMoviesWithFilters(null, null);
-        verify(movieMapper).toMovieDTOList(movies);
-    }
-
-    @Test
-    void getAllMovies_WithFilters_ShouldReturnFilteredMovies() {
-        List<Movie> movies = Arrays.asList(movie);
-        List<MovieDTO> movieDTOs = Arrays.asList(movieDTO);
-
-        when(movieRepository.findMoviesWithFilters("Sci-Fi", "English")).thenReturn(movies);
-        when(movieMapper.toMovieDTOList(movies)).thenReturn(movieDTOs);
-
-        List<MovieDTO> result = movieService.getAllMovies("Sci-Fi", "English");
-
-        assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals("Sci-Fi", result.get(0).getGenre());
-        assertEquals("English", result.get(0).getLanguage());
-
-        verify(movieRepository).findMoviesWithFilters("Sci-Fi", "English");
-        verify(movieMapper).toMovieDTOList(movies);
-    }
-
     @Test
     void getMovieById_ShouldReturnMovie() {
-        when(movieRepository.findByIdWithShowtimes(1L)).thenReturn(Optional.of(movie));
-        when(movieMapper.toMovieDetailDTO(movie)).thenReturn(movieDetailDTO);
+        when(movieRepository.findById(1L)).thenReturn(Optional.of(movie));
+        when(movieMapper.toMovieDetailDTO(movie, List.of())).thenReturn(movieDetailDTO);
 
         MovieDetailDTO result = movieService.getMovieById(1L);
 
@@ -100,215 +122,261 @@ class MovieServiceImplTest {
         assertEquals(1L, result.getId());
         assertEquals("Inception", result.getTitle());
 
-        verify(movieRepository).findByIdWithShowtimes(1L);
-        verify(movieMapper).toMovieDetailDTO(movie);
+        verify(movieRepository).findById(1L);
+        verify(movieMapper).toMovieDetailDTO(movie, List.of());
     }
 
     @Test
-    void getMovieById_MovieNotFound_ShouldThrowException() {
-        when(movieRepository.findByIdWithShowtimes(999L)).thenReturn(Optional.empty());
-
-        MovieNotFoundException exception = assertThrows(MovieNotFoundException.class,
-                () -> movieService.getMovieById(999L));
-
-        assertEquals("Movie not found with ID: 999", exception.getMessage());
-
-        verify(movieRepository).findByIdWithShowtimes(999L);
-        verify(movieMapper, never()).toMovieDetailDTO(any());
+    void getMovieById_ShouldLoadShowtimesInSeparateQuery() {
+        List<ShowtimeDTO> showtimes = Arrays.asList(
+                new ShowtimeDTO(10L, 1L, LocalDateTime.of(2025, 10, 1, 19, 0), "IMAX", 100));
+        when(movieRepository.findById(1L)).thenReturn(Optional.of(movie));
+        when(showtimeRepository.findDetailShowtimes(1L, LocalDateTime.of(2025, 9, 30, 8, 0),
+                LocalDateTime.of(2025, 10, 7, 8, 0))).thenReturn(showtimes);
+        when(movieMapper.toMovieDetailDTO(movie, showtimes)).thenReturn(movieDetailDTO);
+
+        assertSame(movieDetailDTO, movieService.getMovieById(1L));
+
+        verify(movieRepository).findById(1L);
+        verifyNoMoreInteractions(movieRepository);
     }
 
     @Test
-    void getAllMovies_EmptyResult_ShouldReturnEmptyList() {
-        when(movieRepository.findMoviesWithFilters(null, null)).thenReturn(Arrays.asList());
-        when(movieMapper.toMovieDTOList(Arrays.asList())).thenReturn(Arrays.asList());
-
-        List<MovieDTO> result = movieService.getAllMovies(null, null);
-
-        assertNotNull(result);
-        assertTrue(result.isEmpty());
-
-        verify(movieRepository).findMoviesWithFilters(null, null);
-        verify(movieMapper).toMovieDTOList(Arrays.asList());
+    void getMovieById_WithWindow_ShouldQueryAndCacheThatWindowOnly() {
+        ShowtimeWindow september = new ShowtimeWindow(LocalDateTime.of(2025, 9, 1, 0, 0), LocalDateTime.of(2025, 10, 1, 0, 0));
+        when(movieRepository.findById(1L)).thenReturn(Optional.of(movie));
+        when(movieMapper.toMovieDetailDTO(eq(movie), any())).thenReturn(movieDetailDTO);
+
+        movieService.getMovieById(1L, september);
+        movieService.getMovieById(1L, september);
+        movieService.getMovieById(1L);
+
+        verify(showtimeRepository, times(1)).findDetailShowtimes(1L, september.getFrom(), september.getTo());
+        verify(showtimeRepository, times(1)).findDetailShowtimes(1L, LocalDateTime.of(2025, 9, 30, 8, 0),
+                LocalDateTime.of(2025, 10, 7, 8, 0));
     }
 
     @Test
-    void getAllMovies_WithGenreFilter_ShouldReturnFilteredResults() {
-        List<Movie> movies = Arrays.asList(movie);
-        List<MovieDTO> movieDTOs = Arrays.asList(movieDTO);
-
-        when(movieRepository.findMoviesWithFilters("Action", null)).thenReturn(movies);
-        when(movieMapper.toMovieDTOList(movies)).thenReturn(movieDTOs);
+    void getMovieById_RepeatedCalls_ShouldBeServedFromCache() {
+        when(movieRepository.findById(1L)).thenReturn(Optional.of(movie));
+        when(movieMapper.toMovieDetailDTO(movie, List.of())).thenReturn(movieDetailDTO);
 
-        List<MovieDTO> result = movieService.getAllMovies("Action", null);
+        MovieDetailDTO first = movieService.getMovieById(1L);
+        MovieDetailDTO second = movieService.getMovieById(1L);
 
-        assertNotNull(result);
-        assertEquals(1, result.size());
-
-        verify(movieRepository).findMoviesWithFilters("Action", null);
-        verify(movieMapper).toMovieDTOList(movies);
+        assertSame(first, second);
+        verify(movieRepository, times(1)).findById(1L);
+        verify(movieMapper, times(1)).toMovieDetailDTO(movie, List.of());
     }
 
     @Test
-    void getAllMovies_WithLanguageFilter_ShouldReturnFilteredResults() {
-        List<Movie> movies = Arrays.asList(movie);
-        List<MovieDTO> movieDTOs = Arrays.asList(movieDTO);
-
-        when(movieRepository.findMoviesWithFilters(null, "Hindi")).thenReturn(movies);
-        when(movieMapper.toMovieDTOList(movies)).thenReturn(movieDTOs);
+    void getMovieById_MovieNotFound_ShouldNotCacheFailure() {
+        when(dataWatermarks.movie(999L)).thenReturn(Optional.empty());
 
-        List<MovieDTO> result = movieService.getAllMovies(null, "Hindi");
+        assertThrows(MovieNotFoundException.class, () -> movieService.getMovieById(999L));
+        assertThrows(MovieNotFoundException.class, () -> movieService.getMovieById(999L));
 
-        assertNotNull(result);
-        assertEquals(1, result.size());
-
-        verify(movieRepository).findMoviesWithFilters(null, "Hindi");
-        verify(movieMapper).toMovieDTOList(movies);
+        verify(dataWatermarks, times(2)).movie(999L);
+        verify(movieRepository, never()).findById(any());
     }
 
     @Test
-    void getAllMovies_WithEmptyStringFilters_ShouldPassAsIs() {
-        List<Movie> movies = Arrays.asList(movie);
-        List<MovieDTO> movieDTOs = Arrays.asList(movieDTO);
+    void getMovieById_WatermarkChanged_ShouldReload() {
+        when(dataWatermarks.movie(1L))
+                .thenReturn(Optional.of(new DataWatermark(LocalDateTime.of(2025, 9, 29, 10, 0), 4L)))
+                .thenReturn(Optional.of(new DataWatermark(LocalDateTime.of(2025, 9, 29, 11, 0), 4L)));
+        when(movieRepository.findById(1L)).thenReturn(Optional.of(movie));
+        when(movieMapper.toMovieDetailDTO(movie, List.of())).thenReturn(movieDetailDTO);
 
-        when(movieRepository.findMoviesWithFilters("", "")).thenReturn(movies);
-        when(movieMapper.toMovieDTOList(movies)).thenReturn(movieDTOs);
+        movieService.getMovieById(1L);
+        movieService.getMovieById(1L);
 
-        List<MovieDTO> result = movieService.getAllMovies("", "");
+        verify(movieRepository, times(2)).findById(1L);
+    }
 
-        assertNotNull(result);
-        assertEquals(1, result.size());
+    @Test
+    void getMovieById_DeletedAfterWatermarkLookup_ShouldThrowException() {
+        when(movieRepository.findById(1L)).thenReturn(Optional.empty());
 
-        verify(movieRepository).findMoviesWithFilters("", "");
-        verify(movieMapper).toMovieDTOList(movies);
+        assertThrows(MovieNotFoundException.class, () -> movieService.getMovieById(1L));
     }
 
     @Test
-    void getAllMovies_WithBlankStringFilters_ShouldPassAsIs() {
-        List<Movie> movies = Arrays.asList(movie);
-        List<MovieDTO> movieDTOs = Arrays.asList(movieDTO);
-
-        when(movieRepository.findMoviesWithFilters("   ", "   ")).thenReturn(movies);
-        when(movieMapper.toMovieDTOList(movies)).thenReturn(movieDTOs);
+    void getMovieById_MovieNotFound_ShouldThrowException() {
+        when(dataWatermarks.movie(999L)).thenReturn(Optional.empty());
 
-        List<MovieDTO> result = movieService.getAllMovies("   ", "   ");
+        MovieNotFoundException exception = assertThrows(MovieNotFoundException.class,
+                () -> movieService.getMovieById(999L));
 
-        assertNotNull(result);
-        assertEquals(1, result.size());
+        assertEquals("Movie not found with ID: 999", exception.getMessage());
 
-        verify(movieRepository).findMoviesWithFilters("   ", "   ");
-        verify(movieMapper).toMovieDTOList(movies);
+        verify(dataWatermarks).movie(999L);
+        verify(movieRepository, never()).findById(any());
+        verify(movieMapper, never()).toMovieDetailDTO(any(), any());
     }
 
     @Test
     void getMovieById_WithZeroId_ShouldThrowException() {
-        when(movieRepository.findByIdWithShowtimes(0L)).thenReturn(Optional.empty());
+        when(dataWatermarks.movie(0L)).thenReturn(Optional.empty());
 
         MovieNotFoundException exception = assertThrows(MovieNotFoundException.class,
                 () -> movieService.getMovieById(0L));
 
         assertEquals("Movie not found with ID: 0", exception.getMessage());
 
-        verify(movieRepository).findByIdWithShowtimes(0L);
-        verify(movieMapper, never()).toMovieDetailDTO(any());
+        verify(dataWatermarks).movie(0L);
+        verify(movieRepository, never()).findById(any());
+        verify(movieMapper, never()).toMovieDetailDTO(any(), any());
     }
 
     @Test
     void getMovieById_WithNegativeId_ShouldThrowException() {
-        when(movieRepository.findByIdWithShowtimes(-1L)).thenReturn(Optional.empty());
+        when(dataWatermarks.movie(-1L)).thenReturn(Optional.empty());
 
         MovieNotFoundException exception = assertThrows(MovieNotFoundException.class,
                 () -> movieService.getMovieById(-1L));
 
         assertEquals("Movie not found with ID: -1", exception.getMessage());
 
-        verify(movieRepository).findByIdWithShowtimes(-1L);
-        verify(movieMapper, never()).toMovieDetailDTO(any());
+        verify(dataWatermarks).movie(-1L);
+        verify(movieRepository, never()).findById(any());
+        verify(movieMapper, never()).toMovieDetailDTO(any(), any());
     }
 
     @Test
     void getMovieById_WithMaxLongId_ShouldThrowException() {
         Long maxId = Long.MAX_VALUE;
-        when(movieRepository.findByIdWithShowtimes(maxId)).thenReturn(Optional.empty());
+        when(dataWatermarks.movie(maxId)).thenReturn(Optional.empty());
 
         MovieNotFoundException exception = assertThrows(MovieNotFoundException.class,
                 () -> movieService.getMovieById(maxId));
 
         assertEquals("Movie not found with ID: " + maxId, exception.getMessage());
 
-        verify(movieRepository).findByIdWithShowtimes(maxId);
-        verify(movieMapper, never()).toMovieDetailDTO(any());
+        verify(dataWatermarks).movie(maxId);
+        verify(movieRepository, never()).findById(any());
+        verify(movieMapper, never()).toMovieDetailDTO(any(), any());
     }
 
     @Test
-    void getAllMovies_WhenRepositoryReturnsNull_ShouldHandleGracefully() {
-        when(movieRepository.findMoviesWithFilters(null, null)).thenReturn(null);
+    void getMovieById_WhenMapperReturnsNull_ShouldReturnNull() {
+        when(movieRepository.findById(1L)).thenReturn(Optional.of(movie));
+        when(movieMapper.toMovieDetailDTO(movie, List.of())).thenReturn(null);
 
-        // This test expects the actual behavior - null check will fail at line 39 of MovieServiceImpl
-        assertThrows(NullPointerException.class, () -> {
-            movieService.getAllMovies(null, null);
-        });
+        MovieDetailDTO result = movieService.getMovieById(1L);
+
+        assertNull(result);
 
-        verify(movieRepository).findMoviesWithFilters(null, null);
-        verify(movieMapper, never()).toMovieDTOList(any());
+        verify(movieRepository).findById(1L);
+        verify(movieMapper).toMovieDetailDTO(movie, List.of());
     }
 
     @Test
-    void getMovieById_WhenMapperReturnsNull_ShouldReturnNull() {
-        when(movieRepository.findByIdWithShowtimes(1L)).thenReturn(Optional.of(movie));
-        when(movieMapper.toMovieDetailDTO(movie)).thenReturn(null);
+    void getMovies_ShouldWalkAllPagesInTitleOrder() {
+        when(movieCatalog.current()).thenReturn(MovieCatalogSnapshot.of(Arrays.asList(
+                new MovieDTO(5L, "Zodiac", null, 157, "Thriller", "English", null),
+                new MovieDTO(3L, "Arrival", null, 116, "Sci-Fi", "English", null),
+                new MovieDTO(4L, "arrival", null, 116, "Sci-Fi", "English", null),
+                new MovieDTO(1L, "Inception", null, 148, "Sci-Fi", "English", null),
+                movieDTO(2L, "Dangal"))));
+
+        CursorPage<MovieDTO> first = movieService.getMovies(null, null, null, null);
+        CursorPage<MovieDTO> second = movieService.getMovies(null, null, first.getNextCursor(), null);
+        CursorPage<MovieDTO> third = movieService.getMovies(null, null, second.getNextCursor(), null);
+
+        assertEquals(List.of(3L, 4L), ids(first));
+        assertEquals(List.of(2L, 1L), ids(second));
+        assertEquals(List.of(5L), ids(third));
+        assertNull(third.getNextCursor());
+        verifyNoInteractions(movieRepository);
+    }
 
-        MovieDetailDTO result = movieService.getMovieById(1L);
+    @Test
+    void getMovies_ShouldClampLimitToMaximum() {
+        when(movieCatalog.current()).thenReturn(MovieCatalogSnapshot.of(Arrays.asList(
+                movieDTO(1L, "A"), movieDTO(2L, "B"), movieDTO(3L, "C"), movieDTO(4L, "D"))));
 
-        assertNull(result);
+        CursorPage<MovieDTO> page = movieService.getMovies(null, null, null, 100);
 
-        verify(movieRepository).findByIdWithShowtimes(1L);
-        verify(movieMapper).toMovieDetailDTO(movie);
+        assertEquals(3, page.getItems().size());
+        assertNotNull(page.getNextCursor());
     }
 
     @Test
-    void getAllMovies_WithSpecialCharactersInFilters_ShouldPassThrough() {
-        String genreWithSpecialChars = "Sci-Fi & Fantasy";
-        String languageWithSpecialChars = "English/Spanish";
+    void getMovies_WithFilters_ShouldPageOnlyMatchingMovies() {
+        MovieDTO actionMovie = new MovieDTO(2L, "The Dark Knight", "Batman movie",
+                152, "Action", "English", LocalDate.of(2008, 7, 18));
+        MovieDTO hindiMovie = new MovieDTO(6L, "Dangal", "Wrestling drama",
+                161, "Biography", "Hindi", LocalDate.of(2016, 12, 23));
+        when(movieCatalog.current()).thenReturn(MovieCatalogSnapshot.of(Arrays.asList(movieDTO, actionMovie, hindiMovie)));
+
+        assertEquals(List.of(2L), ids(movieService.getMovies("Action", null, null, null)));
+        assertEquals(List.of(6L), ids(movieService.getMovies(null, "Hindi", null, null)));
+        assertTrue(movieService.getMovies("Sci-Fi", "Hindi", null, null).getItems().isEmpty());
+        verifyNoInteractions(movieRepository, movieMapper);
+    }
 
-        List<Movie> movies = Arrays.asList(movie);
-        List<MovieDTO> movieDTOs = Arrays.asList(movieDTO);
+    @Test
+    void searchMovies_ShouldQueryIndexWithResolvedLimit() {
+        when(movieSearchIndex.search("dream", 3)).thenReturn(List.of(movieDTO));
 
-        when(movieRepository.findMoviesWithFilters(genreWithSpecialChars, languageWithSpecialChars))
-                .thenReturn(movies);
-        when(movieMapper.toMovieDTOList(movies)).thenReturn(movieDTOs);
+        List<MovieDTO> result = movieService.searchMovies("dream", 100);
 
-        List<MovieDTO> result = movieService.getAllMovies(genreWithSpecialChars, languageWithSpecialChars);
+        assertEquals(List.of(movieDTO), result);
+        verify(movieSearchIndex).search("dream", 3);
+        verifyNoInteractions(movieRepository);
+    }
 
-        assertNotNull(result);
-        assertEquals(1, result.size());
+    @Test
+    void suggestMovies_ShouldDelegateToSuggester() {
+        List<MovieSuggestionDTO> suggestions = List.of(new MovieSuggestionDTO(1L, "Inception"));
+        when(titleSuggester.suggest("inc", 5)).thenReturn(suggestions);
 
-        verify(movieRepository).findMoviesWithFilters(genreWithSpecialChars, languageWithSpecialChars);
-        verify(movieMapper).toMovieDTOList(movies);
+        assertEquals(suggestions, movieService.suggestMovies("inc", 5));
+        verifyNoInteractions(movieRepository, movieCatalog);
     }
 
     @Test
-    void getAllMovies_MultipleMoviesResult_ShouldReturnAllMovies() {
-        Movie movie2 = new Movie("The Dark Knight", "Batman movie", 152,
-                "Action", "English", LocalDate.of(2008, 7, 18));
-        movie2.setId(2L);
-
-        MovieDTO movieDTO2 = new MovieDTO(2L, "The Dark Knight", "Batman movie",
-                152, "Action", "English", LocalDate.of(2008, 7, 18));
+    void getMovies_WithAvailabilityDate_ShouldAttachSummaryToCopies() {
+        LocalDate date = LocalDate.of(2025, 9, 30);
+        MovieDTO dangal = movieDTO(2L, "Dangal");
+        when(movieCatalog.current()).thenReturn(MovieCatalogSnapshot.of(Arrays.asList(dangal, movieDTO(1L, "Inception"))));
+        when(movieAvailabilityIndex.covers(date)).thenReturn(true);
+        when(movieAvailabilityIndex.get(2L, date)).thenReturn(Optional.of(
+                new AvailabilitySummary(2L, date, 3, 120L, LocalDateTime.of(2025, 9, 30, 10, 0))));
+        when(movieAvailabilityIndex.get(1L, date)).thenReturn(Optional.empty());
+        when(movieMapper.withAvailability(any(), any(), any())).thenAnswer(invocation -> new MovieMapper()
+                .withAvailability(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)));
+
+        CursorPage<MovieDTO> page = movieService.getMovies(null, null, null, null, date);
+
+        assertEquals(List.of(2L, 1L), ids(page));
+        assertEquals(3, page.getItems().get(0).getAvailability().getTotalShows());
+        assertEquals(120L, page.getItems().get(0).getAvailability().getAvailableSeats());
+        assertEquals(0, page.getItems().get(1).getAvailability().getTotalShows());
+        assertNull(dangal.getAvailability());
+    }
 
-        List<Movie> movies = Arrays.asList(movie, movie2);
-        List<MovieDTO> movieDTOs = Arrays.asList(movieDTO, movieDTO2);
+    @Test
+    void getMovies_WithUncoveredAvailabilityDate_ShouldThrowInvalidAvailabilityDateException() {
+        LocalDate date = LocalDate.of(2030, 1, 1);
+        when(movieAvailabilityIndex.covers(date)).thenReturn(false);
 
-        when(movieRepository.findMoviesWithFilters(null, null)).thenReturn(movies);
-        when(movieMapper.toMovieDTOList(movies)).thenReturn(movieDTOs);
+        assertThrows(InvalidAvailabilityDateException.class, () -> movieService.getMovies(null, null, null, null, date));
+        verifyNoInteractions(movieCatalog);
+    }
 
-        List<MovieDTO> result = movieService.getAllMovies(null, null);
+    @Test
+    void getMovies_WithMalformedCursor_ShouldThrowInvalidCursorException() {
+        assertThrows(InvalidCursorException.class, () -> movieService.getMovies(null, null, "%%%", null));
+        verifyNoInteractions(movieCatalog);
+    }
 
-        assertNotNull(result);
-        assertEquals(2, result.size());
-        assertEquals("Inception", result.get(0).getTitle());
-        assertEquals("The Dark Knight", result.get(1).getTitle());
+    private static MovieDTO movieDTO(Long id, String title) {
+        return new MovieDTO(id, title, null, 120, "Drama", "Hindi", null);
+    }
 
-        verify(movieRepository).findMoviesWithFilters(null, null);
-        verify(movieMapper).toMovieDTOList(movies);
+    private static List<Long> ids(CursorPage<MovieDTO> page) {
+        return page.getItems().stream().map(MovieDTO::getId).toList();
     }
-}
\ No newline at end of file
+}
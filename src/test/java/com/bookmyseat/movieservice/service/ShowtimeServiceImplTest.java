@@ -1,9 +1,15 @@
 package com.bookmyseat.movieservice.service;
 
+import com.bookmyseat.movieservice.dto.ReservationDTO;
 import com.bookmyseat.movieservice.dto.ShowtimeDTO;
-import com.bookmyseat.movieservice.entity.Movie;
-import com.bookmyseat.movieservice.entity.Showtime;
-import com.bookmyseat.movieservice.mapper.MovieMapper;
+import com.bookmyseat.movieservice.exception.InsufficientSeatsException;
+import com.bookmyseat.movieservice.exception.InvalidArchiveRangeException;
+import com.bookmyseat.movieservice.exception.InvalidCursorException;
+import com.bookmyseat.movieservice.exception.ShowtimeNotFoundException;
+import com.bookmyseat.movieservice.pagination.Cursor;
+import com.bookmyseat.movieservice.pagination.CursorPage;
+import com.bookmyseat.movieservice.pagination.PageLimits;
+import com.bookmyseat.movieservice.repository.ArchivedShowtimeRepository;
 import com.bookmyseat.movieservice.repository.ShowtimeRepository;
 import com.bookmyseat.movieservice.service.impl.ShowtimeServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,14 +17,18 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.time.ZoneOffset;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -30,416 +40,154 @@ class ShowtimeServiceImplTest {
     private ShowtimeRepository showtimeRepository;
 
     @Mock
-    private MovieMapper movieMapper;
+    private ArchivedShowtimeRepository archivedShowtimeRepository;
+
+    @Spy
+    private PageLimits pageLimits = new PageLimits(2, 500);
+
+    @Spy
+    private Clock clock = Clock.fixed(Instant.parse("2025-09-30T08:00:00Z"), ZoneOffset.UTC);
 
     @InjectMocks
     private ShowtimeServiceImpl showtimeService;
 
-    private Movie movie;
-    private Showtime showtime;
     private ShowtimeDTO showtimeDTO;
 
     @BeforeEach
     void setUp() {
-        movie = new Movie("Inception", "Mind-bending thriller", 148, "Sci-Fi", "English", LocalDate.of(2010, 7, 16));
-        movie.setId(1L);
-
-        showtime = new Showtime(movie, LocalDateTime.of(2023, 12, 25, 19, 0), "IMAX Theater", 150);
-        showtime.setId(1L);
-
         showtimeDTO = new ShowtimeDTO(1L, 1L, "Inception", LocalDateTime.of(2023, 12, 25, 19, 0), "IMAX Theater", 150);
     }
 
     @Test
-    void getAllShowtimes_WithNoFilters_ShouldReturnAllShowtimes() {
-        // Given
-        List<Showtime> showtimes = Arrays.asList(showtime);
-        List<ShowtimeDTO> showtimeDTOs = Arrays.asList(showtimeDTO);
-
-        when(showtimeRepository.findShowtimesWithFilters(null, null, null)).thenReturn(showtimes);
-        when(movieMapper.toShowtimeDTOList(showtimes)).thenReturn(showtimeDTOs);
-
-        // When
-        List<ShowtimeDTO> result = showtimeService.getAllShowtimes(null, null, null);
-
-        // Then
-        assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals("Inception", result.get(0).getMovieTitle());
-        assertEquals("IMAX Theater", result.get(0).getTheater());
-
-        verify(showtimeRepository).findShowtimesWithFilters(null, null, null);
-        verify(movieMapper).toShowtimeDTOList(showtimes);
-    }
-
-    @Test
-    void getAllShowtimes_WithMovieIdFilter_ShouldReturnFilteredShowtimes() {
-        // Given
-        Long movieId = 1L;
-        List<Showtime> showtimes = Arrays.asList(showtime);
-        List<ShowtimeDTO> showtimeDTOs = Arrays.asList(showtimeDTO);
-
-        when(showtimeRepository.findShowtimesWithFilters(movieId, null, null)).thenReturn(showtimes);
-        when(movieMapper.toShowtimeDTOList(showtimes)).thenReturn(showtimeDTOs);
-
-        // When
-        List<ShowtimeDTO> result = showtimeService.getAllShowtimes(movieId, null, null);
-
-        // Then
-        assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals(movieId, result.get(0).getMovieId());
-
-        verify(showtimeRepository).findShowtimesWithFilters(movieId, null, null);
-        verify(movieMapper).toShowtimeDTOList(showtimes);
-    }
-
-    @Test
-    void getAllShowtimes_WithDateFilter_ShouldReturnFilteredShowtimes() {
-        // Given
-        LocalDate date = LocalDate.of(2023, 12, 25);
-        List<Showtime> showtimes = Arrays.asList(showtime);
-        List<ShowtimeDTO> showtimeDTOs = Arrays.asList(showtimeDTO);
-
-        when(showtimeRepository.findShowtimesWithFilters(null, date, null)).thenReturn(showtimes);
-        when(movieMapper.toShowtimeDTOList(showtimes)).thenReturn(showtimeDTOs);
-
-        // When
-        List<ShowtimeDTO> result = showtimeService.getAllShowtimes(null, date, null);
-
-        // Then
-        assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals(date, result.get(0).getShowDateTime().toLocalDate());
-
-        verify(showtimeRepository).findShowtimesWithFilters(null, date, null);
-        verify(movieMapper).toShowtimeDTOList(showtimes);
-    }
-
-    @Test
-    void getAllShowtimes_WithTheaterFilter_ShouldReturnFilteredShowtimes() {
-        // Given
-        String theater = "IMAX Theater";
-        List<Showtime> showtimes = Arrays.asList(showtime);
-        List<ShowtimeDTO> showtimeDTOs = Arrays.asList(showtimeDTO);
+    void getShowtimes_WithMoreRowsThanLimit_ShouldReturnCursorForLastRow() {
+        ShowtimeDTO second = new ShowtimeDTO(7L, 1L, "Inception", LocalDateTime.of(2023, 12, 25, 21, 0), "IMAX Theater", 150);
+        ShowtimeDTO third = new ShowtimeDTO(3L, 1L, "Inception", LocalDateTime.of(2023, 12, 25, 23, 0), "IMAX Theater", 150);
 
-        when(showtimeRepository.findShowtimesWithFilters(null, null, theater)).thenReturn(showtimes);
-        when(movieMapper.toShowtimeDTOList(showtimes)).thenReturn(showtimeDTOs);
+        when(showtimeRepository.findShowtimeDTOPage(1L, null, null, null, null, 3))
+                .thenReturn(Arrays.asList(showtimeDTO, second, third));
 
-        // When
-        List<ShowtimeDTO> result = showtimeService.getAllShowtimes(null, null, theater);
+        CursorPage<ShowtimeDTO> result = showtimeService.getShowtimes(1L, null, null, null, null);
 
-        // Then
-        assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals(theater, result.get(0).getTheater());
-
-        verify(showtimeRepository).findShowtimesWithFilters(null, null, theater);
-        verify(movieMapper).toShowtimeDTOList(showtimes);
+        assertEquals(Arrays.asList(showtimeDTO, second), result.getItems());
+        Cursor next = Cursor.decode(result.getNextCursor());
+        assertEquals(LocalDateTime.of(2023, 12, 25, 21, 0), next.getKeyAsDateTime());
+        assertEquals(7L, next.getId());
     }
 
     @Test
-    void getAllShowtimes_WithAllFilters_ShouldReturnFilteredShowtimes() {
-        // Given
-        Long movieId = 1L;
+    void getShowtimes_WithCursor_ShouldSeekPastCursorPosition() {
+        LocalDateTime position = LocalDateTime.of(2023, 12, 25, 19, 0);
+        String cursor = Cursor.of(position, 1L).encode();
         LocalDate date = LocalDate.of(2023, 12, 25);
-        String theater = "IMAX Theater";
-        List<Showtime> showtimes = Arrays.asList(showtime);
-        List<ShowtimeDTO> showtimeDTOs = Arrays.asList(showtimeDTO);
-
-        when(showtimeRepository.findShowtimesWithFilters(movieId, date, theater)).thenReturn(showtimes);
-        when(movieMapper.toShowtimeDTOList(showtimes)).thenReturn(showtimeDTOs);
-
-        // When
-        List<ShowtimeDTO> result = showtimeService.getAllShowtimes(movieId, date, theater);
-
-        // Then
-        assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals(movieId, result.get(0).getMovieId());
-        assertEquals(date, result.get(0).getShowDateTime().toLocalDate());
-        assertEquals(theater, result.get(0).getTheater());
-
-        verify(showtimeRepository).findShowtimesWithFilters(movieId, date, theater);
-        verify(movieMapper).toShowtimeDTOList(showtimes);
-    }
-
-    @Test
-    void getAllShowtimes_EmptyResult_ShouldReturnEmptyList() {
-        // Given
-        when(showtimeRepository.findShowtimesWithFilters(null, null, null)).thenReturn(Collections.emptyList());
-        when(movieMapper.toShowtimeDTOList(Collections.emptyList())).thenReturn(Collections.emptyList());
-
-        // When
-        List<ShowtimeDTO> result = showtimeService.getAllShowtimes(null, null, null);
-
-        // Then
-        assertNotNull(result);
-        assertTrue(result.isEmpty());
-
-        verify(showtimeRepository).findShowtimesWithFilters(null, null, null);
-        verify(movieMapper).toShowtimeDTOList(Collections.emptyList());
-    }
-
-    @Test
-    void getAllShowtimes_MultipleShowtimes_ShouldReturnAllShowtimes() {
-        // Given
-        Showtime showtime2 = new Showtime(movie, LocalDateTime.of(2023, 12, 25, 22, 0), "Regular Theater", 100);
-        showtime2.setId(2L);
-
-        ShowtimeDTO showtimeDTO2 = new ShowtimeDTO(2L, 1L, "Inception",
-                LocalDateTime.of(2023, 12, 25, 22, 0), "Regular Theater", 100);
-
-        List<Showtime> showtimes = Arrays.asList(showtime, showtime2);
-        List<ShowtimeDTO> showtimeDTOs = Arrays.asList(showtimeDTO, showtimeDTO2);
-
-        when(showtimeRepository.findShowtimesWithFilters(null, null, null)).thenReturn(showtimes);
-        when(movieMapper.toShowtimeDTOList(showtimes)).thenReturn(showtimeDTOs);
-
-        // When
-        List<ShowtimeDTO> result = showtimeService.getAllShowtimes(null, null, null);
-
-        // Then
-        assertNotNull(result);
-        assertEquals(2, result.size());
-        assertEquals("IMAX Theater", result.get(0).getTheater());
-        assertEquals("Regular Theater", result.get(1).getTheater());
-
-        verify(showtimeRepository).findShowtimesWithFilters(null, null, null);
-        verify(movieMapper).toShowtimeDTOList(showtimes);
-    }
-
-    @Test
-    void getAllShowtimes_WithZeroMovieId_ShouldPassToRepository() {
-        // Given
-        Long movieId = 0L;
-        when(showtimeRepository.findShowtimesWithFilters(movieId, null, null)).thenReturn(Collections.emptyList());
-        when(movieMapper.toShowtimeDTOList(Collections.emptyList())).thenReturn(Collections.emptyList());
-
-        // When
-        List<ShowtimeDTO> result = showtimeService.getAllShowtimes(movieId, null, null);
-
-        // Then
-        assertNotNull(result);
-        assertTrue(result.isEmpty());
-
-        verify(showtimeRepository).findShowtimesWithFilters(movieId, null, null);
-        verify(movieMapper).toShowtimeDTOList(Collections.emptyList());
-    }
-
-    @Test
-    void getAllShowtimes_WithNegativeMovieId_ShouldPassToRepository() {
-        // Given
-        Long movieId = -1L;
-        when(showtimeRepository.findShowtimesWithFilters(movieId, null, null)).thenReturn(Collections.emptyList());
-        when(movieMapper.toShowtimeDTOList(Collections.emptyList())).thenReturn(Collections.emptyList());
-
-        // When
-        List<ShowtimeDTO> result = showtimeService.getAllShowtimes(movieId, null, null);
-
-        // Then
-        assertNotNull(result);
-        assertTrue(result.isEmpty());
 
-        verify(showtimeRepository).findShowtimesWithFilters(movieId, null, null);
-        verify(movieMapper).toShowtimeDTOList(Collections.emptyList());
-    }
-
-    @Test
-    void getAllShowtimes_WithPastDate_ShouldPassToRepository() {
-        // Given
-        LocalDate pastDate = LocalDate.of(2020, 1, 1);
-        when(showtimeRepository.findShowtimesWithFilters(null, pastDate, null)).thenReturn(Collections.emptyList());
-        when(movieMapper.toShowtimeDTOList(Collections.emptyList())).thenReturn(Collections.emptyList());
-
-        // When
-        List<ShowtimeDTO> result = showtimeService.getAllShowtimes(null, pastDate, null);
-
-        // Then
-        assertNotNull(result);
-        assertTrue(result.isEmpty());
-
-        verify(showtimeRepository).findShowtimesWithFilters(null, pastDate, null);
-        verify(movieMapper).toShowtimeDTOList(Collections.emptyList());
-    }
-
-    @Test
-    void getAllShowtimes_WithFutureDate_ShouldPassToRepository() {
-        // Given
-        LocalDate futureDate = LocalDate.of(2030, 12, 31);
-        List<Showtime> showtimes = Arrays.asList(showtime);
-        List<ShowtimeDTO> showtimeDTOs = Arrays.asList(showtimeDTO);
-
-        when(showtimeRepository.findShowtimesWithFilters(null, futureDate, null)).thenReturn(showtimes);
-        when(movieMapper.toShowtimeDTOList(showtimes)).thenReturn(showtimeDTOs);
-
-        // When
-        List<ShowtimeDTO> result = showtimeService.getAllShowtimes(null, futureDate, null);
+        when(showtimeRepository.findShowtimeDTOPage(null, date, "IMAX Theater", position, 1L, 3))
+                .thenReturn(Collections.emptyList());
 
-        // Then
-        assertNotNull(result);
-        assertEquals(1, result.size());
+        CursorPage<ShowtimeDTO> result = showtimeService.getShowtimes(null, date, "IMAX Theater", cursor, null);
 
-        verify(showtimeRepository).findShowtimesWithFilters(null, futureDate, null);
-        verify(movieMapper).toShowtimeDTOList(showtimes);
+        assertTrue(result.getItems().isEmpty());
+        assertNull(result.getNextCursor());
     }
 
     @Test
-    void getAllShowtimes_WithEmptyTheaterName_ShouldPassToRepository() {
-        // Given
-        String emptyTheater = "";
-        when(showtimeRepository.findShowtimesWithFilters(null, null, emptyTheater)).thenReturn(Collections.emptyList());
-        when(movieMapper.toShowtimeDTOList(Collections.emptyList())).thenReturn(Collections.emptyList());
+    void getShowtimes_WithNonTimestampCursor_ShouldThrowInvalidCursorException() {
+        String cursor = Cursor.of("Inception", 1L).encode();
 
-        // When
-        List<ShowtimeDTO> result = showtimeService.getAllShowtimes(null, null, emptyTheater);
-
-        // Then
-        assertNotNull(result);
-        assertTrue(result.isEmpty());
-
-        verify(showtimeRepository).findShowtimesWithFilters(null, null, emptyTheater);
-        verify(movieMapper).toShowtimeDTOList(Collections.emptyList());
+        assertThrows(InvalidCursorException.class,
+                () -> showtimeService.getShowtimes(null, null, null, cursor, null));
+        verifyNoInteractions(showtimeRepository);
     }
 
     @Test
-    void getAllShowtimes_WithBlankTheaterName_ShouldPassToRepository() {
-        // Given
-        String blankTheater = "   ";
-        when(showtimeRepository.findShowtimesWithFilters(null, null, blankTheater)).thenReturn(Collections.emptyList());
-        when(movieMapper.toShowtimeDTOList(Collections.emptyList())).thenReturn(Collections.emptyList());
+    void getArchivedShowtimes_WithMoreRowsThanLimit_ShouldQueryWholeRangeAndReturnCursor() {
+        ShowtimeDTO second = new ShowtimeDTO(7L, 1L, "Inception", LocalDateTime.of(2023, 12, 25, 21, 0), "IMAX Theater", 150);
+        ShowtimeDTO third = new ShowtimeDTO(3L, 1L, "Inception", LocalDateTime.of(2023, 12, 25, 23, 0), "IMAX Theater", 150);
 
-        // When
-        List<ShowtimeDTO> result = showtimeService.getAllShowtimes(null, null, blankTheater);
+        when(archivedShowtimeRepository.findPage(LocalDateTime.of(2023, 12, 1, 0, 0), LocalDateTime.of(2024, 1, 1, 0, 0),
+                0L, Limit.of(3))).thenReturn(Arrays.asList(showtimeDTO, second, third));
 
-        // Then
-        assertNotNull(result);
-        assertTrue(result.isEmpty());
+        CursorPage<ShowtimeDTO> result = showtimeService.getArchivedShowtimes(null,
+                LocalDate.of(2023, 12, 1), LocalDate.of(2024, 1, 1), null, null);
 
-        verify(showtimeRepository).findShowtimesWithFilters(null, null, blankTheater);
-        verify(movieMapper).toShowtimeDTOList(Collections.emptyList());
+        assertEquals(Arrays.asList(showtimeDTO, second), result.getItems());
+        Cursor next = Cursor.decode(result.getNextCursor());
+        assertEquals(LocalDateTime.of(2023, 12, 25, 21, 0), next.getKeyAsDateTime());
+        assertEquals(7L, next.getId());
+        verifyNoInteractions(showtimeRepository);
     }
 
     @Test
-    void getAllShowtimes_WithSpecialCharactersInTheaterName_ShouldPassToRepository() {
-        // Given
-        String theaterWithSpecialChars = "PVR Cinemas - Mall @ Delhi-NCR (Screen #5)";
-        List<Showtime> showtimes = Arrays.asList(showtime);
-        List<ShowtimeDTO> showtimeDTOs = Arrays.asList(showtimeDTO);
-
-        when(showtimeRepository.findShowtimesWithFilters(null, null, theaterWithSpecialChars)).thenReturn(showtimes);
-        when(movieMapper.toShowtimeDTOList(showtimes)).thenReturn(showtimeDTOs);
+    void getArchivedShowtimes_WithMovieAndCursor_ShouldSeekFromCursorPosition() {
+        LocalDateTime position = LocalDateTime.of(2023, 12, 25, 19, 0);
+        String cursor = Cursor.of(position, 1L).encode();
 
-        // When
-        List<ShowtimeDTO> result = showtimeService.getAllShowtimes(null, null, theaterWithSpecialChars);
+        when(archivedShowtimeRepository.findMoviePage(1L, position, LocalDateTime.of(2024, 1, 1, 0, 0), 1L, Limit.of(3)))
+                .thenReturn(Collections.emptyList());
 
-        // Then
-        assertNotNull(result);
-        assertEquals(1, result.size());
+        CursorPage<ShowtimeDTO> result = showtimeService.getArchivedShowtimes(1L,
+                LocalDate.of(2023, 12, 1), LocalDate.of(2024, 1, 1), cursor, null);
 
-        verify(showtimeRepository).findShowtimesWithFilters(null, null, theaterWithSpecialChars);
-        verify(movieMapper).toShowtimeDTOList(showtimes);
+        assertTrue(result.getItems().isEmpty());
+        assertNull(result.getNextCursor());
     }
 
     @Test
-    void getAllShowtimes_WhenRepositoryReturnsNull_ShouldHandleGracefully() {
-        // Given
-        when(showtimeRepository.findShowtimesWithFilters(null, null, null)).thenReturn(null);
-
-        // When & Then - This test expects the actual behavior - null check will fail at line 39 of ShowtimeServiceImpl
-        assertThrows(NullPointerException.class, () -> {
-            showtimeService.getAllShowtimes(null, null, null);
-        });
+    void getArchivedShowtimes_WithEmptyRange_ShouldThrowInvalidArchiveRangeException() {
+        LocalDate day = LocalDate.of(2023, 12, 25);
 
-        verify(showtimeRepository).findShowtimesWithFilters(null, null, null);
-        verify(movieMapper, never()).toShowtimeDTOList(any());
+        assertThrows(InvalidArchiveRangeException.class,
+                () -> showtimeService.getArchivedShowtimes(null, day, day, null, null));
+        verifyNoInteractions(archivedShowtimeRepository);
     }
 
     @Test
-    void getAllShowtimes_WhenMapperReturnsNull_ShouldReturnNull() {
-        // Given
-        List<Showtime> showtimes = Arrays.asList(showtime);
-        when(showtimeRepository.findShowtimesWithFilters(null, null, null)).thenReturn(showtimes);
-        when(movieMapper.toShowtimeDTOList(showtimes)).thenReturn(null);
+    void getArchivedShowtimes_WithCursorOutsideRange_ShouldThrowInvalidCursorException() {
+        LocalDate from = LocalDate.of(2023, 12, 1);
+        LocalDate to = LocalDate.of(2024, 1, 1);
+        String before = Cursor.of(LocalDateTime.of(2023, 11, 30, 21, 0), 1L).encode();
+        String atEnd = Cursor.of(to.atStartOfDay(), 1L).encode();
 
-        // When
-        List<ShowtimeDTO> result = showtimeService.getAllShowtimes(null, null, null);
-
-        // Then
-        assertNull(result);
-
-        verify(showtimeRepository).findShowtimesWithFilters(null, null, null);
-        verify(movieMapper).toShowtimeDTOList(showtimes);
+        assertThrows(InvalidCursorException.class,
+                () -> showtimeService.getArchivedShowtimes(null, from, to, before, null));
+        assertThrows(InvalidCursorException.class,
+                () -> showtimeService.getArchivedShowtimes(1L, from, to, atEnd, null));
+        verifyNoInteractions(archivedShowtimeRepository);
     }
 
     @Test
-    void getAllShowtimes_WithMaxLongMovieId_ShouldPassToRepository() {
+    void reserveSeats_WhenEnoughSeats_ShouldReturnRemainingSeats() {
         // Given
-        Long maxMovieId = Long.MAX_VALUE;
-        when(showtimeRepository.findShowtimesWithFilters(maxMovieId, null, null)).thenReturn(Collections.emptyList());
-        when(movieMapper.toShowtimeDTOList(Collections.emptyList())).thenReturn(Collections.emptyList());
+        when(showtimeRepository.reserveSeats(1L, 2, LocalDateTime.of(2025, 9, 30, 8, 0))).thenReturn(1);
+        when(showtimeRepository.findAvailableSeats(1L)).thenReturn(Optional.of(148));
 
         // When
-        List<ShowtimeDTO> result = showtimeService.getAllShowtimes(maxMovieId, null, null);
+        ReservationDTO result = showtimeService.reserveSeats(1L, 2);
 
         // Then
-        assertNotNull(result);
-        assertTrue(result.isEmpty());
-
-        verify(showtimeRepository).findShowtimesWithFilters(maxMovieId, null, null);
-        verify(movieMapper).toShowtimeDTOList(Collections.emptyList());
+        assertEquals(1L, result.getShowtimeId());
+        assertEquals(2, result.getSeatsReserved());
+        assertEquals(148, result.getAvailableSeats());
     }
 
     @Test
-    void getAllShowtimes_WithLongTheaterName_ShouldPassToRepository() {
+    void reserveSeats_WhenNotEnoughSeats_ShouldThrowInsufficientSeatsException() {
         // Given
-        String longTheaterName = "A".repeat(200);
-        List<Showtime> showtimes = Arrays.asList(showtime);
-        List<ShowtimeDTO> showtimeDTOs = Arrays.asList(showtimeDTO);
-
-        when(showtimeRepository.findShowtimesWithFilters(null, null, longTheaterName)).thenReturn(showtimes);
-        when(movieMapper.toShowtimeDTOList(showtimes)).thenReturn(showtimeDTOs);
-
-        // When
-        List<ShowtimeDTO> result = showtimeService.getAllShowtimes(null, null, longTheaterName);
-
-        // Then
-        assertNotNull(result);
-        assertEquals(1, result.size());
+        when(showtimeRepository.reserveSeats(eq(1L), eq(5), any())).thenReturn(0);
+        when(showtimeRepository.findAvailableSeats(1L)).thenReturn(Optional.of(3));
 
-        verify(showtimeRepository).findShowtimesWithFilters(null, null, longTheaterName);
-        verify(movieMapper).toShowtimeDTOList(showtimes);
+        // When & Then
+        InsufficientSeatsException exception = assertThrows(InsufficientSeatsException.class,
+                () -> showtimeService.reserveSeats(1L, 5));
+        assertTrue(exception.getMessage().contains("only 3 available"));
     }
 
     @Test
-    void getAllShowtimes_LargeResultSet_ShouldHandleCorrectly() {
+    void reserveSeats_WhenShowtimeMissing_ShouldThrowShowtimeNotFoundException() {
         // Given
-        List<Showtime> largeShowtimeList = new ArrayList<>();
-        List<ShowtimeDTO> largeShowtimeDTOList = new ArrayList<>();
-
-        for (int i = 1; i <= 100; i++) {
-            Showtime showtime = new Showtime(movie, LocalDateTime.now().plusDays(i), "Theater " + i, i * 10);
-            showtime.setId((long) i);
-            largeShowtimeList.add(showtime);
-
-            ShowtimeDTO showtimeDTO = new ShowtimeDTO((long) i, 1L, "Inception",
-                    LocalDateTime.now().plusDays(i), "Theater " + i, i * 10);
-            largeShowtimeDTOList.add(showtimeDTO);
-        }
-
-        when(showtimeRepository.findShowtimesWithFilters(null, null, null)).thenReturn(largeShowtimeList);
-        when(movieMapper.toShowtimeDTOList(largeShowtimeList)).thenReturn(largeShowtimeDTOList);
-
-        // When
-        List<ShowtimeDTO> result = showtimeService.getAllShowtimes(null, null, null);
-
-        // Then
-        assertNotNull(result);
-        assertEquals(100, result.size());
-        assertEquals("Theater 1", result.get(0).getTheater());
-        assertEquals("Theater 100", result.get(99).getTheater());
+        when(showtimeRepository.reserveSeats(eq(99L), eq(1), any())).thenReturn(0);
+        when(showtimeRepository.findAvailableSeats(99L)).thenReturn(Optional.empty());
 
-        verify(showtimeRepository).findShowtimesWithFilters(null, null, null);
-        verify(movieMapper).toShowtimeDTOList(largeShowtimeList);
+        // When & Then
+        assertThrows(ShowtimeNotFoundException.class, () -> showtimeService.reserveSeats(99L, 1));
     }
-}
\ No newline at end of file
+}
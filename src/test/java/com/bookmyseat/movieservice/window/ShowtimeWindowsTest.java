@@ -0,0 +1,63 @@
+package com.bookmyseat.movieservice.window;
+
+import com.bookmyseat.movieservice.exception.InvalidShowtimeWindowException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShowtimeWindowsTest {
+
+    private final ShowtimeWindows showtimeWindows = new ShowtimeWindows(
+            Clock.fixed(Instant.parse("2025-09-30T08:15:42Z"), ZoneOffset.UTC), Duration.ofDays(7), Duration.ofDays(30));
+
+    @Test
+    void resolve_WithoutBounds_ShouldStartAtCurrentMinuteAndSpanDefaultWindow() {
+        ShowtimeWindow window = showtimeWindows.resolve(null, null);
+
+        assertEquals(LocalDateTime.of(2025, 9, 30, 8, 15), window.getFrom());
+        assertEquals(LocalDateTime.of(2025, 10, 7, 8, 15), window.getTo());
+        assertEquals(window, showtimeWindows.resolve(null, null));
+    }
+
+    @Test
+    void resolve_WithFromOnly_ShouldSpanDefaultWindowFromIt() {
+        LocalDateTime from = LocalDateTime.of(2025, 9, 1, 0, 0);
+
+        ShowtimeWindow window = showtimeWindows.resolve(from, null);
+
+        assertEquals(from, window.getFrom());
+        assertEquals(from.plusDays(7), window.getTo());
+    }
+
+    @Test
+    void resolve_WithToOnly_ShouldStartNow() {
+        LocalDateTime to = LocalDateTime.of(2025, 10, 20, 0, 0);
+
+        ShowtimeWindow window = showtimeWindows.resolve(null, to);
+
+        assertEquals(LocalDateTime.of(2025, 9, 30, 8, 15), window.getFrom());
+        assertEquals(to, window.getTo());
+    }
+
+    @Test
+    void resolve_WithEmptyOrInvertedWindow_ShouldThrow() {
+        LocalDateTime from = LocalDateTime.of(2025, 10, 1, 0, 0);
+
+        assertThrows(InvalidShowtimeWindowException.class, () -> showtimeWindows.resolve(from, from));
+        assertThrows(InvalidShowtimeWindowException.class, () -> showtimeWindows.resolve(from, from.minusDays(1)));
+    }
+
+    @Test
+    void resolve_BeyondMaxWindow_ShouldThrow() {
+        LocalDateTime from = LocalDateTime.of(2025, 10, 1, 0, 0);
+
+        assertEquals(from.plusDays(30), showtimeWindows.resolve(from, from.plusDays(30)).getTo());
+        assertThrows(InvalidShowtimeWindowException.class, () -> showtimeWindows.resolve(from, from.plusDays(31)));
+    }
+}